@@ -0,0 +1,51 @@
+package com.patrick.benchmark.jmh;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+public class InputFile {
+
+    @Param({"1", "32"})
+    public int fileSizeMb;
+
+    @Param({"PLAIN", "QUOTED", "WIDE"})
+    public LineShape shape;
+
+    private Path path;
+
+    @Setup(Level.Trial)
+    public void create() throws IOException {
+        path = Files.createTempFile("jmh-" + shape.name().toLowerCase() + "-", ".csv");
+        long targetBytes = fileSizeMb * 1024L * 1024L;
+        long written = 0L;
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write(LineShape.HEADER);
+            writer.newLine();
+            for (int i = 0; written < targetBytes; i++) {
+                String line = shape.line(i);
+                writer.write(line);
+                writer.newLine();
+                written += line.length() + 1L;
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    public Path path() {
+        return path;
+    }
+}
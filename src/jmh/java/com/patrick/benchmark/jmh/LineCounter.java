@@ -0,0 +1,55 @@
+package com.patrick.benchmark.jmh;
+
+import com.patrick.benchmark.processing.ByteSlice;
+import com.patrick.benchmark.processing.ForkableLineProcessor;
+import com.patrick.benchmark.processing.ProcessingSummary;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class LineCounter implements ForkableLineProcessor {
+
+    private final List<LineCounter> forks = new ArrayList<>();
+    private long lines;
+    private long chars;
+
+    @Override
+    public void process(String line) {
+        lines++;
+        chars += line.length();
+    }
+
+    @Override
+    public void process(ByteSlice line) {
+        lines++;
+        chars += line.length();
+    }
+
+    public long chars() {
+        long total = chars;
+        synchronized (forks) {
+            for (LineCounter fork : forks) {
+                total += fork.chars();
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public ProcessingSummary summary() {
+        return new ProcessingSummary(lines, 0L, List.of());
+    }
+
+    @Override
+    public ForkableLineProcessor fork() {
+        LineCounter fork = new LineCounter();
+        synchronized (forks) {
+            forks.add(fork);
+        }
+        return fork;
+    }
+
+    @Override
+    public synchronized void merge(ProcessingSummary workerSummary) {
+        lines += workerSummary.recordsProcessed();
+    }
+}
@@ -0,0 +1,36 @@
+package com.patrick.benchmark.jmh;
+
+public enum LineShape {
+    PLAIN,
+    QUOTED,
+    WIDE;
+
+    public static final String HEADER = "uf,tipo_doenca,local_obito,faixa_etaria,sexo,total";
+
+    private static final String[] UFS = {"AC", "AL", "BA", "MG", "PR", "RJ", "RS", "SP"};
+    private static final String[] DISEASES = {"COVID", "INSUFICIENCIA_RESPIRATORIA", "OUTRAS", "PNEUMONIA"};
+    private static final String[] LOCATIONS = {"DOMICILIO", "HOSPITAL", "OUTRO", "VIA_PUBLICA"};
+    private static final String[] AGE_RANGES = {"< 9", "10 - 19", "20 - 29", "40 - 49", "> 100"};
+    private static final String[] SEXES = {"F", "M", "I"};
+
+    public String line(int index) {
+        String uf = UFS[index % UFS.length];
+        String disease = DISEASES[(index / 3) % DISEASES.length];
+        String location = LOCATIONS[(index / 7) % LOCATIONS.length];
+        String ageRange = AGE_RANGES[(index / 11) % AGE_RANGES.length];
+        String sex = SEXES[(index / 13) % SEXES.length];
+        long total = 1 + index % 997;
+        return switch (this) {
+            case PLAIN -> String.join(",", uf, disease, location, ageRange, sex, Long.toString(total));
+            case QUOTED -> "\"" + uf + "\",\"" + disease + "\",\"" + location + "\",\"" + ageRange
+                    + "\",\"" + sex + "\",\"" + total + "\"";
+            case WIDE -> String.join(",",
+                    uf,
+                    disease + "_" + disease,
+                    "\"" + location + ", " + location + "\"",
+                    ageRange,
+                    sex,
+                    Long.toString(total * 1_000_003L));
+        };
+    }
+}
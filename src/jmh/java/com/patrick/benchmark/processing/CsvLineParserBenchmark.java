@@ -0,0 +1,95 @@
+package com.patrick.benchmark.processing;
+
+import com.patrick.benchmark.jmh.LineShape;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class CsvLineParserBenchmark {
+
+    private static final int LINES = 4096;
+
+    @Param({"PLAIN", "QUOTED", "WIDE"})
+    public LineShape shape;
+
+    private String[] lines;
+    private ByteBuffer bytes;
+    private int[] offsets;
+    private ByteSlice slice;
+    private MutableCsvRecord record;
+    private CsvLineParser parser;
+    private CsvLineParser projectedParser;
+
+    @Setup
+    public void prepare() {
+        lines = new String[LINES];
+        offsets = new int[LINES + 1];
+        StringBuilder joined = new StringBuilder();
+        for (int i = 0; i < LINES; i++) {
+            lines[i] = shape.line(i);
+            offsets[i] = joined.length();
+            joined.append(lines[i]);
+        }
+        offsets[LINES] = joined.length();
+        bytes = ByteBuffer.wrap(joined.toString().getBytes(StandardCharsets.UTF_8));
+        slice = new ByteSlice(StandardCharsets.UTF_8);
+        record = new MutableCsvRecord();
+        parser = new CsvLineParser();
+        projectedParser = new CsvLineParser(EnumSet.of(CsvColumn.UF), List.of());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public void parseToRecord(Blackhole blackhole) {
+        for (String line : lines) {
+            blackhole.consume(parser.parse(line));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public void parseStringInPlace(Blackhole blackhole) {
+        for (String line : lines) {
+            blackhole.consume(parser.parse(line, record));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public void parseSlice(Blackhole blackhole) {
+        for (int i = 0; i < LINES; i++) {
+            slice.set(bytes, offsets[i], offsets[i + 1] - offsets[i]);
+            blackhole.consume(parser.parse(slice, record));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public void parseSliceProjected(Blackhole blackhole) {
+        for (int i = 0; i < LINES; i++) {
+            slice.set(bytes, offsets[i], offsets[i + 1] - offsets[i]);
+            blackhole.consume(projectedParser.parse(slice, record));
+        }
+    }
+}
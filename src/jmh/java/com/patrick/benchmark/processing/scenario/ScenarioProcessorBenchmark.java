@@ -0,0 +1,73 @@
+package com.patrick.benchmark.processing.scenario;
+
+import com.patrick.benchmark.jmh.LineShape;
+import com.patrick.benchmark.processing.CsvLineParser;
+import com.patrick.benchmark.processing.MutableCsvRecord;
+import com.patrick.benchmark.processing.RecordBatch;
+import com.patrick.benchmark.processing.ScenarioData;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ScenarioProcessorBenchmark {
+
+    @Param({"total-records", "non-hospital-or-home", "age-range", "sex", "uf"})
+    public String scenario;
+
+    @Param({"PLAIN", "QUOTED", "WIDE"})
+    public LineShape shape;
+
+    private ScenarioProcessor processor;
+    private RecordBatch batch;
+
+    @Setup
+    public void prepare() {
+        processor = switch (scenario) {
+            case "total-records" -> new TotalRecordsScenario();
+            case "non-hospital-or-home" -> new NonHospitalOrHomeScenario();
+            case "age-range" -> new AgeRangeScenario();
+            case "sex" -> new SexScenario();
+            case "uf" -> new UfScenario();
+            default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        };
+        CsvLineParser parser = new CsvLineParser();
+        MutableCsvRecord record = new MutableCsvRecord();
+        batch = new RecordBatch();
+        for (int i = 0; i < batch.capacity(); i++) {
+            parser.parse(shape.line(i), record);
+            batch.add(record);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RecordBatch.DEFAULT_CAPACITY)
+    public ScenarioData processRecords() {
+        for (int i = 0; i < batch.size(); i++) {
+            processor.process(batch.row(i));
+        }
+        return processor.data();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RecordBatch.DEFAULT_CAPACITY)
+    public ScenarioData processBatch() {
+        processor.processBatch(batch);
+        return processor.data();
+    }
+}
@@ -0,0 +1,51 @@
+package com.patrick.benchmark.readers;
+
+import com.patrick.benchmark.jmh.InputFile;
+import com.patrick.benchmark.jmh.LineCounter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ByteBufferLineReaderBenchmark {
+
+    @Param({"1024", "8192", "65536", "1048576"})
+    public int bufferSize;
+
+    private ByteBuffer content;
+
+    @Setup(Level.Trial)
+    public void load(InputFile input) throws IOException {
+        content = ByteBuffer.wrap(Files.readAllBytes(input.path()));
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) throws IOException {
+        ByteBufferLineReader reader = new ByteBufferLineReader(StandardCharsets.UTF_8, bufferSize);
+        LineCounter counter = new LineCounter();
+        reader.decode(content.duplicate(), true, counter);
+        reader.finish(counter);
+        blackhole.consume(counter.summary());
+        blackhole.consume(counter.chars());
+    }
+}
@@ -0,0 +1,81 @@
+package com.patrick.benchmark.readers;
+
+import com.patrick.benchmark.jmh.InputFile;
+import com.patrick.benchmark.jmh.LineCounter;
+import com.patrick.benchmark.processing.CsvLineParser;
+import com.patrick.benchmark.processing.CsvScenarioProcessor;
+import com.patrick.benchmark.processing.ProcessingSummary;
+import com.patrick.benchmark.processing.scenario.DefaultScenarioCatalog;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class FileReadStrategyBenchmark {
+
+    @Param({
+            "buffered-reader",
+            "files-lines",
+            "nio",
+            "nio-slice",
+            "nio-vector",
+            "mmap",
+            "mmap-slice",
+            "mmap-vector",
+            "parallel-mmap"
+    })
+    public String strategy;
+
+    private FileReadStrategy readStrategy;
+
+    @Setup
+    public void createStrategy() {
+        readStrategy = switch (strategy) {
+            case "buffered-reader" -> new BufferedReaderStrategy();
+            case "files-lines" -> new FilesLinesStrategy();
+            case "nio" -> new NioByteBufferStrategy();
+            case "nio-slice" -> new NioByteBufferStrategy(LineScanMode.BYTE_SLICE);
+            case "nio-vector" -> new NioByteBufferStrategy(LineScanMode.VECTOR);
+            case "mmap" -> new MemoryMappedFileStrategy();
+            case "mmap-slice" -> new MemoryMappedFileStrategy(LineScanMode.BYTE_SLICE);
+            case "mmap-vector" -> new MemoryMappedFileStrategy(LineScanMode.VECTOR);
+            case "parallel-mmap" -> new ParallelMemoryMappedStrategy();
+            default -> throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        };
+    }
+
+    @Benchmark
+    public void readLines(InputFile input, Blackhole blackhole) throws IOException {
+        LineCounter counter = new LineCounter();
+        readStrategy.read(input.path(), StandardCharsets.UTF_8, counter);
+        blackhole.consume(counter.summary());
+        blackhole.consume(counter.chars());
+    }
+
+    @Benchmark
+    public ProcessingSummary readAndProcess(InputFile input) throws IOException {
+        CsvScenarioProcessor processor = new CsvScenarioProcessor(
+                new DefaultScenarioCatalog().createScenarios(),
+                new CsvLineParser()
+        );
+        readStrategy.read(input.path(), StandardCharsets.UTF_8, processor);
+        return processor.summary();
+    }
+}
@@ -1,26 +1,69 @@
 package com.patrick.benchmark;
 
-import com.patrick.benchmark.metrics.RuntimeMemoryMeter;
+import com.patrick.benchmark.generator.ColumnValues;
+import com.patrick.benchmark.generator.DatasetGenerator;
+import com.patrick.benchmark.generator.DatasetSpec;
+import com.patrick.benchmark.generator.GeneratedDataset;
+import com.patrick.benchmark.metrics.HeapPoolMemoryMeter;
+import com.patrick.benchmark.metrics.ThreadAllocationMeter;
+import com.patrick.benchmark.processing.CsvColumn;
+import com.patrick.benchmark.processing.CsvScenarioProcessor;
+import com.patrick.benchmark.processing.TimingMode;
 import com.patrick.benchmark.processing.scenario.DefaultScenarioCatalog;
+import com.patrick.benchmark.profiling.JfrProfiler;
+import com.patrick.benchmark.profiling.StrategyProfile;
 import com.patrick.benchmark.readers.BufferedReaderStrategy;
+import com.patrick.benchmark.readers.DirectIoStrategy;
+import com.patrick.benchmark.readers.DirectoryReadStrategy;
 import com.patrick.benchmark.readers.FileReadStrategy;
 import com.patrick.benchmark.readers.FilesLinesStrategy;
+import com.patrick.benchmark.readers.InputFiles;
+import com.patrick.benchmark.readers.LineScanMode;
 import com.patrick.benchmark.readers.MemoryMappedFileStrategy;
 import com.patrick.benchmark.readers.NioByteBufferStrategy;
+import com.patrick.benchmark.readers.ParallelMemoryMappedStrategy;
+import com.patrick.benchmark.readers.PipelinedStrategy;
+import com.patrick.benchmark.readers.ThreadScheduler;
 import com.patrick.benchmark.reporting.ConsoleReportPrinter;
 import com.patrick.benchmark.reporting.HtmlReportWriter;
+import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public final class App {
 
     private static final Logger LOGGER = Logger.getLogger(App.class.getName());
+    private static final int DEFAULT_MAX_WARMUP = 50;
+    private static final int DEFAULT_STEADY_WINDOW = 5;
+    private static final String GENERATE_COMMAND = "generate";
+    private static final String SCALE_COMMAND = "scale";
+    private static final List<String> DEFAULT_SCALING_SIZES = List.of("1m", "16m", "256m");
+    private static final List<String> WORKER_FLAGS = List.of(
+            "--batch=",
+            "--timing=",
+            "--mmap-window=",
+            "--pipeline",
+            "--direct-io",
+            "--line-scan=",
+            "--warmup=",
+            "--max-warmup=",
+            "--steady-window=",
+            "--steady-cv=",
+            "--chunk-lines=",
+            "--store-budget=",
+            "--scheduler=",
+            "--concurrency="
+    );
 
     private App() {
     }
@@ -30,9 +73,17 @@ public final class App {
             printUsage();
             return;
         }
+        if (args[0].equals(GENERATE_COMMAND)) {
+            generate(args);
+            return;
+        }
+        if (args[0].equals(SCALE_COMMAND)) {
+            scale(args);
+            return;
+        }
 
         Path path = Path.of(args[0]);
-        if (Files.notExists(path)) {
+        if (!InputFiles.exists(path)) {
             LOGGER.log(Level.WARNING, "File not found: {0}", path);
             return;
         }
@@ -40,9 +91,65 @@ public final class App {
         Charset charset = StandardCharsets.UTF_8;
         ProcessingMode mode = null;
         int runs = 5;
+        int batchSize = 0;
+        int chunkLines = CsvScenarioProcessor.DEFAULT_CHUNK_LINES;
+        long storeBudget = Runtime.getRuntime().maxMemory() / 2;
+        List<TimingMode> timingModes = new ArrayList<>();
+        String jmhResults = null;
+        Path jfrDirectory = null;
+        int warmupIterations = 0;
+        int maxWarmupIterations = DEFAULT_MAX_WARMUP;
+        int steadyWindow = DEFAULT_STEADY_WINDOW;
+        double steadyCv = 0.0;
+        boolean fork = false;
+        List<JvmConfiguration> configurations = new ArrayList<>();
+        List<String> jvmFlags = new ArrayList<>();
+        List<String> workerArgs = new ArrayList<>();
+        String worker = null;
+        Random order = null;
+        List<FileReadStrategy> windowStrategies = new ArrayList<>();
+        List<FileReadStrategy> pipelineStrategies = new ArrayList<>();
+        List<FileReadStrategy> scanStrategies = new ArrayList<>();
+        List<FileReadStrategy> directStrategies = new ArrayList<>();
+        List<ThreadScheduler> schedulers = new ArrayList<>();
+        int concurrency = Runtime.getRuntime().availableProcessors();
         for (int i = 1; i < args.length; i++) {
             String arg = args[i];
-            if (arg.startsWith("--mode=")) {
+            if (isWorkerFlag(arg)) {
+                workerArgs.add(arg);
+            }
+            if (arg.equals("--fork")) {
+                fork = true;
+            } else if (arg.startsWith("--gc-matrix=")) {
+                for (String label : arg.substring("--gc-matrix=".length()).split(",")) {
+                    JvmConfiguration configuration = JvmConfiguration.fromLabel(label);
+                    if (configuration == null) {
+                        LOGGER.log(Level.WARNING, "Unknown JVM configuration: {0}", label);
+                        return;
+                    }
+                    configurations.add(configuration);
+                }
+                fork = true;
+            } else if (arg.startsWith("--jvm-flags=")) {
+                String flags = arg.substring("--jvm-flags=".length()).trim();
+                if (!flags.isEmpty()) {
+                    jvmFlags.addAll(List.of(flags.split("\\s+")));
+                }
+            } else if (arg.startsWith(ForkedBenchmarkRunner.WORKER_FLAG)) {
+                worker = arg.substring(ForkedBenchmarkRunner.WORKER_FLAG.length());
+            } else if (arg.equals("--shuffle") || arg.startsWith("--shuffle=")) {
+                long seed;
+                try {
+                    seed = arg.equals("--shuffle") ? System.nanoTime() : Long.parseLong(arg.substring("--shuffle=".length()));
+                } catch (NumberFormatException ex) {
+                    LOGGER.log(Level.WARNING, "Invalid shuffle seed: {0}", arg);
+                    return;
+                }
+                LOGGER.log(Level.INFO, "Shuffling strategy order with seed {0}", Long.toString(seed));
+                order = new Random(seed);
+            } else if (arg.equals("--jfr") || arg.startsWith("--jfr=")) {
+                jfrDirectory = arg.equals("--jfr") ? Path.of("reports", "jfr") : Path.of(arg.substring("--jfr=".length()));
+            } else if (arg.startsWith("--mode=")) {
                 mode = ProcessingMode.fromLabel(arg.substring("--mode=".length()));
                 if (mode == null) {
                     LOGGER.log(Level.WARNING, "Unknown mode: {0}", arg);
@@ -59,6 +166,164 @@ public final class App {
                     LOGGER.log(Level.WARNING, "Runs must be at least 1: {0}", runs);
                     return;
                 }
+            } else if (arg.startsWith("--warmup=")) {
+                try {
+                    warmupIterations = Integer.parseInt(arg.substring("--warmup=".length()));
+                } catch (NumberFormatException ex) {
+                    LOGGER.log(Level.WARNING, "Invalid warmup value: {0}", arg);
+                    return;
+                }
+            } else if (arg.startsWith("--max-warmup=")) {
+                try {
+                    maxWarmupIterations = Integer.parseInt(arg.substring("--max-warmup=".length()));
+                } catch (NumberFormatException ex) {
+                    LOGGER.log(Level.WARNING, "Invalid max warmup value: {0}", arg);
+                    return;
+                }
+            } else if (arg.startsWith("--steady-window=")) {
+                try {
+                    steadyWindow = Integer.parseInt(arg.substring("--steady-window=".length()));
+                } catch (NumberFormatException ex) {
+                    LOGGER.log(Level.WARNING, "Invalid steady window value: {0}", arg);
+                    return;
+                }
+            } else if (arg.startsWith("--steady-cv=")) {
+                try {
+                    steadyCv = Double.parseDouble(arg.substring("--steady-cv=".length()));
+                } catch (NumberFormatException ex) {
+                    LOGGER.log(Level.WARNING, "Invalid steady CV value: {0}", arg);
+                    return;
+                }
+            } else if (arg.startsWith("--batch=")) {
+                try {
+                    batchSize = Integer.parseInt(arg.substring("--batch=".length()));
+                } catch (NumberFormatException ex) {
+                    LOGGER.log(Level.WARNING, "Invalid batch value: {0}", arg);
+                    return;
+                }
+                if (batchSize < 1) {
+                    LOGGER.log(Level.WARNING, "Batch size must be at least 1: {0}", batchSize);
+                    return;
+                }
+            } else if (arg.startsWith("--chunk-lines=")) {
+                try {
+                    chunkLines = Integer.parseInt(arg.substring("--chunk-lines=".length()));
+                } catch (NumberFormatException ex) {
+                    LOGGER.log(Level.WARNING, "Invalid chunk lines value: {0}", arg);
+                    return;
+                }
+                if (chunkLines < 1) {
+                    LOGGER.log(Level.WARNING, "Chunk lines must be at least 1: {0}", chunkLines);
+                    return;
+                }
+            } else if (arg.startsWith("--store-budget=")) {
+                try {
+                    storeBudget = parseByteSize(arg.substring("--store-budget=".length()));
+                } catch (IllegalArgumentException | ArithmeticException ex) {
+                    LOGGER.log(Level.WARNING, "Invalid store budget: {0}", arg);
+                    return;
+                }
+            } else if (arg.startsWith("--timing=")) {
+                String value = arg.substring("--timing=".length());
+                if (value.trim().equalsIgnoreCase("all")) {
+                    timingModes.addAll(List.of(TimingMode.values()));
+                    continue;
+                }
+                for (String label : value.split(",")) {
+                    TimingMode timingMode = TimingMode.fromLabel(label);
+                    if (timingMode == null) {
+                        LOGGER.log(Level.WARNING, "Unknown timing mode: {0}", label);
+                        return;
+                    }
+                    if (!timingModes.contains(timingMode)) {
+                        timingModes.add(timingMode);
+                    }
+                }
+            } else if (arg.startsWith("--jmh-results=")) {
+                Path jmhPath = Path.of(arg.substring("--jmh-results=".length()));
+                try {
+                    jmhResults = Files.readString(jmhPath, StandardCharsets.UTF_8);
+                } catch (IOException ex) {
+                    LOGGER.log(Level.WARNING, "Cannot read JMH results: {0}", jmhPath);
+                    return;
+                }
+            } else if (arg.startsWith("--mmap-window=")) {
+                try {
+                    for (String value : arg.substring("--mmap-window=".length()).split(",")) {
+                        int windowSize = Math.toIntExact(parseByteSize(value));
+                        if (windowSize != MemoryMappedFileStrategy.DEFAULT_WINDOW_SIZE) {
+                            windowStrategies.add(new MemoryMappedFileStrategy(windowSize));
+                        }
+                    }
+                } catch (IllegalArgumentException | ArithmeticException ex) {
+                    LOGGER.log(Level.WARNING, "Invalid mmap window value: {0}", arg);
+                    return;
+                }
+            } else if (arg.equals("--pipeline")) {
+                pipelineStrategies.add(new PipelinedStrategy());
+            } else if (arg.startsWith("--pipeline=")) {
+                try {
+                    for (String value : arg.substring("--pipeline=".length()).split(",")) {
+                        pipelineStrategies.add(new PipelinedStrategy(Integer.parseInt(value.trim())));
+                    }
+                } catch (IllegalArgumentException ex) {
+                    LOGGER.log(Level.WARNING, "Invalid pipeline ring capacity: {0}", arg);
+                    return;
+                }
+            } else if (arg.equals("--direct-io")) {
+                directStrategies.add(new NioByteBufferStrategy(DirectIoStrategy.DEFAULT_BUFFER_SIZE));
+                directStrategies.add(new DirectIoStrategy());
+            } else if (arg.startsWith("--direct-io=")) {
+                try {
+                    for (String value : arg.substring("--direct-io=".length()).split(",")) {
+                        int bufferSize = Math.toIntExact(parseByteSize(value));
+                        if (bufferSize != NioByteBufferStrategy.DEFAULT_BUFFER_SIZE) {
+                            directStrategies.add(new NioByteBufferStrategy(bufferSize));
+                        }
+                        directStrategies.add(new DirectIoStrategy(bufferSize));
+                    }
+                } catch (IllegalArgumentException | ArithmeticException ex) {
+                    LOGGER.log(Level.WARNING, "Invalid direct I/O buffer size: {0}", arg);
+                    return;
+                }
+            } else if (arg.startsWith("--line-scan=")) {
+                for (String value : arg.substring("--line-scan=".length()).split(",")) {
+                    LineScanMode scanMode = LineScanMode.fromLabel(value);
+                    if (scanMode == null) {
+                        LOGGER.log(Level.WARNING, "Unknown line scan mode: {0}", value);
+                        return;
+                    }
+                    if (!scanMode.isAccelerated()) {
+                        LOGGER.log(Level.WARNING, "Vector API not available, {0} uses the scalar scanner."
+                                + " Run with --add-modules jdk.incubator.vector to enable it.", value);
+                    }
+                    if (scanMode != LineScanMode.DECODER) {
+                        scanStrategies.add(new NioByteBufferStrategy(scanMode));
+                        scanStrategies.add(new MemoryMappedFileStrategy(scanMode));
+                    }
+                }
+            } else if (arg.startsWith("--scheduler=")) {
+                for (String label : arg.substring("--scheduler=".length()).split(",")) {
+                    ThreadScheduler scheduler = ThreadScheduler.fromLabel(label);
+                    if (scheduler == null) {
+                        LOGGER.log(Level.WARNING, "Unknown scheduler: {0}", label);
+                        return;
+                    }
+                    if (!schedulers.contains(scheduler)) {
+                        schedulers.add(scheduler);
+                    }
+                }
+            } else if (arg.startsWith("--concurrency=")) {
+                try {
+                    concurrency = Integer.parseInt(arg.substring("--concurrency=".length()));
+                } catch (NumberFormatException ex) {
+                    LOGGER.log(Level.WARNING, "Invalid concurrency value: {0}", arg);
+                    return;
+                }
+                if (concurrency < 1) {
+                    LOGGER.log(Level.WARNING, "Concurrency must be at least 1: {0}", concurrency);
+                    return;
+                }
             } else if (arg.startsWith("--charset=")) {
                 charset = Charset.forName(arg.substring("--charset=".length()));
             } else if (i == 1) {
@@ -66,43 +331,386 @@ public final class App {
             }
         }
 
-        List<FileReadStrategy> strategies = List.of(
-                new BufferedReaderStrategy(),
-                new FilesLinesStrategy(),
-                new NioByteBufferStrategy(),
-                new MemoryMappedFileStrategy()
-        );
+        WarmupPolicy warmupPolicy;
+        try {
+            warmupPolicy = steadyCv > 0.0
+                    ? WarmupPolicy.untilSteady(
+                            warmupIterations,
+                            Math.max(warmupIterations, maxWarmupIterations),
+                            steadyWindow,
+                            steadyCv)
+                    : WarmupPolicy.fixed(warmupIterations);
+        } catch (IllegalArgumentException ex) {
+            LOGGER.log(Level.WARNING, "Invalid warmup settings: {0}", ex.getMessage());
+            return;
+        }
+
+        List<FileReadStrategy> strategies = defaultStrategies();
+        strategies.addAll(scanStrategies);
+        strategies.addAll(windowStrategies);
+        strategies.addAll(pipelineStrategies);
+        strategies.addAll(directStrategies);
+        if (!directStrategies.isEmpty() && worker == null) {
+            warnIfDirectIoUnsupported(path);
+        }
+        if (!pipelineStrategies.isEmpty() && worker == null) {
+            warnIfPipelineUnsupported(charset, mode);
+        }
+        if (InputFiles.isMultiFile(path)) {
+            strategies = perFileStrategies(
+                    strategies,
+                    schedulers.isEmpty() ? List.of(ThreadScheduler.VIRTUAL, ThreadScheduler.PLATFORM) : schedulers,
+                    concurrency);
+        }
+
+        if (worker != null) {
+            String workerName = worker;
+            strategies.removeIf(strategy -> !strategy.name().equals(workerName));
+            if (strategies.isEmpty() || mode == null) {
+                LOGGER.log(Level.WARNING, "Worker needs a known strategy and a mode: {0}", worker);
+                return;
+            }
+        }
+
+        BenchmarkExecutor runner;
+        if (fork && worker == null) {
+            runner = new ForkedBenchmarkRunner(
+                    strategies.stream().map(FileReadStrategy::name).toList(),
+                    configurations.isEmpty() ? List.of(JvmConfiguration.DEFAULT) : configurations,
+                    jvmFlags,
+                    workerArgs
+            );
+        } else {
+            runner = new BenchmarkRunner(
+                    strategies,
+                    new DefaultScenarioCatalog(),
+                    new HeapPoolMemoryMeter(),
+                    new ThreadAllocationMeter(),
+                    RunnerOptions.DEFAULTS
+                            .withBatchSize(batchSize)
+                            .withTimingModes(timingModes.isEmpty() ? List.of(TimingMode.EXACT) : timingModes)
+                            .withWarmupPolicy(warmupPolicy)
+                            .withChunkLines(chunkLines)
+                            .withStoreBudgetBytes(storeBudget)
+            );
+        }
+
+        if (worker != null) {
+            for (BenchmarkResult result : runner.run(path, charset, mode).results()) {
+                System.out.println(BenchmarkResultCodec.encode(result));
+            }
+            return;
+        }
 
-        BenchmarkRunner runner = new BenchmarkRunner(
-                strategies,
-                new DefaultScenarioCatalog(),
-                new RuntimeMemoryMeter()
-        );
+        JfrProfiler profiler = null;
+        if (jfrDirectory != null) {
+            if (fork) {
+                LOGGER.warning("--jfr records the in-process runner only and is ignored with --fork");
+            } else {
+                profiler = new JfrProfiler(jfrDirectory);
+            }
+        }
 
         List<List<BenchmarkReport>> runsOutput = new ArrayList<>();
         for (int i = 0; i < runs; i++) {
             List<BenchmarkReport> reports = new ArrayList<>();
             if (mode == null) {
-                reports.add(runner.run(path, charset, ProcessingMode.SINGLE_PASS));
-                reports.add(runner.run(path, charset, ProcessingMode.ISOLATED));
+                reports.add(run(runner, profiler, path, charset, ProcessingMode.SINGLE_PASS, order));
+                reports.add(run(runner, profiler, path, charset, ProcessingMode.ISOLATED, order));
             } else {
-                reports.add(runner.run(path, charset, mode));
+                reports.add(run(runner, profiler, path, charset, mode, order));
             }
             runsOutput.add(reports);
         }
 
         List<BenchmarkReport> lastRun = runsOutput.get(runsOutput.size() - 1);
         new ConsoleReportPrinter().print(lastRun);
-        writeHtmlReport(runsOutput);
+        writeHtmlReport(runsOutput, jmhResults, profiler == null ? Map.of() : profiler.profiles());
+    }
+
+    private static void generate(String[] args) {
+        if (args.length < 2 || args[1].startsWith("--")) {
+            LOGGER.warning("generate needs an output file");
+            return;
+        }
+        Path output = Path.of(args[1]);
+        long lines = 0L;
+        long targetBytes = 0L;
+        long seed = 42L;
+        Map<CsvColumn, Integer> cardinality = new EnumMap<>(CsvColumn.class);
+        double quotedRatio = 0.0;
+        boolean crlf = false;
+        double invalidRate = 0.0;
+        int minPadding = 0;
+        int maxPadding = 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+        for (int i = 2; i < args.length; i++) {
+            String arg = args[i];
+            try {
+                if (arg.startsWith("--lines=")) {
+                    lines = Long.parseLong(arg.substring("--lines=".length()));
+                } else if (arg.startsWith("--size=")) {
+                    targetBytes = parseByteSize(arg.substring("--size=".length()));
+                } else if (arg.startsWith("--seed=")) {
+                    seed = Long.parseLong(arg.substring("--seed=".length()));
+                } else if (arg.startsWith("--cardinality=")) {
+                    for (String entry : arg.substring("--cardinality=".length()).split(",")) {
+                        String[] parts = entry.split(":", 2);
+                        CsvColumn column = ColumnValues.fromHeaderName(parts[0]);
+                        if (column == null || parts.length < 2) {
+                            LOGGER.log(Level.WARNING, "Invalid cardinality entry: {0}", entry);
+                            return;
+                        }
+                        cardinality.put(column, Integer.parseInt(parts[1]));
+                    }
+                } else if (arg.startsWith("--quoted=")) {
+                    quotedRatio = Double.parseDouble(arg.substring("--quoted=".length()));
+                } else if (arg.equals("--crlf")) {
+                    crlf = true;
+                } else if (arg.startsWith("--invalid=")) {
+                    invalidRate = Double.parseDouble(arg.substring("--invalid=".length()));
+                } else if (arg.startsWith("--padding=")) {
+                    String[] range = arg.substring("--padding=".length()).split("-", 2);
+                    minPadding = Integer.parseInt(range[0]);
+                    maxPadding = range.length > 1 ? Integer.parseInt(range[1]) : minPadding;
+                } else if (arg.startsWith("--threads=")) {
+                    threads = Integer.parseInt(arg.substring("--threads=".length()));
+                } else {
+                    LOGGER.log(Level.WARNING, "Unknown generate option: {0}", arg);
+                    return;
+                }
+            } catch (IllegalArgumentException | ArithmeticException ex) {
+                LOGGER.log(Level.WARNING, "Invalid generate option: {0}", arg);
+                return;
+            }
+        }
+
+        GeneratedDataset dataset;
+        long start = System.nanoTime();
+        try {
+            DatasetSpec spec = new DatasetSpec(
+                    lines == 0L && targetBytes == 0L ? DatasetSpec.DEFAULT_LINES : lines,
+                    targetBytes,
+                    seed,
+                    cardinality,
+                    quotedRatio,
+                    crlf,
+                    invalidRate,
+                    minPadding,
+                    maxPadding
+            );
+            dataset = new DatasetGenerator(spec, threads).generate(output);
+        } catch (IllegalArgumentException ex) {
+            LOGGER.log(Level.WARNING, "Invalid dataset settings: {0}", ex.getMessage());
+            return;
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Failed to generate dataset: {0}", ex.getMessage());
+            return;
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+        LOGGER.info(String.format(
+                Locale.ROOT,
+                "Generated %d lines (%d invalid, %.1f MB) into %s in %d ms",
+                dataset.lines(),
+                dataset.invalidLines(),
+                dataset.bytes() / (1024.0 * 1024.0),
+                output,
+                elapsedMillis));
+    }
+
+    private static void scale(String[] args) {
+        List<Long> sizes = new ArrayList<>();
+        List<Integer> threadCounts = new ArrayList<>();
+        int runs = 3;
+        int warmupIterations = 1;
+        Charset charset = StandardCharsets.UTF_8;
+        Path directory = Path.of("target", "scaling");
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            try {
+                if (arg.startsWith("--sizes=")) {
+                    for (String value : arg.substring("--sizes=".length()).split(",")) {
+                        sizes.add(parseByteSize(value));
+                    }
+                } else if (arg.startsWith("--threads=")) {
+                    for (String value : arg.substring("--threads=".length()).split(",")) {
+                        threadCounts.add(Integer.parseInt(value.trim()));
+                    }
+                } else if (arg.startsWith("--runs=")) {
+                    runs = Integer.parseInt(arg.substring("--runs=".length()));
+                } else if (arg.startsWith("--warmup=")) {
+                    warmupIterations = Integer.parseInt(arg.substring("--warmup=".length()));
+                } else if (arg.startsWith("--charset=")) {
+                    charset = Charset.forName(arg.substring("--charset=".length()));
+                } else if (arg.startsWith("--dir=")) {
+                    directory = Path.of(arg.substring("--dir=".length()));
+                } else {
+                    LOGGER.log(Level.WARNING, "Unknown scale option: {0}", arg);
+                    return;
+                }
+            } catch (IllegalArgumentException | ArithmeticException ex) {
+                LOGGER.log(Level.WARNING, "Invalid scale option: {0}", arg);
+                return;
+            }
+        }
+        if (sizes.isEmpty()) {
+            DEFAULT_SCALING_SIZES.forEach(size -> sizes.add(parseByteSize(size)));
+        }
+        if (threadCounts.isEmpty()) {
+            int processors = Runtime.getRuntime().availableProcessors();
+            for (int threads = 1; threads < processors; threads *= 2) {
+                threadCounts.add(threads);
+            }
+            threadCounts.add(processors);
+        }
+
+        List<ScalingPoint> points;
+        try {
+            WarmupPolicy warmupPolicy = WarmupPolicy.fixed(warmupIterations);
+            HeapPoolMemoryMeter memoryMeter = new HeapPoolMemoryMeter();
+            ScalingStudy study = new ScalingStudy(
+                    defaultStrategies(),
+                    threadCounts,
+                    runs,
+                    strategies -> new BenchmarkRunner(
+                            strategies,
+                            new DefaultScenarioCatalog(),
+                            memoryMeter,
+                            new ThreadAllocationMeter(),
+                            RunnerOptions.DEFAULTS.withWarmupPolicy(warmupPolicy))
+            );
+            List<Path> files = new ArrayList<>();
+            for (long size : sizes) {
+                files.add(ScalingStudy.prepareDataset(directory, size));
+            }
+            points = study.run(files, charset);
+        } catch (IllegalArgumentException ex) {
+            LOGGER.log(Level.WARNING, "Invalid scaling settings: {0}", ex.getMessage());
+            return;
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Scaling study failed: {0}", ex.getMessage());
+            return;
+        }
+
+        new ConsoleReportPrinter().printScaling(points);
+        Path outputPath = Path.of("reports", "scaling-report.html");
+        try {
+            new HtmlReportWriter().writeScaling(points, outputPath);
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Failed to write scaling report: {0}", ex.getMessage());
+        }
+    }
+
+    private static List<FileReadStrategy> perFileStrategies(
+            List<FileReadStrategy> strategies,
+            List<ThreadScheduler> schedulers,
+            int concurrency
+    ) {
+        List<FileReadStrategy> perFile = new ArrayList<>();
+        for (FileReadStrategy strategy : strategies) {
+            for (ThreadScheduler scheduler : schedulers) {
+                perFile.add(new DirectoryReadStrategy(strategy, scheduler, concurrency));
+            }
+        }
+        return perFile;
+    }
+
+    private static void warnIfDirectIoUnsupported(Path path) {
+        try {
+            List<Path> files = InputFiles.resolve(path);
+            if (!files.isEmpty() && !DirectIoStrategy.isSupported(files.get(0))) {
+                LOGGER.log(Level.WARNING, "O_DIRECT is not supported for {0}, Direct I/O reads through the page cache.",
+                        files.get(0));
+            }
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Cannot check direct I/O support: {0}", ex.getMessage());
+        }
+    }
+
+    private static void warnIfPipelineUnsupported(Charset charset, ProcessingMode mode) {
+        if (!PipelinedStrategy.supports(charset)) {
+            LOGGER.log(Level.WARNING, "Pipelined needs an ASCII-compatible charset, its runs fail with {0}.",
+                    charset.name());
+        }
+        if (mode == ProcessingMode.SHARED_SCAN) {
+            LOGGER.log(Level.WARNING, "Pipelined feeds scenarios directly and fails in shared-scan mode.");
+        }
+    }
+
+    private static List<FileReadStrategy> defaultStrategies() {
+        return new ArrayList<>(List.of(
+                new BufferedReaderStrategy(),
+                new FilesLinesStrategy(),
+                new NioByteBufferStrategy(),
+                new MemoryMappedFileStrategy(),
+                new ParallelMemoryMappedStrategy()
+        ));
+    }
+
+    private static BenchmarkReport run(
+            BenchmarkExecutor runner,
+            JfrProfiler profiler,
+            Path path,
+            Charset charset,
+            ProcessingMode mode,
+            Random order
+    ) {
+        if (profiler == null) {
+            return runner.run(path, charset, mode, order);
+        }
+        return profiler.record(mode, () -> runner.run(path, charset, mode, order));
+    }
+
+    private static boolean isWorkerFlag(String arg) {
+        for (String flag : WORKER_FLAGS) {
+            if (arg.startsWith(flag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static long parseByteSize(String value) {
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        long multiplier = 1L;
+        if (normalized.endsWith("k")) {
+            multiplier = 1024L;
+        } else if (normalized.endsWith("m")) {
+            multiplier = 1024L * 1024L;
+        } else if (normalized.endsWith("g")) {
+            multiplier = 1024L * 1024L * 1024L;
+        }
+        if (multiplier > 1L) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        long size = Math.multiplyExact(Long.parseLong(normalized), multiplier);
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive: " + value);
+        }
+        return size;
     }
 
     private static void printUsage() {
-        LOGGER.info("Usage: com.patrick.benchmark.App <file> [--mode=single|isolated] [--charset=UTF-8] [--runs=5]");
+        LOGGER.info("Usage: com.patrick.benchmark.App <file|directory|glob> [--mode=single|isolated|stages|shared] [--charset=UTF-8] [--runs=5]"
+                + " [--warmup=3] [--steady-cv=0.05] [--steady-window=5] [--max-warmup=50]"
+                + " [--batch=4096] [--chunk-lines=4096] [--store-budget=512m] [--timing=exact,batch,sampled,off|all] [--mmap-window=16m,64m] [--pipeline[=8,64]] [--direct-io[=64k,1m,8m]] [--line-scan=byte,slice,structural,vector]"
+                + " [--jmh-results=target/jmh-result.json] [--fork] [--jvm-flags=\"-Xmx2g -XX:+UseSerialGC\"]"
+                + " [--gc-matrix=g1,parallel,serial,zgc,shenandoah@512m]"
+                + " [--shuffle[=seed]] [--jfr[=reports/jfr]] [--scheduler=virtual,platform] [--concurrency=8]");
+        LOGGER.info("Usage: com.patrick.benchmark.App generate <output> [--lines=1000000|--size=10g] [--seed=42]"
+                + " [--cardinality=uf:27,tipo_doenca:7,total:999] [--quoted=0.1] [--crlf] [--invalid=0.01]"
+                + " [--padding=0-8] [--threads=8]");
+        LOGGER.info("Usage: com.patrick.benchmark.App scale [--sizes=1m,16m,256m,1g] [--threads=1,2,4,8] [--runs=3]"
+                + " [--warmup=1] [--charset=UTF-8] [--dir=target/scaling]");
         LOGGER.info("Example: com.patrick.benchmark.App ./src/main/resources/benchmark-input.csv --mode=isolated --runs=5");
     }
 
-    private static void writeHtmlReport(List<List<BenchmarkReport>> runs) {
-        HtmlReportWriter writer = new HtmlReportWriter();
+    private static void writeHtmlReport(
+            List<List<BenchmarkReport>> runs,
+            String jmhResults,
+            Map<ProcessingMode, List<StrategyProfile>> profiles
+    ) {
+        HtmlReportWriter writer = new HtmlReportWriter(jmhResults, profiles);
         Path outputPath = Path.of("reports", "benchmark-report.html");
         try {
             writer.writeAggregated(runs, outputPath);
@@ -0,0 +1,14 @@
+package com.patrick.benchmark;
+
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.Random;
+
+public interface BenchmarkExecutor {
+
+    default BenchmarkReport run(Path path, Charset charset, ProcessingMode mode) {
+        return run(path, charset, mode, null);
+    }
+
+    BenchmarkReport run(Path path, Charset charset, ProcessingMode mode, Random order);
+}
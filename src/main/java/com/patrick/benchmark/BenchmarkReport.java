@@ -2,8 +2,15 @@ package com.patrick.benchmark;
 
 import java.util.List;
 
-public record BenchmarkReport(ProcessingMode mode, List<BenchmarkResult> results) {
+public record BenchmarkReport(ProcessingMode mode, List<BenchmarkResult> results, int inputFiles) {
     public BenchmarkReport {
         results = List.copyOf(results);
+        if (inputFiles < 0) {
+            throw new IllegalArgumentException("Input files must not be negative: " + inputFiles);
+        }
+    }
+
+    public BenchmarkReport(ProcessingMode mode, List<BenchmarkResult> results) {
+        this(mode, results, 1);
     }
 }
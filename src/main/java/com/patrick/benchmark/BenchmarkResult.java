@@ -1,13 +1,89 @@
 package com.patrick.benchmark;
 
+import com.patrick.benchmark.metrics.BufferPoolUsage;
+import com.patrick.benchmark.metrics.GcUsage;
+import com.patrick.benchmark.metrics.OsUsage;
+import com.patrick.benchmark.metrics.WarmupSummary;
 import com.patrick.benchmark.processing.ProcessingSummary;
+import com.patrick.benchmark.processing.TimingMode;
 
 public record BenchmarkResult(
         String strategyName,
         long durationNanos,
-        long memoryBytes,
+        long peakHeapBytes,
         ProcessingSummary summary,
         long errorCount,
-        String errorMessage
+        String errorMessage,
+        long bytesRead,
+        BufferPoolUsage bufferPools,
+        long allocatedBytes,
+        TimingMode timingMode,
+        WarmupSummary warmup,
+        GcUsage gc,
+        OsUsage os,
+        long storeBytes
 ) {
+    public BenchmarkResult {
+        bufferPools = bufferPools == null ? BufferPoolUsage.NONE : bufferPools;
+        timingMode = timingMode == null ? TimingMode.EXACT : timingMode;
+        warmup = warmup == null ? WarmupSummary.NONE : warmup;
+        gc = gc == null ? GcUsage.NONE : gc;
+        os = os == null ? OsUsage.NONE : os;
+    }
+
+    public BenchmarkResult(
+            String strategyName,
+            long durationNanos,
+            long peakHeapBytes,
+            ProcessingSummary summary,
+            long errorCount,
+            String errorMessage,
+            long bytesRead,
+            BufferPoolUsage bufferPools,
+            long allocatedBytes,
+            TimingMode timingMode,
+            WarmupSummary warmup,
+            GcUsage gc,
+            OsUsage os
+    ) {
+        this(strategyName, durationNanos, peakHeapBytes, summary, errorCount, errorMessage,
+                bytesRead, bufferPools, allocatedBytes, timingMode, warmup, gc, os, 0L);
+    }
+
+    public BenchmarkResult(
+            String strategyName,
+            long durationNanos,
+            long peakHeapBytes,
+            ProcessingSummary summary,
+            long errorCount,
+            String errorMessage,
+            long bytesRead,
+            BufferPoolUsage bufferPools,
+            long allocatedBytes,
+            TimingMode timingMode
+    ) {
+        this(strategyName, durationNanos, peakHeapBytes, summary, errorCount, errorMessage,
+                bytesRead, bufferPools, allocatedBytes, timingMode, null, null, null);
+    }
+
+    public BenchmarkResult(
+            String strategyName,
+            long durationNanos,
+            long peakHeapBytes,
+            ProcessingSummary summary,
+            long errorCount,
+            String errorMessage
+    ) {
+        this(strategyName, durationNanos, peakHeapBytes, summary, errorCount, errorMessage, 0L, BufferPoolUsage.NONE, 0L, null, null, null, null);
+    }
+
+    public BenchmarkResult withWarmup(WarmupSummary warmupSummary) {
+        return new BenchmarkResult(strategyName, durationNanos, peakHeapBytes, summary, errorCount, errorMessage,
+                bytesRead, bufferPools, allocatedBytes, timingMode, warmupSummary, gc, os, storeBytes);
+    }
+
+    public BenchmarkResult withStrategyName(String name) {
+        return new BenchmarkResult(name, durationNanos, peakHeapBytes, summary, errorCount, errorMessage,
+                bytesRead, bufferPools, allocatedBytes, timingMode, warmup, gc, os, storeBytes);
+    }
 }
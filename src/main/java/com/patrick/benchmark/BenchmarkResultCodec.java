@@ -0,0 +1,256 @@
+package com.patrick.benchmark;
+
+import com.patrick.benchmark.metrics.BufferPoolUsage;
+import com.patrick.benchmark.metrics.GcUsage;
+import com.patrick.benchmark.metrics.LatencyHistogram;
+import com.patrick.benchmark.metrics.OsUsage;
+import com.patrick.benchmark.metrics.StageUsage;
+import com.patrick.benchmark.metrics.WarmupSummary;
+import com.patrick.benchmark.processing.ProcessingSummary;
+import com.patrick.benchmark.processing.ScenarioReport;
+import com.patrick.benchmark.processing.TimingMode;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class BenchmarkResultCodec {
+
+    static final String PREFIX = "benchmark-result:";
+
+    private static final int VERSION = 6;
+
+    private BenchmarkResultCodec() {
+    }
+
+    static boolean isEncoded(String line) {
+        return line.startsWith(PREFIX);
+    }
+
+    static String encode(BenchmarkResult result) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(result.strategyName());
+            out.writeLong(result.durationNanos());
+            out.writeLong(result.peakHeapBytes());
+            writeSummary(out, result.summary());
+            out.writeLong(result.errorCount());
+            out.writeBoolean(result.errorMessage() != null);
+            if (result.errorMessage() != null) {
+                out.writeUTF(result.errorMessage());
+            }
+            out.writeLong(result.bytesRead());
+            out.writeLong(result.bufferPools().peakDirectBytes());
+            out.writeLong(result.bufferPools().peakMappedBytes());
+            out.writeLong(result.allocatedBytes());
+            out.writeByte(result.timingMode().ordinal());
+            writeWarmup(out, result.warmup());
+            out.writeLong(result.gc().collections());
+            out.writeLong(result.gc().pauseMillis());
+            out.writeLong(result.gc().maxPauseMillis());
+            writeOs(out, result.os());
+            out.writeLong(result.storeBytes());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return PREFIX + Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    static BenchmarkResult decode(String line) {
+        if (!isEncoded(line)) {
+            throw new IllegalArgumentException("Not an encoded benchmark result");
+        }
+        byte[] bytes = Base64.getDecoder().decode(line.substring(PREFIX.length()));
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported result version: " + version);
+            }
+            String strategyName = in.readUTF();
+            long durationNanos = in.readLong();
+            long peakHeapBytes = in.readLong();
+            ProcessingSummary summary = readSummary(in);
+            long errorCount = in.readLong();
+            String errorMessage = in.readBoolean() ? in.readUTF() : null;
+            long bytesRead = in.readLong();
+            BufferPoolUsage bufferPools = new BufferPoolUsage(in.readLong(), in.readLong());
+            long allocatedBytes = in.readLong();
+            TimingMode timingMode = TimingMode.values()[in.readUnsignedByte()];
+            WarmupSummary warmup = readWarmup(in);
+            GcUsage gc = new GcUsage(in.readLong(), in.readLong(), in.readLong());
+            OsUsage os = readOs(in);
+            long storeBytes = in.readLong();
+            return new BenchmarkResult(
+                    strategyName,
+                    durationNanos,
+                    peakHeapBytes,
+                    summary,
+                    errorCount,
+                    errorMessage,
+                    bytesRead,
+                    bufferPools,
+                    allocatedBytes,
+                    timingMode,
+                    warmup,
+                    gc,
+                    os,
+                    storeBytes
+            );
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Truncated benchmark result", ex);
+        }
+    }
+
+    private static void writeSummary(DataOutputStream out, ProcessingSummary summary) throws IOException {
+        out.writeLong(summary.recordsProcessed());
+        out.writeLong(summary.invalidLines());
+        out.writeLong(summary.filteredLines());
+        writeHistogram(out, summary.chunkLatency());
+        writeStages(out, summary.stages());
+        out.writeInt(summary.scenarios().size());
+        for (ScenarioReport scenario : summary.scenarios()) {
+            out.writeUTF(scenario.name());
+            out.writeLong(scenario.durationNanos());
+            out.writeLong(scenario.count());
+            out.writeInt(scenario.breakdown().size());
+            for (Map.Entry<String, Long> entry : scenario.breakdown().entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeLong(entry.getValue());
+            }
+        }
+    }
+
+    private static ProcessingSummary readSummary(DataInputStream in) throws IOException {
+        long recordsProcessed = in.readLong();
+        long invalidLines = in.readLong();
+        long filteredLines = in.readLong();
+        LatencyHistogram chunkLatency = readHistogram(in);
+        List<StageUsage> stages = readStages(in);
+        int scenarioCount = in.readInt();
+        List<ScenarioReport> scenarios = new ArrayList<>(scenarioCount);
+        for (int i = 0; i < scenarioCount; i++) {
+            String name = in.readUTF();
+            long durationNanos = in.readLong();
+            long count = in.readLong();
+            int entries = in.readInt();
+            Map<String, Long> breakdown = new LinkedHashMap<>();
+            for (int j = 0; j < entries; j++) {
+                breakdown.put(in.readUTF(), in.readLong());
+            }
+            scenarios.add(new ScenarioReport(name, durationNanos, count, breakdown));
+        }
+        return new ProcessingSummary(recordsProcessed, invalidLines, scenarios, filteredLines, chunkLatency, stages);
+    }
+
+    private static void writeStages(DataOutputStream out, List<StageUsage> stages) throws IOException {
+        out.writeInt(stages.size());
+        for (StageUsage stage : stages) {
+            out.writeUTF(stage.stage());
+            out.writeLong(stage.busyNanos());
+            out.writeLong(stage.idleNanos());
+            out.writeLong(stage.batches());
+            out.writeLong(stage.queueDepthSum());
+            out.writeInt(stage.maxQueueDepth());
+            out.writeInt(stage.queueCapacity());
+        }
+    }
+
+    private static List<StageUsage> readStages(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<StageUsage> stages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            stages.add(new StageUsage(
+                    in.readUTF(),
+                    in.readLong(),
+                    in.readLong(),
+                    in.readLong(),
+                    in.readLong(),
+                    in.readInt(),
+                    in.readInt()
+            ));
+        }
+        return stages;
+    }
+
+    private static void writeHistogram(DataOutputStream out, LatencyHistogram histogram) throws IOException {
+        long[] counts = histogram.toCounts();
+        int used = 0;
+        for (long count : counts) {
+            if (count > 0) {
+                used++;
+            }
+        }
+        out.writeLong(histogram.max());
+        out.writeInt(used);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                out.writeShort(i);
+                out.writeLong(counts[i]);
+            }
+        }
+    }
+
+    private static LatencyHistogram readHistogram(DataInputStream in) throws IOException {
+        long max = in.readLong();
+        int used = in.readInt();
+        long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+        for (int i = 0; i < used; i++) {
+            int index = in.readUnsignedShort();
+            if (index >= counts.length) {
+                throw new IllegalArgumentException("Invalid histogram bucket: " + index);
+            }
+            counts[index] = in.readLong();
+        }
+        return LatencyHistogram.fromCounts(counts, max);
+    }
+
+    private static void writeWarmup(DataOutputStream out, WarmupSummary warmup) throws IOException {
+        out.writeInt(warmup.iterations());
+        for (long sample : warmup.sampleNanos()) {
+            out.writeLong(sample);
+        }
+        out.writeDouble(warmup.coefficientOfVariation());
+        out.writeBoolean(warmup.steady());
+    }
+
+    private static WarmupSummary readWarmup(DataInputStream in) throws IOException {
+        int iterations = in.readInt();
+        List<Long> samples = new ArrayList<>(iterations);
+        for (int i = 0; i < iterations; i++) {
+            samples.add(in.readLong());
+        }
+        return new WarmupSummary(samples, in.readDouble(), in.readBoolean());
+    }
+
+    private static void writeOs(DataOutputStream out, OsUsage os) throws IOException {
+        out.writeLong(os.userCpuMillis());
+        out.writeLong(os.systemCpuMillis());
+        out.writeLong(os.minorFaults());
+        out.writeLong(os.majorFaults());
+        out.writeLong(os.voluntaryContextSwitches());
+        out.writeLong(os.involuntaryContextSwitches());
+        out.writeLong(os.storageReadBytes());
+        out.writeLong(os.peakRssBytes());
+    }
+
+    private static OsUsage readOs(DataInputStream in) throws IOException {
+        return new OsUsage(
+                in.readLong(),
+                in.readLong(),
+                in.readLong(),
+                in.readLong(),
+                in.readLong(),
+                in.readLong(),
+                in.readLong(),
+                in.readLong()
+        );
+    }
+}
@@ -1,94 +1,285 @@
 package com.patrick.benchmark;
 
+import com.patrick.benchmark.metrics.AllocationMeter;
+import com.patrick.benchmark.metrics.BufferPoolMonitor;
+import com.patrick.benchmark.metrics.BufferPoolUsage;
 import com.patrick.benchmark.metrics.ExecutionTimer;
+import com.patrick.benchmark.metrics.GcMonitor;
+import com.patrick.benchmark.metrics.GcUsage;
+import com.patrick.benchmark.metrics.LatencyHistogram;
 import com.patrick.benchmark.metrics.MemoryMeter;
 import com.patrick.benchmark.metrics.MemoryUsage;
+import com.patrick.benchmark.metrics.OsUsage;
+import com.patrick.benchmark.metrics.ProcResourceMonitor;
+import com.patrick.benchmark.metrics.StageUsage;
+import com.patrick.benchmark.metrics.SteadyStateDetector;
+import com.patrick.benchmark.metrics.ThreadAllocationMeter;
+import com.patrick.benchmark.metrics.WarmupSummary;
+import com.patrick.benchmark.processing.ColumnPredicate;
+import com.patrick.benchmark.processing.CsvColumn;
 import com.patrick.benchmark.processing.CsvLineParser;
 import com.patrick.benchmark.processing.CsvScenarioProcessor;
+import com.patrick.benchmark.processing.LineCountingProcessor;
 import com.patrick.benchmark.processing.LineProcessor;
 import com.patrick.benchmark.processing.ProcessingSummary;
+import com.patrick.benchmark.processing.RecordStore;
 import com.patrick.benchmark.processing.ScenarioReport;
+import com.patrick.benchmark.processing.TimingMode;
 import com.patrick.benchmark.processing.scenario.ScenarioCatalog;
 import com.patrick.benchmark.processing.scenario.ScenarioProcessor;
+import com.patrick.benchmark.profiling.StrategyReadEvent;
 import com.patrick.benchmark.readers.FileReadStrategy;
+import com.patrick.benchmark.readers.InputFiles;
+import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 
-public final class BenchmarkRunner {
+public final class BenchmarkRunner implements BenchmarkExecutor {
 
     private final List<FileReadStrategy> strategies;
     private final ScenarioCatalog scenarioCatalog;
     private final MemoryMeter memoryMeter;
+    private final AllocationMeter allocationMeter;
+    private final int batchSize;
+    private final List<TimingMode> timingModes;
+    private final WarmupPolicy warmupPolicy;
+    private final int chunkLines;
+    private final long storeBudgetBytes;
+    private final Map<String, WarmupSummary> warmups = new HashMap<>();
+    private final BufferPoolMonitor bufferPoolMonitor = new BufferPoolMonitor();
+    private final GcMonitor gcMonitor = new GcMonitor();
+    private final ProcResourceMonitor procResourceMonitor = new ProcResourceMonitor();
 
     public BenchmarkRunner(
             List<FileReadStrategy> strategies,
             ScenarioCatalog scenarioCatalog,
             MemoryMeter memoryMeter
+    ) {
+        this(strategies, scenarioCatalog, memoryMeter, new ThreadAllocationMeter(), RunnerOptions.DEFAULTS);
+    }
+
+    public BenchmarkRunner(
+            List<FileReadStrategy> strategies,
+            ScenarioCatalog scenarioCatalog,
+            MemoryMeter memoryMeter,
+            AllocationMeter allocationMeter,
+            RunnerOptions options
     ) {
         this.strategies = List.copyOf(strategies);
         this.scenarioCatalog = scenarioCatalog;
         this.memoryMeter = memoryMeter;
+        this.allocationMeter = allocationMeter;
+        this.batchSize = options.batchSize();
+        this.timingModes = options.timingModes();
+        this.warmupPolicy = options.warmupPolicy();
+        this.chunkLines = options.chunkLines();
+        this.storeBudgetBytes = options.storeBudgetBytes();
     }
 
-    public BenchmarkReport run(Path path, Charset charset, ProcessingMode mode) {
+    @Override
+    public BenchmarkReport run(Path path, Charset charset, ProcessingMode mode, Random order) {
         List<BenchmarkResult> results = new ArrayList<>();
+        long fileSize = fileSize(path);
+        List<FileReadStrategy> runOrder = new ArrayList<>(strategies);
+        if (order != null) {
+            Collections.shuffle(runOrder, order);
+        }
 
-        for (FileReadStrategy strategy : strategies) {
-            BenchmarkResult result = mode == ProcessingMode.SINGLE_PASS
-                    ? runSinglePass(strategy, path, charset)
-                    : runIsolated(strategy, path, charset);
-            results.add(result);
+        for (FileReadStrategy strategy : runOrder) {
+            List<DecompositionStage> stages = mode == ProcessingMode.DECOMPOSED && strategy.decomposable()
+                    ? List.of(DecompositionStage.values())
+                    : List.of(DecompositionStage.SCENARIOS);
+            for (TimingMode timingMode : timingModes) {
+                for (DecompositionStage stage : stages) {
+                    results.add(run(strategy, path, charset, mode, fileSize, 0, timingMode, stage));
+                    if (batchSize > 0) {
+                        results.add(run(strategy, path, charset, mode, fileSize, batchSize, timingMode, stage));
+                    }
+                }
+            }
         }
 
-        return new BenchmarkReport(mode, results);
+        return new BenchmarkReport(mode, results, inputFiles(path));
+    }
+
+    private BenchmarkResult run(
+            FileReadStrategy strategy,
+            Path path,
+            Charset charset,
+            ProcessingMode mode,
+            long fileSize,
+            int recordBatchSize,
+            TimingMode timingMode,
+            DecompositionStage stage
+    ) {
+        String key = mode.name() + ":" + stage.qualify(resultName(strategy, recordBatchSize, timingMode));
+        WarmupSummary warmup = warmups.get(key);
+        if (warmup == null) {
+            warmup = warmUp(strategy, path, charset, mode, fileSize, recordBatchSize, timingMode, stage);
+            warmups.put(key, warmup);
+        }
+        return measure(strategy, path, charset, mode, fileSize, recordBatchSize, timingMode, stage)
+                .withWarmup(warmup);
     }
 
-    private BenchmarkResult runSinglePass(FileReadStrategy strategy, Path path, Charset charset) {
-        LineProcessor processor = newProcessor(scenarioCatalog.createScenarios());
-        long memoryBefore = memoryMeter.usedBytes();
+    private WarmupSummary warmUp(
+            FileReadStrategy strategy,
+            Path path,
+            Charset charset,
+            ProcessingMode mode,
+            long fileSize,
+            int recordBatchSize,
+            TimingMode timingMode,
+            DecompositionStage stage
+    ) {
+        if (warmupPolicy.maxIterations() == 0) {
+            return WarmupSummary.NONE;
+        }
+        SteadyStateDetector detector = warmupPolicy.detectsSteadyState()
+                ? new SteadyStateDetector(warmupPolicy.window(), warmupPolicy.cvThreshold())
+                : null;
+        List<Long> samples = new ArrayList<>();
+        boolean steady = false;
+
+        while (samples.size() < warmupPolicy.maxIterations()) {
+            BenchmarkResult result = measure(
+                    strategy, path, charset, mode, fileSize, recordBatchSize, timingMode, stage);
+            samples.add(result.durationNanos());
+            if (result.errorMessage() != null) {
+                break;
+            }
+            if (detector != null) {
+                steady = detector.add(result.durationNanos());
+            }
+            if (samples.size() >= warmupPolicy.minIterations() && (detector == null || steady)) {
+                break;
+            }
+        }
+
+        double coefficientOfVariation = detector == null ? Double.NaN : detector.coefficientOfVariation();
+        return new WarmupSummary(samples, coefficientOfVariation, steady);
+    }
+
+    private BenchmarkResult measure(
+            FileReadStrategy strategy,
+            Path path,
+            Charset charset,
+            ProcessingMode mode,
+            long fileSize,
+            int recordBatchSize,
+            TimingMode timingMode,
+            DecompositionStage stage
+    ) {
+        return switch (mode) {
+            case SINGLE_PASS -> runSinglePass(strategy, path, charset, fileSize, recordBatchSize, timingMode,
+                    DecompositionStage.SCENARIOS, mode);
+            case ISOLATED -> runIsolated(strategy, path, charset, fileSize, recordBatchSize, timingMode);
+            case SHARED_SCAN -> runSharedScan(strategy, path, charset, fileSize, recordBatchSize, timingMode);
+            case DECOMPOSED -> runSinglePass(strategy, path, charset, fileSize, recordBatchSize, timingMode,
+                    stage, mode);
+        };
+    }
+
+    private BenchmarkResult runSinglePass(
+            FileReadStrategy strategy,
+            Path path,
+            Charset charset,
+            long fileSize,
+            int recordBatchSize,
+            TimingMode timingMode,
+            DecompositionStage stage,
+            ProcessingMode mode
+    ) {
+        String name = stage.qualify(resultName(strategy, recordBatchSize, timingMode));
+        LineProcessor processor = newProcessor(stage, recordBatchSize, timingMode);
+        memoryMeter.resetPeak();
+        BufferPoolMonitor.Session bufferPools = bufferPoolMonitor.start();
+        GcMonitor.Session gcSession = gcMonitor.start();
+        ProcResourceMonitor.Session osSession = procResourceMonitor.start();
+        long allocatedBefore = allocationMeter.allocatedBytes();
         long startNanos = System.nanoTime();
         String errorMessage = null;
         boolean success = true;
+        long bytesRead = fileSize;
+        StrategyReadEvent readEvent = StrategyReadEvent.start(name, mode.displayName());
 
         try {
-            strategy.read(path, charset, processor);
+            if (stage == DecompositionStage.READ) {
+                bytesRead = strategy.readRaw(path);
+            } else {
+                strategy.read(path, charset, processor);
+            }
         } catch (Exception ex) {
             success = false;
             errorMessage = ex.getMessage();
         }
+        readEvent.finish(success);
 
         long durationNanos = ExecutionTimer.elapsedNanos(startNanos, System.nanoTime());
-        long memoryAfter = memoryMeter.usedBytes();
-        long memoryDelta = MemoryUsage.deltaBytes(memoryBefore, memoryAfter);
+        long allocatedBytes = MemoryUsage.deltaBytes(allocatedBefore, allocationMeter.allocatedBytes());
+        BufferPoolUsage bufferPoolUsage = bufferPools.stop();
+        GcUsage gcUsage = gcSession.stop();
+        OsUsage osUsage = osSession.stop();
+        long peakHeapBytes = memoryMeter.peakBytes();
         ProcessingSummary summary = processor.summary();
         long errorCount = summary.invalidLines() + (success ? 0 : 1);
 
         return new BenchmarkResult(
-                strategy.name(),
+                name,
                 durationNanos,
-                memoryDelta,
+                peakHeapBytes,
                 summary,
                 errorCount,
-                errorMessage
+                errorMessage,
+                bytesRead,
+                bufferPoolUsage,
+                allocatedBytes,
+                timingMode,
+                null,
+                gcUsage,
+                osUsage
         );
     }
 
-    private BenchmarkResult runIsolated(FileReadStrategy strategy, Path path, Charset charset) {
+    private BenchmarkResult runIsolated(
+            FileReadStrategy strategy,
+            Path path,
+            Charset charset,
+            long fileSize,
+            int recordBatchSize,
+            TimingMode timingMode
+    ) {
         List<ScenarioReport> scenarioReports = new ArrayList<>();
-        long memoryBefore = memoryMeter.usedBytes();
+        memoryMeter.resetPeak();
+        BufferPoolMonitor.Session bufferPools = bufferPoolMonitor.start();
+        GcMonitor.Session gcSession = gcMonitor.start();
+        ProcResourceMonitor.Session osSession = procResourceMonitor.start();
+        long allocatedBefore = allocationMeter.allocatedBytes();
+        long bytesRead = 0L;
         long totalDurationNanos = 0L;
         long recordsProcessed = 0L;
         long invalidLines = 0L;
+        long filteredLines = 0L;
+        LatencyHistogram chunkLatency = new LatencyHistogram();
+        List<StageUsage> stages = List.of();
         long errorCount = 0L;
         String errorMessage = null;
 
         List<ScenarioProcessor> scenarios = scenarioCatalog.createScenarios();
         for (int i = 0; i < scenarios.size(); i++) {
-            LineProcessor processor = newProcessor(List.of(scenarios.get(i)));
+            LineProcessor processor = newProcessor(List.of(scenarios.get(i)), recordBatchSize, timingMode);
             long startNanos = System.nanoTime();
             boolean success = true;
+            StrategyReadEvent readEvent = StrategyReadEvent.start(
+                    resultName(strategy, recordBatchSize, timingMode),
+                    ProcessingMode.ISOLATED.displayName());
 
             try {
                 strategy.read(path, charset, processor);
@@ -96,15 +287,20 @@ public final class BenchmarkRunner {
                 success = false;
                 errorMessage = ex.getMessage();
             }
+            readEvent.finish(success);
 
             long durationNanos = ExecutionTimer.elapsedNanos(startNanos, System.nanoTime());
             totalDurationNanos += durationNanos;
+            bytesRead += fileSize;
 
             ProcessingSummary summary = processor.summary();
             if (i == 0) {
                 recordsProcessed = summary.recordsProcessed();
                 invalidLines = summary.invalidLines();
+                filteredLines = summary.filteredLines();
             }
+            chunkLatency.merge(summary.chunkLatency());
+            stages = StageUsage.merge(stages, summary.stages());
 
             ScenarioReport report = summary.scenarios().get(0);
             scenarioReports.add(new ScenarioReport(
@@ -120,22 +316,170 @@ public final class BenchmarkRunner {
             }
         }
 
-        long memoryAfter = memoryMeter.usedBytes();
-        long memoryDelta = MemoryUsage.deltaBytes(memoryBefore, memoryAfter);
-        ProcessingSummary summary = new ProcessingSummary(recordsProcessed, invalidLines, scenarioReports);
+        long allocatedBytes = MemoryUsage.deltaBytes(allocatedBefore, allocationMeter.allocatedBytes());
+        BufferPoolUsage bufferPoolUsage = bufferPools.stop();
+        GcUsage gcUsage = gcSession.stop();
+        OsUsage osUsage = osSession.stop();
+        long peakHeapBytes = memoryMeter.peakBytes();
+        ProcessingSummary summary = new ProcessingSummary(
+                recordsProcessed,
+                invalidLines,
+                scenarioReports,
+                filteredLines,
+                chunkLatency,
+                stages
+        );
         long totalErrors = invalidLines + errorCount;
 
         return new BenchmarkResult(
-                strategy.name(),
+                resultName(strategy, recordBatchSize, timingMode),
                 totalDurationNanos,
-                memoryDelta,
+                peakHeapBytes,
                 summary,
                 totalErrors,
-                errorMessage
+                errorMessage,
+                bytesRead,
+                bufferPoolUsage,
+                allocatedBytes,
+                timingMode,
+                null,
+                gcUsage,
+                osUsage
         );
     }
 
-    private LineProcessor newProcessor(List<ScenarioProcessor> scenarios) {
-        return new CsvScenarioProcessor(scenarios, new CsvLineParser());
+    private BenchmarkResult runSharedScan(
+            FileReadStrategy strategy,
+            Path path,
+            Charset charset,
+            long fileSize,
+            int recordBatchSize,
+            TimingMode timingMode
+    ) {
+        List<ScenarioProcessor> scenarios = scenarioCatalog.createScenarios();
+        RecordStore store = new RecordStore(newParser(scenarios), storeBudgetBytes);
+        String name = resultName(strategy, recordBatchSize, timingMode);
+        memoryMeter.resetPeak();
+        BufferPoolMonitor.Session bufferPools = bufferPoolMonitor.start();
+        GcMonitor.Session gcSession = gcMonitor.start();
+        ProcResourceMonitor.Session osSession = procResourceMonitor.start();
+        long allocatedBefore = allocationMeter.allocatedBytes();
+        long startNanos = System.nanoTime();
+        String errorMessage = null;
+        boolean success = true;
+        StrategyReadEvent readEvent = StrategyReadEvent.start(name, ProcessingMode.SHARED_SCAN.displayName());
+
+        try {
+            strategy.read(path, charset, store);
+        } catch (Exception ex) {
+            success = false;
+            errorMessage = ex.getMessage();
+        }
+        readEvent.finish(success);
+        long totalDurationNanos = ExecutionTimer.elapsedNanos(startNanos, System.nanoTime());
+        ProcessingSummary scan = store.summary();
+
+        List<ScenarioReport> scenarioReports = new ArrayList<>();
+        LatencyHistogram chunkLatency = new LatencyHistogram();
+        List<ScenarioProcessor> replayed = success ? scenarios : List.of();
+        for (ScenarioProcessor scenario : replayed) {
+            CsvScenarioProcessor processor = new CsvScenarioProcessor(
+                    List.of(scenario), newParser(List.of(scenario)), recordBatchSize, timingMode, chunkLines);
+            long replayStart = System.nanoTime();
+            store.replay(processor);
+            ProcessingSummary summary = processor.summary();
+            long durationNanos = ExecutionTimer.elapsedNanos(replayStart, System.nanoTime());
+            totalDurationNanos += durationNanos;
+            chunkLatency.merge(summary.chunkLatency());
+
+            ScenarioReport report = summary.scenarios().get(0);
+            scenarioReports.add(new ScenarioReport(report.name(), durationNanos, report.count(), report.breakdown()));
+        }
+
+        long allocatedBytes = MemoryUsage.deltaBytes(allocatedBefore, allocationMeter.allocatedBytes());
+        BufferPoolUsage bufferPoolUsage = bufferPools.stop();
+        GcUsage gcUsage = gcSession.stop();
+        OsUsage osUsage = osSession.stop();
+        long peakHeapBytes = memoryMeter.peakBytes();
+        ProcessingSummary summary = new ProcessingSummary(
+                scan.recordsProcessed(),
+                scan.invalidLines(),
+                scenarioReports,
+                scan.filteredLines(),
+                chunkLatency
+        );
+
+        return new BenchmarkResult(
+                name,
+                totalDurationNanos,
+                peakHeapBytes,
+                summary,
+                scan.invalidLines() + (success ? 0 : 1),
+                errorMessage,
+                fileSize,
+                bufferPoolUsage,
+                allocatedBytes,
+                timingMode,
+                null,
+                gcUsage,
+                osUsage,
+                store.footprintBytes()
+        );
+    }
+
+    private static long fileSize(Path path) {
+        try {
+            return InputFiles.size(path);
+        } catch (IOException ex) {
+            return 0L;
+        }
+    }
+
+    static int inputFiles(Path path) {
+        try {
+            return InputFiles.resolve(path).size();
+        } catch (IOException ex) {
+            return 0;
+        }
+    }
+
+    private String resultName(FileReadStrategy strategy, int recordBatchSize, TimingMode timingMode) {
+        String name = recordBatchSize == 0
+                ? strategy.name()
+                : strategy.name() + " [batch " + recordBatchSize + "]";
+        return timingModes.size() > 1 ? timingMode.qualify(name) : name;
+    }
+
+    private LineProcessor newProcessor(DecompositionStage stage, int recordBatchSize, TimingMode timingMode) {
+        return switch (stage) {
+            case READ, SPLIT -> new LineCountingProcessor();
+            case PARSE -> new CsvScenarioProcessor(
+                    List.of(), newParser(scenarioCatalog.createScenarios()), recordBatchSize, timingMode, chunkLines);
+            case SCENARIOS -> newProcessor(scenarioCatalog.createScenarios(), recordBatchSize, timingMode);
+        };
+    }
+
+    private LineProcessor newProcessor(
+            List<ScenarioProcessor> scenarios,
+            int recordBatchSize,
+            TimingMode timingMode
+    ) {
+        return new CsvScenarioProcessor(scenarios, newParser(scenarios), recordBatchSize, timingMode, chunkLines);
+    }
+
+    private static CsvLineParser newParser(List<ScenarioProcessor> scenarios) {
+        List<Set<CsvColumn>> columns = new ArrayList<>(scenarios.size());
+        List<ColumnPredicate> filters = new ArrayList<>(scenarios.size());
+        for (ScenarioProcessor scenario : scenarios) {
+            columns.add(scenario.columns());
+            ColumnPredicate predicate = scenario.predicate();
+            if (predicate != null) {
+                filters.add(predicate);
+            }
+        }
+        if (filters.size() < scenarios.size()) {
+            filters.clear();
+        }
+        return new CsvLineParser(CsvColumn.union(columns), filters);
     }
 }
@@ -0,0 +1,28 @@
+package com.patrick.benchmark;
+
+public enum DecompositionStage {
+    READ("read", "I/O"),
+    SPLIT("read+split", "Decode + split"),
+    PARSE("read+split+parse", "Parse"),
+    SCENARIOS("all stages", "Scenarios");
+
+    private final String label;
+    private final String costName;
+
+    DecompositionStage(String label, String costName) {
+        this.label = label;
+        this.costName = costName;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public String costName() {
+        return costName;
+    }
+
+    public String qualify(String strategyName) {
+        return this == SCENARIOS ? strategyName : strategyName + " [" + label + "]";
+    }
+}
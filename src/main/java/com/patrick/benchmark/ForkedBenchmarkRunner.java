@@ -0,0 +1,131 @@
+package com.patrick.benchmark;
+
+import com.patrick.benchmark.processing.ProcessingSummary;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+public final class ForkedBenchmarkRunner implements BenchmarkExecutor {
+
+    static final String WORKER_FLAG = "--worker=";
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private final List<String> strategyNames;
+    private final List<JvmConfiguration> configurations;
+    private final List<String> jvmFlags;
+    private final List<String> workerArgs;
+
+    public ForkedBenchmarkRunner(List<String> strategyNames, List<String> jvmFlags, List<String> workerArgs) {
+        this(strategyNames, List.of(JvmConfiguration.DEFAULT), jvmFlags, workerArgs);
+    }
+
+    public ForkedBenchmarkRunner(
+            List<String> strategyNames,
+            List<JvmConfiguration> configurations,
+            List<String> jvmFlags,
+            List<String> workerArgs
+    ) {
+        if (configurations.isEmpty()) {
+            throw new IllegalArgumentException("At least one JVM configuration is required");
+        }
+        this.strategyNames = List.copyOf(strategyNames);
+        this.configurations = List.copyOf(configurations);
+        this.jvmFlags = List.copyOf(jvmFlags);
+        this.workerArgs = List.copyOf(workerArgs);
+    }
+
+    @Override
+    public BenchmarkReport run(Path path, Charset charset, ProcessingMode mode, Random order) {
+        List<String> names = new ArrayList<>(strategyNames);
+        if (order != null) {
+            Collections.shuffle(names, order);
+        }
+
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (JvmConfiguration configuration : configurations) {
+            for (String name : names) {
+                for (BenchmarkResult result : runWorker(path, charset, mode, name, configuration)) {
+                    results.add(result.withStrategyName(configuration.qualify(result.strategyName())));
+                }
+            }
+        }
+        return new BenchmarkReport(mode, results, BenchmarkRunner.inputFiles(path));
+    }
+
+    List<String> command(
+            Path path,
+            Charset charset,
+            ProcessingMode mode,
+            String strategyName,
+            JvmConfiguration configuration
+    ) {
+        List<String> command = launcher(configuration);
+        command.add(path.toString());
+        command.add("--charset=" + charset.name());
+        command.add("--mode=" + mode.name().toLowerCase(Locale.ROOT));
+        command.addAll(workerArgs);
+        command.add(WORKER_FLAG + strategyName);
+        return command;
+    }
+
+    private List<BenchmarkResult> runWorker(
+            Path path,
+            Charset charset,
+            ProcessingMode mode,
+            String strategyName,
+            JvmConfiguration configuration
+    ) {
+        ProcessBuilder builder = new ProcessBuilder(command(path, charset, mode, strategyName, configuration))
+                .redirectError(ProcessBuilder.Redirect.INHERIT);
+        List<BenchmarkResult> results = new ArrayList<>();
+        try {
+            Process process = builder.start();
+            try (BufferedReader reader = process.inputReader(StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (BenchmarkResultCodec.isEncoded(line)) {
+                        results.add(BenchmarkResultCodec.decode(line));
+                    }
+                }
+            }
+            int exitCode = process.waitFor();
+            if (exitCode != 0 || results.isEmpty()) {
+                return List.of(failure(strategyName, "Worker JVM exited with code " + exitCode
+                        + " and " + results.size() + " results"));
+            }
+            return results;
+        } catch (IOException | IllegalArgumentException ex) {
+            return List.of(failure(strategyName, "Worker JVM failed: " + ex.getMessage()));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return List.of(failure(strategyName, "Interrupted while waiting for worker JVM"));
+        }
+    }
+
+    private static BenchmarkResult failure(String strategyName, String message) {
+        return new BenchmarkResult(strategyName, 0L, 0L, new ProcessingSummary(0L, 0L, List.of()), 1L, message);
+    }
+
+    private List<String> launcher(JvmConfiguration configuration) {
+        List<String> launcher = new ArrayList<>();
+        launcher.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent() && !jvmFlags.contains(VECTOR_MODULE)) {
+            launcher.add("--add-modules");
+            launcher.add(VECTOR_MODULE);
+        }
+        launcher.addAll(configuration.flags());
+        launcher.addAll(jvmFlags);
+        launcher.add("-cp");
+        launcher.add(System.getProperty("java.class.path"));
+        launcher.add(App.class.getName());
+        return launcher;
+    }
+}
@@ -0,0 +1,72 @@
+package com.patrick.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public record JvmConfiguration(String name, List<String> flags) {
+
+    public static final JvmConfiguration DEFAULT = new JvmConfiguration("default", List.of());
+
+    public JvmConfiguration {
+        flags = List.copyOf(flags);
+    }
+
+    public String qualify(String strategyName) {
+        return this == DEFAULT ? strategyName : strategyName + " [jvm " + name + "]";
+    }
+
+    public static JvmConfiguration fromLabel(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        String heap = null;
+        int separator = normalized.indexOf('@');
+        if (separator >= 0) {
+            heap = normalized.substring(separator + 1);
+            normalized = normalized.substring(0, separator);
+            if (!heap.matches("\\d+[kmg]?")) {
+                return null;
+            }
+        }
+
+        List<String> flags = new ArrayList<>();
+        String name;
+        switch (normalized) {
+            case "g1" -> {
+                name = "G1";
+                flags.add("-XX:+UseG1GC");
+            }
+            case "parallel" -> {
+                name = "Parallel";
+                flags.add("-XX:+UseParallelGC");
+            }
+            case "serial" -> {
+                name = "Serial";
+                flags.add("-XX:+UseSerialGC");
+            }
+            case "zgc", "z" -> {
+                name = "ZGC";
+                flags.add("-XX:+UseZGC");
+            }
+            case "zgc-generational", "genzgc" -> {
+                name = "Generational ZGC";
+                flags.add("-XX:+UseZGC");
+                flags.add("-XX:+ZGenerational");
+            }
+            case "shenandoah" -> {
+                name = "Shenandoah";
+                flags.add("-XX:+UseShenandoahGC");
+            }
+            default -> {
+                return null;
+            }
+        }
+        if (heap != null) {
+            name = name + " -Xmx" + heap;
+            flags.add("-Xmx" + heap);
+        }
+        return new JvmConfiguration(name, flags);
+    }
+}
@@ -4,7 +4,9 @@ import java.util.Locale;
 
 public enum ProcessingMode {
     SINGLE_PASS("Single-Pass (Realistic)"),
-    ISOLATED("Isolated (Analytical)");
+    ISOLATED("Isolated (Analytical)"),
+    SHARED_SCAN("Isolated Shared-Scan (Analytical)"),
+    DECOMPOSED("Stage Decomposition (Diagnostic)");
 
     private final String displayName;
 
@@ -24,6 +26,8 @@ public enum ProcessingMode {
         return switch (normalized) {
             case "single", "single-pass", "single_pass", "realistic" -> SINGLE_PASS;
             case "isolated", "analytical", "analytic" -> ISOLATED;
+            case "shared", "shared-scan", "shared_scan", "replay" -> SHARED_SCAN;
+            case "stages", "decomposed", "decomposition", "diagnostic" -> DECOMPOSED;
             default -> null;
         };
     }
@@ -0,0 +1,58 @@
+package com.patrick.benchmark;
+
+import com.patrick.benchmark.processing.CsvScenarioProcessor;
+import com.patrick.benchmark.processing.TimingMode;
+import java.util.List;
+
+public record RunnerOptions(
+        int batchSize,
+        List<TimingMode> timingModes,
+        WarmupPolicy warmupPolicy,
+        int chunkLines,
+        long storeBudgetBytes
+) {
+
+    public static final RunnerOptions DEFAULTS = new RunnerOptions(
+            0,
+            List.of(TimingMode.EXACT),
+            WarmupPolicy.NONE,
+            CsvScenarioProcessor.DEFAULT_CHUNK_LINES,
+            Long.MAX_VALUE
+    );
+
+    public RunnerOptions {
+        if (batchSize < 0) {
+            throw new IllegalArgumentException("Batch size must not be negative: " + batchSize);
+        }
+        if (timingModes.isEmpty()) {
+            throw new IllegalArgumentException("At least one timing mode is required");
+        }
+        if (chunkLines < 0) {
+            throw new IllegalArgumentException("Chunk lines must not be negative: " + chunkLines);
+        }
+        if (storeBudgetBytes <= 0) {
+            throw new IllegalArgumentException("Store budget must be positive: " + storeBudgetBytes);
+        }
+        timingModes = List.copyOf(timingModes);
+    }
+
+    public RunnerOptions withBatchSize(int batchSize) {
+        return new RunnerOptions(batchSize, timingModes, warmupPolicy, chunkLines, storeBudgetBytes);
+    }
+
+    public RunnerOptions withTimingModes(List<TimingMode> timingModes) {
+        return new RunnerOptions(batchSize, timingModes, warmupPolicy, chunkLines, storeBudgetBytes);
+    }
+
+    public RunnerOptions withWarmupPolicy(WarmupPolicy warmupPolicy) {
+        return new RunnerOptions(batchSize, timingModes, warmupPolicy, chunkLines, storeBudgetBytes);
+    }
+
+    public RunnerOptions withChunkLines(int chunkLines) {
+        return new RunnerOptions(batchSize, timingModes, warmupPolicy, chunkLines, storeBudgetBytes);
+    }
+
+    public RunnerOptions withStoreBudgetBytes(long storeBudgetBytes) {
+        return new RunnerOptions(batchSize, timingModes, warmupPolicy, chunkLines, storeBudgetBytes);
+    }
+}
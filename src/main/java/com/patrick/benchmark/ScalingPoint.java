@@ -0,0 +1,21 @@
+package com.patrick.benchmark;
+
+public record ScalingPoint(
+        String strategyName,
+        int threads,
+        long fileBytes,
+        long lines,
+        double durationNanos
+) {
+    public String label() {
+        return threads > 0 ? strategyName + " x" + threads : strategyName;
+    }
+
+    public double megabytesPerSecond() {
+        return durationNanos <= 0.0 ? 0.0 : fileBytes / 1024.0 / 1024.0 / (durationNanos / 1_000_000_000.0);
+    }
+
+    public double linesPerSecond() {
+        return durationNanos <= 0.0 ? 0.0 : lines / (durationNanos / 1_000_000_000.0);
+    }
+}
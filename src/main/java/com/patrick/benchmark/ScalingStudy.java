@@ -0,0 +1,116 @@
+package com.patrick.benchmark;
+
+import com.patrick.benchmark.generator.DatasetGenerator;
+import com.patrick.benchmark.generator.DatasetSpec;
+import com.patrick.benchmark.processing.ProcessingSummary;
+import com.patrick.benchmark.readers.FileReadStrategy;
+import com.patrick.benchmark.readers.ParallelFileReadStrategy;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public final class ScalingStudy {
+
+    private static final long DATASET_SEED = 42L;
+
+    private final List<FileReadStrategy> strategies;
+    private final List<Integer> threads;
+    private final List<String> seriesNames;
+    private final int runs;
+    private final Function<List<FileReadStrategy>, BenchmarkExecutor> executorFactory;
+
+    public ScalingStudy(
+            List<FileReadStrategy> strategies,
+            List<Integer> threadCounts,
+            int runs,
+            Function<List<FileReadStrategy>, BenchmarkExecutor> executorFactory
+    ) {
+        if (runs < 1) {
+            throw new IllegalArgumentException("Runs must be at least 1: " + runs);
+        }
+        for (int threadCount : threadCounts) {
+            if (threadCount < 1) {
+                throw new IllegalArgumentException("Thread counts must be at least 1: " + threadCount);
+            }
+        }
+        this.strategies = new ArrayList<>();
+        this.threads = new ArrayList<>();
+        this.seriesNames = new ArrayList<>();
+        for (FileReadStrategy strategy : strategies) {
+            if (strategy instanceof ParallelFileReadStrategy parallel) {
+                if (threadCounts.isEmpty()) {
+                    this.strategies.add(parallel);
+                    this.threads.add(parallel.parallelism());
+                    this.seriesNames.add(parallel.name());
+                }
+                for (int threadCount : threadCounts) {
+                    this.strategies.add(parallel.withParallelism(threadCount));
+                    this.threads.add(threadCount);
+                    this.seriesNames.add(parallel.name());
+                }
+            } else {
+                this.strategies.add(strategy);
+                this.threads.add(0);
+                this.seriesNames.add(strategy.name());
+            }
+        }
+        this.runs = runs;
+        this.executorFactory = executorFactory;
+    }
+
+    public List<ScalingPoint> run(List<Path> files, Charset charset) throws IOException {
+        List<ScalingPoint> points = new ArrayList<>();
+        for (Path file : files) {
+            long fileBytes = Files.size(file);
+            BenchmarkExecutor executor = executorFactory.apply(strategies);
+            long[] durations = new long[strategies.size()];
+            long[] lines = new long[strategies.size()];
+            boolean[] failed = new boolean[strategies.size()];
+            for (int run = 0; run < runs; run++) {
+                Map<String, BenchmarkResult> results = new HashMap<>();
+                for (BenchmarkResult result : executor.run(file, charset, ProcessingMode.SINGLE_PASS).results()) {
+                    results.put(result.strategyName(), result);
+                }
+                for (int i = 0; i < strategies.size(); i++) {
+                    BenchmarkResult result = results.get(strategies.get(i).name());
+                    if (result == null) {
+                        failed[i] = true;
+                        continue;
+                    }
+                    ProcessingSummary summary = result.summary();
+                    durations[i] += result.durationNanos();
+                    lines[i] = summary.recordsProcessed() + summary.invalidLines() + summary.filteredLines();
+                    failed[i] |= result.errorMessage() != null;
+                }
+            }
+            for (int i = 0; i < strategies.size(); i++) {
+                if (!failed[i]) {
+                    points.add(new ScalingPoint(
+                            seriesNames.get(i),
+                            threads.get(i),
+                            fileBytes,
+                            lines[i],
+                            durations[i] / (double) runs));
+                }
+            }
+        }
+        return points;
+    }
+
+    public static Path prepareDataset(Path directory, long size) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("scaling-" + size + ".csv");
+        if (Files.exists(file) && Files.size(file) >= size) {
+            return file;
+        }
+        DatasetSpec spec = new DatasetSpec(0L, size, DATASET_SEED, Map.of(), 0.0, false, 0.0, 0, 0);
+        new DatasetGenerator(spec).generate(file);
+        return file;
+    }
+}
@@ -0,0 +1,31 @@
+package com.patrick.benchmark;
+
+public record WarmupPolicy(int minIterations, int maxIterations, int window, double cvThreshold) {
+
+    public static final WarmupPolicy NONE = new WarmupPolicy(0, 0, 0, 0.0);
+
+    public WarmupPolicy {
+        if (minIterations < 0 || maxIterations < minIterations) {
+            throw new IllegalArgumentException(
+                    "Invalid warmup iterations: min " + minIterations + ", max " + maxIterations);
+        }
+        if (cvThreshold < 0.0) {
+            throw new IllegalArgumentException("CV threshold must not be negative: " + cvThreshold);
+        }
+        if (cvThreshold > 0.0 && window < 2) {
+            throw new IllegalArgumentException("Steady-state window must hold at least 2 samples: " + window);
+        }
+    }
+
+    public static WarmupPolicy fixed(int iterations) {
+        return new WarmupPolicy(iterations, iterations, 0, 0.0);
+    }
+
+    public static WarmupPolicy untilSteady(int minIterations, int maxIterations, int window, double cvThreshold) {
+        return new WarmupPolicy(minIterations, maxIterations, window, cvThreshold);
+    }
+
+    public boolean detectsSteadyState() {
+        return cvThreshold > 0.0;
+    }
+}
@@ -0,0 +1,68 @@
+package com.patrick.benchmark.generator;
+
+import com.patrick.benchmark.processing.CsvColumn;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+public final class ColumnValues {
+
+    public static final String HEADER = "uf,tipo_doenca,local_obito,faixa_etaria,sexo,total";
+    public static final int MAX_CARDINALITY = 1 << 16;
+
+    private static final String[] HEADER_NAMES = HEADER.split(",");
+    private static final String[] UFS = {
+            "AC", "AL", "AM", "AP", "BA", "CE", "DF", "ES", "GO", "MA", "MG", "MS", "MT", "PA",
+            "PB", "PE", "PI", "PR", "RJ", "RN", "RO", "RR", "RS", "SC", "SE", "SP", "TO"
+    };
+    private static final String[] DISEASES = {
+            "OUTRAS", "COVID", "INSUFICIENCIA_RESPIRATORIA", "PNEUMONIA", "SEPTICEMIA", "INDETERMINADA", "SRAG"
+    };
+    private static final String[] LOCATIONS = {
+            "HOSPITAL", "DOMICILIO", "OUTROS_SERVICOS_SAUDE", "OUTRO", "IGNORADO", "VIA_PUBLICA",
+            "POSTO_SAUDE", "AMBULANCIA", "SAMU"
+    };
+    private static final String[] AGE_RANGES = {
+            "< 9", "10 - 19", "20 - 29", "30 - 39", "40 - 49", "50 - 59", "60 - 69", "70 - 79",
+            "80 - 89", "90 - 99", "> 100", "N/I"
+    };
+    private static final String[] SEXES = {"M", "F", "I"};
+    private static final int DEFAULT_TOTAL_RANGE = 999;
+
+    private ColumnValues() {
+    }
+
+    public static CsvColumn fromHeaderName(String name) {
+        String normalized = name.trim().toLowerCase(Locale.ROOT);
+        for (CsvColumn column : CsvColumn.values()) {
+            if (HEADER_NAMES[column.ordinal()].equals(normalized)) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    public static int defaultCardinality(CsvColumn column) {
+        return column == CsvColumn.TOTAL ? DEFAULT_TOTAL_RANGE : base(column).length;
+    }
+
+    static byte[][] values(CsvColumn column, int cardinality) {
+        byte[][] values = new byte[cardinality][];
+        String[] base = base(column);
+        for (int i = 0; i < cardinality; i++) {
+            String value = i < base.length ? base[i] : base[i % base.length] + "_" + i / base.length;
+            values[i] = value.getBytes(StandardCharsets.US_ASCII);
+        }
+        return values;
+    }
+
+    private static String[] base(CsvColumn column) {
+        return switch (column) {
+            case UF -> UFS;
+            case DISEASE_TYPE -> DISEASES;
+            case DEATH_LOCATION -> LOCATIONS;
+            case AGE_RANGE -> AGE_RANGES;
+            case SEX -> SEXES;
+            case TOTAL -> new String[0];
+        };
+    }
+}
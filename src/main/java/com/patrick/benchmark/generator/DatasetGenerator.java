@@ -0,0 +1,260 @@
+package com.patrick.benchmark.generator;
+
+import com.patrick.benchmark.processing.CsvColumn;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+public final class DatasetGenerator {
+
+    static final int BLOCK_LINES = 64 * 1024;
+    private static final int BLOCKS_IN_FLIGHT_PER_THREAD = 2;
+    private static final int MAX_PADDING = 1024;
+    private static final int AVERAGE_LINE_BYTES = 40;
+    private static final long BLOCK_SEED_STRIDE = 0x9E3779B97F4A7C15L;
+    private static final byte[] INVALID_TOTAL = "N/A".getBytes(StandardCharsets.US_ASCII);
+
+    private final DatasetSpec spec;
+    private final int threads;
+    private final byte[][][] values;
+    private final byte[] lineEnding;
+
+    public DatasetGenerator(DatasetSpec spec) {
+        this(spec, Runtime.getRuntime().availableProcessors());
+    }
+
+    public DatasetGenerator(DatasetSpec spec, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Threads must be at least 1: " + threads);
+        }
+        if (spec.maxPadding() > MAX_PADDING) {
+            throw new IllegalArgumentException("Padding must not exceed " + MAX_PADDING + ": " + spec.maxPadding());
+        }
+        this.spec = spec;
+        this.threads = threads;
+        this.values = new byte[CsvColumn.values().length - 1][][];
+        for (int i = 0; i < values.length; i++) {
+            CsvColumn column = CsvColumn.values()[i];
+            values[i] = ColumnValues.values(column, spec.cardinality(column));
+        }
+        this.lineEnding = (spec.crlf() ? "\r\n" : "\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public GeneratedDataset generate(Path output) throws IOException {
+        long blockCount = spec.lines() > 0 ? (spec.lines() + BLOCK_LINES - 1) / BLOCK_LINES : Long.MAX_VALUE;
+        int inFlight = threads * BLOCKS_IN_FLIGHT_PER_THREAD;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try (FileChannel channel = FileChannel.open(
+                output,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            byte[] header = header();
+            write(channel, header, header.length);
+            long bytes = header.length;
+            long lines = 0L;
+            long invalidLines = 0L;
+            Deque<Future<Block>> pending = new ArrayDeque<>();
+            long nextBlock = 0L;
+            boolean done = false;
+            while (!done) {
+                while (pending.size() < inFlight && nextBlock < blockCount) {
+                    long blockIndex = nextBlock++;
+                    pending.addLast(pool.submit(() -> block(blockIndex)));
+                }
+                if (pending.isEmpty()) {
+                    break;
+                }
+                Block block = await(pending.removeFirst());
+                int take = spec.targetBytes() > 0 ? block.linesWithin(spec.targetBytes() - bytes) : block.lines();
+                int length = take == 0 ? 0 : block.ends()[take - 1];
+                write(channel, block.data(), length);
+                bytes += length;
+                lines += take;
+                invalidLines += block.invalid().get(0, take).cardinality();
+                done = spec.targetBytes() > 0 && bytes >= spec.targetBytes();
+            }
+            for (Future<Block> future : pending) {
+                future.cancel(true);
+            }
+            return new GeneratedDataset(lines, invalidLines, bytes);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    Block block(long blockIndex) {
+        int lines = spec.lines() > 0
+                ? (int) Math.min(BLOCK_LINES, spec.lines() - blockIndex * BLOCK_LINES)
+                : BLOCK_LINES;
+        SplittableRandom random = new SplittableRandom(spec.seed() + blockIndex * BLOCK_SEED_STRIDE);
+        LineBuffer buffer = new LineBuffer(lines * (AVERAGE_LINE_BYTES + (spec.minPadding() + spec.maxPadding()) / 2));
+        int[] ends = new int[lines];
+        BitSet invalid = new BitSet(lines);
+        for (int line = 0; line < lines; line++) {
+            if (spec.invalidRate() > 0.0 && random.nextDouble() < spec.invalidRate()) {
+                invalid.set(line);
+                writeInvalidLine(buffer, random);
+            } else {
+                writeLine(buffer, random);
+            }
+            buffer.append(lineEnding);
+            ends[line] = buffer.length();
+        }
+        return new Block(buffer.data(), ends, invalid);
+    }
+
+    private void writeLine(LineBuffer buffer, SplittableRandom random) {
+        for (byte[][] column : values) {
+            writeField(buffer, column[random.nextInt(column.length)], random);
+            buffer.append((byte) ',');
+        }
+        boolean quoted = isQuoted(random);
+        if (quoted) {
+            buffer.append((byte) '"');
+        }
+        int padding = spec.minPadding() == spec.maxPadding()
+                ? spec.minPadding()
+                : random.nextInt(spec.minPadding(), spec.maxPadding() + 1);
+        for (int i = 0; i < padding; i++) {
+            buffer.append((byte) '0');
+        }
+        buffer.appendDigits(random.nextInt(spec.cardinality(CsvColumn.TOTAL)));
+        if (quoted) {
+            buffer.append((byte) '"');
+        }
+    }
+
+    private void writeInvalidLine(LineBuffer buffer, SplittableRandom random) {
+        if (random.nextBoolean()) {
+            int fields = random.nextInt(1, values.length);
+            for (int i = 0; i < fields; i++) {
+                if (i > 0) {
+                    buffer.append((byte) ',');
+                }
+                writeField(buffer, values[i][random.nextInt(values[i].length)], random);
+            }
+            return;
+        }
+        for (byte[][] column : values) {
+            writeField(buffer, column[random.nextInt(column.length)], random);
+            buffer.append((byte) ',');
+        }
+        buffer.append(INVALID_TOTAL);
+    }
+
+    private void writeField(LineBuffer buffer, byte[] value, SplittableRandom random) {
+        if (isQuoted(random)) {
+            buffer.append((byte) '"');
+            buffer.append(value);
+            buffer.append((byte) '"');
+        } else {
+            buffer.append(value);
+        }
+    }
+
+    private boolean isQuoted(SplittableRandom random) {
+        return spec.quotedRatio() > 0.0 && random.nextDouble() < spec.quotedRatio();
+    }
+
+    private byte[] header() {
+        byte[] header = ColumnValues.HEADER.getBytes(StandardCharsets.US_ASCII);
+        byte[] line = Arrays.copyOf(header, header.length + lineEnding.length);
+        System.arraycopy(lineEnding, 0, line, header.length, lineEnding.length);
+        return line;
+    }
+
+    private static void write(FileChannel channel, byte[] data, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(data, 0, length);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static Block await(Future<Block> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating dataset", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Dataset block generation failed", ex.getCause());
+        }
+    }
+
+    record Block(byte[] data, int[] ends, BitSet invalid) {
+
+        int lines() {
+            return ends.length;
+        }
+
+        int linesWithin(long remainingBytes) {
+            int lines = 0;
+            while (lines < ends.length && remainingBytes > 0) {
+                int start = lines == 0 ? 0 : ends[lines - 1];
+                remainingBytes -= ends[lines] - start;
+                lines++;
+            }
+            return lines;
+        }
+    }
+
+    private static final class LineBuffer {
+
+        private byte[] data;
+        private int length;
+
+        LineBuffer(int capacity) {
+            this.data = new byte[Math.max(capacity, 64)];
+        }
+
+        void append(byte value) {
+            ensureCapacity(1);
+            data[length++] = value;
+        }
+
+        void append(byte[] value) {
+            ensureCapacity(value.length);
+            System.arraycopy(value, 0, data, length, value.length);
+            length += value.length;
+        }
+
+        void appendDigits(int value) {
+            int digits = 1;
+            for (int remaining = value; remaining >= 10; remaining /= 10) {
+                digits++;
+            }
+            ensureCapacity(digits);
+            for (int i = length + digits - 1; i >= length; i--) {
+                data[i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            length += digits;
+        }
+
+        int length() {
+            return length;
+        }
+
+        byte[] data() {
+            return data;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.patrick.benchmark.generator;
+
+import com.patrick.benchmark.processing.CsvColumn;
+import java.util.EnumMap;
+import java.util.Map;
+
+public record DatasetSpec(
+        long lines,
+        long targetBytes,
+        long seed,
+        Map<CsvColumn, Integer> cardinality,
+        double quotedRatio,
+        boolean crlf,
+        double invalidRate,
+        int minPadding,
+        int maxPadding
+) {
+    public static final long DEFAULT_LINES = 1_000_000L;
+
+    public DatasetSpec {
+        if (lines < 0 || targetBytes < 0 || (lines == 0) == (targetBytes == 0)) {
+            throw new IllegalArgumentException("Exactly one of lines or target bytes must be positive");
+        }
+        EnumMap<CsvColumn, Integer> resolved = new EnumMap<>(CsvColumn.class);
+        for (CsvColumn column : CsvColumn.values()) {
+            int value = cardinality.getOrDefault(column, ColumnValues.defaultCardinality(column));
+            if (value < 1 || value > ColumnValues.MAX_CARDINALITY) {
+                throw new IllegalArgumentException("Cardinality of " + column + " must be within [1, "
+                        + ColumnValues.MAX_CARDINALITY + "]: " + value);
+            }
+            resolved.put(column, value);
+        }
+        cardinality = Map.copyOf(resolved);
+        if (quotedRatio < 0.0 || quotedRatio > 1.0) {
+            throw new IllegalArgumentException("Quoted ratio must be within [0, 1]: " + quotedRatio);
+        }
+        if (invalidRate < 0.0 || invalidRate > 1.0) {
+            throw new IllegalArgumentException("Invalid line rate must be within [0, 1]: " + invalidRate);
+        }
+        if (minPadding < 0 || maxPadding < minPadding) {
+            throw new IllegalArgumentException("Padding range is invalid: " + minPadding + "-" + maxPadding);
+        }
+    }
+
+    public static DatasetSpec ofLines(long lines, long seed) {
+        return new DatasetSpec(lines, 0L, seed, Map.of(), 0.0, false, 0.0, 0, 0);
+    }
+
+    public int cardinality(CsvColumn column) {
+        return cardinality.get(column);
+    }
+}
@@ -0,0 +1,4 @@
+package com.patrick.benchmark.generator;
+
+public record GeneratedDataset(long lines, long invalidLines, long bytes) {
+}
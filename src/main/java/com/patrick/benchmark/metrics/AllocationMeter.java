@@ -0,0 +1,6 @@
+package com.patrick.benchmark.metrics;
+
+public interface AllocationMeter {
+
+    long allocatedBytes();
+}
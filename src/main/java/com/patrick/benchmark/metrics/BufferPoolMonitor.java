@@ -0,0 +1,89 @@
+package com.patrick.benchmark.metrics;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
+
+public final class BufferPoolMonitor {
+
+    private static final long SAMPLE_INTERVAL_NANOS = 10_000_000L;
+
+    private final List<BufferPoolMXBean> pools;
+
+    public BufferPoolMonitor() {
+        this(ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class));
+    }
+
+    BufferPoolMonitor(List<BufferPoolMXBean> pools) {
+        this.pools = List.copyOf(pools);
+    }
+
+    public Session start() {
+        Session session = new Session();
+        session.sample();
+        session.sampler.start();
+        session.awaitRegistered();
+        return session;
+    }
+
+    public final class Session {
+
+        private final Thread sampler;
+        private final CountDownLatch registered = new CountDownLatch(1);
+        private volatile boolean stopped;
+        private long peakDirectBytes;
+        private long peakMappedBytes;
+
+        private Session() {
+            this.sampler = new Thread(this::run, "buffer-pool-monitor");
+            this.sampler.setDaemon(true);
+        }
+
+        public BufferPoolUsage stop() {
+            stopped = true;
+            LockSupport.unpark(sampler);
+            try {
+                sampler.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            sample();
+            return new BufferPoolUsage(peakDirectBytes, peakMappedBytes);
+        }
+
+        // A ProcResourceMonitor session started after this one then leaves the sampler out of its results.
+        private void awaitRegistered() {
+            try {
+                registered.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void run() {
+            String task = ProcResourceMonitor.registerMonitorThread();
+            registered.countDown();
+            try {
+                while (!stopped) {
+                    sample();
+                    LockSupport.parkNanos(SAMPLE_INTERVAL_NANOS);
+                }
+            } finally {
+                ProcResourceMonitor.unregisterMonitorThread(task);
+            }
+        }
+
+        private void sample() {
+            for (BufferPoolMXBean pool : pools) {
+                long used = Math.max(0L, pool.getMemoryUsed());
+                if ("direct".equals(pool.getName())) {
+                    peakDirectBytes = Math.max(peakDirectBytes, used);
+                } else if (pool.getName().startsWith("mapped")) {
+                    peakMappedBytes = Math.max(peakMappedBytes, used);
+                }
+            }
+        }
+    }
+}
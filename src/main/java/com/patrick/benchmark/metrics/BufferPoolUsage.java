@@ -0,0 +1,10 @@
+package com.patrick.benchmark.metrics;
+
+public record BufferPoolUsage(long peakDirectBytes, long peakMappedBytes) {
+
+    public static final BufferPoolUsage NONE = new BufferPoolUsage(0L, 0L);
+
+    public long peakOffHeapBytes() {
+        return peakDirectBytes + peakMappedBytes;
+    }
+}
@@ -0,0 +1,102 @@
+package com.patrick.benchmark.metrics;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+public final class GcMonitor {
+
+    private final List<GarbageCollectorMXBean> collectors;
+
+    public GcMonitor() {
+        this(ManagementFactory.getGarbageCollectorMXBeans());
+    }
+
+    GcMonitor(List<GarbageCollectorMXBean> collectors) {
+        this.collectors = collectors.stream()
+                .filter(collector -> !isConcurrentCycle(collector.getName()))
+                .toList();
+    }
+
+    public Session start() {
+        Session session = new Session();
+        for (GarbageCollectorMXBean collector : collectors) {
+            if (collector instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(session, null, null);
+            }
+        }
+        return session;
+    }
+
+    static boolean isConcurrentCycle(String collectorName) {
+        return collectorName.endsWith("Cycles");
+    }
+
+    public final class Session implements NotificationListener {
+
+        private final long startCollections;
+        private final long startPauseMillis;
+        private volatile long maxPauseMillis;
+
+        private Session() {
+            this.startCollections = collections();
+            this.startPauseMillis = pauseMillis();
+        }
+
+        public GcUsage stop() {
+            for (GarbageCollectorMXBean collector : collectors) {
+                if (collector instanceof NotificationEmitter emitter) {
+                    try {
+                        emitter.removeNotificationListener(this);
+                    } catch (ListenerNotFoundException ex) {
+                        // already removed
+                    }
+                }
+            }
+            long collections = Math.max(0L, collections() - startCollections);
+            long pauseMillis = Math.max(0L, pauseMillis() - startPauseMillis);
+            long maxPause = collections == 1 ? Math.max(maxPauseMillis, pauseMillis) : maxPauseMillis;
+            return new GcUsage(collections, pauseMillis, Math.min(maxPause, pauseMillis));
+        }
+
+        @Override
+        public void handleNotification(Notification notification, Object handback) {
+            if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                return;
+            }
+            GarbageCollectionNotificationInfo info =
+                    GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            if (!isConcurrentCycle(info.getGcName())) {
+                recordPause(info.getGcInfo().getDuration());
+            }
+        }
+
+        synchronized void recordPause(long durationMillis) {
+            if (durationMillis > maxPauseMillis) {
+                maxPauseMillis = durationMillis;
+            }
+        }
+
+        private long collections() {
+            long total = 0L;
+            for (GarbageCollectorMXBean collector : collectors) {
+                total += Math.max(0L, collector.getCollectionCount());
+            }
+            return total;
+        }
+
+        private long pauseMillis() {
+            long total = 0L;
+            for (GarbageCollectorMXBean collector : collectors) {
+                total += Math.max(0L, collector.getCollectionTime());
+            }
+            return total;
+        }
+    }
+}
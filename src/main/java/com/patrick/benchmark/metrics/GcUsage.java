@@ -0,0 +1,6 @@
+package com.patrick.benchmark.metrics;
+
+public record GcUsage(long collections, long pauseMillis, long maxPauseMillis) {
+
+    public static final GcUsage NONE = new GcUsage(0L, 0L, 0L);
+}
@@ -0,0 +1,133 @@
+package com.patrick.benchmark.metrics;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+public final class HeapPoolMemoryMeter implements MemoryMeter, NotificationListener {
+
+    private final List<MemoryPoolMXBean> pools;
+    private final List<GarbageCollectorMXBean> collectors;
+    private final AtomicLong peak = new AtomicLong();
+    private volatile Map<String, Long> collectionsAtReset = Map.of();
+    private boolean listening;
+
+    public HeapPoolMemoryMeter() {
+        this(ManagementFactory.getMemoryPoolMXBeans(), ManagementFactory.getGarbageCollectorMXBeans());
+    }
+
+    HeapPoolMemoryMeter(List<MemoryPoolMXBean> pools, List<GarbageCollectorMXBean> collectors) {
+        this.pools = pools.stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isValid())
+                .toList();
+        this.collectors = collectors;
+    }
+
+    @Override
+    public long usedBytes() {
+        long used = 0L;
+        for (MemoryPoolMXBean pool : pools) {
+            used += used(pool.getUsage());
+        }
+        return used;
+    }
+
+    // GC notifications are only listened to between resetPeak() and peakBytes(), so meters that are no
+    // longer measuring do not stay registered on the platform collectors.
+    @Override
+    public void resetPeak() {
+        listen();
+        Map<String, Long> lastIds = new HashMap<>();
+        for (GarbageCollectorMXBean collector : collectors) {
+            GcInfo last = lastGcInfo(collector);
+            lastIds.put(collector.getName(), last == null ? 0L : last.getId());
+        }
+        collectionsAtReset = lastIds;
+        peak.set(usedBytes());
+    }
+
+    @Override
+    public long peakBytes() {
+        for (GarbageCollectorMXBean collector : collectors) {
+            GcInfo last = lastGcInfo(collector);
+            if (last != null) {
+                recordCollection(collector.getName(), last);
+            }
+        }
+        stopListening();
+        return Math.max(peak.get(), usedBytes());
+    }
+
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        recordCollection(info.getGcName(), info.getGcInfo());
+    }
+
+    private synchronized void listen() {
+        if (listening) {
+            return;
+        }
+        for (GarbageCollectorMXBean collector : collectors) {
+            if (collector instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(this, null, null);
+            }
+        }
+        listening = true;
+    }
+
+    private synchronized void stopListening() {
+        if (!listening) {
+            return;
+        }
+        for (GarbageCollectorMXBean collector : collectors) {
+            if (collector instanceof NotificationEmitter emitter) {
+                try {
+                    emitter.removeNotificationListener(this);
+                } catch (ListenerNotFoundException ex) {
+                    // already removed
+                }
+            }
+        }
+        listening = false;
+    }
+
+    private void recordCollection(String collectorName, GcInfo info) {
+        if (info.getId() > collectionsAtReset.getOrDefault(collectorName, 0L)) {
+            recordBeforeGc(info.getMemoryUsageBeforeGc());
+        }
+    }
+
+    void recordBeforeGc(Map<String, MemoryUsage> usageBeforeGc) {
+        long total = 0L;
+        for (MemoryPoolMXBean pool : pools) {
+            total += used(usageBeforeGc.get(pool.getName()));
+        }
+        peak.accumulateAndGet(total, Math::max);
+    }
+
+    private static GcInfo lastGcInfo(GarbageCollectorMXBean collector) {
+        return collector instanceof com.sun.management.GarbageCollectorMXBean gcBean ? gcBean.getLastGcInfo() : null;
+    }
+
+    private static long used(MemoryUsage usage) {
+        return usage == null ? 0L : Math.max(0L, usage.getUsed());
+    }
+}
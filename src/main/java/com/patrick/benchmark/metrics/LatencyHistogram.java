@@ -0,0 +1,132 @@
+package com.patrick.benchmark.metrics;
+
+import java.util.Arrays;
+
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 7;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;
+    public static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (63 - SUB_BUCKET_BITS) * SUB_BUCKET_HALF;
+
+    private final long[] counts;
+    private long totalCount;
+    private long maxValue;
+
+    public LatencyHistogram() {
+        this.counts = new long[BUCKET_COUNT];
+    }
+
+    public static LatencyHistogram fromCounts(long[] counts, long maxValue) {
+        if (counts.length != BUCKET_COUNT) {
+            throw new IllegalArgumentException("Expected " + BUCKET_COUNT + " buckets but got " + counts.length);
+        }
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < counts.length; i++) {
+            histogram.add(i, counts[i]);
+        }
+        histogram.maxValue = Math.max(histogram.maxValue, maxValue);
+        return histogram;
+    }
+
+    public void record(long value) {
+        long clamped = Math.max(0L, value);
+        counts[index(clamped)]++;
+        totalCount++;
+        if (clamped > maxValue) {
+            maxValue = clamped;
+        }
+    }
+
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            add(i, other.counts[i]);
+        }
+        maxValue = Math.max(maxValue, other.maxValue);
+    }
+
+    public long count() {
+        return totalCount;
+    }
+
+    public long max() {
+        return maxValue;
+    }
+
+    public long percentile(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Percentile must be within [0, 100]: " + percentile);
+        }
+        if (totalCount == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    public LatencyHistogram copy() {
+        return fromCounts(counts, maxValue);
+    }
+
+    public long[] toCounts() {
+        return counts.clone();
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF + (subBucket - SUB_BUCKET_HALF);
+    }
+
+    static long lowestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int offset = index - SUB_BUCKET_COUNT;
+        int shift = offset / SUB_BUCKET_HALF + 1;
+        long subBucket = offset % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return subBucket << shift;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index == BUCKET_COUNT - 1) {
+            return Long.MAX_VALUE;
+        }
+        return lowestEquivalentValue(index + 1) - 1;
+    }
+
+    private void add(int index, long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Bucket count must not be negative: " + count);
+        }
+        counts[index] += count;
+        totalCount += count;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof LatencyHistogram histogram
+                && maxValue == histogram.maxValue
+                && Arrays.equals(counts, histogram.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(counts) + Long.hashCode(maxValue);
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram[count=" + totalCount + ", max=" + maxValue + "]";
+    }
+}
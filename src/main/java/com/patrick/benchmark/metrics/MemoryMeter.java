@@ -3,4 +3,11 @@ package com.patrick.benchmark.metrics;
 public interface MemoryMeter {
 
     long usedBytes();
+
+    default void resetPeak() {
+    }
+
+    default long peakBytes() {
+        return usedBytes();
+    }
 }
@@ -0,0 +1,15 @@
+package com.patrick.benchmark.metrics;
+
+public record OsUsage(
+        long userCpuMillis,
+        long systemCpuMillis,
+        long minorFaults,
+        long majorFaults,
+        long voluntaryContextSwitches,
+        long involuntaryContextSwitches,
+        long storageReadBytes,
+        long peakRssBytes
+) {
+
+    public static final OsUsage NONE = new OsUsage(0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L);
+}
@@ -0,0 +1,265 @@
+package com.patrick.benchmark.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class ProcResourceMonitor {
+
+    // /proc/<pid>/stat reports CPU time in USER_HZ ticks, which the kernel ABI fixes at 100 per second.
+    private static final long MILLIS_PER_TICK = 10L;
+    private static final String RESET_PEAK_RSS = "5";
+    private static final long DEFAULT_SAMPLE_MILLIS = 20L;
+    private static final Set<String> MONITOR_TASKS = ConcurrentHashMap.newKeySet();
+
+    private final Path procSelf;
+    private final boolean available;
+    private final long sampleMillis;
+
+    public ProcResourceMonitor() {
+        this(Path.of("/proc/self"), DEFAULT_SAMPLE_MILLIS);
+    }
+
+    ProcResourceMonitor(Path procSelf) {
+        this(procSelf, 0L);
+    }
+
+    ProcResourceMonitor(Path procSelf, long sampleMillis) {
+        this.procSelf = procSelf;
+        this.available = Files.isReadable(procSelf.resolve("stat"));
+        this.sampleMillis = sampleMillis;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public Session start() {
+        if (available) {
+            resetPeakRss();
+        }
+        return new Session(snapshot());
+    }
+
+    // Sampling threads register their task id so their wake-ups and CPU time stay out of the results.
+    static String registerMonitorThread() {
+        String task = currentTask(Path.of("/proc/thread-self"));
+        if (task != null) {
+            MONITOR_TASKS.add(task);
+        }
+        return task;
+    }
+
+    static void unregisterMonitorThread(String task) {
+        if (task != null) {
+            MONITOR_TASKS.remove(task);
+        }
+    }
+
+    static long[] parseStat(String stat) {
+        String[] fields = stat.substring(stat.lastIndexOf(')') + 2).trim().split("\\s+");
+        return new long[] {
+                Long.parseLong(fields[11]),
+                Long.parseLong(fields[12]),
+                Long.parseLong(fields[7]),
+                Long.parseLong(fields[9])
+        };
+    }
+
+    static long field(String content, String key) {
+        for (String line : content.split("\n")) {
+            if (line.startsWith(key + ":")) {
+                String value = line.substring(key.length() + 1).trim();
+                int space = value.indexOf(' ');
+                try {
+                    long number = Long.parseLong(space < 0 ? value : value.substring(0, space));
+                    return value.endsWith("kB") ? number * 1024L : number;
+                } catch (NumberFormatException ex) {
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+
+    private void resetPeakRss() {
+        try {
+            Files.writeString(procSelf.resolve("clear_refs"), RESET_PEAK_RSS, StandardCharsets.US_ASCII);
+        } catch (IOException | SecurityException ex) {
+            // peak RSS falls back to the process lifetime high-water mark
+        }
+    }
+
+    private Snapshot snapshot() {
+        if (!available) {
+            return Snapshot.EMPTY;
+        }
+        long[] stat = parseStat(read(procSelf.resolve("stat")));
+        long readBytes = field(read(procSelf.resolve("io")), "read_bytes");
+        return new Snapshot(stat[0], stat[1], stat[2], stat[3], readBytes, taskCounters());
+    }
+
+    private Map<String, long[]> taskCounters() {
+        Map<String, long[]> counters = new HashMap<>();
+        try (DirectoryStream<Path> tasks = Files.newDirectoryStream(procSelf.resolve("task"))) {
+            for (Path task : tasks) {
+                String status = read(task.resolve("status"));
+                if (!status.isEmpty()) {
+                    String stat = read(task.resolve("stat"));
+                    long[] cpu = stat.isEmpty() ? new long[2] : parseStat(stat);
+                    counters.put(task.getFileName().toString(), new long[] {
+                            field(status, "voluntary_ctxt_switches"),
+                            field(status, "nonvoluntary_ctxt_switches"),
+                            cpu[0],
+                            cpu[1]
+                    });
+                }
+            }
+        } catch (IOException ex) {
+            // threads without a readable status are skipped
+        }
+        return counters;
+    }
+
+    private static String currentTask(Path threadSelf) {
+        try {
+            return threadSelf.toRealPath().getFileName().toString();
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private static String read(Path path) {
+        try {
+            return Files.readString(path, StandardCharsets.US_ASCII);
+        } catch (IOException ex) {
+            return "";
+        }
+    }
+
+    private record Snapshot(
+            long userTicks,
+            long systemTicks,
+            long minorFaults,
+            long majorFaults,
+            long readBytes,
+            Map<String, long[]> tasks
+    ) {
+
+        private static final Snapshot EMPTY = new Snapshot(0L, 0L, 0L, 0L, 0L, Map.of());
+    }
+
+    public final class Session {
+
+        private final Snapshot start;
+        private final Map<String, long[]> latest = new HashMap<>();
+        private final Set<String> monitorTasks = new HashSet<>(MONITOR_TASKS);
+        private final Thread sampler;
+
+        private Session(Snapshot start) {
+            this.start = start;
+            latest.putAll(start.tasks());
+            if (available && sampleMillis > 0L) {
+                sampler = Thread.ofPlatform().daemon().name("proc-resource-sampler").start(this::sampleUntilStopped);
+            } else {
+                sampler = null;
+            }
+        }
+
+        // Threads that exit inside the window vanish from /proc/self/task, so the sampler keeps their
+        // last seen counters; switches in the final sampling interval of an exited thread are missed.
+        synchronized void sample() {
+            monitorTasks.addAll(MONITOR_TASKS);
+            for (Map.Entry<String, long[]> entry : taskCounters().entrySet()) {
+                latest.merge(entry.getKey(), entry.getValue(), (before, after) -> {
+                    long[] merged = new long[before.length];
+                    for (int i = 0; i < merged.length; i++) {
+                        merged[i] = Math.max(before[i], after[i]);
+                    }
+                    return merged;
+                });
+            }
+        }
+
+        synchronized void excludeTask(String task) {
+            monitorTasks.add(task);
+        }
+
+        private void sampleUntilStopped() {
+            String task = registerMonitorThread();
+            if (task != null) {
+                excludeTask(task);
+            }
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    Thread.sleep(sampleMillis);
+                    sample();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                unregisterMonitorThread(task);
+            }
+        }
+
+        private void stopSampler() {
+            if (sampler == null) {
+                return;
+            }
+            sampler.interrupt();
+            try {
+                sampler.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // Switches of benchmark threads, then the CPU ticks the monitor threads spent in the window.
+        private synchronized long[] taskDeltas() {
+            long[] deltas = new long[4];
+            for (Map.Entry<String, long[]> entry : latest.entrySet()) {
+                long[] before = start.tasks().getOrDefault(entry.getKey(), new long[4]);
+                long[] after = entry.getValue();
+                if (monitorTasks.contains(entry.getKey())) {
+                    deltas[2] += delta(before[2], after[2]);
+                    deltas[3] += delta(before[3], after[3]);
+                } else {
+                    deltas[0] += delta(before[0], after[0]);
+                    deltas[1] += delta(before[1], after[1]);
+                }
+            }
+            return deltas;
+        }
+
+        public OsUsage stop() {
+            if (!available) {
+                return OsUsage.NONE;
+            }
+            stopSampler();
+            sample();
+            long[] tasks = taskDeltas();
+            Snapshot end = snapshot();
+            return new OsUsage(
+                    delta(tasks[2], delta(start.userTicks(), end.userTicks())) * MILLIS_PER_TICK,
+                    delta(tasks[3], delta(start.systemTicks(), end.systemTicks())) * MILLIS_PER_TICK,
+                    delta(start.minorFaults(), end.minorFaults()),
+                    delta(start.majorFaults(), end.majorFaults()),
+                    tasks[0],
+                    tasks[1],
+                    delta(start.readBytes(), end.readBytes()),
+                    field(read(procSelf.resolve("status")), "VmHWM")
+            );
+        }
+
+        private long delta(long before, long after) {
+            return Math.max(0L, after - before);
+        }
+    }
+}
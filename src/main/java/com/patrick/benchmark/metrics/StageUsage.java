@@ -0,0 +1,57 @@
+package com.patrick.benchmark.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record StageUsage(
+        String stage,
+        long busyNanos,
+        long idleNanos,
+        long batches,
+        long queueDepthSum,
+        int maxQueueDepth,
+        int queueCapacity
+) {
+    public double busyShare() {
+        long total = busyNanos + idleNanos;
+        return total <= 0L ? 0.0 : (double) busyNanos / total;
+    }
+
+    public double meanQueueDepth() {
+        return batches == 0L ? 0.0 : (double) queueDepthSum / batches;
+    }
+
+    public StageUsage merge(StageUsage other) {
+        return new StageUsage(
+                stage,
+                busyNanos + other.busyNanos,
+                idleNanos + other.idleNanos,
+                batches + other.batches,
+                queueDepthSum + other.queueDepthSum,
+                Math.max(maxQueueDepth, other.maxQueueDepth),
+                Math.max(queueCapacity, other.queueCapacity)
+        );
+    }
+
+    public static List<StageUsage> merge(List<StageUsage> left, List<StageUsage> right) {
+        List<StageUsage> merged = new ArrayList<>(left);
+        for (StageUsage usage : right) {
+            int index = indexOf(merged, usage.stage());
+            if (index < 0) {
+                merged.add(usage);
+            } else {
+                merged.set(index, merged.get(index).merge(usage));
+            }
+        }
+        return List.copyOf(merged);
+    }
+
+    private static int indexOf(List<StageUsage> usages, String stage) {
+        for (int i = 0; i < usages.size(); i++) {
+            if (usages.get(i).stage().equals(stage)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,50 @@
+package com.patrick.benchmark.metrics;
+
+public final class SteadyStateDetector {
+
+    private final long[] window;
+    private final double threshold;
+    private int count;
+
+    public SteadyStateDetector(int windowSize, double threshold) {
+        if (windowSize < 2) {
+            throw new IllegalArgumentException("Window must hold at least 2 samples: " + windowSize);
+        }
+        if (threshold <= 0.0) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        this.window = new long[windowSize];
+        this.threshold = threshold;
+    }
+
+    public boolean add(long sampleNanos) {
+        window[count % window.length] = sampleNanos;
+        count++;
+        return isSteady();
+    }
+
+    public boolean isSteady() {
+        return count >= window.length && coefficientOfVariation() <= threshold;
+    }
+
+    public double coefficientOfVariation() {
+        int size = Math.min(count, window.length);
+        if (size < 2) {
+            return Double.NaN;
+        }
+        double sum = 0.0;
+        for (int i = 0; i < size; i++) {
+            sum += window[i];
+        }
+        double mean = sum / size;
+        if (mean == 0.0) {
+            return 0.0;
+        }
+        double variance = 0.0;
+        for (int i = 0; i < size; i++) {
+            double delta = window[i] - mean;
+            variance += delta * delta;
+        }
+        return Math.sqrt(variance / (size - 1)) / mean;
+    }
+}
@@ -0,0 +1,33 @@
+package com.patrick.benchmark.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+public final class ThreadAllocationMeter implements AllocationMeter {
+
+    private final com.sun.management.ThreadMXBean threads;
+
+    public ThreadAllocationMeter() {
+        this(ManagementFactory.getThreadMXBean());
+    }
+
+    ThreadAllocationMeter(ThreadMXBean threadBean) {
+        if (threadBean instanceof com.sun.management.ThreadMXBean sunThreads
+                && sunThreads.isThreadAllocatedMemorySupported()) {
+            if (!sunThreads.isThreadAllocatedMemoryEnabled()) {
+                sunThreads.setThreadAllocatedMemoryEnabled(true);
+            }
+            this.threads = sunThreads;
+        } else {
+            this.threads = null;
+        }
+    }
+
+    @Override
+    public long allocatedBytes() {
+        if (threads == null) {
+            return 0L;
+        }
+        return Math.max(0L, threads.getTotalThreadAllocatedBytes());
+    }
+}
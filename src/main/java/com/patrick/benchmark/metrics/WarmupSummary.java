@@ -0,0 +1,28 @@
+package com.patrick.benchmark.metrics;
+
+import java.util.List;
+
+public record WarmupSummary(List<Long> sampleNanos, double coefficientOfVariation, boolean steady) {
+
+    public static final WarmupSummary NONE = new WarmupSummary(List.of(), Double.NaN, false);
+
+    public WarmupSummary {
+        sampleNanos = List.copyOf(sampleNanos);
+    }
+
+    public int iterations() {
+        return sampleNanos.size();
+    }
+
+    public long totalNanos() {
+        long total = 0L;
+        for (long sample : sampleNanos) {
+            total += sample;
+        }
+        return total;
+    }
+
+    public boolean detectedSteadyState() {
+        return !Double.isNaN(coefficientOfVariation);
+    }
+}
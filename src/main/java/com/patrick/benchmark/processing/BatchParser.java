@@ -0,0 +1,44 @@
+package com.patrick.benchmark.processing;
+
+import com.patrick.benchmark.profiling.ParseFailureEvent;
+
+public final class BatchParser {
+
+    private final CsvLineParser parser;
+    private final MutableCsvRecord record = new MutableCsvRecord();
+    private boolean headerSkipped;
+    private long lines;
+    private long invalidLines;
+    private long filteredLines;
+
+    BatchParser(CsvLineParser parser, boolean headerSkipped) {
+        this.parser = parser;
+        this.headerSkipped = headerSkipped;
+    }
+
+    public boolean parse(ByteSlice line, RecordBatch batch) {
+        if (!headerSkipped) {
+            headerSkipped = true;
+            return false;
+        }
+        lines++;
+        if (parser.parse(line, record)) {
+            return batch.add(record);
+        }
+        if (parser.filtered()) {
+            filteredLines++;
+        } else {
+            invalidLines++;
+            ParseFailureEvent.emit(lines, line.length());
+        }
+        return false;
+    }
+
+    public long invalidLines() {
+        return invalidLines;
+    }
+
+    public long filteredLines() {
+        return filteredLines;
+    }
+}
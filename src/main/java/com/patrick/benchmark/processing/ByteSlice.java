@@ -0,0 +1,84 @@
+package com.patrick.benchmark.processing;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+public final class ByteSlice {
+
+    private final Charset charset;
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+    private byte[] scratch = new byte[0];
+    private int[] structurals;
+    private int structuralCount = -1;
+
+    public ByteSlice(Charset charset) {
+        this.charset = charset;
+    }
+
+    public ByteSlice set(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        this.structurals = null;
+        this.structuralCount = -1;
+        return this;
+    }
+
+    public ByteSlice withStructurals(int[] positions, int count) {
+        this.structurals = positions;
+        this.structuralCount = count;
+        return this;
+    }
+
+    public Charset charset() {
+        return charset;
+    }
+
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    public int offset() {
+        return offset;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public int structuralCount() {
+        return structuralCount;
+    }
+
+    public int structural(int index) {
+        return structurals[index] - offset;
+    }
+
+    public byte byteAt(int index) {
+        return buffer.get(offset + index);
+    }
+
+    public String decode() {
+        return decode(0, length);
+    }
+
+    public String decode(int from, int to) {
+        int count = to - from;
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + offset + from, count, charset);
+        }
+        if (scratch.length < count) {
+            scratch = Arrays.copyOf(scratch, Math.max(count, scratch.length * 2));
+        }
+        buffer.get(offset + from, scratch, 0, count);
+        return new String(scratch, 0, count, charset);
+    }
+
+    @Override
+    public String toString() {
+        return decode();
+    }
+}
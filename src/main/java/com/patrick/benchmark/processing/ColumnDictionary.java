@@ -0,0 +1,117 @@
+package com.patrick.benchmark.processing;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class ColumnDictionary {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<String, Integer> codesByValue = new HashMap<>();
+    private int[] slots = new int[INITIAL_CAPACITY];
+    private int[] slotHashes = new int[INITIAL_CAPACITY];
+    private byte[][] keys = new byte[INITIAL_CAPACITY / 2][];
+    private String[] values = new String[INITIAL_CAPACITY / 2];
+    private int byteEntries;
+    private int size;
+
+    ColumnDictionary() {
+    }
+
+    int code(String value) {
+        Integer code = codesByValue.get(value);
+        if (code != null) {
+            return code;
+        }
+        return add(value);
+    }
+
+    int code(ByteSlice slice, int from, int to) {
+        int hash = hash(slice, from, to);
+        int mask = slots.length - 1;
+        int index = hash & mask;
+        int slot = slots[index];
+        while (slot != 0) {
+            int code = slot - 1;
+            if (slotHashes[index] == hash && matches(keys[code], slice, from, to)) {
+                return code;
+            }
+            index = (index + 1) & mask;
+            slot = slots[index];
+        }
+
+        int code = code(slice.decode(from, to));
+        if (keys[code] == null) {
+            byte[] key = new byte[to - from];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = slice.byteAt(from + i);
+            }
+            keys[code] = key;
+            slots[index] = code + 1;
+            slotHashes[index] = hash;
+            if (++byteEntries * 2 > slots.length) {
+                rehash();
+            }
+        }
+        return code;
+    }
+
+    public String value(int code) {
+        return values[code];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int add(String value) {
+        int code = size++;
+        if (code == values.length) {
+            values = Arrays.copyOf(values, code * 2);
+            keys = Arrays.copyOf(keys, code * 2);
+        }
+        values[code] = value;
+        codesByValue.put(value, code);
+        return code;
+    }
+
+    private void rehash() {
+        int[] oldSlots = slots;
+        int[] oldHashes = slotHashes;
+        slots = new int[oldSlots.length * 2];
+        slotHashes = new int[oldSlots.length * 2];
+        int mask = slots.length - 1;
+        for (int i = 0; i < oldSlots.length; i++) {
+            if (oldSlots[i] == 0) {
+                continue;
+            }
+            int index = oldHashes[i] & mask;
+            while (slots[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            slots[index] = oldSlots[i];
+            slotHashes[index] = oldHashes[i];
+        }
+    }
+
+    private static int hash(ByteSlice slice, int from, int to) {
+        int hash = 1;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + slice.byteAt(i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean matches(byte[] key, ByteSlice slice, int from, int to) {
+        if (key.length != to - from) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] != slice.byteAt(from + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
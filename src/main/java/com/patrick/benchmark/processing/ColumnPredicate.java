@@ -0,0 +1,18 @@
+package com.patrick.benchmark.processing;
+
+public interface ColumnPredicate {
+
+    CsvColumn column();
+
+    boolean test(ByteSlice line, int from, int to);
+
+    boolean test(String value);
+
+    static ColumnPredicate in(CsvColumn column, String... values) {
+        return new ValueSetPredicate(column, true, values);
+    }
+
+    static ColumnPredicate notIn(CsvColumn column, String... values) {
+        return new ValueSetPredicate(column, false, values);
+    }
+}
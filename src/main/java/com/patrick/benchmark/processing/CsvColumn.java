@@ -0,0 +1,22 @@
+package com.patrick.benchmark.processing;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+public enum CsvColumn {
+    UF,
+    DISEASE_TYPE,
+    DEATH_LOCATION,
+    AGE_RANGE,
+    SEX,
+    TOTAL;
+
+    public static Set<CsvColumn> union(Collection<? extends Set<CsvColumn>> columnSets) {
+        Set<CsvColumn> union = EnumSet.noneOf(CsvColumn.class);
+        for (Set<CsvColumn> columns : columnSets) {
+            union.addAll(columns);
+        }
+        return union;
+    }
+}
@@ -1,11 +1,70 @@
 package com.patrick.benchmark.processing;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 public final class CsvLineParser {
 
     private static final int EXPECTED_FIELDS = 6;
+    private static final int TOTAL_FIELD = 5;
+
+    private final int[] fieldStarts = new int[EXPECTED_FIELDS];
+    private final int[] fieldEnds = new int[EXPECTED_FIELDS];
+    private final int[] fieldQuotes = new int[EXPECTED_FIELDS];
+    private final Set<CsvColumn> columns;
+    private final List<ColumnPredicate> filters;
+    private final boolean[] projected = new boolean[MutableCsvRecord.CATEGORICAL_COLUMNS];
+    private final boolean[] located = new boolean[EXPECTED_FIELDS];
+    private final boolean[] filterFields = new boolean[EXPECTED_FIELDS];
+    private final int lastFilterField;
+    private int scanCandidate;
+    private int scanField;
+    private int scanFieldStart;
+    private int scanQuotes;
+    private boolean scanInQuotes;
+    private long parsedTotal;
+    private boolean filtered;
+
+    public CsvLineParser() {
+        this(EnumSet.allOf(CsvColumn.class));
+    }
+
+    public CsvLineParser(Set<CsvColumn> columns) {
+        this(columns, List.of());
+    }
+
+    public CsvLineParser(Set<CsvColumn> columns, List<ColumnPredicate> filters) {
+        this.columns = columns.isEmpty() ? EnumSet.noneOf(CsvColumn.class) : EnumSet.copyOf(columns);
+        this.filters = List.copyOf(filters);
+        for (CsvColumn column : this.columns) {
+            if (column != CsvColumn.TOTAL) {
+                projected[column.ordinal()] = true;
+            }
+        }
+        System.arraycopy(projected, 0, located, 0, projected.length);
+        located[TOTAL_FIELD] = true;
+        int lastFilter = -1;
+        for (ColumnPredicate filter : this.filters) {
+            int field = filter.column().ordinal();
+            filterFields[field] = true;
+            lastFilter = Math.max(lastFilter, field);
+        }
+        this.lastFilterField = lastFilter;
+    }
+
+    public Set<CsvColumn> columns() {
+        return EnumSet.copyOf(columns);
+    }
+
+    public List<ColumnPredicate> filters() {
+        return filters;
+    }
+
+    public boolean filtered() {
+        return filtered;
+    }
 
     public CsvRecord parse(String line) {
         if (line == null || line.isBlank()) {
@@ -34,6 +93,267 @@ public final class CsvLineParser {
         );
     }
 
+    public boolean parse(String line, MutableCsvRecord target) {
+        filtered = false;
+        if (line == null || line.isBlank() || !locateFields(line)) {
+            return false;
+        }
+        if (!filters.isEmpty() && !anyFilterMatches(line)) {
+            filtered = true;
+            return false;
+        }
+
+        try {
+            if (fieldQuotes[TOTAL_FIELD] == 0) {
+                int start = trimStart(line, fieldStarts[TOTAL_FIELD], fieldEnds[TOTAL_FIELD]);
+                int end = trimEnd(line, start, fieldEnds[TOTAL_FIELD]);
+                parsedTotal = Long.parseLong(line, start, end, 10);
+            } else {
+                parsedTotal = Long.parseLong(field(line, TOTAL_FIELD));
+            }
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+
+        for (int i = 0; i < MutableCsvRecord.CATEGORICAL_COLUMNS; i++) {
+            target.setCode(i, projected[i] ? target.dictionary(i).code(field(line, i)) : MutableCsvRecord.NOT_PARSED);
+        }
+        target.setTotal(parsedTotal);
+        return true;
+    }
+
+    public boolean parse(ByteSlice line, MutableCsvRecord target) {
+        filtered = false;
+        scanCandidate = 0;
+        scanField = 0;
+        scanFieldStart = 0;
+        scanQuotes = 0;
+        scanInQuotes = false;
+
+        if (lastFilterField >= 0) {
+            if (!locateFields(line, lastFilterField)) {
+                return false;
+            }
+            for (int i = 0; i <= lastFilterField; i++) {
+                if (filterFields[i] && !unquote(line, i)) {
+                    return parse(line.decode(), target);
+                }
+            }
+            if (!anyFilterMatches(line)) {
+                filtered = true;
+                return false;
+            }
+        }
+
+        if (!locateFields(line, TOTAL_FIELD)) {
+            return false;
+        }
+        for (int i = 0; i < EXPECTED_FIELDS; i++) {
+            if (located[i] && !filterFields[i] && !unquote(line, i)) {
+                return parse(line.decode(), target);
+            }
+        }
+
+        if (!parseTotal(line, fieldStarts[TOTAL_FIELD], fieldEnds[TOTAL_FIELD])) {
+            return false;
+        }
+
+        for (int i = 0; i < MutableCsvRecord.CATEGORICAL_COLUMNS; i++) {
+            target.setCode(i, projected[i]
+                    ? target.dictionary(i).code(line, fieldStarts[i], fieldEnds[i])
+                    : MutableCsvRecord.NOT_PARSED);
+        }
+        target.setTotal(parsedTotal);
+        return true;
+    }
+
+    private boolean anyFilterMatches(ByteSlice line) {
+        for (int i = 0; i < filters.size(); i++) {
+            ColumnPredicate filter = filters.get(i);
+            int field = filter.column().ordinal();
+            if (filter.test(line, fieldStarts[field], fieldEnds[field])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean anyFilterMatches(String line) {
+        for (int i = 0; i < filters.size(); i++) {
+            ColumnPredicate filter = filters.get(i);
+            if (filter.test(field(line, filter.column().ordinal()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean locateFields(String line) {
+        int length = line.length();
+        int field = 0;
+        int fieldStart = 0;
+        int quotes = 0;
+        boolean inQuotes = false;
+
+        for (int i = 0; i < length; i++) {
+            char value = line.charAt(i);
+            if (value == '"') {
+                inQuotes = !inQuotes;
+                quotes++;
+            } else if (value == ',' && !inQuotes) {
+                if (field == EXPECTED_FIELDS - 1) {
+                    return false;
+                }
+                recordField(field++, fieldStart, i, quotes);
+                fieldStart = i + 1;
+                quotes = 0;
+            }
+        }
+
+        if (field != EXPECTED_FIELDS - 1) {
+            return false;
+        }
+        recordField(field, fieldStart, length, quotes);
+        return true;
+    }
+
+    private String field(String line, int field) {
+        String value = line.substring(fieldStarts[field], fieldEnds[field]);
+        if (fieldQuotes[field] > 0) {
+            value = value.replace("\"", "");
+        }
+        return value.trim();
+    }
+
+    private boolean locateFields(ByteSlice line, int untilField) {
+        int length = line.length();
+        int structuralCount = line.structuralCount();
+        int candidates = structuralCount < 0 ? length : structuralCount;
+        int field = scanField;
+        int fieldStart = scanFieldStart;
+        int quotes = scanQuotes;
+        boolean inQuotes = scanInQuotes;
+
+        for (int candidate = scanCandidate; candidate < candidates; candidate++) {
+            int i = structuralCount < 0 ? candidate : line.structural(candidate);
+            byte value = line.byteAt(i);
+            if (value == '"') {
+                inQuotes = !inQuotes;
+                quotes++;
+            } else if (value == ',' && !inQuotes) {
+                if (field == EXPECTED_FIELDS - 1) {
+                    return false;
+                }
+                recordField(field++, fieldStart, i, quotes);
+                fieldStart = i + 1;
+                quotes = 0;
+                if (field > untilField) {
+                    scanCandidate = candidate + 1;
+                    scanField = field;
+                    scanFieldStart = fieldStart;
+                    scanQuotes = 0;
+                    scanInQuotes = false;
+                    return true;
+                }
+            }
+        }
+
+        if (field != EXPECTED_FIELDS - 1) {
+            return false;
+        }
+        recordField(field, fieldStart, length, quotes);
+        return true;
+    }
+
+    private void recordField(int field, int start, int end, int quotes) {
+        fieldStarts[field] = start;
+        fieldEnds[field] = end;
+        fieldQuotes[field] = quotes;
+    }
+
+    private boolean unquote(ByteSlice line, int field) {
+        int start = trimStart(line, fieldStarts[field], fieldEnds[field]);
+        int end = trimEnd(line, start, fieldEnds[field]);
+        if (fieldQuotes[field] == 2) {
+            if (end - start < 2 || line.byteAt(start) != '"' || line.byteAt(end - 1) != '"') {
+                return false;
+            }
+            start = trimStart(line, start + 1, end - 1);
+            end = trimEnd(line, start, end - 1);
+        } else if (fieldQuotes[field] != 0) {
+            return false;
+        }
+        fieldStarts[field] = start;
+        fieldEnds[field] = end;
+        return true;
+    }
+
+    private boolean parseTotal(ByteSlice line, int start, int end) {
+        if (start >= end) {
+            return false;
+        }
+        boolean negative = false;
+        int index = start;
+        byte first = line.byteAt(index);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            index++;
+            if (index == end) {
+                return false;
+            }
+        }
+
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long result = 0L;
+        for (; index < end; index++) {
+            int digit = line.byteAt(index) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+
+        parsedTotal = negative ? result : -result;
+        return true;
+    }
+
+    private static int trimStart(String line, int start, int end) {
+        int index = start;
+        while (index < end && line.charAt(index) <= ' ') {
+            index++;
+        }
+        return index;
+    }
+
+    private static int trimEnd(String line, int start, int end) {
+        int index = end;
+        while (index > start && line.charAt(index - 1) <= ' ') {
+            index--;
+        }
+        return index;
+    }
+
+    private static int trimStart(ByteSlice line, int start, int end) {
+        int index = start;
+        while (index < end && (line.byteAt(index) & 0xFF) <= ' ') {
+            index++;
+        }
+        return index;
+    }
+
+    private static int trimEnd(ByteSlice line, int start, int end) {
+        int index = end;
+        while (index > start && (line.byteAt(index - 1) & 0xFF) <= ' ') {
+            index--;
+        }
+        return index;
+    }
+
     private List<String> split(String line) {
         List<String> fields = new ArrayList<>(EXPECTED_FIELDS);
         StringBuilder current = new StringBuilder();
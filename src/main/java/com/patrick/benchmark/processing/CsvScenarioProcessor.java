@@ -3,46 +3,263 @@ package com.patrick.benchmark.processing;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.patrick.benchmark.metrics.LatencyHistogram;
+import com.patrick.benchmark.metrics.StageUsage;
 import com.patrick.benchmark.processing.scenario.ScenarioProcessor;
+import com.patrick.benchmark.profiling.ParseFailureEvent;
+import com.patrick.benchmark.profiling.ScenarioBatchEvent;
 
-public final class CsvScenarioProcessor implements LineProcessor {
+public final class CsvScenarioProcessor implements ForkableLineProcessor {
+
+    public static final int DEFAULT_CHUNK_LINES = 4096;
 
     private final CsvLineParser parser;
     private final List<ScenarioProcessor> scenarios;
     private final long[] scenarioNanos;
+    private final MutableCsvRecord record = new MutableCsvRecord();
+    private final RecordBatch batch;
+    private final TimingMode timingMode;
+    private final int chunkLines;
+    private final LatencyHistogram chunkLatency = new LatencyHistogram();
+    private List<StageUsage> stages = List.of();
+    private int untilChunk;
+    private long chunkStartNanos;
+    private int untilSample = TimingMode.SAMPLE_INTERVAL;
     private boolean headerSkipped;
     private long recordsProcessed;
     private long invalidLines;
+    private long filteredLines;
 
     public CsvScenarioProcessor(List<ScenarioProcessor> scenarios, CsvLineParser parser) {
+        this(scenarios, parser, 0);
+    }
+
+    public CsvScenarioProcessor(List<ScenarioProcessor> scenarios, CsvLineParser parser, int batchSize) {
+        this(scenarios, parser, batchSize, TimingMode.EXACT);
+    }
+
+    public CsvScenarioProcessor(
+            List<ScenarioProcessor> scenarios,
+            CsvLineParser parser,
+            int batchSize,
+            TimingMode timingMode
+    ) {
+        this(scenarios, parser, batchSize, timingMode, DEFAULT_CHUNK_LINES);
+    }
+
+    public CsvScenarioProcessor(
+            List<ScenarioProcessor> scenarios,
+            CsvLineParser parser,
+            int batchSize,
+            TimingMode timingMode,
+            int chunkLines
+    ) {
+        if (batchSize < 0) {
+            throw new IllegalArgumentException("Batch size must not be negative: " + batchSize);
+        }
+        if (chunkLines < 0) {
+            throw new IllegalArgumentException("Chunk lines must not be negative: " + chunkLines);
+        }
+        this.chunkLines = chunkLines;
         this.parser = parser;
         this.scenarios = List.copyOf(scenarios);
         this.scenarioNanos = new long[this.scenarios.size()];
+        this.timingMode = timingMode;
+        if (batchSize > 0) {
+            this.batch = new RecordBatch(batchSize);
+        } else {
+            this.batch = timingMode == TimingMode.BATCH ? new RecordBatch() : null;
+        }
+    }
+
+    public TimingMode timingMode() {
+        return timingMode;
     }
 
     @Override
     public void process(String line) {
         if (!headerSkipped) {
-            headerSkipped = true;
+            skipHeader();
             return;
         }
+        if (chunkStartNanos == 0L) {
+            startChunk();
+        }
 
-        CsvRecord parsedRecord = parser.parse(line);
-        if (parsedRecord == null) {
-            invalidLines++;
+        if (parser.parse(line, record)) {
+            dispatch(record);
+        } else {
+            reject(line.length());
+        }
+        completeLine();
+    }
+
+    @Override
+    public void process(ByteSlice line) {
+        if (!headerSkipped) {
+            skipHeader();
+            return;
+        }
+        if (chunkStartNanos == 0L) {
+            startChunk();
+        }
+
+        if (parser.parse(line, record)) {
+            dispatch(record);
+        } else {
+            reject(line.length());
+        }
+        completeLine();
+    }
+
+    private void skipHeader() {
+        headerSkipped = true;
+        startChunk();
+    }
+
+    private void startChunk() {
+        untilChunk = chunkLines;
+        chunkStartNanos = System.nanoTime();
+    }
+
+    private void completeLine() {
+        completeLines(1);
+    }
+
+    private void completeLines(int lines) {
+        if (chunkLines == 0) {
+            return;
+        }
+        untilChunk -= lines;
+        if (untilChunk > 0) {
             return;
         }
+        long now = System.nanoTime();
+        chunkLatency.record(now - chunkStartNanos);
+        chunkStartNanos = now;
+        untilChunk = chunkLines;
+    }
+
+    private void reject(int lineLength) {
+        if (parser.filtered()) {
+            filteredLines++;
+        } else {
+            invalidLines++;
+            ParseFailureEvent.emit(recordsProcessed + invalidLines + filteredLines + 1, lineLength);
+        }
+    }
 
+    private void dispatch(MutableCsvRecord parsedRecord) {
         recordsProcessed++;
+        if (batch != null) {
+            if (batch.add(parsedRecord)) {
+                flush(batch);
+                batch.clear();
+            }
+            return;
+        }
+
+        switch (timingMode) {
+            case OFF -> processUntimed(parsedRecord);
+            case SAMPLED -> {
+                if (sampleDue()) {
+                    processTimed(parsedRecord, TimingMode.SAMPLE_INTERVAL);
+                } else {
+                    processUntimed(parsedRecord);
+                }
+            }
+            default -> processTimed(parsedRecord, 1);
+        }
+    }
+
+    private void processTimed(MutableCsvRecord parsedRecord, int weight) {
         for (int i = 0; i < scenarios.size(); i++) {
             long start = System.nanoTime();
             scenarios.get(i).process(parsedRecord);
-            scenarioNanos[i] += System.nanoTime() - start;
+            scenarioNanos[i] += (System.nanoTime() - start) * weight;
+        }
+    }
+
+    private void processUntimed(MutableCsvRecord parsedRecord) {
+        for (int i = 0; i < scenarios.size(); i++) {
+            scenarios.get(i).process(parsedRecord);
+        }
+    }
+
+    private void flush(RecordBatch records) {
+        ScenarioBatchEvent event = ScenarioBatchEvent.start();
+        switch (timingMode) {
+            case OFF -> flushUntimed(records);
+            case SAMPLED -> {
+                if (sampleDue()) {
+                    flushTimed(records, TimingMode.SAMPLE_INTERVAL);
+                } else {
+                    flushUntimed(records);
+                }
+            }
+            default -> flushTimed(records, 1);
+        }
+        if (event != null) {
+            event.finish(scenarios.size(), records.size(), timingMode.displayName());
+        }
+    }
+
+    private void flushTimed(RecordBatch records, int weight) {
+        for (int i = 0; i < scenarios.size(); i++) {
+            long start = System.nanoTime();
+            scenarios.get(i).processBatch(records);
+            scenarioNanos[i] += (System.nanoTime() - start) * weight;
+        }
+    }
+
+    private void flushUntimed(RecordBatch records) {
+        for (int i = 0; i < scenarios.size(); i++) {
+            scenarios.get(i).processBatch(records);
+        }
+    }
+
+    public BatchParser newBatchParser() {
+        BatchParser batchParser = new BatchParser(new CsvLineParser(parser.columns(), parser.filters()), headerSkipped);
+        headerSkipped = true;
+        return batchParser;
+    }
+
+    public void processBatch(RecordBatch records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        if (chunkStartNanos == 0L) {
+            startChunk();
+        }
+        recordsProcessed += records.size();
+        flush(records);
+        completeLines(records.size());
+    }
+
+    public void mergeRejected(BatchParser batchParser) {
+        invalidLines += batchParser.invalidLines();
+        filteredLines += batchParser.filteredLines();
+    }
+
+    public void recordStages(List<StageUsage> usages) {
+        stages = StageUsage.merge(stages, usages);
+    }
+
+    private boolean sampleDue() {
+        if (--untilSample > 0) {
+            return false;
         }
+        untilSample = TimingMode.SAMPLE_INTERVAL;
+        return true;
     }
 
     @Override
     public ProcessingSummary summary() {
+        if (batch != null && !batch.isEmpty()) {
+            flush(batch);
+            batch.clear();
+        }
+
         List<ScenarioReport> reports = new ArrayList<>(scenarios.size());
         for (int i = 0; i < scenarios.size(); i++) {
             ScenarioProcessor scenario = scenarios.get(i);
@@ -54,6 +271,53 @@ public final class CsvScenarioProcessor implements LineProcessor {
                     data.breakdown()));
         }
 
-        return new ProcessingSummary(recordsProcessed, invalidLines, reports);
+        return new ProcessingSummary(recordsProcessed, invalidLines, reports, filteredLines, chunkLatency.copy(), stages);
+    }
+
+    @Override
+    public CsvScenarioProcessor fork() {
+        CsvScenarioProcessor worker = newWorker();
+        worker.headerSkipped = true;
+        return worker;
+    }
+
+    @Override
+    public CsvScenarioProcessor forkFile() {
+        return newWorker();
+    }
+
+    private CsvScenarioProcessor newWorker() {
+        List<ScenarioProcessor> copies = new ArrayList<>(scenarios.size());
+        for (ScenarioProcessor scenario : scenarios) {
+            copies.add(scenario.newInstance());
+        }
+
+        return new CsvScenarioProcessor(
+                copies,
+                new CsvLineParser(parser.columns(), parser.filters()),
+                batch == null ? 0 : batch.capacity(),
+                timingMode,
+                chunkLines
+        );
+    }
+
+    @Override
+    public void merge(ProcessingSummary workerSummary) {
+        List<ScenarioReport> reports = workerSummary.scenarios();
+        if (reports.size() != scenarios.size()) {
+            throw new IllegalArgumentException(
+                    "Expected " + scenarios.size() + " scenarios but got " + reports.size());
+        }
+
+        recordsProcessed += workerSummary.recordsProcessed();
+        invalidLines += workerSummary.invalidLines();
+        filteredLines += workerSummary.filteredLines();
+        chunkLatency.merge(workerSummary.chunkLatency());
+        stages = StageUsage.merge(stages, workerSummary.stages());
+        for (int i = 0; i < scenarios.size(); i++) {
+            ScenarioReport report = reports.get(i);
+            scenarioNanos[i] += report.durationNanos();
+            scenarios.get(i).merge(new ScenarioData(report.count(), report.breakdown()));
+        }
     }
 }
@@ -0,0 +1,12 @@
+package com.patrick.benchmark.processing;
+
+public interface ForkableLineProcessor extends LineProcessor {
+
+    ForkableLineProcessor fork();
+
+    default ForkableLineProcessor forkFile() {
+        return fork();
+    }
+
+    void merge(ProcessingSummary workerSummary);
+}
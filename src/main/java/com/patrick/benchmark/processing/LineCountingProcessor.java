@@ -0,0 +1,33 @@
+package com.patrick.benchmark.processing;
+
+import java.util.List;
+
+public final class LineCountingProcessor implements ForkableLineProcessor {
+
+    private long lines;
+
+    @Override
+    public void process(String line) {
+        lines++;
+    }
+
+    @Override
+    public void process(ByteSlice line) {
+        lines++;
+    }
+
+    @Override
+    public ProcessingSummary summary() {
+        return new ProcessingSummary(lines, 0L, List.of());
+    }
+
+    @Override
+    public LineCountingProcessor fork() {
+        return new LineCountingProcessor();
+    }
+
+    @Override
+    public void merge(ProcessingSummary workerSummary) {
+        lines += workerSummary.recordsProcessed();
+    }
+}
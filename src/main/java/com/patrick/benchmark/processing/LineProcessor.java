@@ -4,5 +4,9 @@ public interface LineProcessor {
 
     void process(String line);
 
+    default void process(ByteSlice line) {
+        process(line.decode());
+    }
+
     ProcessingSummary summary();
 }
@@ -0,0 +1,139 @@
+package com.patrick.benchmark.processing;
+
+public final class MutableCsvRecord {
+
+    static final int UF = 0;
+    static final int DISEASE_TYPE = 1;
+    static final int DEATH_LOCATION = 2;
+    static final int AGE_RANGE = 3;
+    static final int SEX = 4;
+    static final int CATEGORICAL_COLUMNS = 5;
+    static final int NOT_PARSED = -1;
+
+    private final ColumnDictionary[] dictionaries;
+    private final int[] codes = new int[CATEGORICAL_COLUMNS];
+    private long total;
+
+    public MutableCsvRecord() {
+        this(new ColumnDictionary[CATEGORICAL_COLUMNS]);
+        for (int i = 0; i < dictionaries.length; i++) {
+            dictionaries[i] = new ColumnDictionary();
+        }
+    }
+
+    private MutableCsvRecord(ColumnDictionary[] dictionaries) {
+        this.dictionaries = dictionaries;
+    }
+
+    public MutableCsvRecord set(CsvRecord source) {
+        return set(
+                source.uf(),
+                source.diseaseType(),
+                source.deathLocation(),
+                source.ageRange(),
+                source.sex(),
+                source.total()
+        );
+    }
+
+    public MutableCsvRecord set(
+            String uf,
+            String diseaseType,
+            String deathLocation,
+            String ageRange,
+            String sex,
+            long total
+    ) {
+        codes[UF] = dictionaries[UF].code(uf);
+        codes[DISEASE_TYPE] = dictionaries[DISEASE_TYPE].code(diseaseType);
+        codes[DEATH_LOCATION] = dictionaries[DEATH_LOCATION].code(deathLocation);
+        codes[AGE_RANGE] = dictionaries[AGE_RANGE].code(ageRange);
+        codes[SEX] = dictionaries[SEX].code(sex);
+        this.total = total;
+        return this;
+    }
+
+    void setCode(int column, int code) {
+        codes[column] = code;
+    }
+
+    void setTotal(long total) {
+        this.total = total;
+    }
+
+    MutableCsvRecord sharingDictionaries() {
+        return new MutableCsvRecord(dictionaries);
+    }
+
+    ColumnDictionary dictionary(int column) {
+        return dictionaries[column];
+    }
+
+    public ColumnDictionary dictionary(CsvColumn column) {
+        return dictionaries[index(column)];
+    }
+
+    public String uf() {
+        return value(UF);
+    }
+
+    public String diseaseType() {
+        return value(DISEASE_TYPE);
+    }
+
+    public String deathLocation() {
+        return value(DEATH_LOCATION);
+    }
+
+    public String ageRange() {
+        return value(AGE_RANGE);
+    }
+
+    public String sex() {
+        return value(SEX);
+    }
+
+    public long total() {
+        return total;
+    }
+
+    public int ufCode() {
+        return codes[UF];
+    }
+
+    public int diseaseTypeCode() {
+        return codes[DISEASE_TYPE];
+    }
+
+    public int deathLocationCode() {
+        return codes[DEATH_LOCATION];
+    }
+
+    public int ageRangeCode() {
+        return codes[AGE_RANGE];
+    }
+
+    public int sexCode() {
+        return codes[SEX];
+    }
+
+    public CsvRecord toRecord() {
+        return new CsvRecord(uf(), diseaseType(), deathLocation(), ageRange(), sex(), total);
+    }
+
+    private static int index(CsvColumn column) {
+        return switch (column) {
+            case UF -> UF;
+            case DISEASE_TYPE -> DISEASE_TYPE;
+            case DEATH_LOCATION -> DEATH_LOCATION;
+            case AGE_RANGE -> AGE_RANGE;
+            case SEX -> SEX;
+            case TOTAL -> throw new IllegalArgumentException("Column is not dictionary coded: " + column);
+        };
+    }
+
+    private String value(int column) {
+        int code = codes[column];
+        return code == NOT_PARSED ? null : dictionaries[column].value(code);
+    }
+}
@@ -1,13 +1,38 @@
 package com.patrick.benchmark.processing;
 
+import com.patrick.benchmark.metrics.LatencyHistogram;
+import com.patrick.benchmark.metrics.StageUsage;
 import java.util.List;
 
 public record ProcessingSummary(
         long recordsProcessed,
         long invalidLines,
-        List<ScenarioReport> scenarios
+        List<ScenarioReport> scenarios,
+        long filteredLines,
+        LatencyHistogram chunkLatency,
+        List<StageUsage> stages
 ) {
     public ProcessingSummary {
         scenarios = List.copyOf(scenarios);
+        chunkLatency = chunkLatency == null ? new LatencyHistogram() : chunkLatency;
+        stages = stages == null ? List.of() : List.copyOf(stages);
+    }
+
+    public ProcessingSummary(
+            long recordsProcessed,
+            long invalidLines,
+            List<ScenarioReport> scenarios,
+            long filteredLines,
+            LatencyHistogram chunkLatency
+    ) {
+        this(recordsProcessed, invalidLines, scenarios, filteredLines, chunkLatency, null);
+    }
+
+    public ProcessingSummary(long recordsProcessed, long invalidLines, List<ScenarioReport> scenarios, long filteredLines) {
+        this(recordsProcessed, invalidLines, scenarios, filteredLines, null);
+    }
+
+    public ProcessingSummary(long recordsProcessed, long invalidLines, List<ScenarioReport> scenarios) {
+        this(recordsProcessed, invalidLines, scenarios, 0L);
     }
 }
@@ -0,0 +1,135 @@
+package com.patrick.benchmark.processing;
+
+public final class RecordBatch {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final int[] ufCodes;
+    private final int[] diseaseTypeCodes;
+    private final int[] deathLocationCodes;
+    private final int[] ageRangeCodes;
+    private final int[] sexCodes;
+    private final long[] totals;
+    private MutableCsvRecord source;
+    private MutableCsvRecord cursor;
+    private int size;
+
+    public RecordBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public RecordBatch(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Batch capacity must be positive: " + capacity);
+        }
+        this.ufCodes = new int[capacity];
+        this.diseaseTypeCodes = new int[capacity];
+        this.deathLocationCodes = new int[capacity];
+        this.ageRangeCodes = new int[capacity];
+        this.sexCodes = new int[capacity];
+        this.totals = new long[capacity];
+    }
+
+    public boolean add(MutableCsvRecord record) {
+        if (record != source) {
+            if (size > 0) {
+                throw new IllegalArgumentException("A batch only holds rows coded by one record");
+            }
+            source = record;
+            cursor = null;
+        }
+        if (size == totals.length) {
+            throw new IllegalStateException("Batch is full");
+        }
+
+        ufCodes[size] = record.ufCode();
+        diseaseTypeCodes[size] = record.diseaseTypeCode();
+        deathLocationCodes[size] = record.deathLocationCode();
+        ageRangeCodes[size] = record.ageRangeCode();
+        sexCodes[size] = record.sexCode();
+        totals[size] = record.total();
+        size++;
+        return size == totals.length;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return totals.length;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int ufCode(int row) {
+        return ufCodes[row];
+    }
+
+    public int diseaseTypeCode(int row) {
+        return diseaseTypeCodes[row];
+    }
+
+    public int deathLocationCode(int row) {
+        return deathLocationCodes[row];
+    }
+
+    public int ageRangeCode(int row) {
+        return ageRangeCodes[row];
+    }
+
+    public int sexCode(int row) {
+        return sexCodes[row];
+    }
+
+    public long total(int row) {
+        return totals[row];
+    }
+
+    public String uf(int row) {
+        return label(MutableCsvRecord.UF, ufCodes[row]);
+    }
+
+    public String diseaseType(int row) {
+        return label(MutableCsvRecord.DISEASE_TYPE, diseaseTypeCodes[row]);
+    }
+
+    public String deathLocation(int row) {
+        return label(MutableCsvRecord.DEATH_LOCATION, deathLocationCodes[row]);
+    }
+
+    public String ageRange(int row) {
+        return label(MutableCsvRecord.AGE_RANGE, ageRangeCodes[row]);
+    }
+
+    public String sex(int row) {
+        return label(MutableCsvRecord.SEX, sexCodes[row]);
+    }
+
+    public ColumnDictionary dictionary(CsvColumn column) {
+        return source == null ? null : source.dictionary(column);
+    }
+
+    public MutableCsvRecord row(int row) {
+        if (cursor == null) {
+            cursor = source.sharingDictionaries();
+        }
+        cursor.setCode(MutableCsvRecord.UF, ufCodes[row]);
+        cursor.setCode(MutableCsvRecord.DISEASE_TYPE, diseaseTypeCodes[row]);
+        cursor.setCode(MutableCsvRecord.DEATH_LOCATION, deathLocationCodes[row]);
+        cursor.setCode(MutableCsvRecord.AGE_RANGE, ageRangeCodes[row]);
+        cursor.setCode(MutableCsvRecord.SEX, sexCodes[row]);
+        cursor.setTotal(totals[row]);
+        return cursor;
+    }
+
+    private String label(int column, int code) {
+        return code == MutableCsvRecord.NOT_PARSED ? null : source.dictionary(column).value(code);
+    }
+}
@@ -0,0 +1,168 @@
+package com.patrick.benchmark.processing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class RecordStore implements ForkableLineProcessor {
+
+    public static final int BYTES_PER_ROW = 5 * Integer.BYTES + Long.BYTES;
+
+    private static final long BATCH_BYTES = (long) RecordBatch.DEFAULT_CAPACITY * BYTES_PER_ROW;
+
+    private final CsvLineParser parser;
+    private final MutableCsvRecord record = new MutableCsvRecord();
+    private final RecordStore parent;
+    private final long budgetBytes;
+    private final AtomicLong reservedBytes;
+    private final List<RecordBatch> batches = new ArrayList<>();
+    private final List<RecordBatch> adopted = new ArrayList<>();
+    private RecordBatch current;
+    private boolean headerSkipped;
+    private boolean sealed;
+    private long recordsProcessed;
+    private long invalidLines;
+    private long filteredLines;
+
+    public RecordStore(CsvLineParser parser) {
+        this(parser, Long.MAX_VALUE);
+    }
+
+    public RecordStore(CsvLineParser parser, long budgetBytes) {
+        this(parser, null, false, budgetBytes, new AtomicLong());
+        if (budgetBytes <= 0) {
+            throw new IllegalArgumentException("Record store budget must be positive: " + budgetBytes);
+        }
+    }
+
+    private RecordStore(
+            CsvLineParser parser,
+            RecordStore parent,
+            boolean headerSkipped,
+            long budgetBytes,
+            AtomicLong reservedBytes
+    ) {
+        this.parser = parser;
+        this.parent = parent;
+        this.headerSkipped = headerSkipped;
+        this.budgetBytes = budgetBytes;
+        this.reservedBytes = reservedBytes;
+    }
+
+    @Override
+    public void process(String line) {
+        if (!headerSkipped) {
+            headerSkipped = true;
+            return;
+        }
+        if (parser.parse(line, record)) {
+            store();
+        } else {
+            reject();
+        }
+    }
+
+    @Override
+    public void process(ByteSlice line) {
+        if (!headerSkipped) {
+            headerSkipped = true;
+            return;
+        }
+        if (parser.parse(line, record)) {
+            store();
+        } else {
+            reject();
+        }
+    }
+
+    private void store() {
+        recordsProcessed++;
+        if (current == null) {
+            current = newBatch();
+        }
+        if (current.add(record)) {
+            batches.add(current);
+            current = null;
+        }
+    }
+
+    private RecordBatch newBatch() {
+        if (reservedBytes.addAndGet(BATCH_BYTES) > budgetBytes) {
+            throw new IllegalStateException("Record store needs more than its budget of " + budgetBytes
+                    + " bytes; raise --store-budget or use a smaller input");
+        }
+        return new RecordBatch();
+    }
+
+    private void reject() {
+        if (parser.filtered()) {
+            filteredLines++;
+        } else {
+            invalidLines++;
+        }
+    }
+
+    public void replay(CsvScenarioProcessor processor) {
+        seal();
+        for (RecordBatch batch : batches) {
+            processor.processBatch(batch);
+        }
+    }
+
+    public int batchCount() {
+        seal();
+        return batches.size();
+    }
+
+    public long footprintBytes() {
+        seal();
+        return batches.size() * BATCH_BYTES;
+    }
+
+    @Override
+    public ProcessingSummary summary() {
+        seal();
+        return new ProcessingSummary(recordsProcessed, invalidLines, List.of(), filteredLines);
+    }
+
+    private void seal() {
+        if (sealed) {
+            return;
+        }
+        sealed = true;
+        if (current != null && !current.isEmpty()) {
+            batches.add(current);
+        }
+        current = null;
+        synchronized (this) {
+            batches.addAll(adopted);
+            adopted.clear();
+        }
+        if (parent != null) {
+            parent.adopt(batches);
+        }
+    }
+
+    private synchronized void adopt(List<RecordBatch> workerBatches) {
+        adopted.addAll(workerBatches);
+    }
+
+    @Override
+    public RecordStore fork() {
+        return new RecordStore(new CsvLineParser(parser.columns(), parser.filters()), this, true, budgetBytes,
+                reservedBytes);
+    }
+
+    @Override
+    public RecordStore forkFile() {
+        return new RecordStore(new CsvLineParser(parser.columns(), parser.filters()), this, false, budgetBytes,
+                reservedBytes);
+    }
+
+    @Override
+    public void merge(ProcessingSummary workerSummary) {
+        recordsProcessed += workerSummary.recordsProcessed();
+        invalidLines += workerSummary.invalidLines();
+        filteredLines += workerSummary.filteredLines();
+    }
+}
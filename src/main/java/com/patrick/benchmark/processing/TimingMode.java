@@ -0,0 +1,40 @@
+package com.patrick.benchmark.processing;
+
+import java.util.Locale;
+
+public enum TimingMode {
+    EXACT("exact"),
+    BATCH("per batch"),
+    SAMPLED("sampled 1/64"),
+    OFF("off");
+
+    public static final int SAMPLE_INTERVAL = 64;
+
+    private final String displayName;
+
+    TimingMode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String displayName() {
+        return displayName;
+    }
+
+    public String qualify(String name) {
+        return name + " [timing " + displayName + "]";
+    }
+
+    public static TimingMode fromLabel(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        return switch (normalized) {
+            case "exact", "record", "per-record" -> EXACT;
+            case "batch", "per-batch" -> BATCH;
+            case "sampled", "sample" -> SAMPLED;
+            case "off", "none" -> OFF;
+            default -> null;
+        };
+    }
+}
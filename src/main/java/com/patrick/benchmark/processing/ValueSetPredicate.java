@@ -0,0 +1,92 @@
+package com.patrick.benchmark.processing;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+final class ValueSetPredicate implements ColumnPredicate {
+
+    private final CsvColumn column;
+    private final boolean matchWhenFound;
+    private final List<String> values;
+    private volatile Encoded encoded;
+
+    ValueSetPredicate(CsvColumn column, boolean matchWhenFound, String... values) {
+        if (column == CsvColumn.TOTAL) {
+            throw new IllegalArgumentException("Predicates only apply to categorical columns");
+        }
+        this.column = column;
+        this.matchWhenFound = matchWhenFound;
+        this.values = List.of(values);
+        this.encoded = encode(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public CsvColumn column() {
+        return column;
+    }
+
+    @Override
+    public boolean test(ByteSlice line, int from, int to) {
+        byte[][] candidates = encoded(line.charset());
+        for (byte[] candidate : candidates) {
+            if (equalsIgnoreAsciiCase(candidate, line, from, to)) {
+                return matchWhenFound;
+            }
+        }
+        return !matchWhenFound;
+    }
+
+    @Override
+    public boolean test(String value) {
+        for (String candidate : values) {
+            if (candidate.equalsIgnoreCase(value)) {
+                return matchWhenFound;
+            }
+        }
+        return !matchWhenFound;
+    }
+
+    @Override
+    public String toString() {
+        return column + (matchWhenFound ? " in " : " not in ") + values;
+    }
+
+    private byte[][] encoded(Charset charset) {
+        Encoded current = encoded;
+        if (!current.charset().equals(charset)) {
+            current = encode(charset);
+            encoded = current;
+        }
+        return current.values();
+    }
+
+    private Encoded encode(Charset charset) {
+        byte[][] bytes = new byte[values.size()][];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = values.get(i).getBytes(charset);
+        }
+        return new Encoded(charset, bytes);
+    }
+
+    private record Encoded(Charset charset, byte[][] values) {
+    }
+
+    private static boolean equalsIgnoreAsciiCase(byte[] candidate, ByteSlice line, int from, int to) {
+        if (candidate.length != to - from) {
+            return false;
+        }
+        for (int i = 0; i < candidate.length; i++) {
+            byte expected = candidate[i];
+            byte actual = line.byteAt(from + i);
+            if (expected != actual && toUpperAscii(expected) != toUpperAscii(actual)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int toUpperAscii(byte value) {
+        return value >= 'a' && value <= 'z' ? value - ('a' - 'A') : value;
+    }
+}
@@ -0,0 +1,56 @@
+package com.patrick.benchmark.processing.scenario;
+
+import com.patrick.benchmark.processing.ColumnDictionary;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+final class CodeCounts {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private final Map<String, Long> merged = new TreeMap<>();
+    private ColumnDictionary dictionary;
+    private long[] counts = new long[INITIAL_CAPACITY];
+
+    // Codes from another dictionary mean something else, so the counts so far are resolved to labels first.
+    void bind(ColumnDictionary source) {
+        if (source == null || source == dictionary) {
+            return;
+        }
+        if (dictionary != null) {
+            mergeInto(merged);
+            Arrays.fill(counts, 0L);
+        }
+        dictionary = source;
+    }
+
+    void increment(int code) {
+        if (code >= counts.length) {
+            grow(code);
+        }
+        counts[code]++;
+    }
+
+    void merge(Map<String, Long> breakdown) {
+        breakdown.forEach((key, value) -> merged.merge(key, value, Long::sum));
+    }
+
+    Map<String, Long> toMap() {
+        Map<String, Long> result = new TreeMap<>(merged);
+        mergeInto(result);
+        return result;
+    }
+
+    private void mergeInto(Map<String, Long> target) {
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] != 0L) {
+                target.merge(dictionary.value(code), counts[code], Long::sum);
+            }
+        }
+    }
+
+    private void grow(int code) {
+        counts = Arrays.copyOf(counts, Math.max(code + 1, counts.length * 2));
+    }
+}
@@ -1,10 +1,25 @@
 package com.patrick.benchmark.processing.scenario;
 
-import com.patrick.benchmark.processing.CsvRecord;
+import com.patrick.benchmark.processing.ColumnDictionary;
+import com.patrick.benchmark.processing.ColumnPredicate;
+import com.patrick.benchmark.processing.CsvColumn;
+import com.patrick.benchmark.processing.MutableCsvRecord;
+import com.patrick.benchmark.processing.RecordBatch;
 import com.patrick.benchmark.processing.ScenarioData;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
 
 public final class NonHospitalOrHomeScenario implements ScenarioProcessor {
 
+    private static final byte UNKNOWN = 0;
+    private static final byte MATCH = 1;
+    private static final byte NO_MATCH = 2;
+    private static final ColumnPredicate PREDICATE =
+            ColumnPredicate.notIn(CsvColumn.DEATH_LOCATION, "HOSPITAL", "DOMICILIO");
+
+    private ColumnDictionary dictionary;
+    private byte[] verdicts = new byte[8];
     private long count;
 
     @Override
@@ -13,15 +28,69 @@ public final class NonHospitalOrHomeScenario implements ScenarioProcessor {
     }
 
     @Override
-    public void process(CsvRecord record) {
-        String location = record.deathLocation();
-        if (!"HOSPITAL".equalsIgnoreCase(location) && !"DOMICILIO".equalsIgnoreCase(location)) {
+    public Set<CsvColumn> columns() {
+        return EnumSet.of(CsvColumn.DEATH_LOCATION);
+    }
+
+    @Override
+    public ColumnPredicate predicate() {
+        return PREDICATE;
+    }
+
+    @Override
+    public void process(MutableCsvRecord record) {
+        bind(record.dictionary(CsvColumn.DEATH_LOCATION));
+        if (verdict(record.deathLocationCode()) == MATCH) {
             count++;
         }
     }
 
+    @Override
+    public void processBatch(RecordBatch batch) {
+        int size = batch.size();
+        long matches = 0L;
+        bind(batch.dictionary(CsvColumn.DEATH_LOCATION));
+        for (int row = 0; row < size; row++) {
+            if (verdict(batch.deathLocationCode(row)) == MATCH) {
+                matches++;
+            }
+        }
+        count += matches;
+    }
+
     @Override
     public ScenarioData data() {
         return new ScenarioData(count, null);
     }
+
+    @Override
+    public ScenarioProcessor newInstance() {
+        return new NonHospitalOrHomeScenario();
+    }
+
+    @Override
+    public void merge(ScenarioData data) {
+        count += data.count();
+    }
+
+    private void bind(ColumnDictionary source) {
+        if (source != null && source != dictionary) {
+            dictionary = source;
+            Arrays.fill(verdicts, UNKNOWN);
+        }
+    }
+
+    private byte verdict(int code) {
+        if (code >= verdicts.length) {
+            verdicts = Arrays.copyOf(verdicts, Math.max(code + 1, verdicts.length * 2));
+        }
+        if (verdicts[code] == UNKNOWN) {
+            verdicts[code] = matches(dictionary.value(code)) ? MATCH : NO_MATCH;
+        }
+        return verdicts[code];
+    }
+
+    private static boolean matches(String location) {
+        return PREDICATE.test(location);
+    }
 }
@@ -1,13 +1,36 @@
 package com.patrick.benchmark.processing.scenario;
 
-import com.patrick.benchmark.processing.CsvRecord;
+import com.patrick.benchmark.processing.ColumnPredicate;
+import com.patrick.benchmark.processing.CsvColumn;
+import com.patrick.benchmark.processing.MutableCsvRecord;
+import com.patrick.benchmark.processing.RecordBatch;
 import com.patrick.benchmark.processing.ScenarioData;
+import java.util.EnumSet;
+import java.util.Set;
 
 public interface ScenarioProcessor {
 
     String name();
 
-    void process(CsvRecord record);
+    default Set<CsvColumn> columns() {
+        return EnumSet.allOf(CsvColumn.class);
+    }
+
+    default ColumnPredicate predicate() {
+        return null;
+    }
+
+    void process(MutableCsvRecord record);
+
+    default void processBatch(RecordBatch batch) {
+        for (int row = 0; row < batch.size(); row++) {
+            process(batch.row(row));
+        }
+    }
 
     ScenarioData data();
+
+    ScenarioProcessor newInstance();
+
+    void merge(ScenarioData data);
 }
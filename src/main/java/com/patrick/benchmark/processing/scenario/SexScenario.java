@@ -1,20 +1,28 @@
 package com.patrick.benchmark.processing.scenario;
 
-import com.patrick.benchmark.processing.CsvRecord;
+import com.patrick.benchmark.processing.ColumnDictionary;
+import com.patrick.benchmark.processing.CsvColumn;
+import com.patrick.benchmark.processing.MutableCsvRecord;
+import com.patrick.benchmark.processing.RecordBatch;
 import com.patrick.benchmark.processing.ScenarioData;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 public final class SexScenario implements ScenarioProcessor {
 
-    private final Map<String, Long> counts = new LinkedHashMap<>();
-    private long total;
+    private static final String[] KEYS = {"Male", "Female", "Other"};
+    private static final int MALE = 0;
+    private static final int FEMALE = 1;
+    private static final int OTHER = 2;
 
-    public SexScenario() {
-        counts.put("Male", 0L);
-        counts.put("Female", 0L);
-        counts.put("Other", 0L);
-    }
+    private final long[] counts = new long[KEYS.length];
+    private final Map<String, Long> merged = new LinkedHashMap<>();
+    private ColumnDictionary dictionary;
+    private int[] buckets = new int[8];
+    private long total;
 
     @Override
     public String name() {
@@ -22,23 +30,72 @@ public final class SexScenario implements ScenarioProcessor {
     }
 
     @Override
-    public void process(CsvRecord record) {
-        String value = record.sex();
-        String key;
-        if ("M".equalsIgnoreCase(value)) {
-            key = "Male";
-        } else if ("F".equalsIgnoreCase(value)) {
-            key = "Female";
-        } else {
-            key = "Other";
-        }
+    public Set<CsvColumn> columns() {
+        return EnumSet.of(CsvColumn.SEX);
+    }
 
-        counts.merge(key, 1L, Long::sum);
+    @Override
+    public void process(MutableCsvRecord record) {
+        bind(record.dictionary(CsvColumn.SEX));
+        counts[bucket(record.sexCode())]++;
         total++;
     }
 
+    @Override
+    public void processBatch(RecordBatch batch) {
+        int size = batch.size();
+        bind(batch.dictionary(CsvColumn.SEX));
+        for (int row = 0; row < size; row++) {
+            counts[bucket(batch.sexCode(row))]++;
+        }
+        total += size;
+    }
+
     @Override
     public ScenarioData data() {
-        return new ScenarioData(total, counts);
+        Map<String, Long> breakdown = new LinkedHashMap<>();
+        for (int i = 0; i < KEYS.length; i++) {
+            breakdown.put(KEYS[i], counts[i]);
+        }
+        merged.forEach((key, value) -> breakdown.merge(key, value, Long::sum));
+        return new ScenarioData(total, breakdown);
+    }
+
+    @Override
+    public ScenarioProcessor newInstance() {
+        return new SexScenario();
+    }
+
+    @Override
+    public void merge(ScenarioData data) {
+        data.breakdown().forEach((key, value) -> merged.merge(key, value, Long::sum));
+        total += data.count();
+    }
+
+    private void bind(ColumnDictionary source) {
+        if (source != null && source != dictionary) {
+            dictionary = source;
+            Arrays.fill(buckets, 0);
+        }
+    }
+
+    private int bucket(int code) {
+        if (code >= buckets.length) {
+            buckets = Arrays.copyOf(buckets, Math.max(code + 1, buckets.length * 2));
+        }
+        if (buckets[code] == 0) {
+            buckets[code] = classify(dictionary.value(code)) + 1;
+        }
+        return buckets[code] - 1;
+    }
+
+    private static int classify(String value) {
+        if ("M".equalsIgnoreCase(value)) {
+            return MALE;
+        }
+        if ("F".equalsIgnoreCase(value)) {
+            return FEMALE;
+        }
+        return OTHER;
     }
 }
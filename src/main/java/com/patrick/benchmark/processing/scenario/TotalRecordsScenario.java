@@ -1,7 +1,11 @@
 package com.patrick.benchmark.processing.scenario;
 
-import com.patrick.benchmark.processing.CsvRecord;
+import com.patrick.benchmark.processing.CsvColumn;
+import com.patrick.benchmark.processing.MutableCsvRecord;
+import com.patrick.benchmark.processing.RecordBatch;
 import com.patrick.benchmark.processing.ScenarioData;
+import java.util.EnumSet;
+import java.util.Set;
 
 public final class TotalRecordsScenario implements ScenarioProcessor {
 
@@ -13,12 +17,32 @@ public final class TotalRecordsScenario implements ScenarioProcessor {
     }
 
     @Override
-    public void process(CsvRecord record) {
+    public Set<CsvColumn> columns() {
+        return EnumSet.noneOf(CsvColumn.class);
+    }
+
+    @Override
+    public void process(MutableCsvRecord record) {
         count++;
     }
 
+    @Override
+    public void processBatch(RecordBatch batch) {
+        count += batch.size();
+    }
+
     @Override
     public ScenarioData data() {
         return new ScenarioData(count, null);
     }
+
+    @Override
+    public ScenarioProcessor newInstance() {
+        return new TotalRecordsScenario();
+    }
+
+    @Override
+    public void merge(ScenarioData data) {
+        count += data.count();
+    }
 }
@@ -1,13 +1,15 @@
 package com.patrick.benchmark.processing.scenario;
 
-import com.patrick.benchmark.processing.CsvRecord;
+import com.patrick.benchmark.processing.CsvColumn;
+import com.patrick.benchmark.processing.MutableCsvRecord;
+import com.patrick.benchmark.processing.RecordBatch;
 import com.patrick.benchmark.processing.ScenarioData;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.EnumSet;
+import java.util.Set;
 
 public final class UfScenario implements ScenarioProcessor {
 
-    private final Map<String, Long> counts = new TreeMap<>();
+    private final CodeCounts counts = new CodeCounts();
     private long total;
 
     @Override
@@ -16,14 +18,40 @@ public final class UfScenario implements ScenarioProcessor {
     }
 
     @Override
-    public void process(CsvRecord record) {
-        String uf = record.uf();
-        counts.merge(uf, 1L, Long::sum);
+    public Set<CsvColumn> columns() {
+        return EnumSet.of(CsvColumn.UF);
+    }
+
+    @Override
+    public void process(MutableCsvRecord record) {
+        counts.bind(record.dictionary(CsvColumn.UF));
+        counts.increment(record.ufCode());
         total++;
     }
 
+    @Override
+    public void processBatch(RecordBatch batch) {
+        int size = batch.size();
+        counts.bind(batch.dictionary(CsvColumn.UF));
+        for (int row = 0; row < size; row++) {
+            counts.increment(batch.ufCode(row));
+        }
+        total += size;
+    }
+
     @Override
     public ScenarioData data() {
-        return new ScenarioData(total, counts);
+        return new ScenarioData(total, counts.toMap());
+    }
+
+    @Override
+    public ScenarioProcessor newInstance() {
+        return new UfScenario();
+    }
+
+    @Override
+    public void merge(ScenarioData data) {
+        counts.merge(data.breakdown());
+        total += data.count();
     }
 }
@@ -0,0 +1,113 @@
+package com.patrick.benchmark.profiling;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+public final class FlightRecordingSummary {
+
+    static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+
+    private static final List<String> PLATFORM_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final Map<String, Map<String, Long>> allocations = new LinkedHashMap<>();
+    private final Map<String, Map<String, Long>> samples = new LinkedHashMap<>();
+
+    public void add(Path recording) throws IOException {
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recording);
+        List<ReadWindow> windows = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (StrategyReadEvent.NAME.equals(event.getEventType().getName())) {
+                String strategy = event.getString("strategy");
+                windows.add(new ReadWindow(strategy, event.getStartTime(), event.getEndTime()));
+                allocations.computeIfAbsent(strategy, key -> new HashMap<>());
+                samples.computeIfAbsent(strategy, key -> new HashMap<>());
+            }
+        }
+
+        for (RecordedEvent event : events) {
+            String type = event.getEventType().getName();
+            boolean execution = EXECUTION_SAMPLE.equals(type);
+            if (!execution && !ALLOCATION_SAMPLE.equals(type)) {
+                continue;
+            }
+            RecordedStackTrace stackTrace = event.getStackTrace();
+            String strategy = strategyAt(windows, event.getStartTime());
+            if (strategy == null || stackTrace == null || stackTrace.getFrames().isEmpty()) {
+                continue;
+            }
+            if (execution) {
+                samples.get(strategy).merge(frameName(stackTrace.getFrames().get(0)), 1L, Long::sum);
+            } else {
+                allocations.get(strategy).merge(allocationSite(stackTrace.getFrames()), event.getLong("weight"), Long::sum);
+            }
+        }
+    }
+
+    public List<StrategyProfile> profiles(int limit) {
+        List<StrategyProfile> profiles = new ArrayList<>();
+        for (String strategy : allocations.keySet()) {
+            profiles.add(new StrategyProfile(
+                    strategy,
+                    top(allocations.get(strategy), limit),
+                    top(samples.get(strategy), limit)
+            ));
+        }
+        return profiles;
+    }
+
+    static String allocationSite(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!isPlatformType(type)) {
+                return frameName(frame);
+            }
+        }
+        return frameName(frames.get(0));
+    }
+
+    static boolean isPlatformType(String type) {
+        for (String prefix : PLATFORM_PACKAGES) {
+            if (type.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String frameName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+
+    private static String strategyAt(List<ReadWindow> windows, Instant time) {
+        for (ReadWindow window : windows) {
+            if (!time.isBefore(window.start()) && !time.isAfter(window.end())) {
+                return window.strategy();
+            }
+        }
+        return null;
+    }
+
+    private static List<Hotspot> top(Map<String, Long> values, int limit) {
+        return values.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(entry -> new Hotspot(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private record ReadWindow(String strategy, Instant start, Instant end) {
+    }
+}
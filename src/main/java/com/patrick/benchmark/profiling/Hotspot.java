@@ -0,0 +1,4 @@
+package com.patrick.benchmark.profiling;
+
+public record Hotspot(String frame, long value) {
+}
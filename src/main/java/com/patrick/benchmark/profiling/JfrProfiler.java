@@ -0,0 +1,68 @@
+package com.patrick.benchmark.profiling;
+
+import com.patrick.benchmark.BenchmarkReport;
+import com.patrick.benchmark.ProcessingMode;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+public final class JfrProfiler {
+
+    public static final int TOP_FRAMES = 5;
+
+    private static final Logger LOGGER = Logger.getLogger(JfrProfiler.class.getName());
+    private static final String SETTINGS = "profile";
+
+    private final Path directory;
+    private final Map<ProcessingMode, FlightRecordingSummary> summaries = new EnumMap<>(ProcessingMode.class);
+    private final Map<ProcessingMode, Integer> recordings = new EnumMap<>(ProcessingMode.class);
+
+    public JfrProfiler(Path directory) {
+        this.directory = directory;
+    }
+
+    public BenchmarkReport record(ProcessingMode mode, Supplier<BenchmarkReport> run) {
+        int index = recordings.merge(mode, 1, Integer::sum);
+        Path output = directory.resolve(fileName(mode, index));
+        try (Recording recording = new Recording(Configuration.getConfiguration(SETTINGS))) {
+            recording.setName("benchmark " + mode.displayName());
+            recording.start();
+            BenchmarkReport report = run.get();
+            recording.stop();
+            try {
+                Files.createDirectories(directory);
+                recording.dump(output);
+                summaries.computeIfAbsent(mode, key -> new FlightRecordingSummary()).add(output);
+            } catch (IOException ex) {
+                LOGGER.log(Level.WARNING, "Failed to write flight recording {0}: {1}",
+                        new Object[] {output, ex.getMessage()});
+            }
+            return report;
+        } catch (IOException | ParseException ex) {
+            throw new IllegalStateException("JFR settings not available: " + SETTINGS, ex);
+        }
+    }
+
+    public Map<ProcessingMode, List<StrategyProfile>> profiles() {
+        Map<ProcessingMode, List<StrategyProfile>> profiles = new EnumMap<>(ProcessingMode.class);
+        for (Map.Entry<ProcessingMode, FlightRecordingSummary> entry : summaries.entrySet()) {
+            profiles.put(entry.getKey(), entry.getValue().profiles(TOP_FRAMES));
+        }
+        return profiles;
+    }
+
+    static String fileName(ProcessingMode mode, int index) {
+        String slug = mode.name().toLowerCase(Locale.ROOT).replace('_', '-');
+        return "benchmark-" + slug + (index > 1 ? "-run" + index : "") + ".jfr";
+    }
+}
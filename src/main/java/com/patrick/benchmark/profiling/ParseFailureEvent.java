@@ -0,0 +1,27 @@
+package com.patrick.benchmark.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.patrick.benchmark.ParseFailure")
+@Label("Parse Failure")
+@Category("File Processing Benchmark")
+public final class ParseFailureEvent extends Event {
+
+    @Label("Line")
+    long line;
+
+    @Label("Line Length")
+    int length;
+
+    public static void emit(long lineNumber, int lineLength) {
+        ParseFailureEvent event = new ParseFailureEvent();
+        if (event.isEnabled()) {
+            event.line = lineNumber;
+            event.length = lineLength;
+            event.commit();
+        }
+    }
+}
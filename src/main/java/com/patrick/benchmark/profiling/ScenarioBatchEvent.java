@@ -0,0 +1,45 @@
+package com.patrick.benchmark.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.patrick.benchmark.ScenarioBatch")
+@Label("Scenario Batch")
+@Category("File Processing Benchmark")
+@StackTrace(false)
+public final class ScenarioBatchEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(ScenarioBatchEvent.class);
+
+    @Label("Scenarios")
+    int scenarios;
+
+    @Label("Records")
+    long records;
+
+    @Label("Timing Mode")
+    String timingMode;
+
+    public static ScenarioBatchEvent start() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        ScenarioBatchEvent event = new ScenarioBatchEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(int scenarioCount, long recordCount, String timing) {
+        end();
+        if (shouldCommit()) {
+            scenarios = scenarioCount;
+            records = recordCount;
+            timingMode = timing;
+            commit();
+        }
+    }
+}
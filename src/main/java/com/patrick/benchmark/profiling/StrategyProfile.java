@@ -0,0 +1,11 @@
+package com.patrick.benchmark.profiling;
+
+import java.util.List;
+
+public record StrategyProfile(String strategyName, List<Hotspot> allocationSites, List<Hotspot> hotMethods) {
+
+    public StrategyProfile {
+        allocationSites = List.copyOf(allocationSites);
+        hotMethods = List.copyOf(hotMethods);
+    }
+}
@@ -0,0 +1,41 @@
+package com.patrick.benchmark.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(StrategyReadEvent.NAME)
+@Label("Strategy Read")
+@Category("File Processing Benchmark")
+@StackTrace(false)
+public final class StrategyReadEvent extends Event {
+
+    static final String NAME = "com.patrick.benchmark.StrategyRead";
+
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Mode")
+    String mode;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    public static StrategyReadEvent start(String strategy, String mode) {
+        StrategyReadEvent event = new StrategyReadEvent();
+        event.strategy = strategy;
+        event.mode = mode;
+        event.begin();
+        return event;
+    }
+
+    public void finish(boolean readSucceeded) {
+        end();
+        if (shouldCommit()) {
+            succeeded = readSucceeded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.patrick.benchmark.readers;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+final class AsciiCharsets {
+
+    private AsciiCharsets() {
+    }
+
+    static boolean isAsciiCompatible(Charset charset) {
+        if (StandardCharsets.UTF_8.equals(charset)
+                || StandardCharsets.US_ASCII.equals(charset)
+                || StandardCharsets.ISO_8859_1.equals(charset)) {
+            return true;
+        }
+        String name = charset.name().toUpperCase(Locale.ROOT);
+        return name.startsWith("ISO-8859-") || name.startsWith("WINDOWS-125");
+    }
+}
@@ -11,7 +11,7 @@ import java.nio.charset.UnmappableCharacterException;
 
 import com.patrick.benchmark.processing.LineProcessor;
 
-final class ByteBufferLineReader {
+final class ByteBufferLineReader implements LineSplitter {
 
     private final CharsetDecoder decoder;
     private final CharBuffer charBuffer;
@@ -23,7 +23,8 @@ final class ByteBufferLineReader {
         this.lineBuffer = new StringBuilder(bufferSize);
     }
 
-    void decode(ByteBuffer byteBuffer, boolean endOfInput, LineProcessor processor)
+    @Override
+    public void decode(ByteBuffer byteBuffer, boolean endOfInput, LineProcessor processor)
             throws CharacterCodingException {
         boolean done = false;
         while (!done) {
@@ -40,7 +41,8 @@ final class ByteBufferLineReader {
         }
     }
 
-    void finish(LineProcessor processor) throws CharacterCodingException {
+    @Override
+    public void finish(LineProcessor processor) throws CharacterCodingException {
         boolean done = false;
         while (!done) {
             CoderResult result = decoder.flush(charBuffer);
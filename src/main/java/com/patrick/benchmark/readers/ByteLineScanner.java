@@ -0,0 +1,194 @@
+package com.patrick.benchmark.readers;
+
+import com.patrick.benchmark.processing.ByteSlice;
+import com.patrick.benchmark.processing.LineProcessor;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+final class ByteLineScanner implements LineSplitter {
+
+    private static final long NEWLINES = 0x0A0A0A0A0A0A0A0AL;
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+    private final Charset charset;
+    private final ByteSlice slice;
+    private final StructuralScanner structuralScanner;
+    private int[] structurals;
+    private long[] masks;
+    private byte[] lineBytes;
+    private ByteBuffer carryBuffer;
+    private int carryLength;
+
+    ByteLineScanner(Charset charset, int bufferSize) {
+        this(charset, bufferSize, false);
+    }
+
+    ByteLineScanner(Charset charset, int bufferSize, boolean slices) {
+        this(charset, bufferSize, slices, null);
+    }
+
+    ByteLineScanner(Charset charset, int bufferSize, StructuralScanner structuralScanner) {
+        this(charset, bufferSize, true, structuralScanner);
+    }
+
+    private ByteLineScanner(Charset charset, int bufferSize, boolean slices, StructuralScanner structuralScanner) {
+        this.charset = charset;
+        this.slice = slices ? new ByteSlice(charset) : null;
+        this.structuralScanner = structuralScanner;
+        this.structurals = structuralScanner == null ? null : new int[16];
+        this.masks = structuralScanner == null ? null : new long[StructuralScanner.WINDOW_BLOCKS];
+        this.lineBytes = new byte[Math.max(16, bufferSize)];
+        this.carryBuffer = ByteBuffer.wrap(lineBytes);
+    }
+
+    @Override
+    public void decode(ByteBuffer byteBuffer, boolean endOfInput, LineProcessor processor) {
+        if (structuralScanner != null) {
+            decodeStructurals(byteBuffer, processor);
+            return;
+        }
+        int position = byteBuffer.position();
+        int limit = byteBuffer.limit();
+        while (position < limit) {
+            int newline = indexOfNewline(byteBuffer, position, limit);
+            if (newline < 0) {
+                carry(byteBuffer, position, limit - position);
+                break;
+            }
+            emit(byteBuffer, position, newline - position, processor);
+            position = newline + 1;
+        }
+        byteBuffer.position(limit);
+    }
+
+    private void decodeStructurals(ByteBuffer byteBuffer, LineProcessor processor) {
+        int limit = byteBuffer.limit();
+        int lineStart = byteBuffer.position();
+        int count = 0;
+        int block = lineStart;
+        while (block + StructuralScanner.BLOCK_SIZE <= limit) {
+            int blocks = Math.min(StructuralScanner.WINDOW_BLOCKS, (limit - block) / StructuralScanner.BLOCK_SIZE);
+            structuralScanner.structurals(byteBuffer, block, masks, blocks);
+            for (int i = 0; i < blocks; i++, block += StructuralScanner.BLOCK_SIZE) {
+                long mask = masks[i];
+                while (mask != 0L) {
+                    int index = block + Long.numberOfTrailingZeros(mask);
+                    mask &= mask - 1;
+                    byte value = byteBuffer.get(index);
+                    if (value == '\n') {
+                        emitStructurals(byteBuffer, lineStart, index, count, processor);
+                        lineStart = index + 1;
+                        count = 0;
+                    } else if (value != '\r') {
+                        count = addStructural(count, index);
+                    }
+                }
+            }
+        }
+        for (int index = block; index < limit; index++) {
+            byte value = byteBuffer.get(index);
+            if (value == '\n') {
+                emitStructurals(byteBuffer, lineStart, index, count, processor);
+                lineStart = index + 1;
+                count = 0;
+            } else if (value == ',' || value == '"') {
+                count = addStructural(count, index);
+            }
+        }
+        if (lineStart < limit) {
+            carry(byteBuffer, lineStart, limit - lineStart);
+        }
+        byteBuffer.position(limit);
+    }
+
+    private int addStructural(int count, int index) {
+        if (count == structurals.length) {
+            structurals = Arrays.copyOf(structurals, count * 2);
+        }
+        structurals[count] = index;
+        return count + 1;
+    }
+
+    private void emitStructurals(ByteBuffer buffer, int start, int end, int count, LineProcessor processor) {
+        if (carryLength > 0) {
+            emit(buffer, start, end - start, processor);
+            return;
+        }
+        int length = end - start;
+        int trimmed = length > 0 && buffer.get(end - 1) == '\r' ? length - 1 : length;
+        processor.process(slice.set(buffer, start, trimmed).withStructurals(structurals, count));
+    }
+
+    @Override
+    public void finish(LineProcessor processor) {
+        int length = trimCarriageReturn(lineBytes, 0, carryLength);
+        carryLength = 0;
+        if (length > 0) {
+            deliver(lineBytes, carryBuffer, 0, length, processor);
+        }
+    }
+
+    static int indexOfNewline(ByteBuffer buffer, int from, int to) {
+        boolean bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+        int index = from;
+        for (; index + Long.BYTES <= to; index += Long.BYTES) {
+            long word = buffer.getLong(index) ^ NEWLINES;
+            long matches = ~(((word & LOW_BITS) + LOW_BITS) | word | LOW_BITS);
+            if (matches != 0) {
+                int zeros = bigEndian ? Long.numberOfLeadingZeros(matches) : Long.numberOfTrailingZeros(matches);
+                return index + (zeros >>> 3);
+            }
+        }
+        for (; index < to; index++) {
+            if (buffer.get(index) == '\n') {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void emit(ByteBuffer buffer, int offset, int length, LineProcessor processor) {
+        if (carryLength == 0 && slice != null) {
+            int trimmed = length > 0 && buffer.get(offset + length - 1) == '\r' ? length - 1 : length;
+            processor.process(slice.set(buffer, offset, trimmed));
+            return;
+        }
+        if (carryLength == 0 && buffer.hasArray()) {
+            int start = buffer.arrayOffset() + offset;
+            int trimmed = trimCarriageReturn(buffer.array(), start, length);
+            processor.process(new String(buffer.array(), start, trimmed, charset));
+            return;
+        }
+        carry(buffer, offset, length);
+        int trimmed = trimCarriageReturn(lineBytes, 0, carryLength);
+        carryLength = 0;
+        deliver(lineBytes, carryBuffer, 0, trimmed, processor);
+    }
+
+    private void deliver(byte[] bytes, ByteBuffer wrapped, int start, int length, LineProcessor processor) {
+        if (slice != null) {
+            processor.process(slice.set(wrapped, start, length));
+        } else {
+            processor.process(new String(bytes, start, length, charset));
+        }
+    }
+
+    private void carry(ByteBuffer buffer, int offset, int length) {
+        int required = carryLength + length;
+        if (required > lineBytes.length) {
+            lineBytes = Arrays.copyOf(lineBytes, Math.max(required, lineBytes.length * 2));
+            carryBuffer = ByteBuffer.wrap(lineBytes);
+        }
+        buffer.get(offset, lineBytes, carryLength, length);
+        carryLength = required;
+    }
+
+    private static int trimCarriageReturn(byte[] bytes, int start, int length) {
+        if (length > 0 && bytes[start + length - 1] == '\r') {
+            return length - 1;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,174 @@
+package com.patrick.benchmark.readers;
+
+import com.patrick.benchmark.processing.LineProcessor;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public final class DirectIoStrategy implements FileReadStrategy {
+
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    private static final int FALLBACK_BLOCK_SIZE = 4 * 1024;
+    // Looked up by name, because javac warns on any reference to the JDK-internal com.sun.nio.file package.
+    private static final OpenOption DIRECT = directOption();
+
+    private final int bufferSize;
+    private final LineScanMode scanMode;
+
+    public DirectIoStrategy() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    public DirectIoStrategy(int bufferSize) {
+        this(bufferSize, LineScanMode.DECODER);
+    }
+
+    public DirectIoStrategy(int bufferSize, LineScanMode scanMode) {
+        if (bufferSize < MemoryMappedFileStrategy.MIN_WINDOW_SIZE) {
+            throw new IllegalArgumentException("Buffer size must be at least "
+                    + MemoryMappedFileStrategy.MIN_WINDOW_SIZE + " bytes: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        this.scanMode = scanMode;
+    }
+
+    @Override
+    public String name() {
+        String buffer = MemoryMappedFileStrategy.formatWindow(bufferSize) + " buffer";
+        if (scanMode == LineScanMode.DECODER) {
+            return "Direct I/O (" + buffer + ")";
+        }
+        return "Direct I/O (" + buffer + ", " + scanMode.displayName() + ")";
+    }
+
+    public static boolean isSupported(Path path) throws IOException {
+        try (FileChannel channel = openDirect(path)) {
+            return channel != null;
+        }
+    }
+
+    @Override
+    public void read(Path path, Charset charset, LineProcessor processor) throws IOException {
+        int blockSize = blockSize(path);
+        ByteBuffer chunk = alignedBuffer(blockSize);
+        ByteBuffer carry = ByteBuffer.allocateDirect(chunk.capacity() + blockSize);
+        LineSplitter decoder = scanMode.newSplitter(charset, chunk.capacity());
+
+        try (FileChannel channel = open(path)) {
+            long size = channel.size();
+            for (long position = 0L; position < size; ) {
+                int read = readBlocks(channel, chunk, position, size, blockSize);
+                if (read <= 0) {
+                    break;
+                }
+                position += read;
+                chunk.flip();
+                decode(chunk, carry, decoder, processor);
+            }
+            carry.flip();
+            decoder.decode(carry, true, processor);
+            decoder.finish(processor);
+        }
+    }
+
+    @Override
+    public long readRaw(Path path) throws IOException {
+        int blockSize = blockSize(path);
+        ByteBuffer chunk = alignedBuffer(blockSize);
+        long total = 0L;
+        long checksum = 0L;
+        try (FileChannel channel = open(path)) {
+            long size = channel.size();
+            while (total < size) {
+                int read = readBlocks(channel, chunk, total, size, blockSize);
+                if (read <= 0) {
+                    break;
+                }
+                total += read;
+                checksum += RawReads.fold(chunk, 0, read);
+            }
+        }
+        RawReads.consume(checksum);
+        return total;
+    }
+
+    private ByteBuffer alignedBuffer(int blockSize) {
+        int alignedSize = Math.ceilDiv(bufferSize, blockSize) * blockSize;
+        return ByteBuffer.allocateDirect(alignedSize + blockSize)
+                .alignedSlice(blockSize)
+                .slice(0, alignedSize);
+    }
+
+    private static int readBlocks(FileChannel channel, ByteBuffer chunk, long position, long size, int blockSize)
+            throws IOException {
+        chunk.clear();
+        int read = channel.read(chunk, position);
+        if (read > 0 && read % blockSize != 0 && position + read < size) {
+            throw new IOException("Short direct read at offset " + position + ": " + read + " bytes");
+        }
+        return read;
+    }
+
+    private static void decode(ByteBuffer chunk, ByteBuffer carry, LineSplitter decoder, LineProcessor processor)
+            throws IOException {
+        if (carry.position() == 0) {
+            decoder.decode(chunk, false, processor);
+            carry.put(chunk);
+            return;
+        }
+        carry.put(chunk).flip();
+        decoder.decode(carry, false, processor);
+        carry.compact();
+    }
+
+    static int blockSize(Path path) throws IOException {
+        long blockSize;
+        try {
+            blockSize = Files.getFileStore(path).getBlockSize();
+        } catch (UnsupportedOperationException ex) {
+            return FALLBACK_BLOCK_SIZE;
+        }
+        if (blockSize <= 0 || blockSize > DEFAULT_BUFFER_SIZE || Long.bitCount(blockSize) != 1) {
+            return FALLBACK_BLOCK_SIZE;
+        }
+        return (int) blockSize;
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        FileChannel channel = openDirect(path);
+        if (channel != null) {
+            return channel;
+        }
+        return FileChannel.open(path, StandardOpenOption.READ);
+    }
+
+    private static FileChannel openDirect(Path path) throws IOException {
+        if (DIRECT == null) {
+            return null;
+        }
+        try {
+            return FileChannel.open(path, StandardOpenOption.READ, DIRECT);
+        } catch (NoSuchFileException | AccessDeniedException ex) {
+            throw ex;
+        } catch (UnsupportedOperationException | FileSystemException ex) {
+            return null;
+        }
+    }
+
+    private static OpenOption directOption() {
+        try {
+            return (OpenOption) Class.forName("com.sun.nio.file.ExtendedOpenOption").getField("DIRECT").get(null);
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.patrick.benchmark.readers;
+
+import com.patrick.benchmark.processing.ForkableLineProcessor;
+import com.patrick.benchmark.processing.LineProcessor;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public final class DirectoryReadStrategy implements FileReadStrategy {
+
+    private final FileReadStrategy delegate;
+    private final ThreadScheduler scheduler;
+    private final int concurrency;
+
+    public DirectoryReadStrategy(FileReadStrategy delegate, ThreadScheduler scheduler, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1: " + concurrency);
+        }
+        this.delegate = delegate;
+        this.scheduler = scheduler;
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public String name() {
+        return delegate.name() + " [" + scheduler.displayName() + " x" + concurrency + "]";
+    }
+
+    @Override
+    public void read(Path path, Charset charset, LineProcessor processor) throws IOException {
+        if (!(processor instanceof ForkableLineProcessor forkable)) {
+            throw new IOException("Directory ingestion needs a forkable processor");
+        }
+        readFiles(path, file -> {
+            ForkableLineProcessor worker = forkable.forkFile();
+            return () -> {
+                delegate.read(file, charset, worker);
+                return worker.summary();
+            };
+        }, forkable::merge);
+    }
+
+    @Override
+    public boolean decomposable() {
+        return delegate.decomposable();
+    }
+
+    @Override
+    public long readRaw(Path path) throws IOException {
+        long[] total = new long[1];
+        readFiles(path, file -> () -> delegate.readRaw(file), bytes -> total[0] += bytes);
+        return total[0];
+    }
+
+    private <T> void readFiles(Path path, Function<Path, Callable<T>> tasks, Consumer<T> merge) throws IOException {
+        List<Path> files = InputFiles.resolve(path);
+        if (files.isEmpty()) {
+            return;
+        }
+
+        Semaphore permits = new Semaphore(concurrency);
+        ExecutorService executor = scheduler.newExecutor(concurrency);
+        CompletionService<T> completions = new ExecutorCompletionService<>(executor);
+        try {
+            int pending = 0;
+            for (Path file : files) {
+                permits.acquire();
+                Callable<T> task = tasks.apply(file);
+                completions.submit(() -> {
+                    try {
+                        return task.call();
+                    } finally {
+                        permits.release();
+                    }
+                });
+                pending++;
+                for (Future<T> done = completions.poll(); done != null; done = completions.poll()) {
+                    merge.accept(done.get());
+                    pending--;
+                }
+            }
+            for (; pending > 0; pending--) {
+                merge.accept(completions.take().get());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading " + path, ex);
+        } catch (ExecutionException ex) {
+            throw unwrap(ex);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static IOException unwrap(ExecutionException ex) {
+        Throwable cause = ex.getCause();
+        if (cause instanceof IOException ioException) {
+            return ioException;
+        }
+        if (cause instanceof UncheckedIOException uncheckedIoException) {
+            return uncheckedIoException.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IOException(cause);
+    }
+}
@@ -10,4 +10,20 @@ public interface FileReadStrategy {
     String name();
 
     void read(Path path, Charset charset, LineProcessor processor) throws IOException;
+
+    default boolean decomposable() {
+        return true;
+    }
+
+    /**
+     * Reads the file the way {@link #read} does, but without decoding or splitting lines.
+     * Every byte is loaded once, and the method returns the number of bytes read.
+     */
+    default long readRaw(Path path) throws IOException {
+        long total = 0L;
+        for (Path file : InputFiles.resolve(path)) {
+            total += RawReads.stream(file);
+        }
+        return total;
+    }
 }
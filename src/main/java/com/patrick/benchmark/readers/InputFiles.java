@@ -0,0 +1,74 @@
+package com.patrick.benchmark.readers;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class InputFiles {
+
+    private static final String DEFAULT_PATTERN = "*.csv";
+    private static final String GLOB_CHARACTERS = "*?[{";
+
+    private InputFiles() {
+    }
+
+    public static boolean isMultiFile(Path path) {
+        return Files.isDirectory(path) || isGlob(path);
+    }
+
+    public static boolean exists(Path path) {
+        if (isGlob(path)) {
+            return Files.isDirectory(directory(path));
+        }
+        return Files.exists(path);
+    }
+
+    public static List<Path> resolve(Path path) throws IOException {
+        if (!isMultiFile(path)) {
+            return List.of(path);
+        }
+        boolean glob = isGlob(path);
+        Path directory = glob ? directory(path) : path;
+        String pattern = glob ? path.getFileName().toString() : DEFAULT_PATTERN;
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, pattern)) {
+            for (Path file : stream) {
+                if (Files.isRegularFile(file)) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort(null);
+        return files;
+    }
+
+    public static long size(Path path) throws IOException {
+        long size = 0L;
+        for (Path file : resolve(path)) {
+            size += Files.size(file);
+        }
+        return size;
+    }
+
+    static boolean isGlob(Path path) {
+        Path name = path.getFileName();
+        if (name == null) {
+            return false;
+        }
+        String value = name.toString();
+        for (int i = 0; i < GLOB_CHARACTERS.length(); i++) {
+            if (value.indexOf(GLOB_CHARACTERS.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Path directory(Path path) {
+        Path parent = path.getParent();
+        return parent == null ? Path.of(".") : parent;
+    }
+}
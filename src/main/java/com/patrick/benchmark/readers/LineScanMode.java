@@ -0,0 +1,55 @@
+package com.patrick.benchmark.readers;
+
+import java.nio.charset.Charset;
+import java.util.Locale;
+
+public enum LineScanMode {
+    DECODER("decoder"),
+    BYTE_SCAN("byte scan"),
+    BYTE_SLICE("byte slice"),
+    STRUCTURAL("structural scan"),
+    VECTOR("vector scan");
+
+    private final String displayName;
+
+    LineScanMode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String displayName() {
+        if (this == VECTOR && !isAccelerated()) {
+            return displayName + ", scalar fallback";
+        }
+        return displayName;
+    }
+
+    public boolean isAccelerated() {
+        return this != VECTOR || StructuralScanners.vectorAvailable();
+    }
+
+    public static LineScanMode fromLabel(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        return switch (normalized) {
+            case "decoder", "charset-decoder" -> DECODER;
+            case "byte", "bytes", "byte-scan", "byte_scan" -> BYTE_SCAN;
+            case "slice", "byte-slice", "byte_slice" -> BYTE_SLICE;
+            case "structural", "structural-scan", "structural_scan", "scalar" -> STRUCTURAL;
+            case "vector", "simd", "vector-scan", "vector_scan" -> VECTOR;
+            default -> null;
+        };
+    }
+
+    LineSplitter newSplitter(Charset charset, int bufferSize) {
+        if (this == DECODER || !AsciiCharsets.isAsciiCompatible(charset)) {
+            return new ByteBufferLineReader(charset, bufferSize);
+        }
+        return switch (this) {
+            case STRUCTURAL -> new ByteLineScanner(charset, bufferSize, new ScalarStructuralScanner());
+            case VECTOR -> new ByteLineScanner(charset, bufferSize, StructuralScanners.vectorOrScalar());
+            default -> new ByteLineScanner(charset, bufferSize, this == BYTE_SLICE);
+        };
+    }
+}
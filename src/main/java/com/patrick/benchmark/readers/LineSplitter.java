@@ -0,0 +1,13 @@
+package com.patrick.benchmark.readers;
+
+import com.patrick.benchmark.processing.LineProcessor;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+
+interface LineSplitter {
+
+    void decode(ByteBuffer byteBuffer, boolean endOfInput, LineProcessor processor)
+            throws CharacterCodingException;
+
+    void finish(LineProcessor processor) throws CharacterCodingException;
+}
@@ -0,0 +1,45 @@
+package com.patrick.benchmark.readers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+
+final class MappedBuffers {
+
+    private static final MethodHandle INVOKE_CLEANER = lookupInvokeCleaner();
+
+    private MappedBuffers() {
+    }
+
+    static boolean unmap(MappedByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || buffer == null) {
+            return false;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact((ByteBuffer) buffer);
+            return true;
+        } catch (Throwable ex) {
+            return false;
+        }
+    }
+
+    private static MethodHandle lookupInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Object unsafe = field.get(null);
+            MethodHandle handle = MethodHandles.lookup().findVirtual(
+                    unsafeClass,
+                    "invokeCleaner",
+                    MethodType.methodType(void.class, ByteBuffer.class)
+            );
+            return handle.bindTo(unsafe);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return null;
+        }
+    }
+}
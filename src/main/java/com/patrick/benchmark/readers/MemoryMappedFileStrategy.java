@@ -7,14 +7,53 @@ import java.nio.charset.Charset;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class MemoryMappedFileStrategy implements FileReadStrategy {
 
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+    static final int MIN_WINDOW_SIZE = 16;
+
     private static final int CHAR_BUFFER_SIZE = 8 * 1024;
 
+    private final int windowSize;
+    private final LineScanMode scanMode;
+
+    public MemoryMappedFileStrategy() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    public MemoryMappedFileStrategy(int windowSize) {
+        this(windowSize, LineScanMode.DECODER);
+    }
+
+    public MemoryMappedFileStrategy(LineScanMode scanMode) {
+        this(DEFAULT_WINDOW_SIZE, scanMode);
+    }
+
+    public MemoryMappedFileStrategy(int windowSize, LineScanMode scanMode) {
+        if (windowSize < MIN_WINDOW_SIZE) {
+            throw new IllegalArgumentException("Window size must be at least " + MIN_WINDOW_SIZE + " bytes: "
+                    + windowSize);
+        }
+        this.windowSize = windowSize;
+        this.scanMode = scanMode;
+    }
+
     @Override
     public String name() {
-        return "MemoryMapped";
+        List<String> qualifiers = new ArrayList<>(2);
+        if (windowSize != DEFAULT_WINDOW_SIZE) {
+            qualifiers.add(formatWindow(windowSize) + " window");
+        }
+        if (scanMode != LineScanMode.DECODER) {
+            qualifiers.add(scanMode.displayName());
+        }
+        if (qualifiers.isEmpty()) {
+            return "MemoryMapped";
+        }
+        return "MemoryMapped (" + String.join(", ", qualifiers) + ")";
     }
 
     @Override
@@ -24,10 +63,39 @@ public final class MemoryMappedFileStrategy implements FileReadStrategy {
             if (size == 0) {
                 return;
             }
-            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
-            ByteBufferLineReader decoder = new ByteBufferLineReader(charset, CHAR_BUFFER_SIZE);
-            decoder.decode(mapped, true, processor);
+            LineSplitter decoder = scanMode.newSplitter(charset, CHAR_BUFFER_SIZE);
+            long position = 0L;
+            while (position < size) {
+                long length = Math.min(windowSize, size - position);
+                boolean lastWindow = position + length == size;
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                try {
+                    decoder.decode(window, lastWindow, processor);
+                    if (!lastWindow && window.position() == 0) {
+                        throw new IOException("Window of " + length + " bytes at offset " + position
+                                + " holds no complete character");
+                    }
+                    position += lastWindow ? length : window.position();
+                } finally {
+                    MappedBuffers.unmap(window);
+                }
+            }
             decoder.finish(processor);
         }
     }
+
+    @Override
+    public long readRaw(Path path) throws IOException {
+        return RawReads.mapped(path, windowSize);
+    }
+
+    static String formatWindow(long bytes) {
+        if (bytes % (1024L * 1024L) == 0) {
+            return bytes / (1024L * 1024L) + " MB";
+        }
+        if (bytes % 1024L == 0) {
+            return bytes / 1024L + " KB";
+        }
+        return bytes + " B";
+    }
 }
@@ -7,20 +7,56 @@ import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class NioByteBufferStrategy implements FileReadStrategy {
 
-    private static final int BUFFER_SIZE = 8 * 1024;
+    public static final int DEFAULT_BUFFER_SIZE = 8 * 1024;
+
+    private final int bufferSize;
+    private final LineScanMode scanMode;
+
+    public NioByteBufferStrategy() {
+        this(LineScanMode.DECODER);
+    }
+
+    public NioByteBufferStrategy(LineScanMode scanMode) {
+        this(DEFAULT_BUFFER_SIZE, scanMode);
+    }
+
+    public NioByteBufferStrategy(int bufferSize) {
+        this(bufferSize, LineScanMode.DECODER);
+    }
+
+    public NioByteBufferStrategy(int bufferSize, LineScanMode scanMode) {
+        if (bufferSize < MemoryMappedFileStrategy.MIN_WINDOW_SIZE) {
+            throw new IllegalArgumentException("Buffer size must be at least "
+                    + MemoryMappedFileStrategy.MIN_WINDOW_SIZE + " bytes: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        this.scanMode = scanMode;
+    }
 
     @Override
     public String name() {
-        return "NIO ByteBuffer";
+        List<String> qualifiers = new ArrayList<>(2);
+        if (bufferSize != DEFAULT_BUFFER_SIZE) {
+            qualifiers.add(MemoryMappedFileStrategy.formatWindow(bufferSize) + " buffer");
+        }
+        if (scanMode != LineScanMode.DECODER) {
+            qualifiers.add(scanMode.displayName());
+        }
+        if (qualifiers.isEmpty()) {
+            return "NIO ByteBuffer";
+        }
+        return "NIO ByteBuffer (" + String.join(", ", qualifiers) + ")";
     }
 
     @Override
     public void read(Path path, Charset charset, LineProcessor processor) throws IOException {
-        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
-        ByteBufferLineReader decoder = new ByteBufferLineReader(charset, BUFFER_SIZE);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+        LineSplitter decoder = scanMode.newSplitter(charset, bufferSize);
 
         try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
             while (channel.read(buffer) != -1) {
@@ -33,4 +69,9 @@ public final class NioByteBufferStrategy implements FileReadStrategy {
             decoder.finish(processor);
         }
     }
+
+    @Override
+    public long readRaw(Path path) throws IOException {
+        return RawReads.channel(path, ByteBuffer.allocateDirect(bufferSize));
+    }
 }
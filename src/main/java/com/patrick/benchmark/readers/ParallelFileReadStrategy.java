@@ -0,0 +1,8 @@
+package com.patrick.benchmark.readers;
+
+public interface ParallelFileReadStrategy extends FileReadStrategy {
+
+    int parallelism();
+
+    FileReadStrategy withParallelism(int parallelism);
+}
@@ -0,0 +1,247 @@
+package com.patrick.benchmark.readers;
+
+import com.patrick.benchmark.processing.ForkableLineProcessor;
+import com.patrick.benchmark.processing.LineProcessor;
+import com.patrick.benchmark.processing.ProcessingSummary;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+public final class ParallelMemoryMappedStrategy implements ParallelFileReadStrategy {
+
+    private static final int CHAR_BUFFER_SIZE = 8 * 1024;
+    private static final int CHUNKS_PER_WORKER = 4;
+    private static final int PROBE_SIZE = 4 * 1024;
+    private static final long DEFAULT_MIN_CHUNK_BYTES = 1024L * 1024L;
+    private static final long MAX_CHUNK_BYTES = Integer.MAX_VALUE;
+
+    private final int parallelism;
+    private final long minChunkBytes;
+
+    public ParallelMemoryMappedStrategy() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelMemoryMappedStrategy(int parallelism) {
+        this(parallelism, DEFAULT_MIN_CHUNK_BYTES);
+    }
+
+    ParallelMemoryMappedStrategy(int parallelism, long minChunkBytes) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        if (minChunkBytes < 1) {
+            throw new IllegalArgumentException("Minimum chunk size must be positive: " + minChunkBytes);
+        }
+        this.parallelism = parallelism;
+        this.minChunkBytes = minChunkBytes;
+    }
+
+    @Override
+    public String name() {
+        if (parallelism == Runtime.getRuntime().availableProcessors()) {
+            return "Parallel MemoryMapped";
+        }
+        return "Parallel MemoryMapped (" + parallelism + (parallelism == 1 ? " thread)" : " threads)");
+    }
+
+    @Override
+    public int parallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public FileReadStrategy withParallelism(int parallelism) {
+        return new ParallelMemoryMappedStrategy(parallelism, minChunkBytes);
+    }
+
+    @Override
+    public void read(Path path, Charset charset, LineProcessor processor) throws IOException {
+        if (!(processor instanceof ForkableLineProcessor forkable)
+                || !AsciiCharsets.isAsciiCompatible(charset)) {
+            new MemoryMappedFileStrategy().read(path, charset, processor);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return;
+            }
+
+            long headerEnd = nextLineStart(channel, 0L, size);
+            readRange(channel, 0L, headerEnd, charset, processor);
+
+            List<long[]> chunks = splitChunks(channel, headerEnd, size);
+            if (chunks.isEmpty()) {
+                return;
+            }
+
+            for (ProcessingSummary workerSummary : readChunks(channel, chunks, charset, forkable)) {
+                forkable.merge(workerSummary);
+            }
+        }
+    }
+
+    private List<ProcessingSummary> readChunks(
+            FileChannel channel,
+            List<long[]> chunks,
+            Charset charset,
+            ForkableLineProcessor processor
+    ) throws IOException {
+        List<Callable<ProcessingSummary>> tasks = new ArrayList<>(chunks.size());
+        for (long[] chunk : chunks) {
+            ForkableLineProcessor worker = processor.fork();
+            tasks.add(() -> {
+                readRange(channel, chunk[0], chunk[1], charset, worker);
+                return worker.summary();
+            });
+        }
+        return invokeAll(tasks);
+    }
+
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading chunks", ex);
+        } catch (ExecutionException ex) {
+            throw unwrap(ex);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private List<long[]> splitChunks(FileChannel channel, long start, long end) throws IOException {
+        long remaining = end - start;
+        List<long[]> chunks = new ArrayList<>();
+        if (remaining <= 0) {
+            return chunks;
+        }
+
+        long chunkCount = Math.min((long) parallelism * CHUNKS_PER_WORKER, remaining / minChunkBytes);
+        chunkCount = Math.max(chunkCount, (remaining + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES);
+        chunkCount = Math.max(1L, chunkCount);
+
+        long chunkStart = start;
+        for (long i = 1; i <= chunkCount && chunkStart < end; i++) {
+            long target = i == chunkCount ? end : start + remaining / chunkCount * i;
+            long chunkEnd = target >= end ? end : nextLineStart(channel, Math.max(target, chunkStart), end);
+            if (chunkEnd - chunkStart > MAX_CHUNK_BYTES) {
+                throw new IOException("Line longer than " + MAX_CHUNK_BYTES + " bytes near offset " + chunkStart);
+            }
+            if (chunkEnd > chunkStart) {
+                chunks.add(new long[] {chunkStart, chunkEnd});
+            }
+            chunkStart = chunkEnd;
+        }
+        return chunks;
+    }
+
+    static long nextLineStart(FileChannel channel, long position, long end) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(PROBE_SIZE);
+        long offset = position;
+        while (offset < end) {
+            probe.clear();
+            probe.limit((int) Math.min(PROBE_SIZE, end - offset));
+            int read = channel.read(probe, offset);
+            if (read <= 0) {
+                return end;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return end;
+    }
+
+    private static void readRange(
+            FileChannel channel,
+            long start,
+            long end,
+            Charset charset,
+            LineProcessor processor
+    ) throws IOException {
+        if (end <= start) {
+            return;
+        }
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        try {
+            ByteBufferLineReader decoder = new ByteBufferLineReader(charset, CHAR_BUFFER_SIZE);
+            decoder.decode(mapped, true, processor);
+            decoder.finish(processor);
+        } finally {
+            MappedBuffers.unmap(mapped);
+        }
+    }
+
+    @Override
+    public long readRaw(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return 0L;
+            }
+            long headerEnd = nextLineStart(channel, 0L, size);
+            long total = foldRange(channel, 0L, headerEnd);
+            List<Callable<Long>> tasks = new ArrayList<>();
+            for (long[] chunk : splitChunks(channel, headerEnd, size)) {
+                tasks.add(() -> foldRange(channel, chunk[0], chunk[1]));
+            }
+            for (long bytes : invokeAll(tasks)) {
+                total += bytes;
+            }
+            return total;
+        }
+    }
+
+    private static long foldRange(FileChannel channel, long start, long end) throws IOException {
+        if (end <= start) {
+            return 0L;
+        }
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        try {
+            RawReads.consume(RawReads.fold(mapped, 0, mapped.limit()));
+            return mapped.limit();
+        } finally {
+            MappedBuffers.unmap(mapped);
+        }
+    }
+
+    private static IOException unwrap(ExecutionException ex) {
+        Throwable cause = ex.getCause();
+        if (cause instanceof IOException ioException) {
+            return ioException;
+        }
+        if (cause instanceof UncheckedIOException uncheckedIoException) {
+            return uncheckedIoException.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IOException(cause);
+    }
+}
@@ -0,0 +1,367 @@
+package com.patrick.benchmark.readers;
+
+import com.patrick.benchmark.metrics.StageUsage;
+import com.patrick.benchmark.processing.BatchParser;
+import com.patrick.benchmark.processing.ByteSlice;
+import com.patrick.benchmark.processing.CsvScenarioProcessor;
+import com.patrick.benchmark.processing.LineProcessor;
+import com.patrick.benchmark.processing.RecordBatch;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class PipelinedStrategy implements FileReadStrategy {
+
+    public static final int DEFAULT_RING_CAPACITY = 8;
+
+    private static final int CHUNK_SIZE = 256 * 1024;
+    private static final int BATCH_LINES = 4096;
+    private static final int BATCH_BYTES = 256 * 1024;
+
+    private final int ringCapacity;
+
+    public PipelinedStrategy() {
+        this(DEFAULT_RING_CAPACITY);
+    }
+
+    public PipelinedStrategy(int ringCapacity) {
+        if (ringCapacity < 2 || Integer.bitCount(ringCapacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two of at least 2: " + ringCapacity);
+        }
+        this.ringCapacity = ringCapacity;
+    }
+
+    public int ringCapacity() {
+        return ringCapacity;
+    }
+
+    @Override
+    public String name() {
+        if (ringCapacity == DEFAULT_RING_CAPACITY) {
+            return "Pipelined";
+        }
+        return "Pipelined (ring " + ringCapacity + ")";
+    }
+
+    public static boolean supports(Charset charset) {
+        return AsciiCharsets.isAsciiCompatible(charset);
+    }
+
+    @Override
+    public void read(Path path, Charset charset, LineProcessor processor) throws IOException {
+        if (!(processor instanceof CsvScenarioProcessor csvProcessor)) {
+            throw new IOException(name() + " needs a CsvScenarioProcessor: " + processor.getClass().getSimpleName());
+        }
+        if (!supports(charset)) {
+            throw new IOException(name() + " needs an ASCII-compatible charset: " + charset.name());
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            new Pipeline(channel, charset, csvProcessor).run();
+        }
+    }
+
+    // a split-only or parse-only pipeline would not have the same stage overlap as the real one
+    @Override
+    public boolean decomposable() {
+        return false;
+    }
+
+    @Override
+    public long readRaw(Path path) throws IOException {
+        return RawReads.channel(path, ByteBuffer.allocate(CHUNK_SIZE));
+    }
+
+    private static IOException unwrap(Throwable cause) {
+        if (cause instanceof IOException ioException) {
+            return ioException;
+        }
+        if (cause instanceof UncheckedIOException uncheckedIoException) {
+            return uncheckedIoException.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IOException(cause);
+    }
+
+    private interface StageBody {
+        void run() throws IOException;
+    }
+
+    private final class Pipeline {
+
+        private static final int READ = 0;
+        private static final int SPLIT = 1;
+        private static final int PARSE = 2;
+        private static final int AGGREGATE = 3;
+
+        private final FileChannel channel;
+        private final Charset charset;
+        private final CsvScenarioProcessor processor;
+        private final BatchParser batchParser;
+        private final SpscRingBuffer<ByteBuffer> freeChunks = new SpscRingBuffer<>(ringCapacity);
+        private final SpscRingBuffer<ByteBuffer> chunks = new SpscRingBuffer<>(ringCapacity);
+        private final SpscRingBuffer<LineBatch> freeLines = new SpscRingBuffer<>(ringCapacity);
+        private final SpscRingBuffer<LineBatch> lines = new SpscRingBuffer<>(ringCapacity);
+        private final SpscRingBuffer<RecordBatch> freeRecords = new SpscRingBuffer<>(ringCapacity);
+        private final SpscRingBuffer<RecordBatch> records = new SpscRingBuffer<>(ringCapacity);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final long[] wallNanos = new long[4];
+        private byte[] carry = new byte[256];
+        private int carryLength;
+
+        Pipeline(FileChannel channel, Charset charset, CsvScenarioProcessor processor) {
+            this.channel = channel;
+            this.charset = charset;
+            this.processor = processor;
+            this.batchParser = processor.newBatchParser();
+            for (int i = 0; i < ringCapacity; i++) {
+                freeChunks.put(ByteBuffer.allocate(CHUNK_SIZE));
+                freeLines.put(new LineBatch());
+                freeRecords.put(new RecordBatch());
+            }
+        }
+
+        void run() throws IOException {
+            Thread reader = startStage("read", READ, this::readChunks);
+            Thread splitter = startStage("split", SPLIT, this::splitLines);
+            Thread parser = startStage("parse", PARSE, this::parseLines);
+
+            long start = System.nanoTime();
+            try {
+                aggregate();
+            } catch (RuntimeException | Error ex) {
+                fail(ex);
+            }
+            wallNanos[AGGREGATE] = System.nanoTime() - start;
+
+            try {
+                reader.join();
+                splitter.join();
+                parser.join();
+            } catch (InterruptedException ex) {
+                abort();
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for pipeline stages", ex);
+            }
+            Throwable cause = failure.get();
+            if (cause != null) {
+                throw unwrap(cause);
+            }
+
+            processor.mergeRejected(batchParser);
+            processor.recordStages(List.of(
+                    usage("read", READ, null, freeChunks.consumerWaitNanos() + chunks.producerWaitNanos()),
+                    usage("split", SPLIT, chunks, chunks.consumerWaitNanos() + freeLines.consumerWaitNanos()
+                            + lines.producerWaitNanos() + freeChunks.producerWaitNanos()),
+                    usage("parse", PARSE, lines, lines.consumerWaitNanos() + freeRecords.consumerWaitNanos()
+                            + records.producerWaitNanos() + freeLines.producerWaitNanos()),
+                    usage("aggregate", AGGREGATE, records,
+                            records.consumerWaitNanos() + freeRecords.producerWaitNanos())
+            ));
+        }
+
+        private StageUsage usage(String stage, int index, SpscRingBuffer<?> input, long idleNanos) {
+            long busyNanos = Math.max(0L, wallNanos[index] - idleNanos);
+            if (input == null) {
+                return new StageUsage(stage, busyNanos, idleNanos, chunks.takes(), 0L, 0, 0);
+            }
+            return new StageUsage(
+                    stage,
+                    busyNanos,
+                    idleNanos,
+                    input.takes(),
+                    input.depthSum(),
+                    input.maxDepth(),
+                    input.capacity()
+            );
+        }
+
+        private Thread startStage(String stage, int index, StageBody body) {
+            return Thread.ofPlatform().daemon().name("pipeline-" + stage).start(() -> {
+                long start = System.nanoTime();
+                try {
+                    body.run();
+                } catch (Throwable ex) {
+                    fail(ex);
+                } finally {
+                    wallNanos[index] = System.nanoTime() - start;
+                }
+            });
+        }
+
+        private void fail(Throwable ex) {
+            if (failure.compareAndSet(null, ex)) {
+                abort();
+            }
+        }
+
+        private void abort() {
+            freeChunks.abort();
+            chunks.abort();
+            freeLines.abort();
+            lines.abort();
+            freeRecords.abort();
+            records.abort();
+        }
+
+        private void readChunks() throws IOException {
+            int read = 0;
+            while (read != -1) {
+                ByteBuffer chunk = freeChunks.take();
+                chunk.clear();
+                do {
+                    read = channel.read(chunk);
+                } while (read != -1 && chunk.hasRemaining());
+                chunk.flip();
+                if (chunk.hasRemaining()) {
+                    chunks.put(chunk);
+                }
+            }
+            chunks.close();
+        }
+
+        private void splitLines() {
+            LineBatch batch = freeLines.take();
+            for (ByteBuffer chunk = chunks.take(); chunk != null; chunk = chunks.take()) {
+                int position = 0;
+                int limit = chunk.limit();
+                while (position < limit) {
+                    int newline = ByteLineScanner.indexOfNewline(chunk, position, limit);
+                    if (newline < 0) {
+                        appendCarry(chunk, position, limit - position);
+                        break;
+                    }
+                    if (carryLength > 0) {
+                        appendCarry(chunk, position, newline - position);
+                        batch.add(carry, trimCarriageReturn(carry, carryLength));
+                        carryLength = 0;
+                    } else {
+                        int length = newline - position;
+                        if (length > 0 && chunk.get(newline - 1) == '\r') {
+                            length--;
+                        }
+                        batch.add(chunk, position, length);
+                    }
+                    if (batch.isFull()) {
+                        lines.put(batch);
+                        batch = freeLines.take();
+                    }
+                    position = newline + 1;
+                }
+                freeChunks.put(chunk);
+            }
+
+            int length = trimCarriageReturn(carry, carryLength);
+            carryLength = 0;
+            if (length > 0) {
+                batch.add(carry, length);
+            }
+            if (batch.count > 0) {
+                lines.put(batch);
+            }
+            lines.close();
+        }
+
+        private void appendCarry(ByteBuffer chunk, int offset, int length) {
+            int required = carryLength + length;
+            if (required > carry.length) {
+                carry = Arrays.copyOf(carry, Math.max(required, carry.length * 2));
+            }
+            chunk.get(offset, carry, carryLength, length);
+            carryLength = required;
+        }
+
+        private void parseLines() {
+            ByteSlice slice = new ByteSlice(charset);
+            RecordBatch batch = freeRecords.take();
+            for (LineBatch lineBatch = lines.take(); lineBatch != null; lineBatch = lines.take()) {
+                for (int i = 0; i < lineBatch.count; i++) {
+                    slice.set(lineBatch.wrapped, lineBatch.starts[i], lineBatch.lengths[i]);
+                    if (batchParser.parse(slice, batch)) {
+                        records.put(batch);
+                        batch = freeRecords.take();
+                    }
+                }
+                lineBatch.clear();
+                freeLines.put(lineBatch);
+            }
+            if (!batch.isEmpty()) {
+                records.put(batch);
+            }
+            records.close();
+        }
+
+        // The parser adds dictionary values before it puts a batch, and records.put/take order the two
+        // threads, so the labels behind every code in a taken batch are visible here without a volatile read.
+        private void aggregate() {
+            for (RecordBatch batch = records.take(); batch != null; batch = records.take()) {
+                processor.processBatch(batch);
+                batch.clear();
+                freeRecords.put(batch);
+            }
+        }
+
+        private static int trimCarriageReturn(byte[] bytes, int length) {
+            if (length > 0 && bytes[length - 1] == '\r') {
+                return length - 1;
+            }
+            return length;
+        }
+    }
+
+    private static final class LineBatch {
+
+        private final int[] starts = new int[BATCH_LINES];
+        private final int[] lengths = new int[BATCH_LINES];
+        private byte[] bytes = new byte[BATCH_BYTES];
+        private ByteBuffer wrapped = ByteBuffer.wrap(bytes);
+        private int count;
+        private int used;
+
+        void add(ByteBuffer source, int offset, int length) {
+            reserve(length);
+            source.get(offset, bytes, used, length);
+            append(length);
+        }
+
+        void add(byte[] source, int length) {
+            reserve(length);
+            System.arraycopy(source, 0, bytes, used, length);
+            append(length);
+        }
+
+        boolean isFull() {
+            return count == starts.length || used >= BATCH_BYTES;
+        }
+
+        void clear() {
+            count = 0;
+            used = 0;
+        }
+
+        private void reserve(int length) {
+            if (used + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(used + length, bytes.length * 2));
+                wrapped = ByteBuffer.wrap(bytes);
+            }
+        }
+
+        private void append(int length) {
+            starts[count] = used;
+            lengths[count] = length;
+            count++;
+            used += length;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.patrick.benchmark.readers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+final class RawReads {
+
+    private static final int STREAM_BUFFER_SIZE = 8 * 1024;
+
+    private static volatile long sink;
+
+    private RawReads() {
+    }
+
+    static long stream(Path path) throws IOException {
+        byte[] bytes = new byte[STREAM_BUFFER_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long total = 0L;
+        long checksum = 0L;
+        try (InputStream input = Files.newInputStream(path)) {
+            for (int read = input.read(bytes); read != -1; read = input.read(bytes)) {
+                total += read;
+                checksum += fold(buffer, 0, read);
+            }
+        }
+        consume(checksum);
+        return total;
+    }
+
+    static long channel(Path path, ByteBuffer buffer) throws IOException {
+        long total = 0L;
+        long checksum = 0L;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            for (int read = channel.read(buffer); read != -1; read = channel.read(buffer)) {
+                total += read;
+                checksum += fold(buffer, 0, buffer.position());
+                buffer.clear();
+            }
+        }
+        consume(checksum);
+        return total;
+    }
+
+    static long mapped(Path path, int windowSize) throws IOException {
+        long total = 0L;
+        long checksum = 0L;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0L; position < size; position += windowSize) {
+                int length = (int) Math.min(windowSize, size - position);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                try {
+                    checksum += fold(window, 0, length);
+                    total += length;
+                } finally {
+                    MappedBuffers.unmap(window);
+                }
+            }
+        }
+        consume(checksum);
+        return total;
+    }
+
+    static long fold(ByteBuffer buffer, int from, int to) {
+        long checksum = 0L;
+        int index = from;
+        for (; index + Long.BYTES <= to; index += Long.BYTES) {
+            checksum += buffer.getLong(index);
+        }
+        for (; index < to; index++) {
+            checksum += buffer.get(index);
+        }
+        return checksum;
+    }
+
+    static void consume(long checksum) {
+        sink ^= checksum;
+    }
+}
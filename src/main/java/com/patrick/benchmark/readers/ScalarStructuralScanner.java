@@ -0,0 +1,21 @@
+package com.patrick.benchmark.readers;
+
+import java.nio.ByteBuffer;
+
+final class ScalarStructuralScanner implements StructuralScanner {
+
+    @Override
+    public long structurals(ByteBuffer buffer, int from) {
+        long mask = 0L;
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            if (isStructural(buffer.get(from + i))) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    static boolean isStructural(byte value) {
+        return value == ',' || value == '"' || value == '\r' || value == '\n';
+    }
+}
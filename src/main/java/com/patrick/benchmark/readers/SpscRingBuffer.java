@@ -0,0 +1,164 @@
+package com.patrick.benchmark.readers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.locks.LockSupport;
+
+final class SpscRingBuffer<T> {
+
+    private static final int SPIN_TRIES = 128;
+    private static final int YIELD_TRIES = 256;
+    private static final long PARK_NANOS = 50_000L;
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(SpscRingBuffer.class, "head", long.class);
+            TAIL = lookup.findVarHandle(SpscRingBuffer.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] slots;
+    private final int mask;
+    private long head;
+    private long tail;
+    private long cachedHead;
+    private long cachedTail;
+    private volatile boolean closed;
+    private volatile boolean aborted;
+    private long producerWaitNanos;
+    private long consumerWaitNanos;
+    private long takes;
+    private long depthSum;
+    private int maxDepth;
+
+    SpscRingBuffer(int capacity) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a positive power of two: " + capacity);
+        }
+        this.slots = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    void put(T item) {
+        long position = tail;
+        if (position - cachedHead == slots.length) {
+            cachedHead = (long) HEAD.getAcquire(this);
+            if (position - cachedHead == slots.length) {
+                awaitSpace(position);
+            }
+        }
+        slots[(int) position & mask] = item;
+        TAIL.setRelease(this, position + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    T take() {
+        long position = head;
+        if (position == cachedTail) {
+            cachedTail = (long) TAIL.getAcquire(this);
+            if (position == cachedTail && !awaitItem(position)) {
+                return null;
+            }
+        }
+        int depth = (int) (cachedTail - position);
+        takes++;
+        depthSum += depth;
+        maxDepth = Math.max(maxDepth, depth);
+
+        int index = (int) position & mask;
+        T item = (T) slots[index];
+        slots[index] = null;
+        HEAD.setRelease(this, position + 1);
+        return item;
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    void abort() {
+        aborted = true;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    long producerWaitNanos() {
+        return producerWaitNanos;
+    }
+
+    long consumerWaitNanos() {
+        return consumerWaitNanos;
+    }
+
+    long takes() {
+        return takes;
+    }
+
+    long depthSum() {
+        return depthSum;
+    }
+
+    int maxDepth() {
+        return maxDepth;
+    }
+
+    private void awaitSpace(long position) {
+        long start = System.nanoTime();
+        try {
+            for (int attempt = 0; ; attempt++) {
+                checkAborted();
+                cachedHead = (long) HEAD.getAcquire(this);
+                if (position - cachedHead < slots.length) {
+                    return;
+                }
+                backOff(attempt);
+            }
+        } finally {
+            producerWaitNanos += System.nanoTime() - start;
+        }
+    }
+
+    private boolean awaitItem(long position) {
+        long start = System.nanoTime();
+        try {
+            for (int attempt = 0; ; attempt++) {
+                checkAborted();
+                boolean drained = closed;
+                cachedTail = (long) TAIL.getAcquire(this);
+                if (position != cachedTail) {
+                    return true;
+                }
+                if (drained) {
+                    return false;
+                }
+                backOff(attempt);
+            }
+        } finally {
+            consumerWaitNanos += System.nanoTime() - start;
+        }
+    }
+
+    private void checkAborted() {
+        if (aborted) {
+            throw new CancellationException("Pipeline aborted");
+        }
+    }
+
+    private static void backOff(int attempt) {
+        if (attempt < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (attempt < YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.patrick.benchmark.readers;
+
+import java.nio.ByteBuffer;
+
+interface StructuralScanner {
+
+    int BLOCK_SIZE = 64;
+    int WINDOW_BLOCKS = 64;
+
+    long structurals(ByteBuffer buffer, int from);
+
+    default void structurals(ByteBuffer buffer, int from, long[] masks, int blocks) {
+        for (int i = 0; i < blocks; i++) {
+            masks[i] = structurals(buffer, from + i * BLOCK_SIZE);
+        }
+    }
+}
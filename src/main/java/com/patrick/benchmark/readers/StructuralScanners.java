@@ -0,0 +1,39 @@
+package com.patrick.benchmark.readers;
+
+final class StructuralScanners {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final boolean VECTOR_AVAILABLE = probeVector();
+
+    private StructuralScanners() {
+    }
+
+    static boolean vectorAvailable() {
+        return VECTOR_AVAILABLE;
+    }
+
+    static StructuralScanner vectorOrScalar() {
+        if (VECTOR_AVAILABLE) {
+            StructuralScanner scanner = newVector();
+            if (scanner != null) {
+                return scanner;
+            }
+        }
+        return new ScalarStructuralScanner();
+    }
+
+    private static boolean probeVector() {
+        return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent() && newVector() != null;
+    }
+
+    private static StructuralScanner newVector() {
+        try {
+            return (StructuralScanner) Class.forName(StructuralScanners.class.getPackageName()
+                            + ".VectorStructuralScanner")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.patrick.benchmark.readers;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public enum ThreadScheduler {
+    VIRTUAL("virtual"),
+    PLATFORM("platform");
+
+    private final String displayName;
+
+    ThreadScheduler(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String displayName() {
+        return displayName;
+    }
+
+    public static ThreadScheduler fromLabel(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        return switch (normalized) {
+            case "virtual", "virtual-threads", "loom" -> VIRTUAL;
+            case "platform", "platform-threads", "pool" -> PLATFORM;
+            default -> null;
+        };
+    }
+
+    ExecutorService newExecutor(int concurrency) {
+        return this == VIRTUAL
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(concurrency);
+    }
+}
@@ -0,0 +1,62 @@
+package com.patrick.benchmark.readers;
+
+import java.nio.ByteBuffer;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorStructuralScanner implements StructuralScanner {
+
+    private static final VectorSpecies<Byte> SPECIES = blockSpecies(ByteVector.SPECIES_PREFERRED);
+
+    private final byte[] scratch = new byte[BLOCK_SIZE * WINDOW_BLOCKS];
+
+    // Lanes beyond 64 would read past the block and no longer fit the long mask, so wider hardware
+    // (SVE up to 2048 bits) scans each block with 512-bit vectors instead.
+    private static VectorSpecies<Byte> blockSpecies(VectorSpecies<Byte> preferred) {
+        return preferred.length() <= BLOCK_SIZE ? preferred : ByteVector.SPECIES_512;
+    }
+
+    static int lanes() {
+        return SPECIES.length();
+    }
+
+    @Override
+    public long structurals(ByteBuffer buffer, int from) {
+        if (buffer.hasArray()) {
+            return structurals(buffer.array(), buffer.arrayOffset() + from);
+        }
+        buffer.get(from, scratch, 0, BLOCK_SIZE);
+        return structurals(scratch, 0);
+    }
+
+    // JDK 21 has no ByteVector.fromByteBuffer and MemorySegment is still a preview API there, so
+    // off-heap buffers are copied once per window rather than once per block.
+    @Override
+    public void structurals(ByteBuffer buffer, int from, long[] masks, int blocks) {
+        byte[] bytes = scratch;
+        int base = 0;
+        if (buffer.hasArray()) {
+            bytes = buffer.array();
+            base = buffer.arrayOffset() + from;
+        } else {
+            buffer.get(from, scratch, 0, blocks * BLOCK_SIZE);
+        }
+        for (int i = 0; i < blocks; i++) {
+            masks[i] = structurals(bytes, base + i * BLOCK_SIZE);
+        }
+    }
+
+    private static long structurals(byte[] bytes, int base) {
+        long mask = 0L;
+        for (int i = 0; i < BLOCK_SIZE; i += SPECIES.length()) {
+            ByteVector block = ByteVector.fromArray(SPECIES, bytes, base + i);
+            long lanes = block.eq((byte) ',')
+                    .or(block.eq((byte) '"'))
+                    .or(block.eq((byte) '\r'))
+                    .or(block.eq((byte) '\n'))
+                    .toLong();
+            mask |= lanes << i;
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,21 @@
+package com.patrick.benchmark.reporting;
+
+import com.patrick.benchmark.ProcessingMode;
+import com.patrick.benchmark.processing.ProcessingSummary;
+import java.util.Locale;
+
+final class AllocationRate {
+
+    private AllocationRate() {
+    }
+
+    static String formatBytesPerLine(double allocatedBytes, ProcessingMode mode, ProcessingSummary summary) {
+        long linesPerPass = summary.recordsProcessed() + summary.invalidLines() + summary.filteredLines();
+        long passes = mode == ProcessingMode.ISOLATED ? Math.max(1, summary.scenarios().size()) : 1;
+        long lines = linesPerPass * passes;
+        if (lines <= 0 || allocatedBytes <= 0.0) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%.1f", allocatedBytes / lines);
+    }
+}
@@ -3,6 +3,7 @@ package com.patrick.benchmark.reporting;
 import com.patrick.benchmark.BenchmarkReport;
 import com.patrick.benchmark.BenchmarkResult;
 import com.patrick.benchmark.ProcessingMode;
+import com.patrick.benchmark.ScalingPoint;
 import com.patrick.benchmark.processing.ProcessingSummary;
 import com.patrick.benchmark.processing.ScenarioReport;
 import java.util.List;
@@ -30,6 +31,25 @@ public final class ConsoleReportPrinter {
         }
     }
 
+    public void printScaling(List<ScalingPoint> points) {
+        if (!LOGGER.isLoggable(Level.INFO)) {
+            return;
+        }
+        String lineSeparator = System.lineSeparator();
+        StringBuilder builder = new StringBuilder();
+        builder.append(lineSeparator).append("=== Scaling Study ===").append(lineSeparator);
+        for (ScalingPoint point : points) {
+            builder.append(String.format(
+                    Locale.ROOT,
+                    "%-40s %10s  %s MB/s  %s lines/s%n",
+                    point.label(),
+                    ScalingCurves.formatSize(point.fileBytes()),
+                    Throughput.formatMbPerSecond(point.fileBytes(), point.durationNanos()),
+                    ScalingCurves.formatLinesPerSecond(point.linesPerSecond())));
+        }
+        LOGGER.log(Level.INFO, builder.toString());
+    }
+
     private static String buildReport(List<BenchmarkReport> reports) {
         String lineSeparator = System.lineSeparator();
         StringBuilder builder = new StringBuilder();
@@ -43,18 +63,102 @@ public final class ConsoleReportPrinter {
                     .append("Timing basis: ")
                     .append(formatTimingBasis(report.mode()))
                     .append(lineSeparator);
-
             for (BenchmarkResult result : report.results()) {
                 ProcessingSummary summary = result.summary();
                 builder.append("Strategy: ").append(result.strategyName()).append(lineSeparator);
                 builder.append("Total time (ms): ")
                         .append(DurationFormatter.formatMillis(result.durationNanos()))
                         .append(lineSeparator);
-                builder.append("Memory delta (MB): ").append(formatMemory(result.memoryBytes()))
+                if (report.mode() == ProcessingMode.SHARED_SCAN) {
+                    builder.append("Shared scan (ms): ").append(SharedScan.format(result.durationNanos(), summary))
+                            .append(lineSeparator)
+                            .append("Record store (MB): ").append(formatMemory(result.storeBytes()))
+                            .append(lineSeparator);
+                }
+                builder.append("Chunk latency (ms): ").append(LatencyPercentiles.format(summary.chunkLatency()))
+                        .append(lineSeparator);
+                builder.append("CPU user / sys (ms): ").append(OsResources.formatCpu(result.os()))
+                        .append(lineSeparator);
+                builder.append("Page faults minor / major: ").append(OsResources.formatFaults(result.os()))
+                        .append(lineSeparator);
+                builder.append("Context switches voluntary / involuntary: ")
+                        .append(OsResources.formatContextSwitches(result.os()))
+                        .append(lineSeparator);
+                builder.append("Storage read (MB): ").append(OsResources.formatMb(result.os().storageReadBytes()))
+                        .append(lineSeparator);
+                builder.append("Peak RSS (MB): ").append(OsResources.formatMb(result.os().peakRssBytes()))
+                        .append(lineSeparator);
+                BenchmarkResult baseline = findResult(report, Speedup.baselineName(result.strategyName()));
+                if (baseline != null) {
+                    builder.append("Speedup vs ").append(baseline.strategyName()).append(": ")
+                            .append(Speedup.format(baseline.durationNanos(), result.durationNanos()))
+                            .append(lineSeparator);
+                }
+                builder.append("Scenario timing: ").append(result.timingMode().displayName())
+                        .append(lineSeparator);
+                String untimedName = TimingOverhead.untimedName(result.strategyName(), result.timingMode());
+                BenchmarkResult untimed = untimedName == null ? null : findResult(report, untimedName);
+                if (untimed != null) {
+                    builder.append("Timing overhead vs off: ")
+                            .append(TimingOverhead.format(untimed.durationNanos(), result.durationNanos()))
+                            .append(lineSeparator);
+                }
+                if (result.warmup().iterations() > 0) {
+                    builder.append("Time to steady state: ").append(SteadyState.format(result.warmup()))
+                            .append(lineSeparator);
+                    builder.append("Warmup passes (ms): ").append(SteadyState.formatSamples(result.warmup()))
+                            .append(lineSeparator);
+                }
+                builder.append("Throughput (MB/s): ")
+                        .append(Throughput.formatMbPerSecond(result.bytesRead(), result.durationNanos()))
+                        .append(lineSeparator);
+                if (DirectoryIngestion.scheduler(result.strategyName()) != null) {
+                    long files = DirectoryIngestion.filesRead(report.mode(), report.inputFiles(), summary);
+                    builder.append("Files / s: ")
+                            .append(DirectoryIngestion.formatFilesPerSecond(files, result.durationNanos()))
+                            .append(lineSeparator);
+                }
+                double[] stageCosts = stageCosts(report, result);
+                if (stageCosts != null) {
+                    builder.append("Stage breakdown: ").append(StageBreakdown.format(stageCosts))
+                            .append(lineSeparator)
+                            .append("Stage bar: ").append(StageBreakdown.bar(stageCosts))
+                            .append(lineSeparator);
+                } else if (report.mode() == ProcessingMode.DECOMPOSED
+                        && !StageBreakdown.isPartial(result.strategyName())) {
+                    builder.append("Stage breakdown: ").append(StageBreakdown.NOT_DECOMPOSED).append(lineSeparator);
+                }
+                if (!summary.stages().isEmpty()) {
+                    builder.append("Pipeline stages: ").append(PipelineStages.format(summary.stages()))
+                            .append(lineSeparator);
+                }
+                builder.append("Peak heap (MB): ").append(formatMemory(result.peakHeapBytes()))
+                        .append(lineSeparator);
+                builder.append("Allocated (MB): ").append(formatMemory(result.allocatedBytes()))
+                        .append(lineSeparator);
+                builder.append("Allocated per line (bytes): ")
+                        .append(AllocationRate.formatBytesPerLine(
+                                result.allocatedBytes(),
+                                report.mode(),
+                                summary))
+                        .append(lineSeparator);
+                builder.append("Allocation rate (MB/s): ")
+                        .append(Throughput.formatMbPerSecond(result.allocatedBytes(), result.durationNanos()))
+                        .append(lineSeparator);
+                builder.append("GC count / pause: ").append(JvmMatrix.formatGc(result.gc()))
+                        .append(lineSeparator);
+                builder.append("Peak off-heap (MB): ")
+                        .append(formatMemory(result.bufferPools().peakOffHeapBytes()))
+                        .append(" (direct ")
+                        .append(formatMemory(result.bufferPools().peakDirectBytes()))
+                        .append(", mapped ")
+                        .append(formatMemory(result.bufferPools().peakMappedBytes()))
+                        .append(")")
                         .append(lineSeparator);
                 builder.append("Records processed: ").append(summary.recordsProcessed())
                         .append(lineSeparator);
                 builder.append("Invalid lines: ").append(summary.invalidLines()).append(lineSeparator);
+                builder.append("Filtered lines: ").append(summary.filteredLines()).append(lineSeparator);
                 builder.append("Errors: ").append(result.errorCount()).append(lineSeparator);
                 builder.append("Scenario timings:").append(lineSeparator);
 
@@ -65,6 +169,7 @@ public final class ConsoleReportPrinter {
                 builder.append(lineSeparator);
             }
 
+            builder.append(buildDirectIoComparison(report));
             builder.append(buildScenarioComparison(report)).append(lineSeparator);
         }
 
@@ -75,9 +180,46 @@ public final class ConsoleReportPrinter {
         if (mode == ProcessingMode.SINGLE_PASS) {
             return "Scenario time reflects processing inside one pass.";
         }
+        if (mode == ProcessingMode.SHARED_SCAN) {
+            return "Scenario time replays records parsed once, excluding I/O and parsing.";
+        }
+        if (mode == ProcessingMode.DECOMPOSED) {
+            return "Each stage costs the difference to the run with one stage less.";
+        }
         return "Scenario time includes the full pass for each scenario.";
     }
 
+    private static String buildDirectIoComparison(BenchmarkReport report) {
+        String lineSeparator = System.lineSeparator();
+        StringBuilder builder = new StringBuilder();
+        for (BenchmarkResult direct : report.results()) {
+            String buffer = DirectIoComparison.bufferSize(direct.strategyName());
+            BenchmarkResult cached = buffer == null
+                    ? null
+                    : findResult(report, DirectIoComparison.cachedName(direct.strategyName()));
+            if (cached == null) {
+                continue;
+            }
+            if (builder.isEmpty()) {
+                builder.append("Direct I/O vs page cache (").append(report.mode().displayName()).append(")")
+                        .append(lineSeparator);
+            }
+            builder.append(String.format(
+                    Locale.ROOT,
+                    "%-8s cached %s ms (%s MB/s), direct %s ms (%s MB/s), %s%n",
+                    buffer,
+                    DurationFormatter.formatMillis(cached.durationNanos()),
+                    Throughput.formatMbPerSecond(cached.bytesRead(), cached.durationNanos()),
+                    DurationFormatter.formatMillis(direct.durationNanos()),
+                    Throughput.formatMbPerSecond(direct.bytesRead(), direct.durationNanos()),
+                    DirectIoComparison.formatRatio(direct.durationNanos(), cached.durationNanos())));
+        }
+        if (!builder.isEmpty()) {
+            builder.append(lineSeparator);
+        }
+        return builder.toString();
+    }
+
     private static String buildScenarioComparison(BenchmarkReport report) {
         String lineSeparator = System.lineSeparator();
         StringBuilder builder = new StringBuilder();
@@ -150,6 +292,31 @@ public final class ConsoleReportPrinter {
         return row.toString();
     }
 
+    private static double[] stageCosts(BenchmarkReport report, BenchmarkResult result) {
+        if (report.mode() != ProcessingMode.DECOMPOSED || StageBreakdown.isPartial(result.strategyName())) {
+            return null;
+        }
+        double[] cumulative = new double[StageBreakdown.STAGES.size()];
+        for (int i = 0; i < cumulative.length; i++) {
+            String stageName = StageBreakdown.STAGES.get(i).qualify(result.strategyName());
+            BenchmarkResult stageResult = findResult(report, stageName);
+            if (stageResult == null) {
+                return null;
+            }
+            cumulative[i] = stageResult.durationNanos();
+        }
+        return StageBreakdown.costs(cumulative);
+    }
+
+    private static BenchmarkResult findResult(BenchmarkReport report, String strategyName) {
+        for (BenchmarkResult result : report.results()) {
+            if (result.strategyName().equals(strategyName)) {
+                return result;
+            }
+        }
+        return null;
+    }
+
     private static ScenarioReport findScenario(
             BenchmarkReport report,
             String strategyName,
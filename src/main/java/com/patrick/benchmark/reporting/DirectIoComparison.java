@@ -0,0 +1,43 @@
+package com.patrick.benchmark.reporting;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class DirectIoComparison {
+
+    private static final Pattern DIRECT = Pattern.compile("^Direct I/O \\((\\d+ [KM]?B) buffer(.*?)\\)(.*)$");
+    private static final String DEFAULT_CACHED_BUFFER = "8 KB";
+
+    private DirectIoComparison() {
+    }
+
+    static String bufferSize(String strategyName) {
+        Matcher matcher = DIRECT.matcher(strategyName);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    static String cachedName(String strategyName) {
+        Matcher matcher = DIRECT.matcher(strategyName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String buffer = matcher.group(1);
+        String qualifiers = matcher.group(2);
+        String suffix = matcher.group(3);
+        if (!buffer.equals(DEFAULT_CACHED_BUFFER)) {
+            return "NIO ByteBuffer (" + buffer + " buffer" + qualifiers + ")" + suffix;
+        }
+        if (qualifiers.isEmpty()) {
+            return "NIO ByteBuffer" + suffix;
+        }
+        return "NIO ByteBuffer (" + qualifiers.substring(2) + ")" + suffix;
+    }
+
+    static String formatRatio(double directNanos, double cachedNanos) {
+        if (directNanos <= 0.0 || cachedNanos <= 0.0) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%.2fx", directNanos / cachedNanos);
+    }
+}
@@ -0,0 +1,35 @@
+package com.patrick.benchmark.reporting;
+
+import com.patrick.benchmark.ProcessingMode;
+import com.patrick.benchmark.processing.ProcessingSummary;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class DirectoryIngestion {
+
+    private static final Pattern SCHEDULER = Pattern.compile(" \\[((?:virtual|platform) x\\d+)]");
+
+    private DirectoryIngestion() {
+    }
+
+    static String scheduler(String strategyName) {
+        Matcher matcher = SCHEDULER.matcher(strategyName);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    static String baseName(String strategyName) {
+        return SCHEDULER.matcher(strategyName).replaceFirst("");
+    }
+
+    static long filesRead(ProcessingMode mode, int inputFiles, ProcessingSummary summary) {
+        return mode == ProcessingMode.ISOLATED ? (long) inputFiles * summary.scenarios().size() : inputFiles;
+    }
+
+    static String formatFilesPerSecond(double files, double durationNanos) {
+        if (files <= 0.0 || durationNanos <= 0.0) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%.1f", files / (durationNanos / 1_000_000_000.0));
+    }
+}
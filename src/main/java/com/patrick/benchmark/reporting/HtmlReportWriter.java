@@ -3,8 +3,17 @@ package com.patrick.benchmark.reporting;
 import com.patrick.benchmark.BenchmarkReport;
 import com.patrick.benchmark.BenchmarkResult;
 import com.patrick.benchmark.ProcessingMode;
+import com.patrick.benchmark.ScalingPoint;
+import com.patrick.benchmark.metrics.GcUsage;
+import com.patrick.benchmark.metrics.LatencyHistogram;
+import com.patrick.benchmark.metrics.OsUsage;
+import com.patrick.benchmark.metrics.StageUsage;
+import com.patrick.benchmark.metrics.WarmupSummary;
 import com.patrick.benchmark.processing.ProcessingSummary;
 import com.patrick.benchmark.processing.ScenarioReport;
+import com.patrick.benchmark.processing.TimingMode;
+import com.patrick.benchmark.profiling.Hotspot;
+import com.patrick.benchmark.profiling.StrategyProfile;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -17,6 +26,22 @@ import java.util.Map;
 
 public final class HtmlReportWriter {
 
+    private final String jmhResults;
+    private final Map<ProcessingMode, List<StrategyProfile>> profiles;
+
+    public HtmlReportWriter() {
+        this(null);
+    }
+
+    public HtmlReportWriter(String jmhResults) {
+        this(jmhResults, Map.of());
+    }
+
+    public HtmlReportWriter(String jmhResults, Map<ProcessingMode, List<StrategyProfile>> profiles) {
+        this.jmhResults = jmhResults;
+        this.profiles = Map.copyOf(profiles);
+    }
+
     public void write(List<BenchmarkReport> reports, Path outputPath) throws IOException {
         writeAggregated(List.of(reports), outputPath);
     }
@@ -27,36 +52,29 @@ public final class HtmlReportWriter {
         Files.writeString(outputPath, html, StandardCharsets.UTF_8);
     }
 
+    public void writeScaling(List<ScalingPoint> points, Path outputPath) throws IOException {
+        Files.createDirectories(outputPath.getParent());
+        Files.writeString(outputPath, buildScalingHtml(points), StandardCharsets.UTF_8);
+    }
+
     private String buildHtml(List<List<BenchmarkReport>> runs) {
         int runCount = Math.max(1, runs.size());
         List<AggregatedReport> reports = aggregateReports(runs);
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
         String timingLabel = runCount > 1 ? "Total time (ms, mean +/- std)" : "Total time (ms)";
         String scenarioLabel = runCount > 1 ? "Time (ms, mean +/- std)" : "Time (ms)";
-        String memoryLabel = runCount > 1 ? "Memory delta (MB, mean +/- std)" : "Memory delta (MB)";
+        String memoryLabel = runCount > 1 ? "Peak heap (MB, mean +/- std)" : "Peak heap (MB)";
         StringBuilder builder = new StringBuilder();
-        builder.append("<!doctype html>")
-                .append("<html lang=\"en\">")
-                .append("<head>")
-                .append("<meta charset=\"utf-8\">")
-                .append("<meta name=\"viewport\" content=\"width=device-width, initial-scale=1\">\n")
-                .append("<title>File Processing Benchmark Report</title>")
-                .append("<style>")
-                .append(css())
-                .append("</style>")
-                .append("</head>")
-                .append("<body><main>")
-                .append("<header>")
-                .append("<h1>File Processing Benchmark Report</h1>")
-                .append("<div class=\"header-meta\">Generated at ")
-                .append(escape(timestamp))
-                .append("</div>")
-                .append("<div class=\"header-meta\">Runs: ")
+        appendHead(builder, "File Processing Benchmark Report");
+        builder.append("<div class=\"header-meta\">Runs: ")
                 .append(runCount)
                 .append(runCount > 1 ? " (mean +/- std dev)</div>" : "</div>")
                 .append("</header>");
 
         for (AggregatedReport report : reports) {
+            boolean speedup = hasBaseline(report);
+            boolean timingOverhead = hasUntimedCounterpart(report);
+            boolean warmedUp = hasWarmup(report);
+            boolean sharedScan = report.mode() == ProcessingMode.SHARED_SCAN;
             builder.append("<section>")
                     .append("<div class=\"mode-title\">Mode: ")
                     .append(escape(report.mode().displayName()))
@@ -66,10 +84,32 @@ public final class HtmlReportWriter {
                     .append("</div>")
                     .append("<div class=\"card\">")
                     .append("<table class=\"table\"><thead><tr>")
-                    .append("<th>Strategy</th><th>").append(escape(timingLabel)).append("</th>")
-                    .append("<th>").append(escape(memoryLabel)).append("</th><th>Records</th>")
-                    .append("<th>Invalid</th><th>Errors</th>")
-                    .append("</tr></thead><tbody>");
+                    .append("<th>Strategy</th><th>Scenario timing</th>")
+                    .append("<th>").append(escape(timingLabel)).append("</th>")
+                    .append("<th>CPU user / sys (ms)</th>")
+                    .append("<th>Page faults (minor / major)</th>")
+                    .append("<th>Context switches (vol / invol)</th>")
+                    .append("<th>Storage read (MB)</th><th>Peak RSS (MB)</th>")
+                    .append("<th>Throughput (MB/s)</th>")
+                    .append("<th>").append(escape(memoryLabel)).append("</th>")
+                    .append("<th>Alloc / line (B)</th>")
+                    .append("<th>Alloc rate (MB/s)</th>")
+                    .append("<th>GC count / pause</th>")
+                    .append("<th>Peak off-heap (MB)</th><th>Records</th>")
+                    .append("<th>Invalid</th><th>Filtered</th><th>Errors</th>");
+            if (speedup) {
+                builder.append("<th>Speedup vs ").append(escape(Speedup.BASELINE_STRATEGY)).append("</th>");
+            }
+            if (timingOverhead) {
+                builder.append("<th>Timing overhead vs off</th>");
+            }
+            if (warmedUp) {
+                builder.append("<th>Time to steady state</th>");
+            }
+            if (sharedScan) {
+                builder.append("<th>Record store (MB)</th>");
+            }
+            builder.append("</tr></thead><tbody>");
 
             for (AggregatedResult result : report.results()) {
                 ProcessingSummary summary = result.summary();
@@ -77,12 +117,57 @@ public final class HtmlReportWriter {
                         .append("<td><span class=\"badge\">")
                         .append(escape(result.strategyName()))
                         .append("</span></td>")
+                        .append("<td>").append(escape(result.timingMode().displayName())).append("</td>")
                         .append("<td>").append(formatDuration(result.duration(), runCount)).append("</td>")
-                        .append("<td>").append(formatMemory(result.memory(), runCount)).append("</td>")
+                        .append("<td>").append(OsResources.formatCpu(result.os())).append("</td>")
+                        .append("<td>").append(OsResources.formatFaults(result.os())).append("</td>")
+                        .append("<td>").append(OsResources.formatContextSwitches(result.os())).append("</td>")
+                        .append("<td>").append(OsResources.formatMb(result.os().storageReadBytes())).append("</td>")
+                        .append("<td>").append(OsResources.formatMb(result.os().peakRssBytes())).append("</td>")
+                        .append("<td>")
+                        .append(Throughput.formatMbPerSecond(result.bytesRead(), result.duration().mean()))
+                        .append("</td>")
+                        .append("<td>").append(formatMemory(result.peakHeap(), runCount)).append("</td>")
+                        .append("<td>")
+                        .append(AllocationRate.formatBytesPerLine(
+                                result.allocated().mean(),
+                                report.mode(),
+                                summary))
+                        .append("</td>")
+                        .append("<td>")
+                        .append(Throughput.formatMbPerSecond(result.allocated().mean(), result.duration().mean()))
+                        .append("</td>")
+                        .append("<td>").append(escape(JvmMatrix.formatGc(result.gc()))).append("</td>")
+                        .append("<td>").append(formatMemory(result.peakOffHeap(), runCount)).append("</td>")
                         .append("<td>").append(summary.recordsProcessed()).append("</td>")
                         .append("<td>").append(summary.invalidLines()).append("</td>")
-                        .append("<td>").append(result.errorCount()).append("</td>")
-                        .append("</tr>");
+                        .append("<td>").append(summary.filteredLines()).append("</td>")
+                        .append("<td>").append(result.errorCount()).append("</td>");
+                if (speedup) {
+                    AggregatedResult baseline = findResult(report, Speedup.baselineName(result.strategyName()));
+                    builder.append("<td>")
+                            .append(baseline == null
+                                    ? "-"
+                                    : Speedup.format(baseline.duration().mean(), result.duration().mean()))
+                            .append("</td>");
+                }
+                if (timingOverhead) {
+                    AggregatedResult untimed = findUntimed(report, result);
+                    builder.append("<td>")
+                            .append(untimed == null
+                                    ? "-"
+                                    : TimingOverhead.format(untimed.duration().mean(), result.duration().mean()))
+                            .append("</td>");
+                }
+                if (warmedUp) {
+                    builder.append("<td>").append(escape(SteadyState.format(result.warmup()))).append("</td>");
+                }
+                if (sharedScan) {
+                    builder.append("<td>")
+                            .append(String.format(Locale.ROOT, "%.2f", bytesToMb(result.storeBytes())))
+                            .append("</td>");
+                }
+                builder.append("</tr>");
             }
 
             builder.append("</tbody></table></div>")
@@ -92,8 +177,13 @@ public final class HtmlReportWriter {
                 builder.append("<details class=\"details\">")
                         .append("<summary>")
                         .append(escape(result.strategyName()))
-                        .append(" - Scenario timings</summary>")
-                        .append("<table class=\"table\" style=\"margin-top: 10px;\">\n")
+                        .append(" - Scenario timings</summary>");
+                if (result.warmup().iterations() > 0) {
+                    builder.append("<div class=\"breakdown\">Warmup passes (ms): ")
+                            .append(escape(SteadyState.formatSamples(result.warmup())))
+                            .append("</div>");
+                }
+                builder.append("<table class=\"table\" style=\"margin-top: 10px;\">\n")
                         .append("<thead><tr><th>Scenario</th><th>").append(escape(scenarioLabel)).append("</th>")
                         .append("<th>Total</th><th>Breakdown</th></tr></thead><tbody>");
 
@@ -113,13 +203,97 @@ public final class HtmlReportWriter {
 
             builder.append("</div>")
                     .append(buildComparison(report, runCount))
+                    .append(buildLatency(report))
+                    .append(buildJvmMatrix(report))
+                    .append(buildDirectoryIngestion(report))
+                    .append(buildPipelineStages(report))
+                    .append(buildDirectIoComparison(report))
+                    .append(buildStageDecomposition(report))
+                    .append(buildFlightRecording(report.mode()))
                     .append("</section>");
         }
 
+        if (jmhResults != null) {
+            builder.append(buildJmhSection());
+        }
+
         builder.append("</main></body></html>");
         return builder.toString();
     }
 
+    private String buildScalingHtml(List<ScalingPoint> points) {
+        StringBuilder builder = new StringBuilder();
+        appendHead(builder, "File Processing Scaling Study");
+        builder.append("<div class=\"header-meta\">Single-pass mode, mean of all runs per point</div>")
+                .append("</header>")
+                .append("<section>")
+                .append("<div class=\"mode-title\">Throughput by file size</div>")
+                .append("<div class=\"mode-subtitle\">MB/s per strategy, file size on a log scale</div>")
+                .append("<div class=\"card\">")
+                .append(SvgChart.lineChart(
+                        "File size",
+                        "MB/s",
+                        ScalingCurves.throughputBySize(points),
+                        true,
+                        ScalingCurves::formatSize))
+                .append("</div></section>");
+
+        List<SvgChart.Series> threadCurves = ScalingCurves.throughputByThreads(points);
+        if (!threadCurves.isEmpty()) {
+            builder.append("<section>")
+                    .append("<div class=\"mode-title\">Throughput by thread count</div>")
+                    .append("<div class=\"mode-subtitle\">MB/s of parallel strategies, one curve per file size</div>")
+                    .append("<div class=\"card\">")
+                    .append(SvgChart.lineChart(
+                            "Threads",
+                            "MB/s",
+                            threadCurves,
+                            true,
+                            threads -> Long.toString(Math.round(threads))))
+                    .append("</div></section>");
+        }
+
+        builder.append("<section><div class=\"card\">")
+                .append("<table class=\"table\"><thead><tr><th>Strategy</th><th>Threads</th><th>File size</th>")
+                .append("<th>Lines</th><th>Time (ms)</th><th>Throughput (MB/s)</th><th>Lines/s</th>")
+                .append("</tr></thead><tbody>");
+        for (ScalingPoint point : points) {
+            builder.append("<tr>")
+                    .append("<td><span class=\"badge\">").append(escape(point.strategyName())).append("</span></td>")
+                    .append("<td>").append(point.threads() > 0 ? Integer.toString(point.threads()) : "-").append("</td>")
+                    .append("<td>").append(ScalingCurves.formatSize(point.fileBytes())).append("</td>")
+                    .append("<td>").append(point.lines()).append("</td>")
+                    .append("<td>").append(DurationFormatter.formatMillis(Math.round(point.durationNanos())))
+                    .append("</td>")
+                    .append("<td>").append(Throughput.formatMbPerSecond(point.fileBytes(), point.durationNanos()))
+                    .append("</td>")
+                    .append("<td>").append(ScalingCurves.formatLinesPerSecond(point.linesPerSecond())).append("</td>")
+                    .append("</tr>");
+        }
+        builder.append("</tbody></table></div></section></main></body></html>");
+        return builder.toString();
+    }
+
+    private void appendHead(StringBuilder builder, String title) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        builder.append("<!doctype html>")
+                .append("<html lang=\"en\">")
+                .append("<head>")
+                .append("<meta charset=\"utf-8\">")
+                .append("<meta name=\"viewport\" content=\"width=device-width, initial-scale=1\">\n")
+                .append("<title>").append(escape(title)).append("</title>")
+                .append("<style>")
+                .append(css())
+                .append("</style>")
+                .append("</head>")
+                .append("<body><main>")
+                .append("<header>")
+                .append("<h1>").append(escape(title)).append("</h1>")
+                .append("<div class=\"header-meta\">Generated at ")
+                .append(escape(timestamp))
+                .append("</div>");
+    }
+
     private String buildComparison(AggregatedReport report, int runCount) {
         List<String> strategies = report.results().stream()
                 .map(AggregatedResult::strategyName)
@@ -159,10 +333,369 @@ public final class HtmlReportWriter {
         return builder.toString();
     }
 
+    private String buildLatency(AggregatedReport report) {
+        boolean recorded = false;
+        for (AggregatedResult result : report.results()) {
+            recorded |= result.chunkLatency().count() > 0;
+        }
+        if (!recorded) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("<div class=\"card\" style=\"margin-top: 18px;\">")
+                .append("<div class=\"mode-subtitle\">Chunk latency (ms, all runs merged)</div>")
+                .append("<table class=\"table\"><thead><tr><th>Strategy</th><th>Chunks</th>");
+        for (String label : LatencyPercentiles.LABELS) {
+            builder.append("<th>").append(label).append("</th>");
+        }
+        builder.append("</tr></thead><tbody>");
+        for (AggregatedResult result : report.results()) {
+            builder.append("<tr><td>").append(escape(result.strategyName())).append("</td>")
+                    .append("<td>").append(result.chunkLatency().count()).append("</td>");
+            for (String value : LatencyPercentiles.values(result.chunkLatency())) {
+                builder.append("<td>").append(value).append("</td>");
+            }
+            builder.append("</tr>");
+        }
+        builder.append("</tbody></table></div>");
+        return builder.toString();
+    }
+
+    private String buildJvmMatrix(AggregatedReport report) {
+        List<String> strategies = new java.util.ArrayList<>();
+        List<String> configurations = new java.util.ArrayList<>();
+        for (AggregatedResult result : report.results()) {
+            String configuration = JvmMatrix.configuration(result.strategyName());
+            if (configuration == null) {
+                continue;
+            }
+            String strategy = JvmMatrix.baseName(result.strategyName());
+            if (!strategies.contains(strategy)) {
+                strategies.add(strategy);
+            }
+            if (!configurations.contains(configuration)) {
+                configurations.add(configuration);
+            }
+        }
+        if (configurations.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("<div class=\"card\" style=\"margin-top: 18px;\">")
+                .append("<div class=\"mode-subtitle\">Strategy x JVM configuration ")
+                .append("(time ms; GC count / pause; alloc MB/s)</div>")
+                .append("<table class=\"table\"><thead><tr><th>Strategy</th>");
+        for (String configuration : configurations) {
+            builder.append("<th>").append(escape(configuration)).append("</th>");
+        }
+        builder.append("</tr></thead><tbody>");
+
+        for (String strategy : strategies) {
+            builder.append("<tr><td>").append(escape(strategy)).append("</td>");
+            for (String configuration : configurations) {
+                AggregatedResult cell = findResult(report, strategy + " [jvm " + configuration + "]");
+                builder.append("<td>");
+                if (cell == null) {
+                    builder.append("-");
+                } else {
+                    builder.append(DurationFormatter.formatMillis(Math.round(cell.duration().mean())))
+                            .append("<br>")
+                            .append(escape(JvmMatrix.formatGc(cell.gc())))
+                            .append("<br>")
+                            .append(Throughput.formatMbPerSecond(cell.allocated().mean(), cell.duration().mean()))
+                            .append(" MB/s");
+                }
+                builder.append("</td>");
+            }
+            builder.append("</tr>");
+        }
+
+        builder.append("</tbody></table></div>");
+        return builder.toString();
+    }
+
+    private String buildDirectoryIngestion(AggregatedReport report) {
+        List<String> strategies = new java.util.ArrayList<>();
+        List<String> schedulers = new java.util.ArrayList<>();
+        Map<String, AggregatedResult> cells = new java.util.HashMap<>();
+        for (AggregatedResult result : report.results()) {
+            String scheduler = DirectoryIngestion.scheduler(result.strategyName());
+            if (scheduler == null) {
+                continue;
+            }
+            String strategy = DirectoryIngestion.baseName(result.strategyName());
+            if (!strategies.contains(strategy)) {
+                strategies.add(strategy);
+            }
+            if (!schedulers.contains(scheduler)) {
+                schedulers.add(scheduler);
+            }
+            cells.put(strategy + "\n" + scheduler, result);
+        }
+        if (schedulers.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("<div class=\"card\" style=\"margin-top: 18px;\">")
+                .append("<div class=\"mode-subtitle\">Directory ingestion, ")
+                .append(report.inputFiles())
+                .append(" files per pass (files/s; MB/s)</div>")
+                .append("<table class=\"table\"><thead><tr><th>Strategy</th>");
+        for (String scheduler : schedulers) {
+            builder.append("<th>").append(escape(scheduler)).append(" threads</th>");
+        }
+        builder.append("</tr></thead><tbody>");
+
+        for (String strategy : strategies) {
+            builder.append("<tr><td>").append(escape(strategy)).append("</td>");
+            for (String scheduler : schedulers) {
+                AggregatedResult cell = cells.get(strategy + "\n" + scheduler);
+                builder.append("<td>");
+                if (cell == null) {
+                    builder.append("-");
+                } else {
+                    long files = DirectoryIngestion.filesRead(report.mode(), report.inputFiles(), cell.summary());
+                    builder.append(DirectoryIngestion.formatFilesPerSecond(files, cell.duration().mean()))
+                            .append(" files/s<br>")
+                            .append(Throughput.formatMbPerSecond(cell.bytesRead(), cell.duration().mean()))
+                            .append(" MB/s");
+                }
+                builder.append("</td>");
+            }
+            builder.append("</tr>");
+        }
+
+        builder.append("</tbody></table></div>");
+        return builder.toString();
+    }
+
+    private String buildPipelineStages(AggregatedReport report) {
+        boolean recorded = false;
+        for (AggregatedResult result : report.results()) {
+            recorded |= !result.stages().isEmpty();
+        }
+        if (!recorded) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("<div class=\"card\" style=\"margin-top: 18px;\">")
+                .append("<div class=\"mode-subtitle\">Pipeline stages ")
+                .append("(mean per run; queue = batches waiting in the stage's input ring)</div>")
+                .append("<table class=\"table\"><thead><tr><th>Strategy</th><th>Stage</th>")
+                .append("<th>Busy</th><th>Idle</th><th>Busy %</th><th>Batches</th><th>Input queue</th>")
+                .append("</tr></thead><tbody>");
+        for (AggregatedResult result : report.results()) {
+            if (result.stages().isEmpty()) {
+                continue;
+            }
+            String bottleneck = PipelineStages.bottleneck(result.stages());
+            for (StageUsage stage : result.stages()) {
+                builder.append("<tr><td>").append(escape(result.strategyName())).append("</td>")
+                        .append("<td>").append(escape(stage.stage()));
+                if (stage.stage().equals(bottleneck)) {
+                    builder.append(" (bottleneck)");
+                }
+                builder.append("</td>")
+                        .append("<td>").append(PipelineStages.formatMillis(stage.busyNanos())).append("</td>")
+                        .append("<td>").append(PipelineStages.formatMillis(stage.idleNanos())).append("</td>")
+                        .append("<td>").append(PipelineStages.formatBusyShare(stage)).append("</td>")
+                        .append("<td>").append(stage.batches()).append("</td>")
+                        .append("<td>").append(PipelineStages.formatQueue(stage)).append("</td>")
+                        .append("</tr>");
+            }
+        }
+        builder.append("</tbody></table></div>");
+        return builder.toString();
+    }
+
+    private String buildDirectIoComparison(AggregatedReport report) {
+        StringBuilder rows = new StringBuilder();
+        for (AggregatedResult direct : report.results()) {
+            String buffer = DirectIoComparison.bufferSize(direct.strategyName());
+            AggregatedResult cached = buffer == null
+                    ? null
+                    : findResult(report, DirectIoComparison.cachedName(direct.strategyName()));
+            if (cached == null) {
+                continue;
+            }
+            double cachedNanos = cached.duration().mean();
+            double directNanos = direct.duration().mean();
+            rows.append("<tr><td>").append(escape(buffer)).append("</td>")
+                    .append("<td>").append(escape(cached.strategyName())).append("</td>")
+                    .append("<td>").append(DurationFormatter.formatMillis(Math.round(cachedNanos))).append("</td>")
+                    .append("<td>").append(Throughput.formatMbPerSecond(cached.bytesRead(), cachedNanos))
+                    .append("</td>")
+                    .append("<td>").append(DurationFormatter.formatMillis(Math.round(directNanos))).append("</td>")
+                    .append("<td>").append(Throughput.formatMbPerSecond(direct.bytesRead(), directNanos))
+                    .append("</td>")
+                    .append("<td>").append(DirectIoComparison.formatRatio(directNanos, cachedNanos)).append("</td>")
+                    .append("</tr>");
+        }
+        if (rows.isEmpty()) {
+            return "";
+        }
+
+        return "<div class=\"card\" style=\"margin-top: 18px;\">"
+                + "<div class=\"mode-subtitle\">Direct I/O vs page cache "
+                + "(mean per run; cached = NIO ByteBuffer at the same buffer size)</div>"
+                + "<table class=\"table\"><thead><tr><th>Buffer</th><th>Cached strategy</th>"
+                + "<th>Cached (ms)</th><th>Cached MB/s</th><th>Direct (ms)</th><th>Direct MB/s</th>"
+                + "<th>Direct / cached</th></tr></thead><tbody>"
+                + rows
+                + "</tbody></table></div>";
+    }
+
+    private String buildStageDecomposition(AggregatedReport report) {
+        if (report.mode() != ProcessingMode.DECOMPOSED) {
+            return "";
+        }
+        List<String> strategies = new java.util.ArrayList<>();
+        List<double[]> costs = new java.util.ArrayList<>();
+        List<String> undecomposed = new java.util.ArrayList<>();
+        for (AggregatedResult result : report.results()) {
+            if (StageBreakdown.isPartial(result.strategyName())) {
+                continue;
+            }
+            double[] cumulative = new double[StageBreakdown.STAGES.size()];
+            boolean complete = true;
+            for (int i = 0; i < cumulative.length && complete; i++) {
+                String stageName = StageBreakdown.STAGES.get(i).qualify(result.strategyName());
+                AggregatedResult stage = findResult(report, stageName);
+                complete = stage != null;
+                cumulative[i] = complete ? stage.duration().mean() : 0.0;
+            }
+            if (complete) {
+                strategies.add(result.strategyName());
+                costs.add(StageBreakdown.costs(cumulative));
+            } else {
+                undecomposed.add(result.strategyName());
+            }
+        }
+        if (strategies.isEmpty() && undecomposed.isEmpty()) {
+            return "";
+        }
+
+        List<double[]> millis = costs.stream()
+                .map(row -> java.util.Arrays.stream(row).map(nanos -> nanos / 1_000_000.0).toArray())
+                .toList();
+        StringBuilder builder = new StringBuilder();
+        builder.append("<div class=\"card\" style=\"margin-top: 18px;\">")
+                .append("<div class=\"mode-subtitle\">Stage decomposition ")
+                .append("(mean ms per run; each stage is the difference to the run without it)</div>")
+                .append(SvgChart.stackedBars("Time (ms)", strategies, StageBreakdown.COST_NAMES, millis))
+                .append("<table class=\"table\"><thead><tr><th>Strategy</th>");
+        for (String name : StageBreakdown.COST_NAMES) {
+            builder.append("<th>").append(escape(name)).append("</th>");
+        }
+        builder.append("</tr></thead><tbody>");
+        for (int row = 0; row < strategies.size(); row++) {
+            builder.append("<tr><td>").append(escape(strategies.get(row))).append("</td>");
+            for (double cost : costs.get(row)) {
+                builder.append("<td>").append(StageBreakdown.formatCost(cost, costs.get(row))).append("</td>");
+            }
+            builder.append("</tr>");
+        }
+        builder.append("</tbody></table>");
+        if (!undecomposed.isEmpty()) {
+            builder.append("<div class=\"mode-subtitle\">")
+                    .append(escape(String.join(", ", undecomposed) + ": " + StageBreakdown.NOT_DECOMPOSED))
+                    .append("</div>");
+        }
+        builder.append("</div>");
+        return builder.toString();
+    }
+
+    private String buildFlightRecording(ProcessingMode mode) {
+        List<StrategyProfile> modeProfiles = profiles.getOrDefault(mode, List.of());
+        if (modeProfiles.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("<div class=\"card\" style=\"margin-top: 18px;\">")
+                .append("<div class=\"mode-subtitle\">Flight recording ")
+                .append("(top allocation sites by sampled MB; hot methods by execution samples)</div>")
+                .append("<table class=\"table\"><thead><tr><th>Strategy</th>")
+                .append("<th>Top allocation sites</th><th>Hot methods</th></tr></thead><tbody>");
+        for (StrategyProfile profile : modeProfiles) {
+            builder.append("<tr><td>").append(escape(profile.strategyName())).append("</td><td>");
+            appendHotspots(builder, profile.allocationSites(), true);
+            builder.append("</td><td>");
+            appendHotspots(builder, profile.hotMethods(), false);
+            builder.append("</td></tr>");
+        }
+        builder.append("</tbody></table></div>");
+        return builder.toString();
+    }
+
+    private void appendHotspots(StringBuilder builder, List<Hotspot> hotspots, boolean bytes) {
+        if (hotspots.isEmpty()) {
+            builder.append("-");
+            return;
+        }
+        for (int i = 0; i < hotspots.size(); i++) {
+            Hotspot hotspot = hotspots.get(i);
+            if (i > 0) {
+                builder.append("<br>");
+            }
+            builder.append(escape(hotspot.frame()))
+                    .append(" (")
+                    .append(bytes
+                            ? String.format(Locale.ROOT, "%.2f MB", bytesToMb(hotspot.value()))
+                            : hotspot.value() + " samples")
+                    .append(")");
+        }
+    }
+
+    private String buildJmhSection() {
+        return "<section>"
+                + "<div class=\"mode-title\">JMH microbenchmarks</div>"
+                + "<div class=\"mode-subtitle\">Forked and warmed up by JMH, exported with -rf json.</div>"
+                + "<div class=\"card\"><table class=\"table\" id=\"jmh-table\"><thead><tr>"
+                + "<th>Benchmark</th><th>Params</th><th>Mode</th><th>Score</th><th>Error</th><th>Unit</th>"
+                + "</tr></thead><tbody></tbody></table></div>"
+                + "<script type=\"application/json\" id=\"jmh-results\">"
+                + jmhResults.replace("</", "<\\/")
+                + "</script>"
+                + "<script>" + jmhScript() + "</script>"
+                + "</section>";
+    }
+
+    private String jmhScript() {
+        return """
+                (function () {
+                  var results = JSON.parse(document.getElementById('jmh-results').textContent);
+                  var body = document.querySelector('#jmh-table tbody');
+                  results.forEach(function (result) {
+                    var params = Object.entries(result.params || {})
+                        .map(function (entry) { return entry[0] + '=' + entry[1]; })
+                        .join(', ');
+                    var metric = result.primaryMetric || {};
+                    var name = String(result.benchmark || '').replace('com.patrick.benchmark.', '');
+                    var row = document.createElement('tr');
+                    [name, params, result.mode, metric.score, metric.scoreError, metric.scoreUnit]
+                        .forEach(function (value) {
+                          var cell = document.createElement('td');
+                          cell.textContent = typeof value === 'number' ? value.toFixed(3) : (value || '');
+                          row.appendChild(cell);
+                        });
+                    body.appendChild(row);
+                  });
+                })();
+                """;
+    }
+
     private String timingBasis(String modeDisplayName) {
         if (modeDisplayName.startsWith("Single-Pass")) {
             return "Scenario time reflects processing inside one pass.";
         }
+        if (modeDisplayName.equals(ProcessingMode.SHARED_SCAN.displayName())) {
+            return "Scenario time replays records parsed once, excluding I/O and parsing.";
+        }
         return "Scenario time includes the full pass for each scenario.";
     }
 
@@ -187,6 +720,47 @@ public final class HtmlReportWriter {
         );
     }
 
+    private boolean hasBaseline(AggregatedReport report) {
+        for (AggregatedResult result : report.results()) {
+            if (findResult(report, Speedup.baselineName(result.strategyName())) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private AggregatedResult findResult(AggregatedReport report, String strategyName) {
+        for (AggregatedResult result : report.results()) {
+            if (result.strategyName().equals(strategyName)) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    private AggregatedResult findUntimed(AggregatedReport report, AggregatedResult result) {
+        String untimedName = TimingOverhead.untimedName(result.strategyName(), result.timingMode());
+        return untimedName == null ? null : findResult(report, untimedName);
+    }
+
+    private boolean hasWarmup(AggregatedReport report) {
+        for (AggregatedResult result : report.results()) {
+            if (result.warmup().iterations() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasUntimedCounterpart(AggregatedReport report) {
+        for (AggregatedResult result : report.results()) {
+            if (findUntimed(report, result) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private ScenarioAggregate findScenario(
             AggregatedReport report,
             String strategyName,
@@ -333,6 +907,24 @@ public final class HtmlReportWriter {
                   font-size: 13px;
                   margin-top: 8px;
                 }
+                .chart {
+                  width: 100%;
+                  height: auto;
+                }
+                .legend {
+                  display: flex;
+                  flex-wrap: wrap;
+                  gap: 6px 16px;
+                  color: var(--muted);
+                  font-size: 13px;
+                }
+                .legend i {
+                  display: inline-block;
+                  width: 12px;
+                  height: 3px;
+                  margin-right: 6px;
+                  vertical-align: middle;
+                }
                 @media (max-width: 900px) {
                   main {
                     padding: 24px 16px 48px;
@@ -369,8 +961,14 @@ public final class HtmlReportWriter {
             for (BenchmarkResult baselineResult : report.results()) {
                 String strategyName = baselineResult.strategyName();
                 List<Long> durations = new java.util.ArrayList<>();
-                List<Long> memoryBytes = new java.util.ArrayList<>();
+                List<Long> peakHeapBytes = new java.util.ArrayList<>();
+                List<Long> peakOffHeapBytes = new java.util.ArrayList<>();
+                List<Long> allocatedBytes = new java.util.ArrayList<>();
                 List<Long> errorCounts = new java.util.ArrayList<>();
+                List<GcUsage> gcUsages = new java.util.ArrayList<>();
+                List<OsUsage> osUsages = new java.util.ArrayList<>();
+                LatencyHistogram chunkLatency = new LatencyHistogram();
+                List<StageUsage> stages = List.of();
 
                 Map<String, List<Long>> scenarioDurations = new java.util.LinkedHashMap<>();
                 for (ScenarioReport scenario : baselineResult.summary().scenarios()) {
@@ -387,8 +985,14 @@ public final class HtmlReportWriter {
                         continue;
                     }
                     durations.add(result.durationNanos());
-                    memoryBytes.add(result.memoryBytes());
+                    peakHeapBytes.add(result.peakHeapBytes());
+                    peakOffHeapBytes.add(result.bufferPools().peakOffHeapBytes());
+                    allocatedBytes.add(result.allocatedBytes());
                     errorCounts.add(result.errorCount());
+                    gcUsages.add(result.gc());
+                    osUsages.add(result.os());
+                    chunkLatency.merge(result.summary().chunkLatency());
+                    stages = StageUsage.merge(stages, result.summary().stages());
                     for (ScenarioReport scenario : result.summary().scenarios()) {
                         List<Long> values = scenarioDurations.get(scenario.name());
                         if (values != null) {
@@ -411,14 +1015,24 @@ public final class HtmlReportWriter {
                 results.add(new AggregatedResult(
                         strategyName,
                         Stats.from(durations),
-                        Stats.from(memoryBytes),
+                        Stats.from(peakHeapBytes),
+                        Stats.from(peakOffHeapBytes),
+                        Stats.from(allocatedBytes),
+                        baselineResult.bytesRead(),
                         baselineResult.summary(),
                         sum(errorCounts),
                         baselineResult.errorMessage(),
-                        scenarios
+                        scenarios,
+                        baselineResult.timingMode(),
+                        baselineResult.warmup(),
+                        averageGc(gcUsages),
+                        averageOs(osUsages),
+                        chunkLatency,
+                        PipelineStages.perRun(stages, durations.size()),
+                        baselineResult.storeBytes()
                 ));
             }
-            aggregated.add(new AggregatedReport(report.mode(), results));
+            aggregated.add(new AggregatedReport(report.mode(), results, report.inputFiles()));
         }
 
         return aggregated;
@@ -440,6 +1054,54 @@ public final class HtmlReportWriter {
         return bytes / 1024.0 / 1024.0;
     }
 
+    private GcUsage averageGc(List<GcUsage> usages) {
+        if (usages.isEmpty()) {
+            return GcUsage.NONE;
+        }
+        long collections = 0L;
+        long pauseMillis = 0L;
+        long maxPauseMillis = 0L;
+        for (GcUsage usage : usages) {
+            collections += usage.collections();
+            pauseMillis += usage.pauseMillis();
+            maxPauseMillis = Math.max(maxPauseMillis, usage.maxPauseMillis());
+        }
+        return new GcUsage(
+                Math.round((double) collections / usages.size()),
+                Math.round((double) pauseMillis / usages.size()),
+                maxPauseMillis
+        );
+    }
+
+    private OsUsage averageOs(List<OsUsage> usages) {
+        if (usages.isEmpty()) {
+            return OsUsage.NONE;
+        }
+        long[] totals = new long[7];
+        long peakRssBytes = 0L;
+        for (OsUsage usage : usages) {
+            totals[0] += usage.userCpuMillis();
+            totals[1] += usage.systemCpuMillis();
+            totals[2] += usage.minorFaults();
+            totals[3] += usage.majorFaults();
+            totals[4] += usage.voluntaryContextSwitches();
+            totals[5] += usage.involuntaryContextSwitches();
+            totals[6] += usage.storageReadBytes();
+            peakRssBytes = Math.max(peakRssBytes, usage.peakRssBytes());
+        }
+        double runs = usages.size();
+        return new OsUsage(
+                Math.round(totals[0] / runs),
+                Math.round(totals[1] / runs),
+                Math.round(totals[2] / runs),
+                Math.round(totals[3] / runs),
+                Math.round(totals[4] / runs),
+                Math.round(totals[5] / runs),
+                Math.round(totals[6] / runs),
+                peakRssBytes
+        );
+    }
+
     private long sum(List<Long> values) {
         long total = 0L;
         for (Long value : values) {
@@ -450,17 +1112,27 @@ public final class HtmlReportWriter {
         return total;
     }
 
-    private record AggregatedReport(ProcessingMode mode, List<AggregatedResult> results) {
+    private record AggregatedReport(ProcessingMode mode, List<AggregatedResult> results, int inputFiles) {
     }
 
     private record AggregatedResult(
             String strategyName,
             Stats duration,
-            Stats memory,
+            Stats peakHeap,
+            Stats peakOffHeap,
+            Stats allocated,
+            long bytesRead,
             ProcessingSummary summary,
             long errorCount,
             String errorMessage,
-            List<ScenarioAggregate> scenarios
+            List<ScenarioAggregate> scenarios,
+            TimingMode timingMode,
+            WarmupSummary warmup,
+            GcUsage gc,
+            OsUsage os,
+            LatencyHistogram chunkLatency,
+            List<StageUsage> stages,
+            long storeBytes
     ) {
     }
 
@@ -0,0 +1,37 @@
+package com.patrick.benchmark.reporting;
+
+import com.patrick.benchmark.metrics.GcUsage;
+import java.util.Locale;
+
+final class JvmMatrix {
+
+    private static final String MARKER = " [jvm ";
+
+    private JvmMatrix() {
+    }
+
+    static String configuration(String strategyName) {
+        int start = strategyName.lastIndexOf(MARKER);
+        if (start < 0 || !strategyName.endsWith("]")) {
+            return null;
+        }
+        return strategyName.substring(start + MARKER.length(), strategyName.length() - 1);
+    }
+
+    static String baseName(String strategyName) {
+        String configuration = configuration(strategyName);
+        return configuration == null
+                ? strategyName
+                : strategyName.substring(0, strategyName.lastIndexOf(MARKER));
+    }
+
+    static String formatGc(GcUsage gc) {
+        return String.format(
+                Locale.ROOT,
+                "%d / %d ms (max %d ms)",
+                gc.collections(),
+                gc.pauseMillis(),
+                gc.maxPauseMillis()
+        );
+    }
+}
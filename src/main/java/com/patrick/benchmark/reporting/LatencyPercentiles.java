@@ -0,0 +1,43 @@
+package com.patrick.benchmark.reporting;
+
+import com.patrick.benchmark.metrics.LatencyHistogram;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+final class LatencyPercentiles {
+
+    static final List<Double> PERCENTILES = List.of(50.0, 90.0, 99.0, 99.9);
+    static final List<String> LABELS = List.of("p50", "p90", "p99", "p99.9", "max");
+
+    private LatencyPercentiles() {
+    }
+
+    static List<String> values(LatencyHistogram histogram) {
+        if (histogram.count() == 0) {
+            return LABELS.stream().map(label -> "-").toList();
+        }
+        List<String> values = new java.util.ArrayList<>(LABELS.size());
+        for (double percentile : PERCENTILES) {
+            values.add(formatMillis(histogram.percentile(percentile)));
+        }
+        values.add(formatMillis(histogram.max()));
+        return values;
+    }
+
+    static String format(LatencyHistogram histogram) {
+        if (histogram.count() == 0) {
+            return "-";
+        }
+        List<String> values = values(histogram);
+        StringJoiner joiner = new StringJoiner(", ");
+        for (int i = 0; i < LABELS.size(); i++) {
+            joiner.add(LABELS.get(i) + " " + values.get(i));
+        }
+        return joiner + " (" + histogram.count() + " chunks)";
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+}
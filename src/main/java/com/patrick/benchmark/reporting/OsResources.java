@@ -0,0 +1,30 @@
+package com.patrick.benchmark.reporting;
+
+import com.patrick.benchmark.metrics.OsUsage;
+import java.util.Locale;
+
+final class OsResources {
+
+    private OsResources() {
+    }
+
+    static String formatCpu(OsUsage os) {
+        return pair(os.userCpuMillis(), os.systemCpuMillis());
+    }
+
+    static String formatFaults(OsUsage os) {
+        return pair(os.minorFaults(), os.majorFaults());
+    }
+
+    static String formatContextSwitches(OsUsage os) {
+        return pair(os.voluntaryContextSwitches(), os.involuntaryContextSwitches());
+    }
+
+    static String formatMb(long bytes) {
+        return String.format(Locale.ROOT, "%.2f", bytes / 1024.0 / 1024.0);
+    }
+
+    private static String pair(long first, long second) {
+        return String.format(Locale.ROOT, "%d / %d", first, second);
+    }
+}
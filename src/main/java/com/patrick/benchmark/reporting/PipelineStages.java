@@ -0,0 +1,76 @@
+package com.patrick.benchmark.reporting;
+
+import com.patrick.benchmark.metrics.StageUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+final class PipelineStages {
+
+    private PipelineStages() {
+    }
+
+    static List<StageUsage> perRun(List<StageUsage> stages, int runs) {
+        if (runs <= 1) {
+            return stages;
+        }
+        List<StageUsage> averaged = new ArrayList<>(stages.size());
+        for (StageUsage stage : stages) {
+            averaged.add(new StageUsage(
+                    stage.stage(),
+                    stage.busyNanos() / runs,
+                    stage.idleNanos() / runs,
+                    stage.batches() / runs,
+                    stage.queueDepthSum() / runs,
+                    stage.maxQueueDepth(),
+                    stage.queueCapacity()
+            ));
+        }
+        return averaged;
+    }
+
+    static String bottleneck(List<StageUsage> stages) {
+        StageUsage busiest = null;
+        for (StageUsage stage : stages) {
+            if (busiest == null || stage.busyShare() > busiest.busyShare()) {
+                busiest = stage;
+            }
+        }
+        return busiest == null ? "-" : busiest.stage();
+    }
+
+    static String formatBusyShare(StageUsage stage) {
+        return String.format(Locale.ROOT, "%.0f%%", stage.busyShare() * 100.0);
+    }
+
+    static String formatQueue(StageUsage stage) {
+        if (stage.queueCapacity() == 0) {
+            return "-";
+        }
+        return String.format(
+                Locale.ROOT,
+                "%.1f avg / %d max of %d",
+                stage.meanQueueDepth(),
+                stage.maxQueueDepth(),
+                stage.queueCapacity());
+    }
+
+    static String format(List<StageUsage> stages) {
+        StringJoiner joiner = new StringJoiner("; ");
+        for (StageUsage stage : stages) {
+            String entry = stage.stage() + " busy " + formatMillis(stage.busyNanos())
+                    + " / idle " + formatMillis(stage.idleNanos())
+                    + " (" + formatBusyShare(stage) + ")";
+            if (stage.queueCapacity() > 0) {
+                entry += ", queue " + formatQueue(stage);
+            }
+            joiner.add(entry);
+        }
+        return joiner + " -> bottleneck " + bottleneck(stages);
+    }
+
+    static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f ms", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,62 @@
+package com.patrick.benchmark.reporting;
+
+import com.patrick.benchmark.ScalingPoint;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+final class ScalingCurves {
+
+    private ScalingCurves() {
+    }
+
+    static List<SvgChart.Series> throughputBySize(List<ScalingPoint> points) {
+        Map<String, List<double[]>> series = new LinkedHashMap<>();
+        for (ScalingPoint point : points) {
+            series.computeIfAbsent(point.label(), label -> new ArrayList<>())
+                    .add(new double[] {point.fileBytes(), point.megabytesPerSecond()});
+        }
+        return toSeries(series);
+    }
+
+    static List<SvgChart.Series> throughputByThreads(List<ScalingPoint> points) {
+        Map<String, List<double[]>> series = new LinkedHashMap<>();
+        for (ScalingPoint point : points) {
+            if (point.threads() > 0) {
+                series.computeIfAbsent(point.strategyName() + " @ " + formatSize(point.fileBytes()),
+                                label -> new ArrayList<>())
+                        .add(new double[] {point.threads(), point.megabytesPerSecond()});
+            }
+        }
+        return toSeries(series);
+    }
+
+    static String formatSize(double bytes) {
+        String[] units = {"B", "KB", "MB", "GB", "TB"};
+        int unit = 0;
+        double value = bytes;
+        while (value >= 1024.0 && unit < units.length - 1) {
+            value /= 1024.0;
+            unit++;
+        }
+        return value == Math.rint(value)
+                ? String.format(Locale.ROOT, "%.0f %s", value, units[unit])
+                : String.format(Locale.ROOT, "%.1f %s", value, units[unit]);
+    }
+
+    static String formatLinesPerSecond(double linesPerSecond) {
+        return String.format(Locale.ROOT, "%,.0f", linesPerSecond);
+    }
+
+    private static List<SvgChart.Series> toSeries(Map<String, List<double[]>> series) {
+        List<SvgChart.Series> result = new ArrayList<>(series.size());
+        for (Map.Entry<String, List<double[]>> entry : series.entrySet()) {
+            List<double[]> points = new ArrayList<>(entry.getValue());
+            points.sort((left, right) -> Double.compare(left[0], right[0]));
+            result.add(new SvgChart.Series(entry.getKey(), points));
+        }
+        return result;
+    }
+}
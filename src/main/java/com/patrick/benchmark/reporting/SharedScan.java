@@ -0,0 +1,24 @@
+package com.patrick.benchmark.reporting;
+
+import com.patrick.benchmark.processing.ProcessingSummary;
+import com.patrick.benchmark.processing.ScenarioReport;
+
+final class SharedScan {
+
+    private SharedScan() {
+    }
+
+    static long scanNanos(long durationNanos, ProcessingSummary summary) {
+        long replayNanos = 0L;
+        for (ScenarioReport scenario : summary.scenarios()) {
+            replayNanos += scenario.durationNanos();
+        }
+        return Math.max(0L, durationNanos - replayNanos);
+    }
+
+    static String format(long durationNanos, ProcessingSummary summary) {
+        long scanNanos = scanNanos(durationNanos, summary);
+        return DurationFormatter.formatMillis(scanNanos) + " scan + "
+                + DurationFormatter.formatMillis(durationNanos - scanNanos) + " replay";
+    }
+}
@@ -0,0 +1,25 @@
+package com.patrick.benchmark.reporting;
+
+import java.util.Locale;
+
+final class Speedup {
+
+    static final String BASELINE_STRATEGY = "MemoryMapped";
+
+    private static final String TAG_START = " [";
+
+    private Speedup() {
+    }
+
+    static String baselineName(String strategyName) {
+        int tags = strategyName.indexOf(TAG_START);
+        return tags < 0 ? BASELINE_STRATEGY : BASELINE_STRATEGY + strategyName.substring(tags);
+    }
+
+    static String format(double baselineNanos, double durationNanos) {
+        if (baselineNanos <= 0.0 || durationNanos <= 0.0) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%.2fx", baselineNanos / durationNanos);
+    }
+}
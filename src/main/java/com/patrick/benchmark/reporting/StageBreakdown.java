@@ -0,0 +1,76 @@
+package com.patrick.benchmark.reporting;
+
+import com.patrick.benchmark.DecompositionStage;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+final class StageBreakdown {
+
+    static final List<DecompositionStage> STAGES = List.of(DecompositionStage.values());
+    static final List<String> COST_NAMES = STAGES.stream().map(DecompositionStage::costName).toList();
+
+    static final String NOT_DECOMPOSED = "not decomposed (its stages cannot run separately)";
+
+    private static final int BAR_WIDTH = 40;
+
+    private StageBreakdown() {
+    }
+
+    static boolean isPartial(String strategyName) {
+        for (DecompositionStage stage : STAGES) {
+            if (stage != DecompositionStage.SCENARIOS && strategyName.endsWith(stage.qualify(""))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static double[] costs(double[] cumulativeNanos) {
+        double[] costs = new double[cumulativeNanos.length];
+        double previous = 0.0;
+        for (int i = 0; i < cumulativeNanos.length; i++) {
+            costs[i] = Math.max(0.0, cumulativeNanos[i] - previous);
+            previous = Math.max(previous, cumulativeNanos[i]);
+        }
+        return costs;
+    }
+
+    static String formatCost(double costNanos, double[] costs) {
+        double total = 0.0;
+        for (double cost : costs) {
+            total += cost;
+        }
+        double share = total <= 0.0 ? 0.0 : costNanos / total * 100.0;
+        return String.format(Locale.ROOT, "%.1f ms (%.0f%%)", costNanos / 1_000_000.0, share);
+    }
+
+    static String format(double[] costs) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (int i = 0; i < costs.length; i++) {
+            joiner.add(COST_NAMES.get(i) + " " + formatCost(costs[i], costs));
+        }
+        return joiner.toString();
+    }
+
+    static String bar(double[] costs) {
+        double total = 0.0;
+        for (double cost : costs) {
+            total += cost;
+        }
+        StringBuilder bar = new StringBuilder("[");
+        if (total > 0.0) {
+            double filled = 0.0;
+            int drawn = 0;
+            for (int i = 0; i < costs.length; i++) {
+                filled += costs[i];
+                int until = (int) Math.round(BAR_WIDTH * filled / total);
+                char symbol = COST_NAMES.get(i).charAt(0);
+                for (; drawn < until; drawn++) {
+                    bar.append(symbol);
+                }
+            }
+        }
+        return bar.append(']').toString();
+    }
+}
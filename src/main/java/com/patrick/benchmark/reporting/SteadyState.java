@@ -0,0 +1,38 @@
+package com.patrick.benchmark.reporting;
+
+import com.patrick.benchmark.metrics.WarmupSummary;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+final class SteadyState {
+
+    private SteadyState() {
+    }
+
+    static String format(WarmupSummary warmup) {
+        if (warmup.iterations() == 0) {
+            return "-";
+        }
+        String millis = String.format(Locale.ROOT, "%.1f ms", warmup.totalNanos() / 1_000_000.0);
+        if (!warmup.detectedSteadyState()) {
+            return String.format(Locale.ROOT, "%s (%d fixed passes)", millis, warmup.iterations());
+        }
+        String detail = String.format(
+                Locale.ROOT,
+                "%d passes, CV %.1f%%",
+                warmup.iterations(),
+                warmup.coefficientOfVariation() * 100.0
+        );
+        return warmup.steady()
+                ? millis + " (" + detail + ")"
+                : "not steady after " + millis + " (" + detail + ")";
+    }
+
+    static String formatSamples(WarmupSummary warmup) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (long sample : warmup.sampleNanos()) {
+            joiner.add(String.format(Locale.ROOT, "%.1f", sample / 1_000_000.0));
+        }
+        return joiner.toString();
+    }
+}
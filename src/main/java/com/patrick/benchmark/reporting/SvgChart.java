@@ -0,0 +1,210 @@
+package com.patrick.benchmark.reporting;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+import java.util.function.DoubleFunction;
+
+final class SvgChart {
+
+    private static final int WIDTH = 720;
+    private static final int HEIGHT = 320;
+    private static final int LEFT = 72;
+    private static final int RIGHT = 24;
+    private static final int TOP = 16;
+    private static final int BOTTOM = 48;
+    private static final int Y_TICKS = 5;
+    private static final int BAR_LABEL_WIDTH = 220;
+    private static final int BAR_ROW_HEIGHT = 28;
+    private static final String[] COLORS = {
+            "#1f5f5b", "#c0392b", "#2e86c1", "#d68910", "#7d3c98", "#229954", "#5d6d7e", "#a04000"
+    };
+
+    private SvgChart() {
+    }
+
+    record Series(String name, List<double[]> points) {
+    }
+
+    static String lineChart(
+            String xLabel,
+            String yLabel,
+            List<Series> series,
+            boolean logX,
+            DoubleFunction<String> xFormatter
+    ) {
+        TreeSet<Double> xs = new TreeSet<>();
+        double maxY = 0.0;
+        for (Series line : series) {
+            for (double[] point : line.points()) {
+                xs.add(point[0]);
+                maxY = Math.max(maxY, point[1]);
+            }
+        }
+        if (xs.isEmpty()) {
+            return "";
+        }
+        double top = niceCeiling(maxY);
+        double minX = scaleX(xs.first(), logX);
+        double maxX = scaleX(xs.last(), logX);
+        int plotWidth = WIDTH - LEFT - RIGHT;
+        int plotHeight = HEIGHT - TOP - BOTTOM;
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("<svg class=\"chart\" xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 ")
+                .append(WIDTH).append(' ').append(HEIGHT).append("\" role=\"img\">");
+        for (int i = 0; i <= Y_TICKS; i++) {
+            double value = top * i / Y_TICKS;
+            double y = TOP + plotHeight - plotHeight * value / top;
+            builder.append(String.format(Locale.ROOT,
+                    "<line x1=\"%d\" y1=\"%.1f\" x2=\"%d\" y2=\"%.1f\" stroke=\"#e6e0d6\"/>",
+                    LEFT, y, WIDTH - RIGHT, y))
+                    .append(String.format(Locale.ROOT,
+                            "<text x=\"%d\" y=\"%.1f\" font-size=\"11\" text-anchor=\"end\" fill=\"#5f5a53\">%s</text>",
+                            LEFT - 6, y + 4, formatValue(value)));
+        }
+        for (double x : xs) {
+            double px = position(x, minX, maxX, logX, plotWidth);
+            builder.append(String.format(Locale.ROOT,
+                    "<line x1=\"%.1f\" y1=\"%d\" x2=\"%.1f\" y2=\"%d\" stroke=\"#d8d2c8\"/>",
+                    px, TOP + plotHeight, px, TOP + plotHeight + 4))
+                    .append(String.format(Locale.ROOT,
+                            "<text x=\"%.1f\" y=\"%d\" font-size=\"11\" text-anchor=\"middle\" fill=\"#5f5a53\">%s</text>",
+                            px, TOP + plotHeight + 18, escape(xFormatter.apply(x))));
+        }
+        builder.append(String.format(Locale.ROOT,
+                "<text x=\"%d\" y=\"%d\" font-size=\"12\" text-anchor=\"middle\" fill=\"#5f5a53\">%s</text>",
+                LEFT + plotWidth / 2, HEIGHT - 8, escape(xLabel)))
+                .append(String.format(Locale.ROOT,
+                        "<text x=\"14\" y=\"%d\" font-size=\"12\" text-anchor=\"middle\" fill=\"#5f5a53\""
+                                + " transform=\"rotate(-90 14 %d)\">%s</text>",
+                        TOP + plotHeight / 2, TOP + plotHeight / 2, escape(yLabel)));
+
+        for (int i = 0; i < series.size(); i++) {
+            Series line = series.get(i);
+            String color = color(i);
+            StringBuilder polyline = new StringBuilder();
+            StringBuilder markers = new StringBuilder();
+            for (double[] point : line.points()) {
+                double px = position(point[0], minX, maxX, logX, plotWidth);
+                double py = TOP + plotHeight - plotHeight * point[1] / top;
+                polyline.append(String.format(Locale.ROOT, "%.1f,%.1f ", px, py));
+                markers.append(String.format(Locale.ROOT,
+                        "<circle cx=\"%.1f\" cy=\"%.1f\" r=\"3.5\" fill=\"%s\"><title>%s: %s, %s</title></circle>",
+                        px, py, color, escape(line.name()), escape(xFormatter.apply(point[0])),
+                        formatValue(point[1])));
+            }
+            builder.append("<polyline fill=\"none\" stroke-width=\"2\" stroke=\"").append(color)
+                    .append("\" points=\"").append(polyline.toString().trim()).append("\"/>")
+                    .append(markers);
+        }
+        builder.append("</svg>");
+        appendLegend(builder, series.stream().map(Series::name).toList());
+        return builder.toString();
+    }
+
+    static String stackedBars(String xLabel, List<String> rows, List<String> segments, List<double[]> values) {
+        if (rows.isEmpty()) {
+            return "";
+        }
+        double maxTotal = 0.0;
+        for (double[] row : values) {
+            double total = 0.0;
+            for (double value : row) {
+                total += Math.max(0.0, value);
+            }
+            maxTotal = Math.max(maxTotal, total);
+        }
+        double top = niceCeiling(maxTotal);
+        int left = BAR_LABEL_WIDTH;
+        int plotWidth = WIDTH - left - RIGHT;
+        int height = TOP + rows.size() * BAR_ROW_HEIGHT + BOTTOM;
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("<svg class=\"chart\" xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 ")
+                .append(WIDTH).append(' ').append(height).append("\" role=\"img\">");
+        int plotBottom = TOP + rows.size() * BAR_ROW_HEIGHT;
+        for (int i = 0; i <= Y_TICKS; i++) {
+            double value = top * i / Y_TICKS;
+            double x = left + plotWidth * value / top;
+            builder.append(String.format(Locale.ROOT,
+                    "<line x1=\"%.1f\" y1=\"%d\" x2=\"%.1f\" y2=\"%d\" stroke=\"#e6e0d6\"/>",
+                    x, TOP, x, plotBottom))
+                    .append(String.format(Locale.ROOT,
+                            "<text x=\"%.1f\" y=\"%d\" font-size=\"11\" text-anchor=\"middle\" fill=\"#5f5a53\">%s</text>",
+                            x, plotBottom + 18, formatValue(value)));
+        }
+        builder.append(String.format(Locale.ROOT,
+                "<text x=\"%d\" y=\"%d\" font-size=\"12\" text-anchor=\"middle\" fill=\"#5f5a53\">%s</text>",
+                left + plotWidth / 2, height - 8, escape(xLabel)));
+
+        for (int row = 0; row < rows.size(); row++) {
+            int y = TOP + row * BAR_ROW_HEIGHT;
+            builder.append(String.format(Locale.ROOT,
+                    "<text x=\"%d\" y=\"%d\" font-size=\"12\" text-anchor=\"end\" fill=\"#1b1b1b\">%s</text>",
+                    left - 8, y + BAR_ROW_HEIGHT / 2 + 4, escape(rows.get(row))));
+            double x = left;
+            double[] rowValues = values.get(row);
+            for (int segment = 0; segment < rowValues.length; segment++) {
+                double value = Math.max(0.0, rowValues[segment]);
+                double width = plotWidth * value / top;
+                builder.append(String.format(Locale.ROOT,
+                        "<rect x=\"%.1f\" y=\"%d\" width=\"%.1f\" height=\"%d\" fill=\"%s\">"
+                                + "<title>%s: %s</title></rect>",
+                        x, y + 4, width, BAR_ROW_HEIGHT - 8, color(segment),
+                        escape(segments.get(segment)), formatValue(value)));
+                x += width;
+            }
+        }
+        builder.append("</svg>");
+        appendLegend(builder, segments);
+        return builder.toString();
+    }
+
+    private static void appendLegend(StringBuilder builder, List<String> names) {
+        builder.append("<div class=\"legend\">");
+        for (int i = 0; i < names.size(); i++) {
+            builder.append("<span><i style=\"background: ").append(color(i)).append(";\"></i>")
+                    .append(escape(names.get(i))).append("</span>");
+        }
+        builder.append("</div>");
+    }
+
+    static double niceCeiling(double value) {
+        if (value <= 0.0) {
+            return 1.0;
+        }
+        double magnitude = Math.pow(10, Math.floor(Math.log10(value)));
+        for (double step : new double[] {1.0, 2.0, 2.5, 5.0, 10.0}) {
+            if (value <= step * magnitude) {
+                return step * magnitude;
+            }
+        }
+        return 10.0 * magnitude;
+    }
+
+    private static double position(double x, double minX, double maxX, boolean logX, int plotWidth) {
+        if (maxX <= minX) {
+            return LEFT + plotWidth / 2.0;
+        }
+        return LEFT + plotWidth * (scaleX(x, logX) - minX) / (maxX - minX);
+    }
+
+    private static double scaleX(double x, boolean logX) {
+        return logX ? Math.log(Math.max(x, 1.0)) : x;
+    }
+
+    private static String color(int index) {
+        return COLORS[index % COLORS.length];
+    }
+
+    private static String formatValue(double value) {
+        return value >= 100.0 || value == Math.rint(value)
+                ? String.format(Locale.ROOT, "%,.0f", value)
+                : String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
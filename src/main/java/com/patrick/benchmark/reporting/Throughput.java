@@ -0,0 +1,18 @@
+package com.patrick.benchmark.reporting;
+
+import java.util.Locale;
+
+final class Throughput {
+
+    private Throughput() {
+    }
+
+    static String formatMbPerSecond(double bytes, double durationNanos) {
+        if (bytes <= 0.0 || durationNanos <= 0.0) {
+            return "-";
+        }
+        double megabytes = bytes / 1024.0 / 1024.0;
+        double seconds = durationNanos / 1_000_000_000.0;
+        return String.format(Locale.ROOT, "%.2f", megabytes / seconds);
+    }
+}
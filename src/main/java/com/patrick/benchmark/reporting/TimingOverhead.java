@@ -0,0 +1,26 @@
+package com.patrick.benchmark.reporting;
+
+import com.patrick.benchmark.processing.TimingMode;
+import java.util.Locale;
+
+final class TimingOverhead {
+
+    private TimingOverhead() {
+    }
+
+    static String untimedName(String strategyName, TimingMode timingMode) {
+        String suffix = timingMode.qualify("");
+        if (timingMode == TimingMode.OFF || !strategyName.endsWith(suffix)) {
+            return null;
+        }
+        String baseName = strategyName.substring(0, strategyName.length() - suffix.length());
+        return TimingMode.OFF.qualify(baseName);
+    }
+
+    static String format(double untimedNanos, double durationNanos) {
+        if (untimedNanos <= 0.0 || durationNanos <= 0.0) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%+.1f%%", (durationNanos / untimedNanos - 1.0) * 100.0);
+    }
+}
@@ -1,11 +1,16 @@
 package com.patrick.benchmark;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -77,6 +82,361 @@ class AppTest {
         }));
     }
 
+    @Test
+    void shouldRunWithMmapWindows() throws Exception {
+        Path file = writeSampleFile("sample-windows.csv");
+
+        assertDoesNotThrow(() -> App.main(new String[] {
+                file.toString(),
+                "--mode=single",
+                "--runs=1",
+                "--mmap-window=16,64m"
+        }));
+    }
+
+    @Test
+    void shouldRunWithLineScanModes() throws Exception {
+        Path file = writeSampleFile("sample-scan.csv");
+
+        assertDoesNotThrow(() -> App.main(new String[] {
+                file.toString(),
+                "--mode=single",
+                "--runs=1",
+                "--line-scan=decoder,byte,slice,structural,vector"
+        }));
+        assertDoesNotThrow(() -> App.main(new String[] {
+                file.toString(),
+                "--line-scan=simd-ish"
+        }));
+    }
+
+    @Test
+    void shouldRunWithBatchDispatch() throws Exception {
+        Path file = writeSampleFile("sample-batch.csv");
+
+        assertDoesNotThrow(() -> App.main(new String[] {
+                file.toString(),
+                "--mode=single",
+                "--runs=1",
+                "--batch=64"
+        }));
+        assertDoesNotThrow(() -> App.main(new String[] {
+                file.toString(),
+                "--batch=0"
+        }));
+        assertDoesNotThrow(() -> App.main(new String[] {
+                file.toString(),
+                "--batch=many"
+        }));
+    }
+
+    @Test
+    void shouldRunWithChunkLatency() throws Exception {
+        Path file = writeSampleFile("sample-chunks.csv");
+
+        assertDoesNotThrow(() -> App.main(new String[] {file.toString(), "--mode=single", "--runs=1", "--chunk-lines=2"}));
+        assertDoesNotThrow(() -> App.main(new String[] {file.toString(), "--chunk-lines=0"}));
+        assertDoesNotThrow(() -> App.main(new String[] {file.toString(), "--chunk-lines=few"}));
+    }
+
+    @Test
+    void shouldRunWithTimingModes() throws Exception {
+        Path file = writeSampleFile("sample-timing.csv");
+
+        assertDoesNotThrow(() -> App.main(new String[] {
+                file.toString(),
+                "--mode=single",
+                "--runs=1",
+                "--timing=exact,off,off"
+        }));
+        assertDoesNotThrow(() -> App.main(new String[] {
+                file.toString(),
+                "--mode=isolated",
+                "--runs=1",
+                "--timing=all"
+        }));
+        assertDoesNotThrow(() -> App.main(new String[] {
+                file.toString(),
+                "--timing=sometimes"
+        }));
+    }
+
+    @Test
+    void shouldRunWithWarmup() throws Exception {
+        Path file = writeSampleFile("sample-warmup.csv");
+
+        assertDoesNotThrow(() -> App.main(new String[] {
+                file.toString(),
+                "--mode=single",
+                "--runs=1",
+                "--warmup=1",
+                "--steady-cv=0.5",
+                "--steady-window=2",
+                "--max-warmup=3"
+        }));
+        assertDoesNotThrow(() -> App.main(new String[] {
+                file.toString(),
+                "--mode=single",
+                "--runs=1",
+                "--warmup=1"
+        }));
+        for (String invalid : List.of(
+                "--warmup=-1",
+                "--warmup=x",
+                "--max-warmup=x",
+                "--steady-window=x",
+                "--steady-cv=x")) {
+            assertDoesNotThrow(() -> App.main(new String[] {file.toString(), invalid}));
+        }
+    }
+
+    @Test
+    void shouldRunStrategiesInForkedJvms() throws Exception {
+        Path file = writeSampleFile("sample-fork.csv");
+
+        assertDoesNotThrow(() -> App.main(new String[] {
+                file.toString(),
+                "--mode=single",
+                "--runs=1",
+                "--fork",
+                "--shuffle=3",
+                "--jvm-flags=-Xmx128m  -XX:+UseSerialGC",
+                "--timing=off"
+        }));
+        assertDoesNotThrow(() -> App.main(new String[] {
+                file.toString(),
+                "--shuffle=abc"
+        }));
+    }
+
+    @Test
+    void shouldRunGcMatrix() throws Exception {
+        Path file = writeSampleFile("sample-gc.csv");
+
+        assertDoesNotThrow(() -> App.main(new String[] {
+                file.toString(),
+                "--mode=single",
+                "--runs=1",
+                "--gc-matrix=serial@64m"
+        }));
+        assertDoesNotThrow(() -> App.main(new String[] {
+                file.toString(),
+                "--gc-matrix=g1,cms"
+        }));
+    }
+
+    @Test
+    void shouldWriteFlightRecordingsPerMode() throws Exception {
+        Path file = writeSampleFile("sample-jfr.csv");
+        Path jfrDirectory = tempDir.resolve("jfr");
+
+        App.main(new String[] {file.toString(), "--runs=1", "--jfr=" + jfrDirectory});
+        App.main(new String[] {file.toString(), "--mode=single", "--runs=1", "--fork", "--jfr=" + tempDir.resolve("unused")});
+
+        assertTrue(Files.exists(jfrDirectory.resolve("benchmark-single-pass.jfr")));
+        assertTrue(Files.exists(jfrDirectory.resolve("benchmark-isolated.jfr")));
+        assertFalse(Files.exists(tempDir.resolve("unused")));
+    }
+
+    @Test
+    void shouldPrintEncodedResultsAsWorker() throws Exception {
+        Path file = writeSampleFile("sample-worker.csv");
+        java.io.PrintStream original = System.out;
+        java.io.ByteArrayOutputStream captured = new java.io.ByteArrayOutputStream();
+        System.setOut(new java.io.PrintStream(captured, true, StandardCharsets.UTF_8));
+        try {
+            App.main(new String[] {file.toString(), "--mode=isolated", "--shuffle", "--worker=MemoryMapped"});
+            App.main(new String[] {file.toString(), "--worker=MemoryMapped"});
+            App.main(new String[] {file.toString(), "--mode=single", "--worker=Unknown"});
+        } finally {
+            System.setOut(original);
+        }
+
+        List<String> lines = captured.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(1, lines.size());
+        assertEquals("MemoryMapped", BenchmarkResultCodec.decode(lines.get(0)).strategyName());
+    }
+
+    @Test
+    void shouldEmbedJmhResults() throws Exception {
+        Path file = writeSampleFile("sample-jmh.csv");
+        Path results = tempDir.resolve("jmh-result.json");
+        Files.writeString(results, "[]", StandardCharsets.UTF_8);
+
+        assertDoesNotThrow(() -> App.main(new String[] {
+                file.toString(),
+                "--mode=single",
+                "--runs=1",
+                "--jmh-results=" + results
+        }));
+        assertDoesNotThrow(() -> App.main(new String[] {
+                file.toString(),
+                "--jmh-results=" + tempDir.resolve("missing.json")
+        }));
+    }
+
+    @Test
+    void shouldReturnOnInvalidMmapWindow() throws Exception {
+        Path file = writeSampleFile("sample-invalid-window.csv");
+
+        assertDoesNotThrow(() -> App.main(new String[] {
+                file.toString(),
+                "--mmap-window=8"
+        }));
+        assertDoesNotThrow(() -> App.main(new String[] {
+                file.toString(),
+                "--mmap-window=abc"
+        }));
+    }
+
+    @Test
+    void shouldGenerateDataset() throws Exception {
+        Path output = tempDir.resolve("generated.csv");
+
+        App.main(new String[] {
+                "generate",
+                output.toString(),
+                "--lines=2000",
+                "--seed=9",
+                "--cardinality=uf:30,sexo:2",
+                "--quoted=0.2",
+                "--crlf",
+                "--invalid=0.01",
+                "--padding=0-2",
+                "--threads=2"
+        });
+
+        List<String> lines = Files.readAllLines(output);
+        assertEquals(2001, lines.size());
+        assertEquals("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total", lines.get(0));
+    }
+
+    @Test
+    void shouldReturnOnInvalidGenerateOptions() {
+        Path output = tempDir.resolve("not-generated.csv");
+
+        for (String option : List.of("--lines=abc", "--cardinality=unknown:3", "--cardinality=uf",
+                "--quoted=2", "--padding=x", "--verbose")) {
+            assertDoesNotThrow(() -> App.main(new String[] {"generate", output.toString(), option}));
+        }
+        assertDoesNotThrow(() -> App.main(new String[] {"generate"}));
+        assertFalse(Files.exists(output));
+    }
+
+    @Test
+    void shouldRunScalingStudy() throws Exception {
+        Path directory = tempDir.resolve("scaling");
+
+        App.main(new String[] {
+                "scale",
+                "--sizes=8k,32k",
+                "--threads=1,2",
+                "--runs=1",
+                "--warmup=0",
+                "--charset=UTF-8",
+                "--dir=" + directory
+        });
+
+        assertTrue(Files.exists(directory.resolve("scaling-8192.csv")));
+        assertTrue(Files.exists(directory.resolve("scaling-32768.csv")));
+        Path report = Path.of("reports", "scaling-report.html");
+        assertTrue(Files.readString(report).contains("<svg"));
+        Files.delete(report);
+    }
+
+    @Test
+    void shouldReturnOnInvalidScaleOptions() {
+        for (String option : List.of("--sizes=0", "--threads=x", "--threads=0", "--runs=0", "--bogus")) {
+            assertDoesNotThrow(() -> App.main(new String[] {
+                    "scale", option, "--dir=" + tempDir.resolve("invalid-scaling")
+            }));
+        }
+    }
+
+    @Test
+    void shouldIngestDirectoriesAndGlobs() throws Exception {
+        Path shards = Files.createDirectories(tempDir.resolve("shards"));
+        for (int i = 0; i < 3; i++) {
+            Files.copy(writeSampleFile("shard-" + i + ".csv"), shards.resolve("shard-" + i + ".csv"));
+        }
+
+        assertDoesNotThrow(() -> App.main(new String[] {
+                shards.toString(),
+                "--mode=single",
+                "--runs=1",
+                "--concurrency=2"
+        }));
+        assertTrue(Files.readString(Path.of("reports", "benchmark-report.html")).contains("Directory ingestion"));
+        assertDoesNotThrow(() -> App.main(new String[] {
+                shards.resolve("shard-*.csv").toString(),
+                "--mode=single",
+                "--runs=1",
+                "--scheduler=platform"
+        }));
+        for (String option : List.of("--scheduler=green", "--concurrency=0", "--concurrency=many")) {
+            assertDoesNotThrow(() -> App.main(new String[] {shards.toString(), option}));
+        }
+    }
+
+    @Test
+    void shouldAddPipelinedStrategies() throws Exception {
+        Path input = writeSampleFile("pipeline.csv");
+
+        assertDoesNotThrow(() -> App.main(new String[] {
+                input.toString(),
+                "--mode=isolated",
+                "--runs=1",
+                "--pipeline=2,8"
+        }));
+        String content = Files.readString(Path.of("reports", "benchmark-report.html"));
+        assertTrue(content.contains("Pipelined (ring 2)"));
+        assertTrue(content.contains("Pipeline stages"));
+        for (String option : List.of("--pipeline=3", "--pipeline=many")) {
+            assertDoesNotThrow(() -> App.main(new String[] {input.toString(), option}));
+        }
+    }
+
+    @Test
+    void shouldRunStageDecomposition() throws Exception {
+        Path input = writeSampleFile("stages.csv");
+
+        assertDoesNotThrow(() -> App.main(new String[] {input.toString(), "--mode=stages", "--runs=1"}));
+        assertTrue(Files.readString(Path.of("reports", "benchmark-report.html")).contains("Stage decomposition"));
+    }
+
+    @Test
+    void shouldCompareDirectIoWithCachedReads() throws Exception {
+        Path input = writeSampleFile("direct.csv");
+
+        assertDoesNotThrow(() -> App.main(new String[] {input.toString(), "--runs=1", "--direct-io=4k,64k"}));
+        String content = Files.readString(Path.of("reports", "benchmark-report.html"));
+        assertTrue(content.contains("Direct I/O vs page cache"));
+        assertTrue(content.contains("NIO ByteBuffer (64 KB buffer)"));
+        assertDoesNotThrow(() -> App.main(new String[] {input.toString(), "--runs=1", "--direct-io"}));
+        assertDoesNotThrow(() -> App.main(new String[] {input.toString(), "--direct-io=tiny"}));
+    }
+
+    @Test
+    void shouldRunSharedScan() throws Exception {
+        Path input = writeSampleFile("shared.csv");
+
+        assertDoesNotThrow(() -> App.main(new String[] {input.toString(), "--mode=shared", "--runs=1"}));
+        String report = Files.readString(Path.of("reports", "benchmark-report.html"));
+        assertTrue(report.contains(ProcessingMode.SHARED_SCAN.displayName()));
+        assertTrue(report.contains("<th>Record store (MB)</th>"));
+        assertDoesNotThrow(() -> App.main(new String[] {input.toString(), "--mode=shared", "--store-budget=oops"}));
+    }
+
+    @Test
+    void shouldParseByteSizes() {
+        assertEquals(512L, App.parseByteSize("512"));
+        assertEquals(4096L, App.parseByteSize("4k"));
+        assertEquals(16L * 1024 * 1024, App.parseByteSize("16M"));
+        assertEquals(2L * 1024 * 1024 * 1024, App.parseByteSize("2g"));
+        assertThrows(IllegalArgumentException.class, () -> App.parseByteSize("0"));
+        assertThrows(NumberFormatException.class, () -> App.parseByteSize("many"));
+    }
+
     @Test
     void shouldHandleHtmlWriteFailure() throws Exception {
         Path file = writeSampleFile("sample-report-error.csv");
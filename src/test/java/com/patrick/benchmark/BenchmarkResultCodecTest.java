@@ -0,0 +1,79 @@
+package com.patrick.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.patrick.benchmark.metrics.BufferPoolUsage;
+import com.patrick.benchmark.metrics.GcUsage;
+import com.patrick.benchmark.metrics.LatencyHistogram;
+import com.patrick.benchmark.metrics.OsUsage;
+import com.patrick.benchmark.metrics.StageUsage;
+import com.patrick.benchmark.metrics.WarmupSummary;
+import com.patrick.benchmark.processing.ProcessingSummary;
+import com.patrick.benchmark.processing.ScenarioReport;
+import com.patrick.benchmark.processing.TimingMode;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class BenchmarkResultCodecTest {
+
+    @Test
+    void shouldRoundTripResults() {
+        ScenarioReport scenario = new ScenarioReport("By UF", 1_500L, 3L, Map.of("AC", 2L, "SÃO", 1L));
+        LatencyHistogram chunkLatency = new LatencyHistogram();
+        chunkLatency.record(2_500_000L);
+        chunkLatency.record(90L);
+        BenchmarkResult result = new BenchmarkResult(
+                "NIO ByteBuffer (byte slice) [batch 64]",
+                12_345L,
+                -1L,
+                new ProcessingSummary(3L, 1L, List.of(scenario), 2L, chunkLatency, List.of(
+                        new StageUsage("read", 40L, 60L, 2L, 0L, 0, 0),
+                        new StageUsage("parse", 90L, 10L, 5L, 12L, 4, 8))),
+                1L,
+                "boom",
+                4_096L,
+                new BufferPoolUsage(10L, 20L),
+                512L,
+                TimingMode.SAMPLED,
+                new WarmupSummary(List.of(9L, 8L), 0.06, false),
+                new GcUsage(4L, 30L, 12L),
+                new OsUsage(10L, 2L, 300L, 1L, 12L, 3L, 4096L, 64L * 1024 * 1024),
+                114_688L
+        );
+
+        String encoded = BenchmarkResultCodec.encode(result);
+
+        assertTrue(BenchmarkResultCodec.isEncoded(encoded));
+        assertFalse(encoded.contains("\n"));
+        assertEquals(result, BenchmarkResultCodec.decode(encoded));
+    }
+
+    @Test
+    void shouldRoundTripMissingErrorMessage() {
+        BenchmarkResult result = new BenchmarkResult(
+                "MemoryMapped", 1L, 0L, new ProcessingSummary(0L, 0L, List.of()), 0L, null);
+
+        BenchmarkResult decoded = BenchmarkResultCodec.decode(BenchmarkResultCodec.encode(result));
+
+        assertNull(decoded.errorMessage());
+        assertTrue(Double.isNaN(decoded.warmup().coefficientOfVariation()));
+    }
+
+    @Test
+    void shouldRejectForeignOrTruncatedLines() {
+        String encoded = BenchmarkResultCodec.encode(new BenchmarkResult(
+                "MemoryMapped", 1L, 0L, new ProcessingSummary(0L, 0L, List.of()), 0L, null));
+        String truncated = encoded.substring(0, encoded.length() / 2);
+        String wrongVersion = BenchmarkResultCodec.PREFIX + Base64.getEncoder().encodeToString(new byte[] {9});
+
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkResultCodec.decode("Strategy: MemoryMapped"));
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkResultCodec.decode(truncated));
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkResultCodec.decode(wrongVersion));
+    }
+}
@@ -1,18 +1,30 @@
 package com.patrick.benchmark;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.patrick.benchmark.metrics.MemoryMeter;
 import com.patrick.benchmark.processing.LineProcessor;
 import com.patrick.benchmark.processing.ProcessingSummary;
+import com.patrick.benchmark.processing.RecordBatch;
+import com.patrick.benchmark.processing.RecordStore;
 import com.patrick.benchmark.processing.ScenarioReport;
+import com.patrick.benchmark.processing.TimingMode;
 import com.patrick.benchmark.processing.scenario.DefaultScenarioCatalog;
+import com.patrick.benchmark.processing.scenario.NonHospitalOrHomeScenario;
 import com.patrick.benchmark.readers.FileReadStrategy;
+import com.patrick.benchmark.readers.NioByteBufferStrategy;
+import com.patrick.benchmark.readers.PipelinedStrategy;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
@@ -72,6 +84,119 @@ class BenchmarkRunnerTest {
         assertNotNull(isolatedSummary.scenarios().get(0).name());
     }
 
+    @Test
+    void shouldDecomposeEachStrategyIntoStagePrefixes() throws Exception {
+        Path file = Path.of(Objects.requireNonNull(
+                BenchmarkRunnerTest.class.getClassLoader().getResource("benchmark-input-test.csv")).toURI());
+        long lines = Files.readAllLines(file, StandardCharsets.UTF_8).size();
+        BenchmarkRunner runner = new BenchmarkRunner(
+                List.of(new NioByteBufferStrategy(), new PipelinedStrategy()),
+                new DefaultScenarioCatalog(),
+                () -> 0L
+        );
+
+        List<BenchmarkResult> results = runner.run(file, StandardCharsets.UTF_8, ProcessingMode.DECOMPOSED)
+                .results();
+
+        assertEquals(List.of(
+                "NIO ByteBuffer [read]",
+                "NIO ByteBuffer [read+split]",
+                "NIO ByteBuffer [read+split+parse]",
+                "NIO ByteBuffer",
+                "Pipelined"
+        ), results.stream().map(BenchmarkResult::strategyName).toList());
+        assertEquals(0L, results.get(0).summary().recordsProcessed());
+        assertEquals(lines, results.get(1).summary().recordsProcessed());
+        assertEquals(results.get(3).summary().recordsProcessed(), results.get(2).summary().recordsProcessed());
+        assertTrue(results.get(2).summary().scenarios().isEmpty());
+        assertEquals(5, results.get(3).summary().scenarios().size());
+        assertEquals(Files.size(file), results.get(0).bytesRead());
+        assertTrue(results.stream().allMatch(result -> result.errorMessage() == null));
+    }
+
+    @Test
+    void shouldReplayOneSharedScanIntoEachScenario() throws Exception {
+        Path file = Path.of(Objects.requireNonNull(
+                BenchmarkRunnerTest.class.getClassLoader().getResource("benchmark-input-test.csv")).toURI());
+        BenchmarkRunner runner = new BenchmarkRunner(
+                List.of(new NioByteBufferStrategy()),
+                new DefaultScenarioCatalog(),
+                () -> 0L
+        );
+
+        BenchmarkResult shared = runner.run(file, StandardCharsets.UTF_8, ProcessingMode.SHARED_SCAN)
+                .results().get(0);
+        BenchmarkResult single = runner.run(file, StandardCharsets.UTF_8, ProcessingMode.SINGLE_PASS)
+                .results().get(0);
+
+        assertEquals("NIO ByteBuffer", shared.strategyName());
+        assertEquals(Files.size(file), shared.bytesRead());
+        assertEquals(single.summary().recordsProcessed(), shared.summary().recordsProcessed());
+        assertEquals(5, shared.summary().scenarios().size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(single.summary().scenarios().get(i).count(), shared.summary().scenarios().get(i).count());
+            assertEquals(single.summary().scenarios().get(i).breakdown(),
+                    shared.summary().scenarios().get(i).breakdown());
+        }
+        long replayNanos = shared.summary().scenarios().stream().mapToLong(ScenarioReport::durationNanos).sum();
+        assertTrue(shared.durationNanos() >= replayNanos);
+        assertNull(shared.errorMessage());
+        assertEquals((long) RecordBatch.DEFAULT_CAPACITY * RecordStore.BYTES_PER_ROW, shared.storeBytes());
+    }
+
+    @Test
+    void shouldFailSharedScanWhenTheStoreExceedsItsBudget() throws Exception {
+        Path file = Path.of(Objects.requireNonNull(
+                BenchmarkRunnerTest.class.getClassLoader().getResource("benchmark-input-test.csv")).toURI());
+        BenchmarkRunner runner = new BenchmarkRunner(
+                List.of(new NioByteBufferStrategy()),
+                new DefaultScenarioCatalog(),
+                () -> 0L,
+                () -> 0L,
+                RunnerOptions.DEFAULTS.withStoreBudgetBytes(1024L)
+        );
+
+        BenchmarkResult shared = runner.run(file, StandardCharsets.UTF_8, ProcessingMode.SHARED_SCAN)
+                .results().get(0);
+
+        assertTrue(shared.errorMessage().contains("budget of 1024 bytes"));
+        assertTrue(shared.summary().scenarios().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> RunnerOptions.DEFAULTS.withStoreBudgetBytes(0L));
+    }
+
+    @Test
+    void shouldMergeChunkLatencyAcrossIsolatedPasses() {
+        FileReadStrategy strategy = new FileReadStrategy() {
+            @Override
+            public String name() {
+                return "TestStrategy";
+            }
+
+            @Override
+            public void read(Path path, java.nio.charset.Charset charset, LineProcessor processor) {
+                processor.process("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total");
+                processor.process("AC,OUTRAS,DOMICILIO,\"< 9\",F,11");
+                processor.process("AL,COVID,OUTRO,10-19,I,3");
+            }
+        };
+        BenchmarkRunner runner = new BenchmarkRunner(
+                List.of(strategy),
+                new DefaultScenarioCatalog(),
+                () -> 0L,
+                () -> 0L,
+                RunnerOptions.DEFAULTS.withChunkLines(1)
+        );
+
+        BenchmarkResult single = runner.run(Path.of("ignored"), StandardCharsets.UTF_8, ProcessingMode.SINGLE_PASS)
+                .results().get(0);
+        BenchmarkResult isolated = runner.run(Path.of("ignored"), StandardCharsets.UTF_8, ProcessingMode.ISOLATED)
+                .results().get(0);
+
+        assertEquals(2L, single.summary().chunkLatency().count());
+        assertEquals(10L, isolated.summary().chunkLatency().count());
+        assertThrows(IllegalArgumentException.class, () -> RunnerOptions.DEFAULTS.withChunkLines(-1));
+    }
+
     @Test
     void shouldCaptureErrorInSinglePass() {
         FileReadStrategy strategy = new FileReadStrategy() {
@@ -140,4 +265,243 @@ class BenchmarkRunnerTest {
         assertEquals("boom", result.errorMessage());
         assertEquals(1, result.summary().scenarios().size());
     }
+
+    @Test
+    void shouldAddBatchDispatchResults() {
+        FileReadStrategy strategy = new FileReadStrategy() {
+            @Override
+            public String name() {
+                return "TestStrategy";
+            }
+
+            @Override
+            public void read(Path path, java.nio.charset.Charset charset, LineProcessor processor) {
+                processor.process("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total");
+                for (int i = 0; i < 5; i++) {
+                    processor.process("AC,OUTRAS,DOMICILIO,\"< 9\",F,11");
+                    processor.process("AL,COVID,OUTRO,10-19,I,3");
+                }
+            }
+        };
+
+        BenchmarkRunner runner = new BenchmarkRunner(
+                List.of(strategy),
+                new DefaultScenarioCatalog(),
+                () -> 0L,
+                () -> 0L,
+                RunnerOptions.DEFAULTS.withBatchSize(4)
+        );
+
+        for (ProcessingMode mode : List.of(ProcessingMode.SINGLE_PASS, ProcessingMode.ISOLATED)) {
+            List<BenchmarkResult> results = runner.run(Path.of("ignored"), StandardCharsets.UTF_8, mode).results();
+
+            assertEquals(2, results.size());
+            assertEquals("TestStrategy", results.get(0).strategyName());
+            assertEquals("TestStrategy [batch 4]", results.get(1).strategyName());
+            for (int i = 0; i < results.get(0).summary().scenarios().size(); i++) {
+                ScenarioReport row = results.get(0).summary().scenarios().get(i);
+                ScenarioReport batch = results.get(1).summary().scenarios().get(i);
+                assertEquals(row.count(), batch.count());
+                assertEquals(row.breakdown(), batch.breakdown());
+            }
+        }
+    }
+
+    @Test
+    void shouldRunEachTimingMode() {
+        FileReadStrategy strategy = new FileReadStrategy() {
+            @Override
+            public String name() {
+                return "TestStrategy";
+            }
+
+            @Override
+            public void read(Path path, java.nio.charset.Charset charset, LineProcessor processor) {
+                processor.process("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total");
+                processor.process("AC,OUTRAS,DOMICILIO,\"< 9\",F,11");
+                processor.process("AL,COVID,OUTRO,10-19,I,3");
+            }
+        };
+
+        BenchmarkRunner runner = new BenchmarkRunner(
+                List.of(strategy),
+                new DefaultScenarioCatalog(),
+                () -> 0L,
+                () -> 0L,
+                RunnerOptions.DEFAULTS.withBatchSize(4).withTimingModes(List.of(TimingMode.EXACT, TimingMode.OFF))
+        );
+        List<BenchmarkResult> results = runner.run(Path.of("ignored"), StandardCharsets.UTF_8, ProcessingMode.SINGLE_PASS)
+                .results();
+
+        assertEquals(4, results.size());
+        assertEquals("TestStrategy [timing exact]", results.get(0).strategyName());
+        assertEquals("TestStrategy [batch 4] [timing exact]", results.get(1).strategyName());
+        assertEquals("TestStrategy [timing off]", results.get(2).strategyName());
+        assertEquals(TimingMode.OFF, results.get(3).timingMode());
+        assertEquals(0L, results.get(3).summary().scenarios().get(0).durationNanos());
+        assertEquals(2L, results.get(3).summary().scenarios().get(0).count());
+
+        BenchmarkRunner single = new BenchmarkRunner(
+                List.of(strategy),
+                new DefaultScenarioCatalog(),
+                () -> 0L,
+                () -> 0L,
+                RunnerOptions.DEFAULTS.withTimingModes(List.of(TimingMode.SAMPLED))
+        );
+        BenchmarkResult sampled = single.run(Path.of("ignored"), StandardCharsets.UTF_8, ProcessingMode.ISOLATED)
+                .results().get(0);
+
+        assertEquals("TestStrategy", sampled.strategyName());
+        assertEquals(TimingMode.SAMPLED, sampled.timingMode());
+        assertThrows(IllegalArgumentException.class, () -> RunnerOptions.DEFAULTS.withTimingModes(List.of()));
+    }
+
+    @Test
+    void shouldWarmUpEachVariantOnce() {
+        int[] reads = new int[1];
+        FileReadStrategy strategy = new FileReadStrategy() {
+            @Override
+            public String name() {
+                return "TestStrategy";
+            }
+
+            @Override
+            public void read(Path path, java.nio.charset.Charset charset, LineProcessor processor) {
+                reads[0]++;
+                processor.process("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total");
+                processor.process("AC,OUTRAS,DOMICILIO,\"< 9\",F,11");
+            }
+        };
+
+        BenchmarkRunner fixed = new BenchmarkRunner(
+                List.of(strategy),
+                new DefaultScenarioCatalog(),
+                () -> 0L,
+                () -> 0L,
+                RunnerOptions.DEFAULTS.withWarmupPolicy(WarmupPolicy.fixed(3))
+        );
+        BenchmarkResult first = fixed.run(Path.of("ignored"), StandardCharsets.UTF_8, ProcessingMode.SINGLE_PASS)
+                .results().get(0);
+        BenchmarkResult second = fixed.run(Path.of("ignored"), StandardCharsets.UTF_8, ProcessingMode.SINGLE_PASS)
+                .results().get(0);
+
+        assertEquals(5, reads[0]);
+        assertEquals(3, first.warmup().iterations());
+        assertFalse(first.warmup().detectedSteadyState());
+        assertEquals(first.warmup(), second.warmup());
+
+        BenchmarkRunner steady = new BenchmarkRunner(
+                List.of(strategy),
+                new DefaultScenarioCatalog(),
+                () -> 0L,
+                () -> 0L,
+                RunnerOptions.DEFAULTS.withWarmupPolicy(WarmupPolicy.untilSteady(0, 50, 3, 1_000.0))
+        );
+        BenchmarkResult settled = steady.run(Path.of("ignored"), StandardCharsets.UTF_8, ProcessingMode.ISOLATED)
+                .results().get(0);
+
+        assertEquals(3, settled.warmup().iterations());
+        assertTrue(settled.warmup().steady());
+    }
+
+    @Test
+    void shouldStopWarmupOnError() {
+        FileReadStrategy strategy = new FileReadStrategy() {
+            @Override
+            public String name() {
+                return "FailingStrategy";
+            }
+
+            @Override
+            public void read(Path path, java.nio.charset.Charset charset, LineProcessor processor) {
+                throw new IllegalStateException("boom");
+            }
+        };
+
+        BenchmarkRunner runner = new BenchmarkRunner(
+                List.of(strategy),
+                new DefaultScenarioCatalog(),
+                () -> 0L,
+                () -> 0L,
+                RunnerOptions.DEFAULTS.withWarmupPolicy(WarmupPolicy.untilSteady(0, 10, 2, 0.05))
+        );
+        BenchmarkResult result = runner.run(Path.of("ignored"), StandardCharsets.UTF_8, ProcessingMode.SINGLE_PASS)
+                .results().get(0);
+
+        assertEquals(1, result.warmup().iterations());
+        assertFalse(result.warmup().steady());
+        assertEquals("boom", result.errorMessage());
+    }
+
+    @Test
+    void shouldShuffleStrategyOrder() {
+        List<FileReadStrategy> strategies = new java.util.ArrayList<>();
+        for (String name : List.of("A", "B", "C", "D", "E")) {
+            strategies.add(new FileReadStrategy() {
+                @Override
+                public String name() {
+                    return name;
+                }
+
+                @Override
+                public void read(Path path, java.nio.charset.Charset charset, LineProcessor processor) {
+                    processor.process("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total");
+                }
+            });
+        }
+        List<String> expected = new java.util.ArrayList<>(List.of("A", "B", "C", "D", "E"));
+        java.util.Collections.shuffle(expected, new java.util.Random(42));
+
+        BenchmarkRunner runner = new BenchmarkRunner(strategies, new DefaultScenarioCatalog(), () -> 0L);
+        List<String> shuffled = runner.run(Path.of("ignored"), StandardCharsets.UTF_8, ProcessingMode.SINGLE_PASS,
+                        new java.util.Random(42))
+                .results().stream().map(BenchmarkResult::strategyName).toList();
+        List<String> declared = runner.run(Path.of("ignored"), StandardCharsets.UTF_8, ProcessingMode.SINGLE_PASS)
+                .results().stream().map(BenchmarkResult::strategyName).toList();
+
+        assertEquals(expected, shuffled);
+        assertEquals(List.of("A", "B", "C", "D", "E"), declared);
+    }
+
+    @Test
+    void shouldPushFiltersDownOnlyWhenEveryScenarioFilters() {
+        FileReadStrategy strategy = new FileReadStrategy() {
+            @Override
+            public String name() {
+                return "TestStrategy";
+            }
+
+            @Override
+            public void read(Path path, java.nio.charset.Charset charset, LineProcessor processor) {
+                processor.process("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total");
+                processor.process("AC,OUTRAS,DOMICILIO,\"< 9\",F,11");
+                processor.process("AL,COVID,OUTRO,10-19,I,3");
+                processor.process("AL,COVID,HOSPITAL,10-19,I,3");
+            }
+        };
+
+        BenchmarkRunner filtering = new BenchmarkRunner(
+                List.of(strategy),
+                () -> List.of(new NonHospitalOrHomeScenario()),
+                () -> 0L
+        );
+        ProcessingSummary filtered = filtering.run(Path.of("ignored"), StandardCharsets.UTF_8, ProcessingMode.SINGLE_PASS)
+                .results().get(0).summary();
+
+        assertEquals(1L, filtered.recordsProcessed());
+        assertEquals(2L, filtered.filteredLines());
+        assertEquals(1L, filtered.scenarios().get(0).count());
+
+        BenchmarkRunner mixed = new BenchmarkRunner(
+                List.of(strategy),
+                new DefaultScenarioCatalog(),
+                () -> 0L
+        );
+        ProcessingSummary unfiltered = mixed.run(Path.of("ignored"), StandardCharsets.UTF_8, ProcessingMode.SINGLE_PASS)
+                .results().get(0).summary();
+
+        assertEquals(3L, unfiltered.recordsProcessed());
+        assertEquals(0L, unfiltered.filteredLines());
+        assertEquals(1L, unfiltered.scenarios().get(1).count());
+    }
 }
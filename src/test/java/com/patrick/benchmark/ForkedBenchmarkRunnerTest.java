@@ -0,0 +1,98 @@
+package com.patrick.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ForkedBenchmarkRunnerTest {
+
+    private static final Path INPUT = Path.of("src", "test", "resources", "benchmark-input-test.csv");
+
+    @Test
+    void shouldCollectResultsFromWorkerJvms() {
+        ForkedBenchmarkRunner runner = new ForkedBenchmarkRunner(
+                List.of("MemoryMapped", "BufferedReader"),
+                List.of("-Xmx128m"),
+                List.of("--batch=16")
+        );
+
+        BenchmarkReport report = runner.run(INPUT, StandardCharsets.UTF_8, ProcessingMode.SINGLE_PASS, new Random(1));
+        BenchmarkReport inProcess = new BenchmarkRunner(
+                List.of(new com.patrick.benchmark.readers.MemoryMappedFileStrategy()),
+                new com.patrick.benchmark.processing.scenario.DefaultScenarioCatalog(),
+                () -> 0L
+        ).run(INPUT, StandardCharsets.UTF_8, ProcessingMode.SINGLE_PASS);
+
+        assertEquals(4, report.results().size());
+        BenchmarkResult forked = report.results().stream()
+                .filter(result -> result.strategyName().equals("MemoryMapped"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(inProcess.results().get(0).summary().recordsProcessed(), forked.summary().recordsProcessed());
+        assertEquals(0L, forked.errorCount());
+        assertTrue(report.results().stream().anyMatch(result -> result.strategyName().equals("BufferedReader [batch 16]")));
+    }
+
+    @Test
+    void shouldLabelResultsPerJvmConfiguration() {
+        ForkedBenchmarkRunner runner = new ForkedBenchmarkRunner(
+                List.of("MemoryMapped"),
+                List.of(JvmConfiguration.fromLabel("serial@64m"), JvmConfiguration.fromLabel("parallel")),
+                List.of(),
+                List.of()
+        );
+
+        List<BenchmarkResult> results = runner.run(INPUT, StandardCharsets.UTF_8, ProcessingMode.SINGLE_PASS).results();
+
+        assertEquals(
+                List.of("MemoryMapped [jvm Serial -Xmx64m]", "MemoryMapped [jvm Parallel]"),
+                results.stream().map(BenchmarkResult::strategyName).toList());
+        assertEquals(0L, results.get(0).errorCount());
+        assertThrows(IllegalArgumentException.class,
+                () -> new ForkedBenchmarkRunner(List.of("MemoryMapped"), List.of(), List.of(), List.of()));
+    }
+
+    @Test
+    void shouldReportWorkerWithoutResultsAsFailure() {
+        ForkedBenchmarkRunner runner = new ForkedBenchmarkRunner(List.of("Unknown"), List.of(), List.of());
+
+        BenchmarkResult result = runner.run(INPUT, StandardCharsets.UTF_8, ProcessingMode.ISOLATED).results().get(0);
+
+        assertEquals("Unknown", result.strategyName());
+        assertEquals(1L, result.errorCount());
+        assertNotNull(result.errorMessage());
+    }
+
+    @Test
+    void shouldBuildWorkerCommand() {
+        ForkedBenchmarkRunner runner = new ForkedBenchmarkRunner(
+                List.of("MemoryMapped"),
+                List.of("-XX:+UseSerialGC"),
+                List.of("--timing=off")
+        );
+
+        List<String> command = runner.command(
+                INPUT,
+                StandardCharsets.ISO_8859_1,
+                ProcessingMode.ISOLATED,
+                "MemoryMapped",
+                JvmConfiguration.DEFAULT);
+
+        assertTrue(command.contains("-XX:+UseSerialGC"));
+        assertTrue(command.contains(App.class.getName()));
+        assertEquals(List.of(
+                INPUT.toString(),
+                "--charset=ISO-8859-1",
+                "--mode=isolated",
+                "--timing=off",
+                "--worker=MemoryMapped"
+        ), command.subList(command.size() - 5, command.size()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.patrick.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class JvmConfigurationTest {
+
+    @Test
+    void shouldParseCollectorAndHeapLabels() {
+        assertEquals(new JvmConfiguration("G1", List.of("-XX:+UseG1GC")), JvmConfiguration.fromLabel("g1"));
+        assertEquals(
+                new JvmConfiguration("Parallel -Xmx512m", List.of("-XX:+UseParallelGC", "-Xmx512m")),
+                JvmConfiguration.fromLabel(" Parallel@512m "));
+        assertEquals("Serial", JvmConfiguration.fromLabel("serial").name());
+        assertEquals("ZGC", JvmConfiguration.fromLabel("z").name());
+        assertEquals(List.of("-XX:+UseZGC", "-XX:+ZGenerational"), JvmConfiguration.fromLabel("genzgc").flags());
+        assertEquals("Shenandoah", JvmConfiguration.fromLabel("shenandoah").name());
+        assertNull(JvmConfiguration.fromLabel("cms"));
+        assertNull(JvmConfiguration.fromLabel("g1@lots"));
+        assertNull(JvmConfiguration.fromLabel(null));
+    }
+
+    @Test
+    void shouldQualifyStrategyNames() {
+        assertEquals("MemoryMapped", JvmConfiguration.DEFAULT.qualify("MemoryMapped"));
+        assertEquals("MemoryMapped [jvm G1]", JvmConfiguration.fromLabel("g1").qualify("MemoryMapped"));
+    }
+}
@@ -15,6 +15,10 @@ class ProcessingModeTest {
         assertEquals(ProcessingMode.SINGLE_PASS, ProcessingMode.fromLabel("realistic"));
         assertEquals(ProcessingMode.ISOLATED, ProcessingMode.fromLabel("isolated"));
         assertEquals(ProcessingMode.ISOLATED, ProcessingMode.fromLabel("analytical"));
+        assertEquals(ProcessingMode.SHARED_SCAN, ProcessingMode.fromLabel("shared"));
+        assertEquals(ProcessingMode.SHARED_SCAN, ProcessingMode.fromLabel("Shared-Scan"));
+        assertEquals(ProcessingMode.DECOMPOSED, ProcessingMode.fromLabel("stages"));
+        assertEquals(ProcessingMode.DECOMPOSED, ProcessingMode.fromLabel(" Decomposition "));
         assertNull(ProcessingMode.fromLabel("unknown"));
         assertNull(ProcessingMode.fromLabel(null));
     }
@@ -0,0 +1,140 @@
+package com.patrick.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.patrick.benchmark.processing.LineProcessor;
+import com.patrick.benchmark.processing.scenario.DefaultScenarioCatalog;
+import com.patrick.benchmark.readers.FileReadStrategy;
+import com.patrick.benchmark.readers.ParallelMemoryMappedStrategy;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ScalingStudyTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldMeasureEveryStrategyAtEverySizeAndThreadCount() throws Exception {
+        Path small = ScalingStudy.prepareDataset(tempDir, 16 * 1024);
+        Path large = ScalingStudy.prepareDataset(tempDir, 64 * 1024);
+        ScalingStudy study = new ScalingStudy(
+                List.of(new StubStrategy("Sequential", false), new ParallelMemoryMappedStrategy()),
+                List.of(1, 2),
+                2,
+                strategies -> new BenchmarkRunner(strategies, new DefaultScenarioCatalog(), () -> 0L)
+        );
+
+        List<ScalingPoint> points = study.run(List.of(small, large), StandardCharsets.UTF_8);
+
+        assertEquals(6, points.size());
+        assertEquals(List.of("Sequential", "Parallel MemoryMapped x1", "Parallel MemoryMapped x2"),
+                points.subList(0, 3).stream().map(ScalingPoint::label).toList());
+        assertEquals(Files.size(large), points.get(5).fileBytes());
+        assertEquals(Files.readAllLines(large).size() - 1L, points.get(5).lines());
+        assertEquals(2L, points.get(0).lines());
+        for (ScalingPoint point : points) {
+            assertTrue(point.megabytesPerSecond() > 0.0);
+            assertTrue(point.linesPerSecond() > 0.0);
+        }
+    }
+
+    @Test
+    void shouldWarmUpEveryThreadCountSeparately() throws Exception {
+        Path file = ScalingStudy.prepareDataset(tempDir, 16 * 1024);
+        List<List<BenchmarkResult>> measured = new ArrayList<>();
+        ScalingStudy study = new ScalingStudy(
+                List.of(new ParallelMemoryMappedStrategy()),
+                List.of(1, 2, 3),
+                1,
+                strategies -> {
+                    BenchmarkRunner runner = new BenchmarkRunner(strategies, new DefaultScenarioCatalog(),
+                            () -> 0L, () -> 0L, RunnerOptions.DEFAULTS.withWarmupPolicy(WarmupPolicy.fixed(1)));
+                    return (path, charset, mode, order) -> {
+                        BenchmarkReport report = runner.run(path, charset, mode, order);
+                        measured.add(report.results());
+                        return report;
+                    };
+                }
+        );
+
+        List<ScalingPoint> points = study.run(List.of(file), StandardCharsets.UTF_8);
+
+        assertEquals(List.of("Parallel MemoryMapped x1", "Parallel MemoryMapped x2", "Parallel MemoryMapped x3"),
+                points.stream().map(ScalingPoint::label).toList());
+        List<BenchmarkResult> results = measured.get(0);
+        assertEquals(3, results.stream().map(BenchmarkResult::strategyName).distinct().count());
+        for (BenchmarkResult result : results) {
+            assertEquals(1, result.warmup().iterations());
+        }
+        assertNotSame(results.get(0).warmup(), results.get(1).warmup());
+        assertNotSame(results.get(1).warmup(), results.get(2).warmup());
+    }
+
+    @Test
+    void shouldSkipStrategiesThatFail() throws Exception {
+        Path file = ScalingStudy.prepareDataset(tempDir, 4 * 1024);
+        ScalingStudy study = new ScalingStudy(
+                List.of(new StubStrategy("Works", false), new StubStrategy("Fails", true)),
+                List.of(),
+                1,
+                strategies -> new BenchmarkRunner(strategies, new DefaultScenarioCatalog(), () -> 0L)
+        );
+
+        List<ScalingPoint> points = study.run(List.of(file), StandardCharsets.UTF_8);
+
+        assertEquals(1, points.size());
+        assertEquals("Works", points.get(0).label());
+    }
+
+    @Test
+    void shouldReuseGeneratedDatasets() throws Exception {
+        Path first = ScalingStudy.prepareDataset(tempDir, 8 * 1024);
+        long modified = Files.getLastModifiedTime(first).toMillis();
+        Path second = ScalingStudy.prepareDataset(tempDir, 8 * 1024);
+
+        assertEquals(first, second);
+        assertEquals(modified, Files.getLastModifiedTime(second).toMillis());
+        assertTrue(Files.size(first) >= 8 * 1024);
+    }
+
+    @Test
+    void shouldComputeThroughputFromFileSizeAndLines() {
+        ScalingPoint point = new ScalingPoint("Test", 0, 2L * 1024 * 1024, 500_000L, 500_000_000.0);
+
+        assertEquals(4.0, point.megabytesPerSecond(), 1e-9);
+        assertEquals(1_000_000.0, point.linesPerSecond(), 1e-9);
+        assertEquals(0.0, new ScalingPoint("Test", 0, 1L, 1L, 0.0).linesPerSecond());
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ScalingStudy(List.of(), List.of(), 0, strategies -> null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ScalingStudy(List.of(), List.of(0), 1, strategies -> null));
+    }
+
+    private record StubStrategy(String name, boolean fails) implements FileReadStrategy {
+
+        @Override
+        public void read(Path path, Charset charset, LineProcessor processor) throws IOException {
+            if (fails) {
+                throw new IOException("stub failure");
+            }
+            processor.process("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total");
+            processor.process("AC,OUTRAS,DOMICILIO,\"< 9\",F,11");
+            processor.process("AL,COVID,OUTRO,10-19,I,3");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.patrick.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class WarmupPolicyTest {
+
+    @Test
+    void shouldBuildFixedAndSteadyStatePolicies() {
+        WarmupPolicy fixed = WarmupPolicy.fixed(3);
+        WarmupPolicy steady = WarmupPolicy.untilSteady(2, 20, 5, 0.05);
+
+        assertEquals(3, fixed.minIterations());
+        assertEquals(3, fixed.maxIterations());
+        assertFalse(fixed.detectsSteadyState());
+        assertTrue(steady.detectsSteadyState());
+        assertEquals(0, WarmupPolicy.NONE.maxIterations());
+    }
+
+    @Test
+    void shouldRejectInvalidPolicies() {
+        assertThrows(IllegalArgumentException.class, () -> WarmupPolicy.fixed(-1));
+        assertThrows(IllegalArgumentException.class, () -> WarmupPolicy.untilSteady(5, 2, 5, 0.05));
+        assertThrows(IllegalArgumentException.class, () -> WarmupPolicy.untilSteady(0, 10, 1, 0.05));
+        assertThrows(IllegalArgumentException.class, () -> WarmupPolicy.untilSteady(0, 10, 5, -0.5));
+    }
+}
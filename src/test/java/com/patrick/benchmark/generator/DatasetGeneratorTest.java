@@ -0,0 +1,135 @@
+package com.patrick.benchmark.generator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.patrick.benchmark.processing.CsvColumn;
+import com.patrick.benchmark.processing.CsvLineParser;
+import com.patrick.benchmark.processing.CsvScenarioProcessor;
+import com.patrick.benchmark.processing.ProcessingSummary;
+import com.patrick.benchmark.processing.scenario.TotalRecordsScenario;
+import com.patrick.benchmark.readers.BufferedReaderStrategy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DatasetGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldGenerateIdenticalFilesRegardlessOfThreadCount() throws Exception {
+        DatasetSpec spec = DatasetSpec.ofLines(DatasetGenerator.BLOCK_LINES * 3L + 17L, 7L);
+        Path single = tempDir.resolve("single.csv");
+        Path parallel = tempDir.resolve("parallel.csv");
+
+        GeneratedDataset first = new DatasetGenerator(spec, 1).generate(single);
+        GeneratedDataset second = new DatasetGenerator(spec, 4).generate(parallel);
+
+        assertEquals(first, second);
+        assertEquals(spec.lines(), first.lines());
+        assertEquals(Files.size(single), first.bytes());
+        assertArrayEquals(Files.readAllBytes(single), Files.readAllBytes(parallel));
+    }
+
+    @Test
+    void shouldProduceInvalidLinesTheProcessorRejects() throws Exception {
+        DatasetSpec spec = new DatasetSpec(20_000L, 0L, 3L, Map.of(), 0.3, true, 0.05, 0, 6);
+        Path file = tempDir.resolve("mixed.csv");
+
+        GeneratedDataset dataset = new DatasetGenerator(spec, 2).generate(file);
+        CsvScenarioProcessor processor = new CsvScenarioProcessor(
+                List.of(new TotalRecordsScenario()),
+                new CsvLineParser()
+        );
+        new BufferedReaderStrategy().read(file, StandardCharsets.UTF_8, processor);
+        ProcessingSummary summary = processor.summary();
+
+        assertTrue(dataset.invalidLines() > 0);
+        assertEquals(dataset.invalidLines(), summary.invalidLines());
+        assertEquals(dataset.lines() - dataset.invalidLines(), summary.recordsProcessed());
+    }
+
+    @Test
+    void shouldHonourLineFormatSettings() throws Exception {
+        DatasetSpec spec = new DatasetSpec(
+                5_000L,
+                0L,
+                11L,
+                Map.of(CsvColumn.UF, 40, CsvColumn.TOTAL, 5),
+                1.0,
+                true,
+                0.0,
+                3,
+                3
+        );
+        Path file = tempDir.resolve("format.csv");
+
+        new DatasetGenerator(spec, 1).generate(file);
+        String content = Files.readString(file, StandardCharsets.US_ASCII);
+        String[] lines = content.split("\r\n");
+        Set<String> ufs = new HashSet<>();
+        for (int i = 1; i < lines.length; i++) {
+            String[] fields = lines[i].split(",");
+            assertEquals(6, fields.length);
+            assertTrue(fields[0].startsWith("\"") && fields[0].endsWith("\""));
+            assertTrue(fields[5].matches("\"000[0-4]\""));
+            ufs.add(fields[0]);
+        }
+
+        assertEquals(ColumnValues.HEADER, lines[0]);
+        assertEquals(5_001, lines.length);
+        assertTrue(content.endsWith("\r\n"));
+        assertEquals(40, ufs.size());
+        assertTrue(ufs.contains("\"AC_1\""));
+    }
+
+    @Test
+    void shouldStopAtTargetSize() throws Exception {
+        DatasetSpec spec = new DatasetSpec(0L, 3L * 1024 * 1024, 5L, Map.of(), 0.0, false, 0.0, 0, 0);
+        Path file = tempDir.resolve("sized.csv");
+
+        GeneratedDataset dataset = new DatasetGenerator(spec, 2).generate(file);
+
+        assertEquals(Files.size(file), dataset.bytes());
+        assertTrue(dataset.bytes() >= spec.targetBytes());
+        assertTrue(dataset.bytes() < spec.targetBytes() + 64);
+        assertEquals(dataset.lines() + 1, Files.readAllLines(file).size());
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> DatasetSpec.ofLines(0L, 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DatasetSpec(1L, 1L, 1L, Map.of(), 0.0, false, 0.0, 0, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DatasetSpec(1L, 0L, 1L, Map.of(CsvColumn.SEX, 0), 0.0, false, 0.0, 0, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DatasetSpec(1L, 0L, 1L, Map.of(), 1.5, false, 0.0, 0, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DatasetSpec(1L, 0L, 1L, Map.of(), 0.0, false, -0.1, 0, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DatasetSpec(1L, 0L, 1L, Map.of(), 0.0, false, 0.0, 4, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DatasetGenerator(DatasetSpec.ofLines(1L, 1L), 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DatasetGenerator(new DatasetSpec(1L, 0L, 1L, Map.of(), 0.0, false, 0.0, 0, 5000)));
+    }
+
+    @Test
+    void shouldResolveColumnsFromHeaderNames() {
+        assertEquals(CsvColumn.DISEASE_TYPE, ColumnValues.fromHeaderName(" Tipo_Doenca "));
+        assertEquals(CsvColumn.TOTAL, ColumnValues.fromHeaderName("total"));
+        assertNull(ColumnValues.fromHeaderName("unknown"));
+    }
+}
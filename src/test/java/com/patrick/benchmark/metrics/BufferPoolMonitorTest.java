@@ -0,0 +1,77 @@
+package com.patrick.benchmark.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.List;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+
+class BufferPoolMonitorTest {
+
+    @Test
+    void shouldTrackPeakUsagePerPool() {
+        FakePool direct = new FakePool("direct", 4096L);
+        FakePool mapped = new FakePool("mapped", 1024L);
+        BufferPoolMonitor monitor = new BufferPoolMonitor(List.of(direct, mapped));
+
+        BufferPoolMonitor.Session session = monitor.start();
+        mapped.used = 8192L;
+        BufferPoolUsage usage = session.stop();
+
+        assertEquals(4096L, usage.peakDirectBytes());
+        assertEquals(8192L, usage.peakMappedBytes());
+    }
+
+    @Test
+    void shouldSampleRealDirectPool() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        BufferPoolUsage usage = new BufferPoolMonitor().start().stop();
+
+        assertTrue(usage.peakDirectBytes() >= buffer.capacity());
+    }
+
+    @Test
+    void shouldExposePlatformPools() {
+        assertTrue(ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).size() >= 2);
+    }
+
+    private static final class FakePool implements BufferPoolMXBean {
+
+        private final String name;
+        private volatile long used;
+
+        private FakePool(String name, long used) {
+            this.name = name;
+            this.used = used;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public long getCount() {
+            return 1L;
+        }
+
+        @Override
+        public long getTotalCapacity() {
+            return used;
+        }
+
+        @Override
+        public long getMemoryUsed() {
+            return used;
+        }
+
+        @Override
+        public ObjectName getObjectName() {
+            return null;
+        }
+    }
+}
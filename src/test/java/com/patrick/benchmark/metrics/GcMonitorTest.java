@@ -0,0 +1,100 @@
+package com.patrick.benchmark.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.util.List;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+
+class GcMonitorTest {
+
+    @Test
+    void shouldReportDeltasAndSkipConcurrentCycles() {
+        FakeCollector young = new FakeCollector("G1 Young Generation", 3L, 12L);
+        FakeCollector cycles = new FakeCollector("ZGC Cycles", 1L, 900L);
+        GcMonitor monitor = new GcMonitor(List.of(young, cycles));
+
+        GcMonitor.Session session = monitor.start();
+        young.count = 5L;
+        young.time = 20L;
+        cycles.count = 4L;
+        cycles.time = 5_000L;
+        session.recordPause(6L);
+        session.recordPause(3L);
+        GcUsage usage = session.stop();
+
+        assertEquals(new GcUsage(2L, 8L, 6L), usage);
+    }
+
+    @Test
+    void shouldUseSinglePauseAsMaximum() {
+        FakeCollector old = new FakeCollector("PS MarkSweep", 0L, 0L);
+        GcMonitor.Session session = new GcMonitor(List.of(old)).start();
+        old.count = 1L;
+        old.time = 15L;
+
+        assertEquals(new GcUsage(1L, 15L, 15L), session.stop());
+    }
+
+    @Test
+    void shouldObservePlatformCollections() {
+        GcMonitor.Session session = new GcMonitor().start();
+        System.gc();
+        GcUsage usage = session.stop();
+
+        assertTrue(usage.collections() >= 1L);
+        assertTrue(usage.maxPauseMillis() <= usage.pauseMillis());
+    }
+
+    @Test
+    void shouldRecognizeConcurrentCycleCollectors() {
+        assertTrue(GcMonitor.isConcurrentCycle("Shenandoah Cycles"));
+        assertFalse(GcMonitor.isConcurrentCycle("ZGC Pauses"));
+    }
+
+    private static final class FakeCollector implements GarbageCollectorMXBean {
+
+        private final String name;
+        private long count;
+        private long time;
+
+        private FakeCollector(String name, long count, long time) {
+            this.name = name;
+            this.count = count;
+            this.time = time;
+        }
+
+        @Override
+        public long getCollectionCount() {
+            return count;
+        }
+
+        @Override
+        public long getCollectionTime() {
+            return time;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public String[] getMemoryPoolNames() {
+            return new String[0];
+        }
+
+        @Override
+        public ObjectName getObjectName() {
+            return null;
+        }
+    }
+}
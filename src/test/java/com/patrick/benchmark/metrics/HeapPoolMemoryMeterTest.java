@@ -0,0 +1,114 @@
+package com.patrick.benchmark.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import javax.management.NotificationEmitter;
+import org.junit.jupiter.api.Test;
+
+class HeapPoolMemoryMeterTest {
+
+    @Test
+    void shouldTrackPeakHeapAcrossAllocations() {
+        HeapPoolMemoryMeter meter = new HeapPoolMemoryMeter();
+        meter.resetPeak();
+        byte[] block = new byte[32 * 1024 * 1024];
+
+        assertTrue(meter.peakBytes() >= block.length);
+        assertTrue(meter.usedBytes() > 0L);
+    }
+
+    @Test
+    void shouldKeepTheLargestTotalHeapSeenBeforeACollection() {
+        int[] resets = new int[1];
+        MemoryPoolMXBean eden = pool("eden", MemoryType.HEAP, 100L, 700L, resets);
+        MemoryPoolMXBean old = pool("old", MemoryType.HEAP, 200L, 300L, resets);
+        MemoryPoolMXBean metaspace = pool("metaspace", MemoryType.NON_HEAP, 5_000L, 9_000L, resets);
+        HeapPoolMemoryMeter meter = new HeapPoolMemoryMeter(List.of(eden, old, metaspace), List.of());
+
+        meter.resetPeak();
+        assertEquals(300L, meter.usedBytes());
+        assertEquals(300L, meter.peakBytes());
+
+        meter.recordBeforeGc(Map.of(
+                "eden", new MemoryUsage(0L, 600L, 600L, -1L),
+                "old", new MemoryUsage(0L, 50L, 50L, -1L),
+                "metaspace", new MemoryUsage(0L, 9_000L, 9_000L, -1L)));
+        meter.recordBeforeGc(Map.of("eden", new MemoryUsage(0L, 400L, 400L, -1L)));
+
+        assertEquals(650L, meter.peakBytes());
+        assertEquals(0, resets[0]);
+    }
+
+    @Test
+    void shouldSeeAllocationsThatACollectionAlreadyFreed() {
+        HeapPoolMemoryMeter meter = new HeapPoolMemoryMeter();
+        meter.resetPeak();
+        long before = meter.usedBytes();
+        byte[] block = new byte[32 * 1024 * 1024];
+        block = null;
+        System.gc();
+
+        assertTrue(meter.peakBytes() >= before + 32L * 1024 * 1024);
+    }
+
+    @Test
+    void shouldOnlyListenToCollectorsWhileMeasuring() {
+        int[] listeners = new int[1];
+        HeapPoolMemoryMeter meter = new HeapPoolMemoryMeter(List.of(), List.of(collector(listeners)));
+        assertEquals(0, listeners[0]);
+
+        meter.resetPeak();
+        meter.resetPeak();
+        assertEquals(1, listeners[0]);
+
+        meter.peakBytes();
+        meter.peakBytes();
+        assertEquals(0, listeners[0]);
+    }
+
+    private static GarbageCollectorMXBean collector(int[] listeners) {
+        return (GarbageCollectorMXBean) Proxy.newProxyInstance(
+                GarbageCollectorMXBean.class.getClassLoader(),
+                new Class<?>[] {GarbageCollectorMXBean.class, NotificationEmitter.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getName" -> "fake";
+                    case "addNotificationListener" -> {
+                        listeners[0]++;
+                        yield null;
+                    }
+                    case "removeNotificationListener" -> {
+                        listeners[0]--;
+                        yield null;
+                    }
+                    default -> null;
+                }
+        );
+    }
+
+    private static MemoryPoolMXBean pool(String name, MemoryType type, long used, long peak, int[] resets) {
+        return (MemoryPoolMXBean) Proxy.newProxyInstance(
+                MemoryPoolMXBean.class.getClassLoader(),
+                new Class<?>[] {MemoryPoolMXBean.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getName" -> name;
+                    case "getType" -> type;
+                    case "isValid" -> true;
+                    case "getUsage" -> new MemoryUsage(0L, used, used, -1L);
+                    case "getPeakUsage" -> new MemoryUsage(0L, peak, peak, -1L);
+                    case "resetPeakUsage" -> {
+                        resets[0]++;
+                        yield null;
+                    }
+                    default -> null;
+                }
+        );
+    }
+}
@@ -0,0 +1,80 @@
+package com.patrick.benchmark.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldMapValuesToLogLinearBuckets() {
+        assertEquals(0, LatencyHistogram.index(0L));
+        assertEquals(127, LatencyHistogram.index(127L));
+        assertEquals(128, LatencyHistogram.index(128L));
+        assertEquals(128, LatencyHistogram.index(129L));
+        assertEquals(192, LatencyHistogram.index(256L));
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.index(Long.MAX_VALUE));
+
+        Random random = new Random(7L);
+        for (int i = 0; i < 10_000; i++) {
+            long value = (random.nextLong() >>> 1) >>> random.nextInt(63);
+            int index = LatencyHistogram.index(value);
+            assertTrue(LatencyHistogram.lowestEquivalentValue(index) <= value);
+            assertTrue(LatencyHistogram.highestEquivalentValue(index) >= value);
+            long width = LatencyHistogram.highestEquivalentValue(index) - LatencyHistogram.lowestEquivalentValue(index);
+            assertTrue(width <= value / 64, () -> "bucket too wide for " + value);
+        }
+    }
+
+    @Test
+    void shouldReportPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1_000L);
+        }
+        histogram.record(-5L);
+
+        assertEquals(10_001L, histogram.count());
+        assertEquals(10_000_000L, histogram.max());
+        assertEquals(5_000_000.0, histogram.percentile(50.0), 5_000_000.0 / 64);
+        assertEquals(9_900_000.0, histogram.percentile(99.0), 9_900_000.0 / 64);
+        assertEquals(10_000_000L, histogram.percentile(100.0));
+        assertEquals(0L, histogram.percentile(0.0));
+        assertEquals(0L, new LatencyHistogram().percentile(99.9));
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(100.5));
+    }
+
+    @Test
+    void shouldMergeLosslessly() {
+        LatencyHistogram combined = new LatencyHistogram();
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        Random random = new Random(11L);
+        for (int i = 0; i < 5_000; i++) {
+            long value = (long) (random.nextDouble() * 50_000_000L);
+            combined.record(value);
+            (i % 3 == 0 ? first : second).record(value);
+        }
+
+        LatencyHistogram merged = first.copy();
+        merged.merge(second);
+
+        assertEquals(combined, merged);
+        assertEquals(combined.hashCode(), merged.hashCode());
+        assertEquals(combined.percentile(99.9), merged.percentile(99.9));
+        assertNotEquals(first, merged);
+        assertEquals(merged, LatencyHistogram.fromCounts(merged.toCounts(), merged.max()));
+    }
+
+    @Test
+    void shouldRejectMalformedCounts() {
+        assertThrows(IllegalArgumentException.class, () -> LatencyHistogram.fromCounts(new long[3], 0L));
+        long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+        counts[5] = -1L;
+        assertThrows(IllegalArgumentException.class, () -> LatencyHistogram.fromCounts(counts, 5L));
+    }
+}
@@ -0,0 +1,153 @@
+package com.patrick.benchmark.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProcResourceMonitorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldParseStatAfterProcessName() {
+        String stat = "42 (java (main) x) S 1 42 42 0 -1 4194560 1500 0 3 0 250 40 0 0 20 0 30 0";
+
+        assertArrayEquals(new long[] {250L, 40L, 1500L, 3L}, ProcResourceMonitor.parseStat(stat));
+    }
+
+    @Test
+    void shouldReadStatusFieldsInBytes() {
+        String status = "Name:\tjava\nVmHWM:\t  2048 kB\nvoluntary_ctxt_switches:\t17\n";
+
+        assertEquals(2048L * 1024, ProcResourceMonitor.field(status, "VmHWM"));
+        assertEquals(17L, ProcResourceMonitor.field(status, "voluntary_ctxt_switches"));
+        assertEquals(0L, ProcResourceMonitor.field(status, "VmRSS"));
+    }
+
+    @Test
+    void shouldReportDeltasFromProcFiles() throws Exception {
+        Path task = Files.createDirectories(tempDir.resolve("task").resolve("7"));
+        writeSample(task, 100L, 10L, 1_000L, 0L, 5L, 1L, 4096L);
+        ProcResourceMonitor monitor = new ProcResourceMonitor(tempDir);
+
+        ProcResourceMonitor.Session session = monitor.start();
+        writeSample(task, 130L, 12L, 1_400L, 2L, 9L, 3L, 12_288L);
+        OsUsage usage = session.stop();
+
+        assertTrue(monitor.isAvailable());
+        assertEquals(new OsUsage(300L, 20L, 400L, 2L, 4L, 2L, 8_192L, 512L * 1024), usage);
+        assertEquals("5", Files.readString(tempDir.resolve("clear_refs")));
+    }
+
+    @Test
+    void shouldKeepSwitchesOfThreadsThatExitInsideTheWindow() throws Exception {
+        Path task = Files.createDirectories(tempDir.resolve("task").resolve("7"));
+        writeSample(task, 100L, 10L, 1_000L, 0L, 5L, 1L, 4096L);
+        ProcResourceMonitor monitor = new ProcResourceMonitor(tempDir);
+
+        ProcResourceMonitor.Session session = monitor.start();
+        Path worker = Files.createDirectories(tempDir.resolve("task").resolve("8"));
+        Files.writeString(worker.resolve("status"), "voluntary_ctxt_switches:\t30\nnonvoluntary_ctxt_switches:\t4\n");
+        session.sample();
+        Files.delete(worker.resolve("status"));
+        Files.delete(worker);
+        OsUsage usage = session.stop();
+
+        assertEquals(30L, usage.voluntaryContextSwitches());
+        assertEquals(4L, usage.involuntaryContextSwitches());
+    }
+
+    @Test
+    void shouldLeaveMonitorThreadsOutOfSwitchesAndCpuTime() throws Exception {
+        Path task = Files.createDirectories(tempDir.resolve("task").resolve("7"));
+        writeSample(task, 100L, 10L, 1_000L, 0L, 5L, 1L, 4096L);
+        Path monitorTask = Files.createDirectories(tempDir.resolve("task").resolve("9"));
+        writeTask(monitorTask, 50L, 0L, 20L, 4L);
+        ProcResourceMonitor monitor = new ProcResourceMonitor(tempDir);
+
+        ProcResourceMonitor.Session session = monitor.start();
+        session.excludeTask("9");
+        writeSample(task, 130L, 12L, 1_000L, 0L, 9L, 3L, 4096L);
+        writeTask(monitorTask, 1_050L, 3L, 28L, 5L);
+        OsUsage usage = session.stop();
+
+        assertEquals(4L, usage.voluntaryContextSwitches());
+        assertEquals(2L, usage.involuntaryContextSwitches());
+        assertEquals(220L, usage.userCpuMillis());
+        assertEquals(10L, usage.systemCpuMillis());
+    }
+
+    @Test
+    void shouldSampleTasksInTheBackground() throws Exception {
+        Path task = Files.createDirectories(tempDir.resolve("task").resolve("7"));
+        writeSample(task, 100L, 10L, 1_000L, 0L, 5L, 1L, 4096L);
+        ProcResourceMonitor monitor = new ProcResourceMonitor(tempDir, 1L);
+
+        ProcResourceMonitor.Session session = monitor.start();
+        writeSample(task, 100L, 10L, 1_000L, 0L, 11L, 1L, 4096L);
+        Thread.sleep(200L);
+        Files.delete(task.resolve("status"));
+        OsUsage usage = session.stop();
+
+        assertEquals(6L, usage.voluntaryContextSwitches());
+    }
+
+    @Test
+    void shouldReportNothingWithoutProcfs() {
+        ProcResourceMonitor monitor = new ProcResourceMonitor(tempDir.resolve("missing"));
+
+        assertFalse(monitor.isAvailable());
+        assertEquals(OsUsage.NONE, monitor.start().stop());
+    }
+
+    @Test
+    void shouldSampleOwnProcessOnLinux() {
+        ProcResourceMonitor monitor = new ProcResourceMonitor();
+        assumeTrue(monitor.isAvailable());
+
+        ProcResourceMonitor.Session session = monitor.start();
+        long checksum = 0L;
+        for (int i = 0; i < 50_000_000; i++) {
+            checksum += i % 7;
+        }
+        OsUsage usage = session.stop();
+
+        assertTrue(checksum > 0L);
+        assertTrue(usage.peakRssBytes() > 0L);
+        assertTrue(usage.userCpuMillis() + usage.systemCpuMillis() >= 0L);
+    }
+
+    private static void writeTask(Path task, long voluntary, long involuntary, long userTicks, long systemTicks)
+            throws Exception {
+        Files.writeString(task.resolve("status"), "voluntary_ctxt_switches:\t" + voluntary
+                + "\nnonvoluntary_ctxt_switches:\t" + involuntary + "\n");
+        Files.writeString(task.resolve("stat"), "9 (buffer-pool-mon) S 1 7 7 0 -1 0 0 0 0 0 " + userTicks + " "
+                + systemTicks + " 0 0 20 0 1 0");
+    }
+
+    private void writeSample(
+            Path task,
+            long userTicks,
+            long systemTicks,
+            long minorFaults,
+            long majorFaults,
+            long voluntary,
+            long involuntary,
+            long readBytes
+    ) throws Exception {
+        Files.writeString(tempDir.resolve("stat"), "7 (java) S 1 7 7 0 -1 0 " + minorFaults + " 0 " + majorFaults
+                + " 0 " + userTicks + " " + systemTicks + " 0 0 20 0 1 0");
+        Files.writeString(tempDir.resolve("status"), "Name:\tjava\nVmHWM:\t     512 kB\n");
+        Files.writeString(tempDir.resolve("io"), "rchar: 1\nread_bytes: " + readBytes + "\n");
+        Files.writeString(task.resolve("status"), "voluntary_ctxt_switches:\t" + voluntary
+                + "\nnonvoluntary_ctxt_switches:\t" + involuntary + "\n");
+    }
+}
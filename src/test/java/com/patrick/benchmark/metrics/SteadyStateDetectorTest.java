@@ -0,0 +1,51 @@
+package com.patrick.benchmark.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SteadyStateDetectorTest {
+
+    @Test
+    void shouldWaitForSlidingWindowToSettle() {
+        SteadyStateDetector detector = new SteadyStateDetector(3, 0.05);
+
+        assertTrue(Double.isNaN(detector.coefficientOfVariation()));
+        assertFalse(detector.add(500L));
+        assertFalse(detector.add(200L));
+        assertFalse(detector.add(100L));
+        assertFalse(detector.add(102L));
+        assertTrue(detector.add(98L));
+        assertEquals(0.02, detector.coefficientOfVariation(), 1e-9);
+    }
+
+    @Test
+    void shouldTreatZeroSamplesAsSteady() {
+        SteadyStateDetector detector = new SteadyStateDetector(2, 0.01);
+
+        detector.add(0L);
+
+        assertTrue(detector.add(0L));
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new SteadyStateDetector(1, 0.05));
+        assertThrows(IllegalArgumentException.class, () -> new SteadyStateDetector(5, 0.0));
+    }
+
+    @Test
+    void shouldSummarizeWarmupSamples() {
+        WarmupSummary summary = new WarmupSummary(List.of(3L, 4L), 0.1, true);
+
+        assertEquals(2, summary.iterations());
+        assertEquals(7L, summary.totalNanos());
+        assertTrue(summary.detectedSteadyState());
+        assertFalse(WarmupSummary.NONE.detectedSteadyState());
+        assertEquals(0L, WarmupSummary.NONE.totalNanos());
+    }
+}
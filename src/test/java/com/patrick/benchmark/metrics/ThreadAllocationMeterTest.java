@@ -0,0 +1,36 @@
+package com.patrick.benchmark.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Proxy;
+import org.junit.jupiter.api.Test;
+
+class ThreadAllocationMeterTest {
+
+    @Test
+    void shouldCountAllocatedBytes() {
+        ThreadAllocationMeter meter = new ThreadAllocationMeter();
+        long before = meter.allocatedBytes();
+        byte[][] chunks = new byte[64][];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = new byte[16 * 1024];
+        }
+
+        assertTrue(meter.allocatedBytes() - before >= (long) chunks.length * chunks[0].length);
+    }
+
+    @Test
+    void shouldReportZeroWhenUnsupported() {
+        ThreadMXBean plain = (ThreadMXBean) Proxy.newProxyInstance(
+                ThreadMXBean.class.getClassLoader(),
+                new Class<?>[] {ThreadMXBean.class},
+                (proxy, method, args) -> null
+        );
+
+        assertEquals(0L, new ThreadAllocationMeter(plain).allocatedBytes());
+        assertTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+    }
+}
@@ -0,0 +1,54 @@
+package com.patrick.benchmark.processing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class ColumnPredicateTest {
+
+    @Test
+    void shouldMatchRawBytesIgnoringAsciiCase() {
+        ColumnPredicate notIn = ColumnPredicate.notIn(CsvColumn.DEATH_LOCATION, "HOSPITAL", "DOMICILIO");
+        ColumnPredicate in = ColumnPredicate.in(CsvColumn.UF, "sp", "São");
+
+        assertFalse(notIn.test(slice("xHOSPITALx"), 1, 9));
+        assertFalse(notIn.test(slice("xhospitalx"), 1, 9));
+        assertTrue(notIn.test(slice("xHOSPITAx"), 1, 8));
+        assertTrue(notIn.test(slice("VIA PUBLICA"), 0, 11));
+        assertTrue(in.test(slice("SP"), 0, 2));
+        assertTrue(in.test(slice("São"), 0, 4));
+        assertFalse(in.test(slice("RJ"), 0, 2));
+        assertTrue(in.test(latin1Slice("São"), 0, 3));
+        assertEquals(CsvColumn.UF, in.column());
+        assertEquals("DEATH_LOCATION not in [HOSPITAL, DOMICILIO]", notIn.toString());
+    }
+
+    @Test
+    void shouldMatchStringsIgnoringCase() {
+        ColumnPredicate notIn = ColumnPredicate.notIn(CsvColumn.DEATH_LOCATION, "HOSPITAL", "DOMICILIO");
+
+        assertFalse(notIn.test("Domicilio"));
+        assertTrue(notIn.test("OUTRO"));
+        assertTrue(notIn.test((String) null));
+    }
+
+    @Test
+    void shouldRejectPredicatesOnTotal() {
+        assertThrows(IllegalArgumentException.class, () -> ColumnPredicate.in(CsvColumn.TOTAL, "1"));
+    }
+
+    private static ByteSlice slice(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return new ByteSlice(StandardCharsets.UTF_8).set(ByteBuffer.wrap(bytes), 0, bytes.length);
+    }
+
+    private static ByteSlice latin1Slice(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.ISO_8859_1);
+        return new ByteSlice(StandardCharsets.ISO_8859_1).set(ByteBuffer.wrap(bytes), 0, bytes.length);
+    }
+}
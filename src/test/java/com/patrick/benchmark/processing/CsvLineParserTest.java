@@ -1,8 +1,16 @@
 package com.patrick.benchmark.processing;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 class CsvLineParserTest {
@@ -40,4 +48,204 @@ class CsvLineParserTest {
         assertEquals("< 9", parsedCsvRecord.ageRange());
         assertEquals(11L, parsedCsvRecord.total());
     }
+
+    @Test
+    void shouldParseByteSliceInPlace() {
+        CsvLineParser parser = new CsvLineParser();
+        MutableCsvRecord target = new MutableCsvRecord();
+
+        assertTrue(parser.parse(slice(" AC , OUTRAS,\"DOMICILIO,URBANO\", \" < 9 \" ,F, 11 "), target));
+
+        assertEquals(new CsvRecord("AC", "OUTRAS", "DOMICILIO,URBANO", "< 9", "F", 11L), target.toRecord());
+    }
+
+    @Test
+    void shouldAssignStableDictionaryCodes() {
+        CsvLineParser parser = new CsvLineParser();
+        MutableCsvRecord target = new MutableCsvRecord();
+
+        parser.parse(directSlice("SP,COVID,HOSPITAL,10-19,M,1"), target);
+        int spCode = target.ufCode();
+        String sp = target.uf();
+        parser.parse(directSlice("RJ,COVID,HOSPITAL,10-19,F,2"), target);
+        int rjCode = target.ufCode();
+        parser.parse(directSlice("SP,OUTRAS,VIA PUBLICA,20-29,M,3"), target);
+
+        assertEquals(spCode, target.ufCode());
+        assertSame(sp, target.uf());
+        assertEquals(1, rjCode - spCode);
+        assertEquals(0, target.sexCode());
+        assertEquals(1, target.deathLocationCode());
+        assertEquals(3L, target.total());
+        assertEquals(spCode, target.set(parser.parse("SP,COVID,HOSPITAL,10-19,M,1")).ufCode());
+    }
+
+    @Test
+    void shouldParseSignedAndBoundaryTotals() {
+        CsvLineParser parser = new CsvLineParser();
+        MutableCsvRecord target = new MutableCsvRecord();
+
+        assertTrue(parser.parse(slice("AC,A,B,C,D,-42"), target));
+        assertEquals(-42L, target.total());
+        assertTrue(parser.parse(slice("AC,A,B,C,D,+7"), target));
+        assertEquals(7L, target.total());
+        assertTrue(parser.parse(slice("AC,A,B,C,D,9223372036854775807"), target));
+        assertEquals(Long.MAX_VALUE, target.total());
+        assertTrue(parser.parse(slice("AC,A,B,C,D,-9223372036854775808"), target));
+        assertEquals(Long.MIN_VALUE, target.total());
+    }
+
+    @Test
+    void shouldRejectInvalidByteSlices() {
+        CsvLineParser parser = new CsvLineParser();
+        MutableCsvRecord target = new MutableCsvRecord();
+
+        assertFalse(parser.parse(slice(""), target));
+        assertFalse(parser.parse(slice("only,three,columns"), target));
+        assertFalse(parser.parse(slice("a,b,c,d,e,f,g"), target));
+        assertFalse(parser.parse(slice("AC,OUTRAS,DOMICILIO,< 9,F,invalid"), target));
+        assertFalse(parser.parse(slice("AC,OUTRAS,DOMICILIO,< 9,F,"), target));
+        assertFalse(parser.parse(slice("AC,OUTRAS,DOMICILIO,< 9,F,-"), target));
+        assertFalse(parser.parse(slice("AC,OUTRAS,DOMICILIO,< 9,F,9223372036854775808"), target));
+    }
+
+    @Test
+    void shouldLocateFieldsFromStructuralPositions() {
+        CsvLineParser parser = new CsvLineParser();
+        MutableCsvRecord target = new MutableCsvRecord();
+        ByteSlice line = slice("AC,\"A,B\",DOMICILIO,< 9,F,11");
+        int[] positions = {4, 5, 7, 9, 10, 20, 24, 26};
+
+        assertTrue(parser.parse(line.withStructurals(positions, positions.length), target));
+        assertEquals(new CsvRecord("AC", "A,B", "DOMICILIO", "< 9", "F", 11L), target.toRecord());
+
+        assertFalse(parser.parse(line.withStructurals(positions, 3), target));
+    }
+
+    @Test
+    void shouldParseStringsIntoRecordsLikeTheSplitParser() {
+        CsvLineParser parser = new CsvLineParser();
+        MutableCsvRecord target = new MutableCsvRecord();
+
+        for (String line : List.of(
+                "AC,OUTRAS,DOMICILIO,\"< 9\",F,11",
+                " SP , COVID,\"VIA, PUBLICA\",10-19 ,M, +7 ",
+                "AC,OUT\"RAS\",DOMICILIO,x\"\"y,F,\"12\"")) {
+            assertTrue(parser.parse(line, target));
+            assertEquals(parser.parse(line), target.toRecord());
+        }
+        for (String line : List.of("", "  ", "a,b,c", "a,b,c,d,e,f,g", "AC,B,C,D,E,x", "AC,B,C,D,E,")) {
+            assertFalse(parser.parse(line, target));
+            assertNull(parser.parse(line));
+        }
+        assertFalse(parser.parse((String) null, target));
+    }
+
+    @Test
+    void shouldOnlyMaterializeProjectedColumns() {
+        CsvLineParser parser = new CsvLineParser(EnumSet.of(CsvColumn.UF, CsvColumn.SEX));
+        MutableCsvRecord target = new MutableCsvRecord();
+
+        assertTrue(parser.parse(slice("AC,OUTRAS,DOMICILIO,\"< 9\",F,11"), target));
+        assertEquals(new CsvRecord("AC", null, null, null, "F", 11L), target.toRecord());
+        assertEquals(0, target.ufCode());
+        assertEquals(-1, target.ageRangeCode());
+
+        assertTrue(parser.parse(slice("SP,OUT\"RAS\",DOMICILIO,x,M,4"), target));
+        assertEquals(new CsvRecord("SP", null, null, null, "M", 4L), target.toRecord());
+
+        assertTrue(parser.parse("RJ,OUTRAS,DOMICILIO,\"< 9\",I,5", target));
+        assertEquals(new CsvRecord("RJ", null, null, null, "I", 5L), target.toRecord());
+        assertEquals(EnumSet.of(CsvColumn.UF, CsvColumn.SEX), parser.columns());
+    }
+
+    @Test
+    void shouldStillValidateTotalsAndFieldCountsWithoutProjection() {
+        CsvLineParser parser = new CsvLineParser(Set.of());
+        MutableCsvRecord target = new MutableCsvRecord();
+
+        assertTrue(parser.parse(slice("AC,OUTRAS,DOMICILIO,\"< 9\",F,11"), target));
+        assertEquals(new CsvRecord(null, null, null, null, null, 11L), target.toRecord());
+        assertFalse(parser.parse(slice("AC,OUTRAS,DOMICILIO,< 9,F,eleven"), target));
+        assertFalse(parser.parse(slice("AC,OUTRAS,DOMICILIO,F,11"), target));
+        assertFalse(parser.parse("AC,OUTRAS,DOMICILIO,< 9,F,eleven", target));
+        assertEquals(Set.of(), parser.columns());
+    }
+
+    @Test
+    void shouldRejectFilteredLinesBeforeParsingTheRest() {
+        CsvLineParser parser = new CsvLineParser(
+                EnumSet.of(CsvColumn.DEATH_LOCATION),
+                List.of(ColumnPredicate.notIn(CsvColumn.DEATH_LOCATION, "HOSPITAL", "DOMICILIO"))
+        );
+        MutableCsvRecord target = new MutableCsvRecord();
+
+        assertFalse(parser.parse(slice("AC,OUTRAS, domicilio ,< 9,F,not-a-number"), target));
+        assertTrue(parser.filtered());
+        assertFalse(parser.parse(slice("AC,OUTRAS,\"HOSPITAL\",< 9,F,1,extra"), target));
+        assertTrue(parser.filtered());
+
+        assertTrue(parser.parse(slice("AC,OUTRAS,\" VIA PUBLICA \",< 9,F,7"), target));
+        assertFalse(parser.filtered());
+        assertEquals(new CsvRecord(null, null, "VIA PUBLICA", null, null, 7L), target.toRecord());
+
+        assertFalse(parser.parse(slice("AC,OUTRAS,OUTRO,< 9,F,x"), target));
+        assertFalse(parser.filtered());
+        assertFalse(parser.parse(slice("AC,OUTRAS"), target));
+        assertFalse(parser.filtered());
+
+        assertTrue(parser.parse(slice("AC,OUTRAS,OUT\"R\"O,< 9,F,3"), target));
+        assertEquals("OUTRO", target.deathLocation());
+        assertFalse(parser.parse(slice("AC,OUTRAS,HOSP\"ITAL\",< 9,F,3"), target));
+        assertTrue(parser.filtered());
+
+        assertFalse(parser.parse("AC,OUTRAS,DOMICILIO,< 9,F,1", target));
+        assertTrue(parser.filtered());
+        assertTrue(parser.parse("AC,OUTRAS,OUTRO,< 9,F,1", target));
+        assertEquals(1, parser.filters().size());
+    }
+
+    @Test
+    void shouldPassLinesMatchingAnyFilter() {
+        CsvLineParser parser = new CsvLineParser(
+                EnumSet.of(CsvColumn.UF, CsvColumn.SEX),
+                List.of(ColumnPredicate.in(CsvColumn.SEX, "M"), ColumnPredicate.in(CsvColumn.UF, "SP"))
+        );
+        MutableCsvRecord target = new MutableCsvRecord();
+
+        assertTrue(parser.parse(slice("AC,OUTRAS,OUTRO,< 9,M,1"), target));
+        assertTrue(parser.parse(slice("SP,OUTRAS,OUTRO,< 9,F,1"), target));
+        assertFalse(parser.parse(slice("RJ,OUTRAS,OUTRO,< 9,F,1"), target));
+        assertTrue(parser.filtered());
+    }
+
+    @Test
+    void shouldCombineScenarioColumns() {
+        assertEquals(
+                EnumSet.of(CsvColumn.UF, CsvColumn.SEX, CsvColumn.TOTAL),
+                CsvColumn.union(List.of(EnumSet.of(CsvColumn.UF), Set.of(), EnumSet.of(CsvColumn.SEX, CsvColumn.TOTAL)))
+        );
+    }
+
+    @Test
+    void shouldFallBackForInnerQuotes() {
+        CsvLineParser parser = new CsvLineParser();
+        MutableCsvRecord target = new MutableCsvRecord();
+
+        assertTrue(parser.parse(slice("AC,OUT\"RAS\",DOMICILIO,x\"\"y,F,11"), target));
+
+        assertEquals(parser.parse("AC,OUT\"RAS\",DOMICILIO,x\"\"y,F,11"), target.toRecord());
+    }
+
+    private static ByteSlice slice(String line) {
+        byte[] bytes = ("xx" + line).getBytes(StandardCharsets.UTF_8);
+        return new ByteSlice(StandardCharsets.UTF_8).set(ByteBuffer.wrap(bytes), 2, bytes.length - 2);
+    }
+
+    private static ByteSlice directSlice(String line) {
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return new ByteSlice(StandardCharsets.UTF_8).set(buffer, 0, bytes.length);
+    }
 }
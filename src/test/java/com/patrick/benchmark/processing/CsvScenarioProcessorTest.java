@@ -1,9 +1,16 @@
 package com.patrick.benchmark.processing;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.patrick.benchmark.processing.scenario.DefaultScenarioCatalog;
+import com.patrick.benchmark.processing.scenario.NonHospitalOrHomeScenario;
 import com.patrick.benchmark.processing.scenario.TotalRecordsScenario;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 class CsvScenarioProcessorTest {
@@ -25,4 +32,243 @@ class CsvScenarioProcessorTest {
         assertEquals(1L, summary.invalidLines());
         assertEquals(1L, summary.scenarios().get(0).count());
     }
+
+    @Test
+    void shouldForkFileWorkersThatSkipTheirOwnHeader() {
+        CsvScenarioProcessor processor = new CsvScenarioProcessor(
+                List.of(new TotalRecordsScenario()),
+                new CsvLineParser()
+        );
+
+        CsvScenarioProcessor fileWorker = processor.forkFile();
+        fileWorker.process("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total");
+        fileWorker.process("AC,OUTRAS,DOMICILIO,\"< 9\",F,11");
+        CsvScenarioProcessor chunkWorker = processor.fork();
+        chunkWorker.process("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total");
+        processor.merge(fileWorker.summary());
+        processor.merge(chunkWorker.summary());
+
+        ProcessingSummary summary = processor.summary();
+        assertEquals(1L, summary.recordsProcessed());
+        assertEquals(1L, summary.invalidLines());
+    }
+
+    @Test
+    void shouldProcessByteSlices() {
+        CsvScenarioProcessor processor = new CsvScenarioProcessor(
+                new DefaultScenarioCatalog().createScenarios(),
+                new CsvLineParser()
+        );
+        ByteSlice slice = new ByteSlice(StandardCharsets.UTF_8);
+
+        for (String line : List.of(
+                "uf,tipo_doenca,local_obito,faixa_etaria,sexo,total",
+                "AC,OUTRAS,DOMICILIO,\"< 9\",F,11",
+                "AL,COVID,OUTRO,10-19,I,3",
+                "invalid,line")) {
+            byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+            processor.process(slice.set(ByteBuffer.wrap(bytes), 0, bytes.length));
+        }
+
+        ProcessingSummary summary = processor.summary();
+
+        assertEquals(2L, summary.recordsProcessed());
+        assertEquals(1L, summary.invalidLines());
+        assertEquals(1L, summary.scenarios().get(1).count());
+        assertEquals(Map.of("AC", 1L, "AL", 1L), summary.scenarios().get(4).breakdown());
+    }
+
+    @Test
+    void shouldDispatchBatchesWithSameResults() {
+        CsvScenarioProcessor rows = new CsvScenarioProcessor(
+                new DefaultScenarioCatalog().createScenarios(),
+                new CsvLineParser()
+        );
+        CsvScenarioProcessor batches = new CsvScenarioProcessor(
+                new DefaultScenarioCatalog().createScenarios(),
+                new CsvLineParser(),
+                3
+        );
+        CsvScenarioProcessor forkedBatches = batches.fork();
+
+        for (String line : List.of(
+                "uf,tipo_doenca,local_obito,faixa_etaria,sexo,total",
+                "AC,OUTRAS,DOMICILIO,\"< 9\",F,11",
+                "AL,COVID,OUTRO,10-19,I,3",
+                "SP,COVID,HOSPITAL,10-19,M,3",
+                "invalid,line",
+                "AC,OUTRAS,VIA PUBLICA,20-29,M,1",
+                "AL,COVID,OUTRO,10-19,F,3")) {
+            rows.process(line);
+            batches.process(line);
+            forkedBatches.process(line);
+        }
+
+        ProcessingSummary expected = rows.summary();
+        ProcessingSummary actual = batches.summary();
+        ProcessingSummary forked = forkedBatches.summary();
+
+        assertEquals(expected.recordsProcessed(), actual.recordsProcessed());
+        assertEquals(expected.invalidLines(), actual.invalidLines());
+        assertEquals(expected.recordsProcessed(), forked.recordsProcessed());
+        assertEquals(expected.invalidLines() + 1, forked.invalidLines());
+        for (int i = 0; i < expected.scenarios().size(); i++) {
+            assertEquals(expected.scenarios().get(i).count(), actual.scenarios().get(i).count());
+            assertEquals(expected.scenarios().get(i).breakdown(), actual.scenarios().get(i).breakdown());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new CsvScenarioProcessor(
+                List.of(new TotalRecordsScenario()),
+                new CsvLineParser(),
+                -1
+        ));
+    }
+
+    @Test
+    void shouldKeepCountsIdenticalAcrossTimingModes() {
+        List<String> lines = new java.util.ArrayList<>();
+        lines.add("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total");
+        for (int i = 0; i < TimingMode.SAMPLE_INTERVAL * 3; i++) {
+            lines.add("AC,OUTRAS,DOMICILIO,\"< 9\",F,11");
+            lines.add("AL,COVID,OUTRO,10-19,I,3");
+        }
+        CsvScenarioProcessor exact = new CsvScenarioProcessor(
+                new DefaultScenarioCatalog().createScenarios(),
+                new CsvLineParser()
+        );
+        for (String line : lines) {
+            exact.process(line);
+        }
+        ProcessingSummary expected = exact.summary();
+
+        for (TimingMode timingMode : TimingMode.values()) {
+            for (int batchSize : new int[] {0, 2}) {
+                CsvScenarioProcessor processor = new CsvScenarioProcessor(
+                        new DefaultScenarioCatalog().createScenarios(),
+                        new CsvLineParser(),
+                        batchSize,
+                        timingMode
+                );
+                CsvScenarioProcessor worker = processor.fork();
+                assertEquals(timingMode, worker.timingMode());
+                for (int i = 0; i < lines.size(); i++) {
+                    (i % 2 == 0 ? processor : worker).process(lines.get(i));
+                }
+                processor.merge(worker.summary());
+                ProcessingSummary actual = processor.summary();
+
+                assertEquals(expected.recordsProcessed(), actual.recordsProcessed());
+                for (int i = 0; i < expected.scenarios().size(); i++) {
+                    ScenarioReport scenario = actual.scenarios().get(i);
+                    assertEquals(expected.scenarios().get(i).count(), scenario.count());
+                    assertEquals(expected.scenarios().get(i).breakdown(), scenario.breakdown());
+                    if (timingMode == TimingMode.OFF) {
+                        assertEquals(0L, scenario.durationNanos());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldCountFilteredLinesAcrossForks() {
+        CsvScenarioProcessor processor = new CsvScenarioProcessor(
+                List.of(new NonHospitalOrHomeScenario()),
+                new CsvLineParser(
+                        EnumSet.of(CsvColumn.DEATH_LOCATION),
+                        List.of(new NonHospitalOrHomeScenario().predicate())
+                )
+        );
+        CsvScenarioProcessor worker = processor.fork();
+
+        processor.process("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total");
+        processor.process("AC,OUTRAS,DOMICILIO,\"< 9\",F,11");
+        worker.process("AL,COVID,OUTRO,10-19,I,3");
+        worker.process("AL,COVID,HOSPITAL,10-19,I,3");
+        worker.process("AL,COVID,OUTRO,10-19,I,x");
+        processor.merge(worker.summary());
+
+        ProcessingSummary summary = processor.summary();
+
+        assertEquals(1L, summary.recordsProcessed());
+        assertEquals(1L, summary.invalidLines());
+        assertEquals(2L, summary.filteredLines());
+        assertEquals(1L, summary.scenarios().get(0).count());
+    }
+
+    @Test
+    void shouldMergeForkedWorkers() {
+        CsvScenarioProcessor processor = new CsvScenarioProcessor(
+                new DefaultScenarioCatalog().createScenarios(),
+                new CsvLineParser()
+        );
+        processor.process("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total");
+        processor.process("AC,OUTRAS,DOMICILIO,\"< 9\",F,11");
+
+        CsvScenarioProcessor worker = processor.fork();
+        worker.process("AL,COVID,OUTRO,10-19,M,3");
+        worker.process("invalid,line");
+        processor.merge(worker.summary());
+
+        ProcessingSummary summary = processor.summary();
+
+        assertEquals(2L, summary.recordsProcessed());
+        assertEquals(1L, summary.invalidLines());
+        assertEquals(2L, summary.scenarios().get(0).count());
+        assertEquals(1L, summary.scenarios().get(1).count());
+        assertEquals(Map.of("< 9", 1L, "10-19", 1L), summary.scenarios().get(2).breakdown());
+        assertEquals(Map.of("Male", 1L, "Female", 1L, "Other", 0L), summary.scenarios().get(3).breakdown());
+        assertEquals(Map.of("AC", 1L, "AL", 1L), summary.scenarios().get(4).breakdown());
+    }
+
+    @Test
+    void shouldRejectMergeWithDifferentScenarios() {
+        CsvScenarioProcessor processor = new CsvScenarioProcessor(
+                List.of(new TotalRecordsScenario()),
+                new CsvLineParser()
+        );
+
+        assertThrows(IllegalArgumentException.class,
+                () -> processor.merge(new ProcessingSummary(0L, 0L, List.of())));
+    }
+
+    @Test
+    void shouldRecordLatencyPerChunkOfLines() {
+        CsvScenarioProcessor processor = new CsvScenarioProcessor(
+                List.of(new TotalRecordsScenario()),
+                new CsvLineParser(),
+                0,
+                TimingMode.EXACT,
+                2
+        );
+        processor.process("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total");
+        for (int i = 0; i < 4; i++) {
+            processor.process("AC,OUTRAS,DOMICILIO,\"< 9\",F,11");
+        }
+        processor.process("invalid,line");
+
+        CsvScenarioProcessor worker = processor.fork();
+        worker.process("AL,COVID,OUTRO,10-19,I,3");
+        worker.process("AL,COVID,OUTRO,10-19,I,3");
+        processor.merge(worker.summary());
+
+        assertEquals(3L, processor.summary().chunkLatency().count());
+        assertEquals(1L, worker.summary().chunkLatency().count());
+    }
+
+    @Test
+    void shouldSkipChunkLatencyWhenDisabled() {
+        CsvScenarioProcessor processor = new CsvScenarioProcessor(
+                List.of(new TotalRecordsScenario()),
+                new CsvLineParser(),
+                0,
+                TimingMode.EXACT,
+                0
+        );
+        processor.process("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total");
+        processor.process("AC,OUTRAS,DOMICILIO,\"< 9\",F,11");
+
+        assertEquals(0L, processor.summary().chunkLatency().count());
+        assertThrows(IllegalArgumentException.class, () -> new CsvScenarioProcessor(
+                List.of(), new CsvLineParser(), 0, TimingMode.EXACT, -1));
+    }
 }
@@ -0,0 +1,74 @@
+package com.patrick.benchmark.processing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import org.junit.jupiter.api.Test;
+
+class RecordBatchTest {
+
+    @Test
+    void shouldStoreRowsColumnWise() {
+        RecordBatch batch = new RecordBatch(2);
+        MutableCsvRecord record = new MutableCsvRecord();
+
+        assertTrue(batch.isEmpty());
+        assertFalse(batch.add(record.set("AC", "COVID", "HOSPITAL", "10-19", "M", 3L)));
+        assertTrue(batch.add(record.set("SP", "OUTRAS", "DOMICILIO", "20-29", "F", 5L)));
+
+        assertEquals(2, batch.size());
+        assertEquals(2, batch.capacity());
+        assertEquals(0, batch.ufCode(0));
+        assertEquals(1, batch.ufCode(1));
+        assertEquals(1, batch.diseaseTypeCode(1));
+        assertEquals(1, batch.deathLocationCode(1));
+        assertEquals(1, batch.ageRangeCode(1));
+        assertEquals(1, batch.sexCode(1));
+        assertEquals(3L, batch.total(0));
+        assertEquals("AC", batch.uf(0));
+        assertEquals("OUTRAS", batch.diseaseType(1));
+        assertEquals("DOMICILIO", batch.deathLocation(1));
+        assertEquals("20-29", batch.ageRange(1));
+        assertEquals("M", batch.sex(0));
+        assertEquals(new CsvRecord("AC", "COVID", "HOSPITAL", "10-19", "M", 3L), batch.row(0).toRecord());
+        assertSame(batch.row(0), batch.row(1));
+        assertEquals(new CsvRecord("SP", "OUTRAS", "DOMICILIO", "20-29", "F", 5L), batch.row(1).toRecord());
+        assertThrows(IllegalStateException.class, () -> batch.add(record));
+    }
+
+    @Test
+    void shouldOnlySwitchSourceRecordWhenEmpty() {
+        RecordBatch batch = new RecordBatch();
+        batch.add(new MutableCsvRecord().set("AC", "COVID", "HOSPITAL", "10-19", "M", 3L));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> batch.add(new MutableCsvRecord().set("SP", "COVID", "HOSPITAL", "10-19", "M", 3L)));
+
+        batch.clear();
+        batch.add(new MutableCsvRecord().set("SP", "COVID", "HOSPITAL", "10-19", "M", 3L));
+
+        assertEquals("SP", batch.row(0).uf());
+        assertEquals(RecordBatch.DEFAULT_CAPACITY, batch.capacity());
+        assertThrows(IllegalArgumentException.class, () -> new RecordBatch(0));
+    }
+
+    @Test
+    void shouldReturnNullLabelsForUnparsedColumns() {
+        CsvLineParser parser = new CsvLineParser(EnumSet.of(CsvColumn.UF));
+        MutableCsvRecord record = new MutableCsvRecord();
+        RecordBatch batch = new RecordBatch(4);
+
+        parser.parse("AC,OUTRAS,DOMICILIO,< 9,F,11", record);
+        batch.add(record);
+
+        assertEquals("AC", batch.uf(0));
+        assertNull(batch.sex(0));
+        assertEquals(-1, batch.sexCode(0));
+        assertNull(batch.row(0).ageRange());
+    }
+}
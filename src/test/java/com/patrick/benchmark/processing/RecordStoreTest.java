@@ -0,0 +1,91 @@
+package com.patrick.benchmark.processing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.patrick.benchmark.processing.scenario.NonHospitalOrHomeScenario;
+import com.patrick.benchmark.processing.scenario.TotalRecordsScenario;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RecordStoreTest {
+
+    private static final List<String> LINES = List.of(
+            "uf,tipo_doenca,local_obito,faixa_etaria,sexo,total",
+            "AC,OUTRAS,DOMICILIO,\"< 9\",F,11",
+            "AL,COVID,OUTRO,10-19,I,3",
+            "invalid,line",
+            "SP,COVID,HOSPITAL,20-29,M,5"
+    );
+
+    @Test
+    void shouldReplayStoredRecordsIntoEachScenario() {
+        RecordStore store = new RecordStore(new CsvLineParser());
+        CsvScenarioProcessor direct = new CsvScenarioProcessor(
+                List.of(new NonHospitalOrHomeScenario()), new CsvLineParser());
+        LINES.forEach(store::process);
+        LINES.forEach(direct::process);
+
+        CsvScenarioProcessor totals = new CsvScenarioProcessor(List.of(new TotalRecordsScenario()), new CsvLineParser());
+        CsvScenarioProcessor nonHospital = new CsvScenarioProcessor(
+                List.of(new NonHospitalOrHomeScenario()), new CsvLineParser());
+        store.replay(totals);
+        store.replay(nonHospital);
+
+        ProcessingSummary summary = store.summary();
+        assertEquals(3L, summary.recordsProcessed());
+        assertEquals(1L, summary.invalidLines());
+        assertEquals(1, store.batchCount());
+        assertEquals(3L, totals.summary().scenarios().get(0).count());
+        assertEquals(direct.summary().scenarios().get(0).breakdown(),
+                nonHospital.summary().scenarios().get(0).breakdown());
+        assertEquals(3L, nonHospital.summary().recordsProcessed());
+    }
+
+    @Test
+    void shouldAdoptBatchesFromForkedWorkers() {
+        RecordStore store = new RecordStore(new CsvLineParser());
+        store.process(LINES.get(0));
+        store.process(bytes(LINES.get(1)));
+
+        RecordStore chunkWorker = store.fork();
+        chunkWorker.process(bytes(LINES.get(2)));
+        chunkWorker.process(bytes(LINES.get(3)));
+        store.merge(chunkWorker.summary());
+
+        RecordStore fileWorker = store.forkFile();
+        fileWorker.process(LINES.get(0));
+        fileWorker.process(LINES.get(4));
+        store.merge(fileWorker.summary());
+
+        CsvScenarioProcessor totals = new CsvScenarioProcessor(List.of(new TotalRecordsScenario()), new CsvLineParser());
+        store.replay(totals);
+
+        assertEquals(3L, store.summary().recordsProcessed());
+        assertEquals(1L, store.summary().invalidLines());
+        assertEquals(3, store.batchCount());
+        assertEquals(3L * RecordBatch.DEFAULT_CAPACITY * RecordStore.BYTES_PER_ROW, store.footprintBytes());
+        assertEquals(3L, totals.summary().scenarios().get(0).count());
+    }
+
+    @Test
+    void shouldStopOnceWorkersTogetherExceedTheBudget() {
+        long batchBytes = (long) RecordBatch.DEFAULT_CAPACITY * RecordStore.BYTES_PER_ROW;
+        RecordStore store = new RecordStore(new CsvLineParser(), 2 * batchBytes);
+        store.process(LINES.get(0));
+        store.process(LINES.get(1));
+        RecordStore worker = store.fork();
+        worker.process(LINES.get(2));
+        RecordStore another = store.fork();
+
+        assertThrows(IllegalStateException.class, () -> another.process(LINES.get(4)));
+        assertThrows(IllegalArgumentException.class, () -> new RecordStore(new CsvLineParser(), 0L));
+    }
+
+    private static ByteSlice bytes(String line) {
+        byte[] encoded = line.getBytes(StandardCharsets.UTF_8);
+        return new ByteSlice(StandardCharsets.UTF_8).set(ByteBuffer.wrap(encoded), 0, encoded.length);
+    }
+}
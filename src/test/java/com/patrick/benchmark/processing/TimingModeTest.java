@@ -0,0 +1,27 @@
+package com.patrick.benchmark.processing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class TimingModeTest {
+
+    @Test
+    void shouldParseTimingLabels() {
+        assertEquals(TimingMode.EXACT, TimingMode.fromLabel("exact"));
+        assertEquals(TimingMode.EXACT, TimingMode.fromLabel("per-record"));
+        assertEquals(TimingMode.BATCH, TimingMode.fromLabel(" Batch "));
+        assertEquals(TimingMode.SAMPLED, TimingMode.fromLabel("sampled"));
+        assertEquals(TimingMode.OFF, TimingMode.fromLabel("off"));
+        assertEquals(TimingMode.OFF, TimingMode.fromLabel("none"));
+        assertNull(TimingMode.fromLabel("approximate"));
+        assertNull(TimingMode.fromLabel(null));
+    }
+
+    @Test
+    void shouldQualifyResultNames() {
+        assertEquals("MemoryMapped [timing off]", TimingMode.OFF.qualify("MemoryMapped"));
+        assertEquals("sampled 1/" + TimingMode.SAMPLE_INTERVAL, TimingMode.SAMPLED.displayName());
+    }
+}
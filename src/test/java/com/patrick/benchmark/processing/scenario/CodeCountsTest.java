@@ -0,0 +1,128 @@
+package com.patrick.benchmark.processing.scenario;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.patrick.benchmark.processing.CsvColumn;
+import com.patrick.benchmark.processing.MutableCsvRecord;
+import com.patrick.benchmark.processing.ScenarioData;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class CodeCountsTest {
+
+    @Test
+    void shouldCountByCodeAndResolveLabels() {
+        MutableCsvRecord record = new MutableCsvRecord();
+        CodeCounts counts = new CodeCounts();
+        counts.bind(record.dictionary(CsvColumn.UF));
+        for (int code = 0; code < 40; code++) {
+            counts.increment(record.set("K" + code, "COVID", "HOSPITAL", "10-19", "F", 1L).ufCode());
+        }
+        counts.increment(39);
+
+        Map<String, Long> breakdown = counts.toMap();
+
+        assertEquals(40, breakdown.size());
+        assertEquals(2L, breakdown.get("K39"));
+    }
+
+    @Test
+    void shouldKeepRecordsFromDifferentDictionariesApart() {
+        UfScenario ufs = new UfScenario();
+        SexScenario sexes = new SexScenario();
+        NonHospitalOrHomeScenario locations = new NonHospitalOrHomeScenario();
+
+        for (String[] row : new String[][] {
+                {"AC", "F", "HOSPITAL"},
+                {"SP", "M", "VIA PUBLICA"},
+                {"AC", "I", "DOMICILIO"}}) {
+            MutableCsvRecord record = new MutableCsvRecord().set(row[0], "COVID", row[2], "10-19", row[1], 1L);
+            ufs.process(record);
+            sexes.process(record);
+            locations.process(record);
+        }
+
+        assertEquals(Map.of("AC", 2L, "SP", 1L), ufs.data().breakdown());
+        assertEquals(Map.of("Male", 1L, "Female", 1L, "Other", 1L), sexes.data().breakdown());
+        assertEquals(1L, locations.data().count());
+    }
+
+    @Test
+    void shouldResolveCodesAgainstTheDictionaryTheyCameFrom() {
+        UfScenario ufs = new UfScenario();
+        SexScenario sexes = new SexScenario();
+        NonHospitalOrHomeScenario locations = new NonHospitalOrHomeScenario();
+        MutableCsvRecord first = new MutableCsvRecord();
+        MutableCsvRecord second = new MutableCsvRecord();
+        second.set("SP", "COVID", "VIA PUBLICA", "10-19", "I", 1L);
+
+        for (String[] row : new String[][] {
+                {"first", "AC", "F", "HOSPITAL"},
+                {"second", "AC", "F", "HOSPITAL"},
+                {"first", "SP", "M", "VIA PUBLICA"}}) {
+            MutableCsvRecord record = row[0].equals("first") ? first : second;
+            record.set(row[1], "COVID", row[3], "10-19", row[2], 1L);
+            ufs.process(record);
+            sexes.process(record);
+            locations.process(record);
+        }
+
+        assertEquals(1, second.ufCode());
+        assertEquals(Map.of("AC", 2L, "SP", 1L), ufs.data().breakdown());
+        assertEquals(Map.of("Male", 1L, "Female", 2L, "Other", 0L), sexes.data().breakdown());
+        assertEquals(1L, locations.data().count());
+    }
+
+    @Test
+    void shouldCombineMergedAndCountedValues() {
+        AgeRangeScenario ages = new AgeRangeScenario();
+        MutableCsvRecord record = new MutableCsvRecord();
+        ages.process(record.set("AC", "COVID", "HOSPITAL", "10-19", "F", 1L));
+        ages.process(record.set("AC", "COVID", "HOSPITAL", "20-29", "F", 1L));
+        ages.process(record.set("AC", "COVID", "HOSPITAL", "10-19", "F", 1L));
+
+        ages.merge(new ScenarioData(3L, Map.of("10-19", 1L, "80+", 2L)));
+
+        assertEquals(Map.of("10-19", 3L, "20-29", 1L, "80+", 2L), ages.data().breakdown());
+        assertEquals(6L, ages.data().count());
+    }
+
+    @Test
+    void shouldDeclareTheColumnsEachScenarioReads() {
+        Map<String, Set<CsvColumn>> columns = new DefaultScenarioCatalog().createScenarios().stream()
+                .collect(Collectors.toMap(ScenarioProcessor::name, ScenarioProcessor::columns));
+
+        assertEquals(Set.of(), columns.get("Total Records"));
+        assertEquals(Set.of(CsvColumn.DEATH_LOCATION), columns.get("Non Hospital or Home"));
+        assertEquals(Set.of(CsvColumn.AGE_RANGE), columns.get("By Age Range"));
+        assertEquals(Set.of(CsvColumn.SEX), columns.get("By Sex"));
+        assertEquals(Set.of(CsvColumn.UF), columns.get("By UF"));
+        assertEquals(EnumSet.allOf(CsvColumn.class), new ScenarioProcessor() {
+            @Override
+            public String name() {
+                return "custom";
+            }
+
+            @Override
+            public void process(MutableCsvRecord record) {
+            }
+
+            @Override
+            public ScenarioData data() {
+                return new ScenarioData(0L, null);
+            }
+
+            @Override
+            public ScenarioProcessor newInstance() {
+                return this;
+            }
+
+            @Override
+            public void merge(ScenarioData data) {
+            }
+        }.columns());
+    }
+}
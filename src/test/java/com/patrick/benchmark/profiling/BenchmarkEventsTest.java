@@ -0,0 +1,68 @@
+package com.patrick.benchmark.profiling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.patrick.benchmark.processing.CsvLineParser;
+import com.patrick.benchmark.processing.CsvScenarioProcessor;
+import com.patrick.benchmark.processing.RecordBatch;
+import com.patrick.benchmark.processing.scenario.TotalRecordsScenario;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BenchmarkEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldEmitReadBatchAndParseFailureEvents() throws Exception {
+        Path output = tempDir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(StrategyReadEvent.class);
+            recording.enable(ScenarioBatchEvent.class);
+            recording.enable(ParseFailureEvent.class);
+            recording.start();
+
+            StrategyReadEvent read = StrategyReadEvent.start("BufferedReader", "Single-Pass");
+            CsvScenarioProcessor processor = new CsvScenarioProcessor(
+                    List.of(new TotalRecordsScenario()),
+                    new CsvLineParser(),
+                    RecordBatch.DEFAULT_CAPACITY
+            );
+            processor.process("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total");
+            processor.process("invalid,line");
+            for (int i = 0; i < RecordBatch.DEFAULT_CAPACITY + 10; i++) {
+                processor.process("AC,OUTRAS,DOMICILIO,\"< 9\",F,11");
+            }
+            processor.summary();
+            read.finish(true);
+
+            recording.stop();
+            recording.dump(output);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(output);
+        List<RecordedEvent> reads = named(events, "com.patrick.benchmark.StrategyRead");
+        List<RecordedEvent> batches = named(events, "com.patrick.benchmark.ScenarioBatch");
+        List<RecordedEvent> failures = named(events, "com.patrick.benchmark.ParseFailure");
+
+        assertEquals(1, reads.size());
+        assertEquals("BufferedReader", reads.get(0).getString("strategy"));
+        assertTrue(reads.get(0).getBoolean("succeeded"));
+        assertEquals(List.of((long) RecordBatch.DEFAULT_CAPACITY, 10L),
+                batches.stream().map(event -> event.getLong("records")).sorted((a, b) -> Long.compare(b, a)).toList());
+        assertEquals(1, failures.size());
+        assertEquals(2L, failures.get(0).getLong("line"));
+        assertEquals(12, failures.get(0).getInt("length"));
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    }
+}
@@ -0,0 +1,64 @@
+package com.patrick.benchmark.profiling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.patrick.benchmark.BenchmarkReport;
+import com.patrick.benchmark.ProcessingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JfrProfilerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldDumpRecordingPerModeAndAttributeSamplesToStrategies() {
+        JfrProfiler profiler = new JfrProfiler(tempDir.resolve("jfr"));
+        BenchmarkReport report = new BenchmarkReport(ProcessingMode.SINGLE_PASS, List.of());
+
+        BenchmarkReport recorded = profiler.record(ProcessingMode.SINGLE_PASS, () -> {
+            StrategyReadEvent read = StrategyReadEvent.start("Allocating", "Single-Pass");
+            List<byte[]> retained = new ArrayList<>();
+            long checksum = 0L;
+            for (int i = 0; i < 20_000; i++) {
+                byte[] chunk = allocate(i);
+                checksum += chunk.length;
+                if (i % 100 == 0) {
+                    retained.add(chunk);
+                }
+            }
+            read.finish(checksum > retained.size());
+            return report;
+        });
+        profiler.record(ProcessingMode.SINGLE_PASS, () -> report);
+
+        assertSame(report, recorded);
+        assertTrue(Files.exists(tempDir.resolve("jfr").resolve("benchmark-single-pass.jfr")));
+        assertTrue(Files.exists(tempDir.resolve("jfr").resolve("benchmark-single-pass-run2.jfr")));
+        List<StrategyProfile> profiles = profiler.profiles().get(ProcessingMode.SINGLE_PASS);
+        assertEquals(List.of("Allocating"), profiles.stream().map(StrategyProfile::strategyName).toList());
+        assertFalse(profiles.get(0).allocationSites().isEmpty());
+        assertEquals(JfrProfilerTest.class.getName() + ".allocate", profiles.get(0).allocationSites().get(0).frame());
+        assertTrue(profiles.get(0).allocationSites().size() <= JfrProfiler.TOP_FRAMES);
+    }
+
+    @Test
+    void shouldNameRecordingsByModeAndRun() {
+        assertEquals("benchmark-isolated.jfr", JfrProfiler.fileName(ProcessingMode.ISOLATED, 1));
+        assertEquals("benchmark-single-pass-run3.jfr", JfrProfiler.fileName(ProcessingMode.SINGLE_PASS, 3));
+        assertTrue(FlightRecordingSummary.isPlatformType("javax.management.Notification"));
+        assertFalse(FlightRecordingSummary.isPlatformType("com.patrick.benchmark.App"));
+    }
+
+    private static byte[] allocate(int i) {
+        return new byte[4096 + (i & 255)];
+    }
+}
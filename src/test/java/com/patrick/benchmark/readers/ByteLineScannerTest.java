@@ -0,0 +1,206 @@
+package com.patrick.benchmark.readers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.patrick.benchmark.processing.ByteSlice;
+import com.patrick.benchmark.processing.LineProcessor;
+import com.patrick.benchmark.processing.ProcessingSummary;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ByteLineScannerTest {
+
+    @Test
+    void shouldSplitLinesAndStripCarriageReturn() {
+        ByteLineScanner scanner = new ByteLineScanner(StandardCharsets.UTF_8, 4);
+        CollectingProcessor processor = new CollectingProcessor();
+
+        scanner.decode(ByteBuffer.wrap("A\r\nB\n\nC\r".getBytes(StandardCharsets.UTF_8)), true, processor);
+        scanner.finish(processor);
+
+        assertEquals(List.of("A", "B", "", "C"), processor.lines());
+    }
+
+    @Test
+    void shouldCarryPartialLinesAcrossBuffers() {
+        ByteLineScanner scanner = new ByteLineScanner(StandardCharsets.UTF_8, 2);
+        CollectingProcessor processor = new CollectingProcessor();
+        byte[] bytes = "São Paulo,ÁREA\r\nGoiânia with a fairly long line\nend".getBytes(StandardCharsets.UTF_8);
+
+        for (int offset = 0; offset < bytes.length; offset += 3) {
+            ByteBuffer direct = ByteBuffer.allocateDirect(3);
+            direct.put(bytes, offset, Math.min(3, bytes.length - offset)).flip();
+            scanner.decode(direct, false, processor);
+        }
+        scanner.finish(processor);
+
+        assertEquals(List.of("São Paulo,ÁREA", "Goiânia with a fairly long line", "end"), processor.lines());
+    }
+
+    @Test
+    void shouldPassReusableSlicesInSliceMode() {
+        ByteLineScanner scanner = new ByteLineScanner(StandardCharsets.UTF_8, 2, true);
+        SliceProcessor processor = new SliceProcessor();
+        byte[] bytes = "first\r\nsecond line\nlast\r".getBytes(StandardCharsets.UTF_8);
+
+        for (int offset = 0; offset < bytes.length; offset += 4) {
+            ByteBuffer direct = ByteBuffer.allocateDirect(4);
+            direct.put(bytes, offset, Math.min(4, bytes.length - offset)).flip();
+            scanner.decode(direct, false, processor);
+        }
+        scanner.finish(processor);
+
+        assertEquals(List.of("first", "second line", "last"), processor.lines());
+        assertEquals(1, processor.distinctSlices());
+    }
+
+    @Test
+    void shouldRecordStructuralPositionsPerLine() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            text.append("AC,\"A,B\",LOCAL ").append(i).append(",10-19,F,").append(i).append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        text.append("tail,\"x\"");
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+
+        for (StructuralScanner structuralScanner : List.of(new ScalarStructuralScanner(), new VectorStructuralScanner())) {
+            for (int chunk : new int[] {bytes.length, 100, 7}) {
+                ByteLineScanner scanner = new ByteLineScanner(StandardCharsets.UTF_8, 8, structuralScanner);
+                SliceProcessor processor = new SliceProcessor();
+                for (int offset = 0; offset < bytes.length; offset += chunk) {
+                    ByteBuffer direct = ByteBuffer.allocateDirect(chunk);
+                    direct.put(bytes, offset, Math.min(chunk, bytes.length - offset)).flip();
+                    scanner.decode(direct, false, processor);
+                }
+                scanner.finish(processor);
+
+                assertEquals(List.of(text.toString().split("\r?\n")), processor.lines());
+                assertTrue(processor.structuralLines() > 0 || chunk == 7);
+            }
+        }
+    }
+
+    @Test
+    void shouldFindNewlinesInBothByteOrders() {
+        byte[] bytes = new byte[40];
+        java.util.Arrays.fill(bytes, (byte) 'x');
+        for (int expected = 0; expected < bytes.length; expected++) {
+            bytes[expected] = '\n';
+            ByteBuffer big = ByteBuffer.wrap(bytes).order(ByteOrder.BIG_ENDIAN);
+            ByteBuffer little = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+
+            assertEquals(expected, ByteLineScanner.indexOfNewline(big, 0, bytes.length));
+            assertEquals(expected, ByteLineScanner.indexOfNewline(little, 0, bytes.length));
+            bytes[expected] = 'x';
+        }
+        assertEquals(-1, ByteLineScanner.indexOfNewline(ByteBuffer.wrap(bytes), 0, bytes.length));
+    }
+
+    @Test
+    void shouldNotMatchBytesAdjacentToNewlineValue() {
+        byte[] bytes = {0x0B, 0x0A, 0x09, 0x0B, 0x0B, 0x0B, 0x0B, 0x0B, (byte) 0x8A};
+        ByteBuffer big = ByteBuffer.wrap(bytes).order(ByteOrder.BIG_ENDIAN);
+
+        assertEquals(1, ByteLineScanner.indexOfNewline(big, 0, bytes.length));
+        assertEquals(-1, ByteLineScanner.indexOfNewline(big, 2, bytes.length));
+    }
+
+    @Test
+    void shouldFallBackToDecoderForNonAsciiCharsets() {
+        assertEquals(ByteLineScanner.class,
+                LineScanMode.BYTE_SCAN.newSplitter(StandardCharsets.ISO_8859_1, 8).getClass());
+        assertEquals(ByteBufferLineReader.class,
+                LineScanMode.BYTE_SCAN.newSplitter(StandardCharsets.UTF_16, 8).getClass());
+        assertEquals(ByteBufferLineReader.class,
+                LineScanMode.DECODER.newSplitter(StandardCharsets.UTF_8, 8).getClass());
+        assertEquals(ByteLineScanner.class,
+                LineScanMode.BYTE_SLICE.newSplitter(StandardCharsets.UTF_8, 8).getClass());
+    }
+
+    @Test
+    void shouldParseScanModeLabels() {
+        assertEquals(LineScanMode.BYTE_SCAN, LineScanMode.fromLabel("byte"));
+        assertEquals(LineScanMode.BYTE_SCAN, LineScanMode.fromLabel(" Byte-Scan "));
+        assertEquals(LineScanMode.DECODER, LineScanMode.fromLabel("decoder"));
+        assertEquals(LineScanMode.BYTE_SLICE, LineScanMode.fromLabel("slice"));
+        assertEquals(LineScanMode.STRUCTURAL, LineScanMode.fromLabel("structural"));
+        assertEquals(LineScanMode.VECTOR, LineScanMode.fromLabel("simd"));
+        assertEquals(null, LineScanMode.fromLabel("unknown"));
+        assertEquals(null, LineScanMode.fromLabel(null));
+    }
+
+    private static final class CollectingProcessor implements LineProcessor {
+
+        private final List<String> lines = new ArrayList<>();
+
+        @Override
+        public void process(String line) {
+            lines.add(line);
+        }
+
+        @Override
+        public ProcessingSummary summary() {
+            return new ProcessingSummary(lines.size(), 0L, List.of());
+        }
+
+        private List<String> lines() {
+            return List.copyOf(lines);
+        }
+    }
+
+    private static final class SliceProcessor implements LineProcessor {
+
+        private final List<String> lines = new ArrayList<>();
+        private int structuralLines;
+        private final java.util.Set<ByteSlice> slices = java.util.Collections.newSetFromMap(
+                new java.util.IdentityHashMap<>());
+
+        @Override
+        public void process(String line) {
+            throw new AssertionError("Expected byte slices only");
+        }
+
+        @Override
+        public void process(ByteSlice line) {
+            slices.add(line);
+            String value = line.decode();
+            lines.add(value);
+            if (line.structuralCount() >= 0) {
+                List<Integer> expected = new ArrayList<>();
+                for (int i = 0; i < value.length(); i++) {
+                    if (value.charAt(i) == ',' || value.charAt(i) == '"') {
+                        expected.add(i);
+                    }
+                }
+                List<Integer> actual = new ArrayList<>();
+                for (int i = 0; i < line.structuralCount(); i++) {
+                    actual.add(line.structural(i));
+                }
+                assertEquals(expected, actual);
+                structuralLines++;
+            }
+        }
+
+        @Override
+        public ProcessingSummary summary() {
+            return new ProcessingSummary(lines.size(), 0L, List.of());
+        }
+
+        private List<String> lines() {
+            return List.copyOf(lines);
+        }
+
+        private int structuralLines() {
+            return structuralLines;
+        }
+
+        private int distinctSlices() {
+            return slices.size();
+        }
+    }
+}
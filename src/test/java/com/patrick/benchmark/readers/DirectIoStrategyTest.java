@@ -0,0 +1,105 @@
+package com.patrick.benchmark.readers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.patrick.benchmark.processing.CsvLineParser;
+import com.patrick.benchmark.processing.CsvScenarioProcessor;
+import com.patrick.benchmark.processing.LineProcessor;
+import com.patrick.benchmark.processing.ProcessingSummary;
+import com.patrick.benchmark.processing.scenario.DefaultScenarioCatalog;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DirectIoStrategyTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldMatchCachedReadsAcrossBlocksAndUnalignedTail() throws Exception {
+        StringBuilder content = new StringBuilder("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total\n");
+        for (int i = 0; i < 20_000; i++) {
+            content.append(i % 2 == 0 ? "SP" : "AC").append(",OUTRAS,")
+                    .append(i % 7 == 0 ? "DOMICÍLIO ÁÃÇÕ" : "HOSPITAL").append(",\"< 9\",F,").append(i % 50)
+                    .append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        content.append("SP,OUTRAS,DOMICILIO,\"< 9\",F,7");
+        Path file = Files.writeString(tempDir.resolve("direct.csv"), content.toString());
+        int blockSize = DirectIoStrategy.blockSize(file);
+
+        ProcessingSummary expected = read(new NioByteBufferStrategy(), file);
+        for (FileReadStrategy strategy : List.of(
+                new DirectIoStrategy(16),
+                new DirectIoStrategy(3 * blockSize + 1),
+                new DirectIoStrategy(blockSize, LineScanMode.BYTE_SCAN))) {
+            ProcessingSummary actual = read(strategy, file);
+
+            assertEquals(expected.recordsProcessed(), actual.recordsProcessed());
+            assertEquals(expected.invalidLines(), actual.invalidLines());
+            for (int i = 0; i < expected.scenarios().size(); i++) {
+                assertEquals(expected.scenarios().get(i).breakdown(), actual.scenarios().get(i).breakdown());
+            }
+            assertEquals(Files.size(file), strategy.readRaw(file));
+        }
+        assertEquals(20_001L, expected.recordsProcessed());
+    }
+
+    @Test
+    void shouldReadFilesSmallerThanOneBlock() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("tiny.csv"), "header\nfirst\nsecond");
+        List<String> lines = new ArrayList<>();
+
+        new DirectIoStrategy().read(file, StandardCharsets.UTF_8, collecting(lines));
+
+        assertEquals(List.of("header", "first", "second"), lines);
+        assertEquals(Files.size(file), new DirectIoStrategy().readRaw(file));
+    }
+
+    @Test
+    void shouldNameBufferSizesAndRejectTinyBuffers() {
+        assertEquals("Direct I/O (1 MB buffer)", new DirectIoStrategy().name());
+        assertEquals("Direct I/O (64 KB buffer, byte scan)",
+                new DirectIoStrategy(64 * 1024, LineScanMode.BYTE_SCAN).name());
+        assertEquals("NIO ByteBuffer (1 MB buffer)", new NioByteBufferStrategy(1024 * 1024).name());
+        assertEquals("NIO ByteBuffer", new NioByteBufferStrategy(NioByteBufferStrategy.DEFAULT_BUFFER_SIZE).name());
+        assertThrows(IllegalArgumentException.class, () -> new DirectIoStrategy(8));
+        assertThrows(IllegalArgumentException.class, () -> new NioByteBufferStrategy(8));
+    }
+
+    @Test
+    void shouldPropagateMissingFiles() {
+        Path missing = tempDir.resolve("missing.csv");
+
+        assertThrows(IOException.class, () -> DirectIoStrategy.isSupported(missing));
+        assertThrows(IOException.class,
+                () -> new DirectIoStrategy().read(missing, StandardCharsets.UTF_8, collecting(new ArrayList<>())));
+    }
+
+    private static LineProcessor collecting(List<String> lines) {
+        return new LineProcessor() {
+            @Override
+            public void process(String line) {
+                lines.add(line);
+            }
+
+            @Override
+            public ProcessingSummary summary() {
+                return new ProcessingSummary(lines.size(), 0L, List.of());
+            }
+        };
+    }
+
+    private static ProcessingSummary read(FileReadStrategy strategy, Path file) throws IOException {
+        CsvScenarioProcessor processor = new CsvScenarioProcessor(
+                new DefaultScenarioCatalog().createScenarios(), new CsvLineParser());
+        strategy.read(file, StandardCharsets.UTF_8, processor);
+        return processor.summary();
+    }
+}
@@ -0,0 +1,154 @@
+package com.patrick.benchmark.readers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.patrick.benchmark.processing.CsvLineParser;
+import com.patrick.benchmark.processing.CsvScenarioProcessor;
+import com.patrick.benchmark.processing.LineProcessor;
+import com.patrick.benchmark.processing.ProcessingSummary;
+import com.patrick.benchmark.processing.scenario.DefaultScenarioCatalog;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DirectoryReadStrategyTest {
+
+    private static final String HEADER = "uf,tipo_doenca,local_obito,faixa_etaria,sexo,total\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldMergeEveryFileIntoOneSummaryOnBothSchedulers() throws Exception {
+        for (int i = 0; i < 12; i++) {
+            writeShard("part-" + i + ".csv", 10 + i);
+        }
+        Files.writeString(tempDir.resolve("notes.txt"), "not,a,shard\n");
+
+        for (ThreadScheduler scheduler : ThreadScheduler.values()) {
+            CsvScenarioProcessor processor = newProcessor();
+            new DirectoryReadStrategy(new MemoryMappedFileStrategy(), scheduler, 3)
+                    .read(tempDir, StandardCharsets.UTF_8, processor);
+            ProcessingSummary summary = processor.summary();
+
+            assertEquals(12 * 10 + 66, summary.recordsProcessed());
+            assertEquals(0L, summary.invalidLines());
+            assertEquals(summary.recordsProcessed(), summary.scenarios().get(0).count());
+        }
+    }
+
+    @Test
+    void shouldLimitConcurrentFileReads() throws Exception {
+        for (int i = 0; i < 16; i++) {
+            writeShard("part-" + i + ".csv", 1);
+        }
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        FileReadStrategy slow = new FileReadStrategy() {
+            @Override
+            public String name() {
+                return "Slow";
+            }
+
+            @Override
+            public void read(Path path, Charset charset, LineProcessor processor) throws IOException {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                new BufferedReaderStrategy().read(path, charset, processor);
+                running.decrementAndGet();
+            }
+        };
+
+        CsvScenarioProcessor processor = newProcessor();
+        new DirectoryReadStrategy(slow, ThreadScheduler.VIRTUAL, 2).read(tempDir, StandardCharsets.UTF_8, processor);
+
+        assertEquals(16L, processor.summary().recordsProcessed());
+        assertTrue(peak.get() <= 2);
+    }
+
+    @Test
+    void shouldResolveGlobsAndPlainFiles() throws Exception {
+        Path first = writeShard("a-1.csv", 1);
+        Path second = writeShard("a-2.csv", 1);
+        writeShard("b-1.csv", 1);
+
+        assertEquals(List.of(first, second), InputFiles.resolve(tempDir.resolve("a-*.csv")));
+        assertEquals(List.of(first), InputFiles.resolve(first));
+        assertTrue(InputFiles.isMultiFile(tempDir));
+        assertTrue(InputFiles.isMultiFile(tempDir.resolve("*.csv")));
+        assertFalse(InputFiles.isMultiFile(first));
+        assertTrue(InputFiles.exists(tempDir.resolve("missing-*.csv")));
+        assertFalse(InputFiles.exists(tempDir.resolve("missing/*.csv")));
+        assertEquals(Files.size(first) * 3, InputFiles.size(tempDir));
+    }
+
+    @Test
+    void shouldPropagateReadFailuresAndRejectPlainProcessors() throws Exception {
+        writeShard("part-1.csv", 1);
+        FileReadStrategy failing = new FileReadStrategy() {
+            @Override
+            public String name() {
+                return "Failing";
+            }
+
+            @Override
+            public void read(Path path, Charset charset, LineProcessor processor) throws IOException {
+                throw new IOException("disk gone");
+            }
+        };
+        LineProcessor plain = new LineProcessor() {
+            @Override
+            public void process(String line) {
+            }
+
+            @Override
+            public ProcessingSummary summary() {
+                return new ProcessingSummary(0L, 0L, List.of());
+            }
+        };
+
+        IOException failure = assertThrows(IOException.class, () -> new DirectoryReadStrategy(
+                failing, ThreadScheduler.PLATFORM, 1).read(tempDir, StandardCharsets.UTF_8, newProcessor()));
+        assertEquals("disk gone", failure.getMessage());
+        assertThrows(IOException.class, () -> new DirectoryReadStrategy(
+                failing, ThreadScheduler.PLATFORM, 1).read(tempDir, StandardCharsets.UTF_8, plain));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DirectoryReadStrategy(failing, ThreadScheduler.VIRTUAL, 0));
+    }
+
+    @Test
+    void shouldNameStrategiesBySchedulerAndParseLabels() {
+        assertEquals("MemoryMapped [virtual x4]",
+                new DirectoryReadStrategy(new MemoryMappedFileStrategy(), ThreadScheduler.VIRTUAL, 4).name());
+        assertEquals(ThreadScheduler.PLATFORM, ThreadScheduler.fromLabel(" Platform "));
+        assertEquals(ThreadScheduler.VIRTUAL, ThreadScheduler.fromLabel("loom"));
+        assertNull(ThreadScheduler.fromLabel("green"));
+        assertNull(ThreadScheduler.fromLabel(null));
+    }
+
+    private Path writeShard(String name, int lines) throws IOException {
+        StringBuilder content = new StringBuilder(HEADER);
+        for (int i = 0; i < lines; i++) {
+            content.append("AC,OUTRAS,HOSPITAL,\"< 9\",F,").append(i).append('\n');
+        }
+        return Files.writeString(tempDir.resolve(name), content.toString());
+    }
+
+    private static CsvScenarioProcessor newProcessor() {
+        return new CsvScenarioProcessor(new DefaultScenarioCatalog().createScenarios(), new CsvLineParser());
+    }
+}
@@ -9,6 +9,7 @@ import com.patrick.benchmark.processing.ProcessingSummary;
 import com.patrick.benchmark.processing.ScenarioReport;
 import com.patrick.benchmark.processing.scenario.DefaultScenarioCatalog;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -32,7 +33,14 @@ class FileReadStrategyTest {
                 new BufferedReaderStrategy(),
                 new FilesLinesStrategy(),
                 new NioByteBufferStrategy(),
-                new MemoryMappedFileStrategy()
+                new MemoryMappedFileStrategy(),
+                new ParallelMemoryMappedStrategy(2, 256L),
+                new NioByteBufferStrategy(LineScanMode.BYTE_SCAN),
+                new MemoryMappedFileStrategy(64, LineScanMode.BYTE_SCAN),
+                new NioByteBufferStrategy(LineScanMode.BYTE_SLICE),
+                new MemoryMappedFileStrategy(64, LineScanMode.BYTE_SLICE),
+                new NioByteBufferStrategy(LineScanMode.STRUCTURAL),
+                new MemoryMappedFileStrategy(64, LineScanMode.VECTOR)
         );
 
         for (FileReadStrategy strategy : strategies) {
@@ -52,6 +60,36 @@ class FileReadStrategyTest {
         }
     }
 
+    @Test
+    void shouldReadRawBytesWithoutSplittingLines() throws Exception {
+        Path file = resourcePath("benchmark-input-test.csv");
+        long size = Files.size(file);
+
+        for (FileReadStrategy strategy : List.of(
+                new BufferedReaderStrategy(),
+                new NioByteBufferStrategy(),
+                new PipelinedStrategy(),
+                new MemoryMappedFileStrategy(),
+                new MemoryMappedFileStrategy(1024),
+                new ParallelMemoryMappedStrategy(),
+                new DirectoryReadStrategy(new FilesLinesStrategy(), ThreadScheduler.VIRTUAL, 2))) {
+            assertEquals(size, strategy.readRaw(file), strategy.name());
+        }
+    }
+
+    @Test
+    void shouldFoldEveryByteOfARawRead() {
+        byte[] bytes = new byte[19];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i + 1);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long expected = buffer.getLong(0) + buffer.getLong(8) + bytes[16] + bytes[17] + bytes[18];
+
+        assertEquals(expected, RawReads.fold(buffer, 0, bytes.length));
+        assertEquals(0L, RawReads.fold(buffer, 3, 3));
+    }
+
     private static ProcessingSummary expectedSummary(Path file) throws Exception {
         CsvScenarioProcessor processor = new CsvScenarioProcessor(
                 new DefaultScenarioCatalog().createScenarios(),
@@ -1,12 +1,17 @@
 package com.patrick.benchmark.readers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.patrick.benchmark.processing.LineProcessor;
 import com.patrick.benchmark.processing.ProcessingSummary;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -39,6 +44,44 @@ class MemoryMappedFileStrategyTest {
         assertEquals(List.of("A", "B"), processor.lines());
     }
 
+    @Test
+    void shouldCarryPartialLinesAndCharactersAcrossWindows() throws Exception {
+        Path file = tempDir.resolve("windows.csv");
+        List<String> expected = List.of("São Paulo,ÁREA", "Goiânia", "", "Maceió,ÚLTIMA");
+        Files.writeString(file, String.join("\r\n", expected), StandardCharsets.UTF_8);
+
+        for (int windowSize = 16; windowSize <= 40; windowSize++) {
+            CollectingProcessor processor = new CollectingProcessor();
+            new MemoryMappedFileStrategy(windowSize).read(file, StandardCharsets.UTF_8, processor);
+
+            assertEquals(expected, processor.lines(), "window " + windowSize);
+        }
+    }
+
+    @Test
+    void shouldNameStrategyAfterWindowSize() {
+        assertEquals("MemoryMapped", new MemoryMappedFileStrategy().name());
+        assertEquals("MemoryMapped (16 MB window)", new MemoryMappedFileStrategy(16 * 1024 * 1024).name());
+        assertEquals("MemoryMapped (4 KB window)", new MemoryMappedFileStrategy(4096).name());
+        assertEquals("MemoryMapped (100 B window)", new MemoryMappedFileStrategy(100).name());
+        assertEquals("MemoryMapped (byte scan)", new MemoryMappedFileStrategy(LineScanMode.BYTE_SCAN).name());
+        assertEquals("MemoryMapped (4 KB window, byte scan)",
+                new MemoryMappedFileStrategy(4096, LineScanMode.BYTE_SCAN).name());
+        assertEquals("NIO ByteBuffer (byte scan)", new NioByteBufferStrategy(LineScanMode.BYTE_SCAN).name());
+        assertThrows(IllegalArgumentException.class, () -> new MemoryMappedFileStrategy(8));
+    }
+
+    @Test
+    void shouldUnmapReleasedWindows() throws Exception {
+        Path file = tempDir.resolve("unmap.csv");
+        Files.writeString(file, "A\nB", StandardCharsets.UTF_8);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, 3);
+            assertTrue(MappedBuffers.unmap(mapped));
+        }
+    }
+
     private static final class CollectingProcessor implements LineProcessor {
 
         private final List<String> lines = new ArrayList<>();
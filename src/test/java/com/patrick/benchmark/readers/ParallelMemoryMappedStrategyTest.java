@@ -0,0 +1,139 @@
+package com.patrick.benchmark.readers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.patrick.benchmark.processing.CsvLineParser;
+import com.patrick.benchmark.processing.CsvScenarioProcessor;
+import com.patrick.benchmark.processing.LineProcessor;
+import com.patrick.benchmark.processing.ProcessingSummary;
+import com.patrick.benchmark.processing.ScenarioReport;
+import com.patrick.benchmark.processing.scenario.DefaultScenarioCatalog;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ParallelMemoryMappedStrategyTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldMatchSingleThreadedResultsAcrossChunks() throws Exception {
+        Path file = tempDir.resolve("sample.csv");
+        StringBuilder content = new StringBuilder("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total\n");
+        for (int i = 0; i < 500; i++) {
+            content.append(i % 2 == 0 ? "AC" : "SP")
+                    .append(",OUTRAS,")
+                    .append(i % 3 == 0 ? "HOSPITAL" : "VIA_PUBLICA")
+                    .append(",\"< 9\",")
+                    .append(i % 5 == 0 ? "M" : "F")
+                    .append(',')
+                    .append(i)
+                    .append(i % 7 == 0 ? "\r\n" : "\n");
+        }
+        content.append("broken,line");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+
+        ProcessingSummary expected = readWith(new MemoryMappedFileStrategy(), file);
+        ProcessingSummary actual = readWith(new ParallelMemoryMappedStrategy(4, 64L), file);
+
+        assertEquals(expected.recordsProcessed(), actual.recordsProcessed());
+        assertEquals(expected.invalidLines(), actual.invalidLines());
+        for (int i = 0; i < expected.scenarios().size(); i++) {
+            ScenarioReport expectedScenario = expected.scenarios().get(i);
+            ScenarioReport actualScenario = actual.scenarios().get(i);
+            assertEquals(expectedScenario.name(), actualScenario.name());
+            assertEquals(expectedScenario.count(), actualScenario.count());
+            assertEquals(expectedScenario.breakdown(), actualScenario.breakdown());
+        }
+    }
+
+    @Test
+    void shouldFallBackToSequentialReadForPlainProcessors() throws Exception {
+        Path file = tempDir.resolve("plain.csv");
+        Files.writeString(file, "A\nB\nC", StandardCharsets.UTF_8);
+
+        CollectingProcessor processor = new CollectingProcessor();
+        new ParallelMemoryMappedStrategy(2, 1L).read(file, StandardCharsets.UTF_8, processor);
+
+        assertEquals(List.of("A", "B", "C"), processor.lines());
+    }
+
+    @Test
+    void shouldReturnWhenFileIsEmptyOrHeaderOnly() throws Exception {
+        Path empty = tempDir.resolve("empty.csv");
+        Files.write(empty, new byte[0]);
+        Path headerOnly = tempDir.resolve("header.csv");
+        Files.writeString(headerOnly, "uf,tipo_doenca,local_obito,faixa_etaria,sexo,total\n");
+
+        assertEquals(0L, readWith(new ParallelMemoryMappedStrategy(2, 1L), empty).recordsProcessed());
+        assertEquals(0L, readWith(new ParallelMemoryMappedStrategy(2, 1L), headerOnly).recordsProcessed());
+    }
+
+    @Test
+    void shouldFindNextLineStart() throws Exception {
+        Path file = tempDir.resolve("lines.txt");
+        Files.writeString(file, "abc\ndef", StandardCharsets.UTF_8);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertEquals(4L, ParallelMemoryMappedStrategy.nextLineStart(channel, 0L, 7L));
+            assertEquals(4L, ParallelMemoryMappedStrategy.nextLineStart(channel, 3L, 7L));
+            assertEquals(7L, ParallelMemoryMappedStrategy.nextLineStart(channel, 4L, 7L));
+        }
+    }
+
+    @Test
+    void shouldNameNonDefaultParallelism() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        ParallelMemoryMappedStrategy strategy = new ParallelMemoryMappedStrategy();
+
+        assertEquals("Parallel MemoryMapped", strategy.name());
+        assertEquals("Parallel MemoryMapped", strategy.withParallelism(processors).name());
+        assertEquals("Parallel MemoryMapped (" + (processors + 1) + " threads)",
+                strategy.withParallelism(processors + 1).name());
+        if (processors > 1) {
+            assertEquals("Parallel MemoryMapped (1 thread)", strategy.withParallelism(1).name());
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelMemoryMappedStrategy(0));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelMemoryMappedStrategy(1, 0L));
+    }
+
+    private static ProcessingSummary readWith(FileReadStrategy strategy, Path file) throws Exception {
+        CsvScenarioProcessor processor = new CsvScenarioProcessor(
+                new DefaultScenarioCatalog().createScenarios(),
+                new CsvLineParser()
+        );
+        strategy.read(file, StandardCharsets.UTF_8, processor);
+        return processor.summary();
+    }
+
+    private static final class CollectingProcessor implements LineProcessor {
+
+        private final List<String> lines = new ArrayList<>();
+
+        @Override
+        public void process(String line) {
+            lines.add(line);
+        }
+
+        @Override
+        public ProcessingSummary summary() {
+            return new ProcessingSummary(lines.size(), 0L, List.of());
+        }
+
+        private List<String> lines() {
+            return List.copyOf(lines);
+        }
+    }
+}
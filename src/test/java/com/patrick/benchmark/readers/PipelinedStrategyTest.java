@@ -0,0 +1,153 @@
+package com.patrick.benchmark.readers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.patrick.benchmark.metrics.StageUsage;
+import com.patrick.benchmark.processing.CsvLineParser;
+import com.patrick.benchmark.processing.CsvScenarioProcessor;
+import com.patrick.benchmark.processing.LineProcessor;
+import com.patrick.benchmark.processing.MutableCsvRecord;
+import com.patrick.benchmark.processing.ProcessingSummary;
+import com.patrick.benchmark.processing.ScenarioData;
+import com.patrick.benchmark.processing.scenario.DefaultScenarioCatalog;
+import com.patrick.benchmark.processing.scenario.ScenarioProcessor;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PipelinedStrategyTest {
+
+    private static final String[] UFS = {"AC", "SP", "RJ", "MG", "BA"};
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldMatchSequentialReaderAcrossChunkAndBatchBoundaries() throws Exception {
+        StringBuilder content = new StringBuilder("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total\r\n");
+        for (int i = 0; i < 30_000; i++) {
+            if (i % 997 == 0) {
+                content.append("broken line\n");
+            } else if (i == 12_345) {
+                content.append('\n');
+            }
+            content.append(UFS[i % UFS.length]).append(",OUTRAS,\"HOSPITAL\",\"< 9\",")
+                    .append(i % 2 == 0 ? "F" : "M").append(',').append(i % 50)
+                    .append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        content.append("SP,OUTRAS,DOMICILIO,\"< 9\",F,7");
+        Path file = Files.writeString(tempDir.resolve("mixed.csv"), content.toString());
+
+        ProcessingSummary expected = read(new NioByteBufferStrategy(), file);
+        for (PipelinedStrategy strategy : List.of(new PipelinedStrategy(), new PipelinedStrategy(2))) {
+            ProcessingSummary actual = read(strategy, file);
+
+            assertEquals(expected.recordsProcessed(), actual.recordsProcessed());
+            assertEquals(expected.invalidLines(), actual.invalidLines());
+            for (int i = 0; i < expected.scenarios().size(); i++) {
+                assertEquals(expected.scenarios().get(i).count(), actual.scenarios().get(i).count());
+                assertEquals(expected.scenarios().get(i).breakdown(), actual.scenarios().get(i).breakdown());
+            }
+            assertEquals(List.of("read", "split", "parse", "aggregate"),
+                    actual.stages().stream().map(StageUsage::stage).toList());
+            StageUsage parse = actual.stages().get(2);
+            assertTrue(parse.batches() > 1L);
+            assertTrue(parse.maxQueueDepth() <= strategy.ringCapacity());
+            assertEquals(strategy.ringCapacity(), parse.queueCapacity());
+        }
+        assertEquals(30_001L, expected.recordsProcessed());
+        assertEquals(32L, expected.invalidLines());
+    }
+
+    @Test
+    void shouldRejectPlainProcessorsAndWideCharsets() throws Exception {
+        Path file = tempDir.resolve("utf16.csv");
+        Files.writeString(file, "uf,tipo_doenca,local_obito,faixa_etaria,sexo,total\nAC,OUTRAS,HOSPITAL,\"< 9\",F,1\n",
+                StandardCharsets.UTF_16);
+
+        CsvScenarioProcessor processor = newProcessor(new DefaultScenarioCatalog().createScenarios());
+        IOException charset = assertThrows(IOException.class,
+                () -> new PipelinedStrategy().read(file, StandardCharsets.UTF_16, processor));
+        assertTrue(charset.getMessage().contains("UTF-16"));
+        assertEquals(0L, processor.summary().recordsProcessed());
+        assertFalse(PipelinedStrategy.supports(StandardCharsets.UTF_16));
+        assertTrue(PipelinedStrategy.supports(StandardCharsets.ISO_8859_1));
+
+        LineProcessor plain = new LineProcessor() {
+            @Override
+            public void process(String line) {
+            }
+
+            @Override
+            public ProcessingSummary summary() {
+                return new ProcessingSummary(0L, 0L, List.of());
+            }
+        };
+        assertThrows(IOException.class, () -> new PipelinedStrategy().read(file, StandardCharsets.UTF_8, plain));
+    }
+
+    @Test
+    void shouldPropagateStageFailures() throws Exception {
+        StringBuilder content = new StringBuilder("uf,tipo_doenca,local_obito,faixa_etaria,sexo,total\n");
+        for (int i = 0; i < 20_000; i++) {
+            content.append("AC,OUTRAS,HOSPITAL,\"< 9\",F,1\n");
+        }
+        Path file = Files.writeString(tempDir.resolve("data.csv"), content.toString());
+        ScenarioProcessor failing = new ScenarioProcessor() {
+            @Override
+            public String name() {
+                return "Failing";
+            }
+
+            @Override
+            public void process(MutableCsvRecord record) {
+                throw new IllegalStateException("scenario failed");
+            }
+
+            @Override
+            public ScenarioData data() {
+                return new ScenarioData(0L, null);
+            }
+
+            @Override
+            public ScenarioProcessor newInstance() {
+                return this;
+            }
+
+            @Override
+            public void merge(ScenarioData data) {
+            }
+        };
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+                () -> new PipelinedStrategy().read(file, StandardCharsets.UTF_8, newProcessor(List.of(failing))));
+        assertEquals("scenario failed", failure.getMessage());
+        assertThrows(IOException.class, () -> new PipelinedStrategy().read(
+                tempDir.resolve("missing.csv"), StandardCharsets.UTF_8, newProcessor(List.of())));
+    }
+
+    @Test
+    void shouldNameRingCapacitiesAndRejectInvalidOnes() {
+        assertEquals("Pipelined", new PipelinedStrategy().name());
+        assertEquals("Pipelined (ring 64)", new PipelinedStrategy(64).name());
+        assertThrows(IllegalArgumentException.class, () -> new PipelinedStrategy(1));
+        assertThrows(IllegalArgumentException.class, () -> new PipelinedStrategy(12));
+    }
+
+    private static ProcessingSummary read(FileReadStrategy strategy, Path file) throws IOException {
+        CsvScenarioProcessor processor = newProcessor(new DefaultScenarioCatalog().createScenarios());
+        strategy.read(file, StandardCharsets.UTF_8, processor);
+        return processor.summary();
+    }
+
+    private static CsvScenarioProcessor newProcessor(List<ScenarioProcessor> scenarios) {
+        return new CsvScenarioProcessor(scenarios, new CsvLineParser());
+    }
+}
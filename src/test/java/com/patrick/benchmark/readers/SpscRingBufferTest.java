@@ -0,0 +1,81 @@
+package com.patrick.benchmark.readers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class SpscRingBufferTest {
+
+    @Test
+    void shouldHandOverItemsInOrderUnderBackpressure() throws Exception {
+        SpscRingBuffer<Integer> ring = new SpscRingBuffer<>(4);
+        Thread producer = Thread.ofPlatform().start(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                ring.put(i);
+            }
+            ring.close();
+        });
+
+        int expected = 0;
+        for (Integer item = ring.take(); item != null; item = ring.take()) {
+            assertEquals(expected++, item);
+        }
+        producer.join();
+
+        assertEquals(10_000, expected);
+        assertEquals(10_000L, ring.takes());
+        assertTrue(ring.maxDepth() <= 4);
+        assertTrue(ring.depthSum() >= ring.takes());
+    }
+
+    @Test
+    void shouldDrainBeforeReportingClosed() {
+        SpscRingBuffer<String> ring = new SpscRingBuffer<>(2);
+        ring.put("a");
+        ring.put("b");
+        ring.close();
+
+        assertEquals("a", ring.take());
+        assertEquals("b", ring.take());
+        assertNull(ring.take());
+        assertEquals(2, ring.maxDepth());
+        assertEquals(3L, ring.depthSum());
+    }
+
+    @Test
+    void shouldReleaseBlockedProducerOnAbort() throws Exception {
+        SpscRingBuffer<String> ring = new SpscRingBuffer<>(1);
+        ring.put("full");
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread producer = Thread.ofPlatform().start(() -> {
+            try {
+                ring.put("blocked");
+            } catch (CancellationException ex) {
+                failure.set(ex);
+            }
+        });
+
+        Thread.sleep(20);
+        ring.abort();
+        producer.join(5_000);
+
+        assertTrue(failure.get() instanceof CancellationException);
+        assertTrue(ring.producerWaitNanos() > 0L);
+
+        SpscRingBuffer<String> empty = new SpscRingBuffer<>(1);
+        empty.abort();
+        assertThrows(CancellationException.class, empty::take);
+    }
+
+    @Test
+    void shouldRejectCapacitiesThatAreNotPowersOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new SpscRingBuffer<String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new SpscRingBuffer<String>(6));
+        assertEquals(8, new SpscRingBuffer<String>(8).capacity());
+    }
+}
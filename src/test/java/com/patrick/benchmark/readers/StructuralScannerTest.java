@@ -0,0 +1,68 @@
+package com.patrick.benchmark.readers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class StructuralScannerTest {
+
+    @Test
+    void shouldLoadVectorScannerWhenModuleIsPresent() {
+        assertTrue(StructuralScanners.vectorAvailable());
+        assertEquals(VectorStructuralScanner.class, StructuralScanners.vectorOrScalar().getClass());
+        assertTrue(LineScanMode.VECTOR.isAccelerated());
+        assertEquals("vector scan", LineScanMode.VECTOR.displayName());
+    }
+
+    @Test
+    void shouldMatchScalarMasksOnHeapAndDirectBuffers() {
+        byte[] alphabet = {',', '"', '\r', '\n', 'a', '0', ' ', (byte) 0xC3};
+        byte[] bytes = new byte[StructuralScanner.BLOCK_SIZE * 8 + 3];
+        Random random = new Random(7);
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        ByteBuffer heap = ByteBuffer.wrap(bytes);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        StructuralScanner scalar = new ScalarStructuralScanner();
+        StructuralScanner vector = new VectorStructuralScanner();
+
+        for (int from = 0; from + StructuralScanner.BLOCK_SIZE <= bytes.length; from += 13) {
+            long expected = expectedMask(bytes, from);
+            assertEquals(expected, scalar.structurals(heap, from));
+            assertEquals(expected, vector.structurals(heap, from));
+            assertEquals(expected, vector.structurals(direct, from));
+        }
+        int blocks = bytes.length / StructuralScanner.BLOCK_SIZE;
+        for (ByteBuffer buffer : List.of(heap, direct)) {
+            long[] masks = new long[blocks];
+            vector.structurals(buffer, 3, masks, blocks - 1);
+            for (int i = 0; i < blocks - 1; i++) {
+                assertEquals(expectedMask(bytes, 3 + i * StructuralScanner.BLOCK_SIZE), masks[i]);
+            }
+        }
+    }
+
+    @Test
+    void shouldKeepVectorLanesWithinOneBlock() {
+        int lanes = VectorStructuralScanner.lanes();
+
+        assertTrue(lanes <= StructuralScanner.BLOCK_SIZE);
+        assertEquals(0, StructuralScanner.BLOCK_SIZE % lanes);
+    }
+
+    private static long expectedMask(byte[] bytes, int from) {
+        long mask = 0L;
+        for (int i = 0; i < StructuralScanner.BLOCK_SIZE; i++) {
+            byte value = bytes[from + i];
+            if (value == ',' || value == '"' || value == '\r' || value == '\n') {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+}
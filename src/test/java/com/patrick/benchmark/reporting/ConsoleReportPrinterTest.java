@@ -5,8 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import com.patrick.benchmark.BenchmarkReport;
 import com.patrick.benchmark.BenchmarkResult;
 import com.patrick.benchmark.ProcessingMode;
+import com.patrick.benchmark.metrics.BufferPoolUsage;
+import com.patrick.benchmark.metrics.WarmupSummary;
 import com.patrick.benchmark.processing.ProcessingSummary;
 import com.patrick.benchmark.processing.ScenarioReport;
+import com.patrick.benchmark.processing.TimingMode;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
@@ -66,4 +69,38 @@ class ConsoleReportPrinterTest {
         ConsoleReportPrinter printer = new ConsoleReportPrinter();
         assertDoesNotThrow(() -> printer.print(List.of(report)));
     }
+
+    @Test
+    void shouldPrintTimingOverhead() {
+        Logger logger = Logger.getLogger(ConsoleReportPrinter.class.getName());
+        logger.setLevel(Level.INFO);
+        logger.setUseParentHandlers(false);
+
+        ProcessingSummary summary = new ProcessingSummary(2L, 0L, List.of());
+        BenchmarkResult exact = new BenchmarkResult(
+                TimingMode.EXACT.qualify("Test"), 11_000_000L, 0L, summary, 0L, null,
+                0L, BufferPoolUsage.NONE, 0L, TimingMode.EXACT);
+        BenchmarkResult off = new BenchmarkResult(
+                TimingMode.OFF.qualify("Test"), 10_000_000L, 0L, summary, 0L, null,
+                0L, BufferPoolUsage.NONE, 0L, TimingMode.OFF);
+        BenchmarkReport report = new BenchmarkReport(ProcessingMode.SINGLE_PASS, List.of(exact, off));
+
+        ConsoleReportPrinter printer = new ConsoleReportPrinter();
+        assertDoesNotThrow(() -> printer.print(List.of(report)));
+    }
+
+    @Test
+    void shouldPrintWarmupSamples() {
+        Logger logger = Logger.getLogger(ConsoleReportPrinter.class.getName());
+        logger.setLevel(Level.INFO);
+        logger.setUseParentHandlers(false);
+
+        ProcessingSummary summary = new ProcessingSummary(2L, 0L, List.of());
+        BenchmarkResult result = new BenchmarkResult("Test", 10_000_000L, 0L, summary, 0L, null)
+                .withWarmup(new WarmupSummary(List.of(12_000_000L, 10_000_000L), 0.02, true));
+        BenchmarkReport report = new BenchmarkReport(ProcessingMode.SINGLE_PASS, List.of(result));
+
+        ConsoleReportPrinter printer = new ConsoleReportPrinter();
+        assertDoesNotThrow(() -> printer.print(List.of(report)));
+    }
 }
@@ -1,13 +1,24 @@
 package com.patrick.benchmark.reporting;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.patrick.benchmark.BenchmarkReport;
 import com.patrick.benchmark.BenchmarkResult;
 import com.patrick.benchmark.ProcessingMode;
+import com.patrick.benchmark.ScalingPoint;
+import com.patrick.benchmark.metrics.BufferPoolUsage;
+import com.patrick.benchmark.metrics.GcUsage;
+import com.patrick.benchmark.metrics.LatencyHistogram;
+import com.patrick.benchmark.metrics.OsUsage;
+import com.patrick.benchmark.metrics.StageUsage;
+import com.patrick.benchmark.metrics.WarmupSummary;
 import com.patrick.benchmark.processing.ProcessingSummary;
 import com.patrick.benchmark.processing.ScenarioReport;
+import com.patrick.benchmark.processing.TimingMode;
+import com.patrick.benchmark.profiling.Hotspot;
+import com.patrick.benchmark.profiling.StrategyProfile;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -82,4 +93,370 @@ class HtmlReportWriterTest {
         assertTrue(content.contains("Runs: 2"));
         assertTrue(content.contains("+/-"));
     }
+
+    @Test
+    void shouldReportSpeedupAgainstMemoryMapped() throws Exception {
+        ProcessingSummary summary = new ProcessingSummary(3L, 0L, List.of());
+        BenchmarkResult baseline = new BenchmarkResult("MemoryMapped", 40_000_000L, 0L, summary, 0L, null);
+        BenchmarkResult parallel = new BenchmarkResult("Parallel MemoryMapped", 10_000_000L, 0L, summary, 0L, null);
+        BenchmarkReport report = new BenchmarkReport(ProcessingMode.SINGLE_PASS, List.of(baseline, parallel));
+
+        HtmlReportWriter writer = new HtmlReportWriter();
+        Path output = tempDir.resolve("report-speedup.html");
+        writer.write(List.of(report), output);
+
+        String content = Files.readString(output, StandardCharsets.UTF_8);
+        assertTrue(content.contains("Speedup vs MemoryMapped"));
+        assertTrue(content.contains("4.00x"));
+    }
+
+    @Test
+    void shouldCompareTaggedResultsWithTheBaselineOfTheSameTags() throws Exception {
+        ProcessingSummary summary = new ProcessingSummary(3L, 0L, List.of());
+        List<BenchmarkResult> results = List.of(
+                new BenchmarkResult("MemoryMapped [batch 256]", 40_000_000L, 0L, summary, 0L, null),
+                new BenchmarkResult("NIO ByteBuffer [batch 256]", 20_000_000L, 0L, summary, 0L, null),
+                new BenchmarkResult("MemoryMapped [batch 4096]", 30_000_000L, 0L, summary, 0L, null),
+                new BenchmarkResult("NIO ByteBuffer [batch 4096]", 10_000_000L, 0L, summary, 0L, null),
+                new BenchmarkResult("NIO ByteBuffer [jvm zgc]", 10_000_000L, 0L, summary, 0L, null)
+        );
+
+        assertEquals("MemoryMapped [virtual x8]", Speedup.baselineName("NIO ByteBuffer [virtual x8]"));
+        assertEquals("MemoryMapped", Speedup.baselineName("Parallel MemoryMapped (2 threads)"));
+
+        Path output = tempDir.resolve("report-tagged-speedup.html");
+        new HtmlReportWriter().write(List.of(new BenchmarkReport(ProcessingMode.SINGLE_PASS, results)), output);
+
+        String content = Files.readString(output, StandardCharsets.UTF_8);
+        assertTrue(content.contains("Speedup vs MemoryMapped"));
+        assertTrue(content.contains("<td>2.00x</td>"));
+        assertTrue(content.contains("<td>3.00x</td>"));
+        assertTrue(content.contains("<td>-</td>"));
+    }
+
+    @Test
+    void shouldReportTimingModeAndOverhead() throws Exception {
+        ProcessingSummary summary = new ProcessingSummary(3L, 0L, List.of());
+        BenchmarkResult exact = new BenchmarkResult(
+                TimingMode.EXACT.qualify("MemoryMapped"), 12_000_000L, 0L, summary, 0L, null,
+                0L, BufferPoolUsage.NONE, 0L, TimingMode.EXACT);
+        BenchmarkResult off = new BenchmarkResult(
+                TimingMode.OFF.qualify("MemoryMapped"), 10_000_000L, 0L, summary, 0L, null,
+                0L, BufferPoolUsage.NONE, 0L, TimingMode.OFF);
+        BenchmarkResult unpaired = new BenchmarkResult(
+                TimingMode.SAMPLED.qualify("Other"), 10_000_000L, 0L, summary, 0L, null,
+                0L, BufferPoolUsage.NONE, 0L, TimingMode.SAMPLED);
+        BenchmarkReport report = new BenchmarkReport(ProcessingMode.SINGLE_PASS, List.of(exact, off, unpaired));
+
+        HtmlReportWriter writer = new HtmlReportWriter();
+        Path output = tempDir.resolve("report-timing.html");
+        writer.write(List.of(report), output);
+
+        String content = Files.readString(output, StandardCharsets.UTF_8);
+        assertTrue(content.contains("Timing overhead vs off"));
+        assertTrue(content.contains("<td>sampled 1/64</td>"));
+        assertTrue(content.contains("+20.0%"));
+    }
+
+    @Test
+    void shouldEmbedJmhResults() throws Exception {
+        ProcessingSummary summary = new ProcessingSummary(3L, 0L, List.of());
+        BenchmarkResult result = new BenchmarkResult("Test", 10_000_000L, 0L, summary, 0L, null);
+        BenchmarkReport report = new BenchmarkReport(ProcessingMode.SINGLE_PASS, List.of(result));
+        String json = "[{\"benchmark\":\"com.patrick.benchmark.readers.FileReadStrategyBenchmark.readLines\","
+                + "\"params\":{\"strategy\":\"</script>\"},"
+                + "\"primaryMetric\":{\"score\":1.5,\"scoreError\":0.1,\"scoreUnit\":\"ms/op\"}}]";
+
+        HtmlReportWriter writer = new HtmlReportWriter(json);
+        Path output = tempDir.resolve("report-jmh.html");
+        writer.write(List.of(report), output);
+
+        String content = Files.readString(output, StandardCharsets.UTF_8);
+        assertTrue(content.contains("JMH microbenchmarks"));
+        assertTrue(content.contains("FileReadStrategyBenchmark.readLines"));
+        assertTrue(content.contains("<\\/script>"));
+        assertFalse(content.contains("\"</script>\""));
+    }
+
+    @Test
+    void shouldReportTimeToSteadyState() throws Exception {
+        ProcessingSummary summary = new ProcessingSummary(3L, 0L, List.of());
+        BenchmarkResult steady = new BenchmarkResult("Steady", 10_000_000L, 0L, summary, 0L, null)
+                .withWarmup(new WarmupSummary(List.of(30_000_000L, 11_000_000L, 10_000_000L), 0.049, true));
+        BenchmarkResult unsettled = new BenchmarkResult("Unsettled", 10_000_000L, 0L, summary, 0L, null)
+                .withWarmup(new WarmupSummary(List.of(5_000_000L, 9_000_000L), 0.4, false));
+        BenchmarkResult fixed = new BenchmarkResult("Fixed", 10_000_000L, 0L, summary, 0L, null)
+                .withWarmup(new WarmupSummary(List.of(2_000_000L), Double.NaN, false));
+        BenchmarkResult cold = new BenchmarkResult("Cold", 10_000_000L, 0L, summary, 0L, null);
+        BenchmarkReport report = new BenchmarkReport(
+                ProcessingMode.SINGLE_PASS,
+                List.of(steady, unsettled, fixed, cold));
+
+        HtmlReportWriter writer = new HtmlReportWriter();
+        Path output = tempDir.resolve("report-warmup.html");
+        writer.write(List.of(report), output);
+
+        String content = Files.readString(output, StandardCharsets.UTF_8);
+        assertTrue(content.contains("Time to steady state"));
+        assertTrue(content.contains("51.0 ms (3 passes, CV 4.9%)"));
+        assertTrue(content.contains("not steady after 14.0 ms (2 passes, CV 40.0%)"));
+        assertTrue(content.contains("2.0 ms (1 fixed passes)"));
+        assertTrue(content.contains("Warmup passes (ms): 30.0, 11.0, 10.0"));
+    }
+
+    @Test
+    void shouldRenderStrategyByJvmConfigurationMatrix() throws Exception {
+        ProcessingSummary summary = new ProcessingSummary(3L, 0L, List.of());
+        BenchmarkResult g1 = new BenchmarkResult(
+                "MemoryMapped [jvm G1]", 20_000_000L, 0L, summary, 0L, null,
+                0L, BufferPoolUsage.NONE, 10L * 1024 * 1024, TimingMode.EXACT, null, new GcUsage(4L, 12L, 5L), null);
+        BenchmarkResult serial = new BenchmarkResult(
+                "BufferedReader [jvm Serial -Xmx64m]", 10_000_000L, 0L, summary, 0L, null,
+                0L, BufferPoolUsage.NONE, 0L, TimingMode.EXACT, null, new GcUsage(9L, 30L, 7L), null);
+        BenchmarkReport report = new BenchmarkReport(ProcessingMode.SINGLE_PASS, List.of(g1, serial));
+
+        HtmlReportWriter writer = new HtmlReportWriter();
+        Path output = tempDir.resolve("report-matrix.html");
+        writer.writeAggregated(List.of(List.of(report), List.of(report)), output);
+
+        String content = Files.readString(output, StandardCharsets.UTF_8);
+        assertTrue(content.contains("Strategy x JVM configuration"));
+        assertTrue(content.contains("<th>Serial -Xmx64m</th>"));
+        assertTrue(content.contains("4 / 12 ms (max 5 ms)"));
+        assertTrue(content.contains("500.00 MB/s"));
+        assertTrue(content.contains("<td>-</td>"));
+    }
+
+    @Test
+    void shouldReportAllocationPerLineAndPeakOffHeap() throws Exception {
+        ProcessingSummary summary = new ProcessingSummary(1_000L, 0L, List.of());
+        BenchmarkResult result = new BenchmarkResult(
+                "NIO ByteBuffer", 10_000_000L, 3L * 1024 * 1024, summary, 0L, null,
+                0L, new BufferPoolUsage(1024L * 1024, 2L * 1024 * 1024), 48_000L, TimingMode.EXACT);
+        BenchmarkReport report = new BenchmarkReport(ProcessingMode.SINGLE_PASS, List.of(result));
+
+        Path output = tempDir.resolve("report-memory.html");
+        new HtmlReportWriter().write(List.of(report), output);
+
+        String content = Files.readString(output, StandardCharsets.UTF_8);
+        assertTrue(content.contains("<th>Peak heap (MB)</th>"));
+        assertTrue(content.contains("<th>Alloc / line (B)</th><th>Alloc rate (MB/s)</th>"));
+        assertTrue(content.contains("<td>48.0</td>"));
+        assertTrue(content.contains("<th>Peak off-heap (MB)</th>"));
+        assertTrue(content.contains("<td>3.00</td>"));
+    }
+
+    @Test
+    void shouldReportOsResourceUsageNextToDuration() throws Exception {
+        ProcessingSummary summary = new ProcessingSummary(10L, 0L, List.of());
+        OsUsage os = new OsUsage(120L, 30L, 5_000L, 2L, 40L, 7L, 8L * 1024 * 1024, 256L * 1024 * 1024);
+        BenchmarkResult result = new BenchmarkResult(
+                "MemoryMapped", 150_000_000L, 0L, summary, 0L, null,
+                0L, BufferPoolUsage.NONE, 0L, TimingMode.EXACT, null, null, os);
+        BenchmarkReport report = new BenchmarkReport(ProcessingMode.ISOLATED, List.of(result));
+
+        Path output = tempDir.resolve("report-os.html");
+        new HtmlReportWriter().writeAggregated(List.of(List.of(report), List.of(report)), output);
+
+        String content = Files.readString(output, StandardCharsets.UTF_8);
+        assertTrue(content.contains("<th>CPU user / sys (ms)</th>"));
+        assertTrue(content.contains("<td>120 / 30</td><td>5000 / 2</td><td>40 / 7</td>"));
+        assertTrue(content.contains("<td>8.00</td><td>256.00</td>"));
+    }
+
+    @Test
+    void shouldRenderFlightRecordingProfilesPerMode() throws Exception {
+        ProcessingSummary summary = new ProcessingSummary(1L, 0L, List.of());
+        BenchmarkResult result = new BenchmarkResult("BufferedReader", 1_000_000L, 0L, summary, 0L, null);
+        StrategyProfile profile = new StrategyProfile(
+                "BufferedReader",
+                List.of(new Hotspot("com.example.Parser.<init>", 3L * 1024 * 1024)),
+                List.of()
+        );
+        HtmlReportWriter writer = new HtmlReportWriter(null, Map.of(ProcessingMode.ISOLATED, List.of(profile)));
+
+        Path output = tempDir.resolve("report-jfr.html");
+        writer.write(List.of(
+                new BenchmarkReport(ProcessingMode.SINGLE_PASS, List.of(result)),
+                new BenchmarkReport(ProcessingMode.ISOLATED, List.of(result))
+        ), output);
+
+        String content = Files.readString(output, StandardCharsets.UTF_8);
+        assertEquals(content.indexOf("Flight recording"), content.lastIndexOf("Flight recording"));
+        assertTrue(content.indexOf("Flight recording") > content.indexOf("Mode: Isolated"));
+        assertTrue(content.contains("com.example.Parser.&lt;init&gt; (3.00 MB)</td><td>-</td>"));
+    }
+
+    @Test
+    void shouldMergeChunkLatencyAcrossRuns() throws Exception {
+        LatencyHistogram fast = new LatencyHistogram();
+        fast.record(1_000_000L);
+        LatencyHistogram slow = new LatencyHistogram();
+        slow.record(8_000_000L);
+        BenchmarkReport first = new BenchmarkReport(ProcessingMode.SINGLE_PASS, List.of(new BenchmarkResult(
+                "MemoryMapped", 1_000_000L, 0L, new ProcessingSummary(1L, 0L, List.of(), 0L, fast), 0L, null)));
+        BenchmarkReport second = new BenchmarkReport(ProcessingMode.SINGLE_PASS, List.of(new BenchmarkResult(
+                "MemoryMapped", 1_000_000L, 0L, new ProcessingSummary(1L, 0L, List.of(), 0L, slow), 0L, null)));
+
+        Path output = tempDir.resolve("report-latency.html");
+        new HtmlReportWriter().writeAggregated(List.of(List.of(first), List.of(second)), output);
+
+        String content = Files.readString(output, StandardCharsets.UTF_8);
+        assertTrue(content.contains("Chunk latency (ms, all runs merged)"));
+        assertTrue(content.contains("<th>p99.9</th><th>max</th>"));
+        assertTrue(content.contains("<td>MemoryMapped</td><td>2</td><td>1.008</td>"));
+        assertTrue(content.contains("<td>8.000</td></tr>"));
+    }
+
+    @Test
+    void shouldRenderScalingCurvesAsInlineSvg() throws Exception {
+        List<ScalingPoint> points = List.of(
+                new ScalingPoint("MemoryMapped", 0, 1024L * 1024, 30_000L, 10_000_000.0),
+                new ScalingPoint("MemoryMapped", 0, 16L * 1024 * 1024, 480_000L, 100_000_000.0),
+                new ScalingPoint("Parallel <MM>", 2, 1024L * 1024, 30_000L, 8_000_000.0),
+                new ScalingPoint("Parallel <MM>", 4, 1024L * 1024, 30_000L, 6_000_000.0)
+        );
+
+        Path output = tempDir.resolve("scaling.html");
+        new HtmlReportWriter().writeScaling(points, output);
+
+        String content = Files.readString(output, StandardCharsets.UTF_8);
+        assertTrue(content.contains("File Processing Scaling Study"));
+        assertTrue(content.contains("Throughput by file size"));
+        assertTrue(content.contains("Throughput by thread count"));
+        assertTrue(content.contains("<svg class=\"chart\""));
+        assertTrue(content.contains("<polyline"));
+        assertTrue(content.contains("Parallel &lt;MM&gt; x4"));
+        assertTrue(content.contains("Parallel &lt;MM&gt; @ 1 MB"));
+        assertTrue(content.contains("<td>16 MB</td>"));
+        assertTrue(content.contains("<td>160.00</td>"));
+        assertTrue(content.contains("<td>4,800,000</td>"));
+        assertFalse(content.contains("<script"));
+    }
+
+    @Test
+    void shouldOmitThreadCurvesWithoutParallelStrategies() throws Exception {
+        Path output = tempDir.resolve("scaling-sequential.html");
+        new HtmlReportWriter().writeScaling(
+                List.of(new ScalingPoint("MemoryMapped", 0, 1536L * 1024, 30_000L, 10_000_000.0)),
+                output);
+
+        String content = Files.readString(output, StandardCharsets.UTF_8);
+        assertTrue(content.contains("1.5 MB"));
+        assertFalse(content.contains("Throughput by thread count"));
+    }
+
+    @Test
+    void shouldCompareVirtualAndPlatformDirectoryIngestion() throws Exception {
+        ScenarioReport scenario = new ScenarioReport("Total Records", 1_000_000L, 3L, Map.of());
+        ProcessingSummary summary = new ProcessingSummary(3L, 0L, List.of(scenario, scenario));
+        List<BenchmarkResult> results = List.of(
+                new BenchmarkResult("MemoryMapped [virtual x8]", 500_000_000L, 0L, summary, 0L, null,
+                        4L * 1024 * 1024, BufferPoolUsage.NONE, 0L, TimingMode.EXACT),
+                new BenchmarkResult("MemoryMapped [platform x8]", 250_000_000L, 0L, summary, 0L, null,
+                        4L * 1024 * 1024, BufferPoolUsage.NONE, 0L, TimingMode.EXACT)
+        );
+
+        Path single = tempDir.resolve("directory-single.html");
+        new HtmlReportWriter().write(List.of(new BenchmarkReport(ProcessingMode.SINGLE_PASS, results, 100)), single);
+        String content = Files.readString(single, StandardCharsets.UTF_8);
+        assertTrue(content.contains("Directory ingestion, 100 files per pass"));
+        assertTrue(content.contains("<th>virtual x8 threads</th><th>platform x8 threads</th>"));
+        assertTrue(content.contains("<td>MemoryMapped</td><td>200.0 files/s<br>8.00 MB/s</td>"
+                + "<td>400.0 files/s<br>16.00 MB/s</td>"));
+
+        Path isolated = tempDir.resolve("directory-isolated.html");
+        new HtmlReportWriter().write(List.of(new BenchmarkReport(ProcessingMode.ISOLATED, results, 100)), isolated);
+        assertTrue(Files.readString(isolated, StandardCharsets.UTF_8).contains("400.0 files/s"));
+
+        Path plain = tempDir.resolve("plain.html");
+        new HtmlReportWriter().write(List.of(new BenchmarkReport(ProcessingMode.SINGLE_PASS, List.of(
+                new BenchmarkResult("MemoryMapped", 1L, 0L, summary, 0L, null)))), plain);
+        assertFalse(Files.readString(plain, StandardCharsets.UTF_8).contains("Directory ingestion"));
+    }
+
+    @Test
+    void shouldReportPipelineStageUsageAndBottleneck() throws Exception {
+        List<StageUsage> firstStages = List.of(
+                new StageUsage("read", 2_000_000L, 8_000_000L, 4L, 0L, 0, 0),
+                new StageUsage("parse", 9_000_000L, 1_000_000L, 4L, 10L, 4, 8));
+        List<StageUsage> secondStages = List.of(
+                new StageUsage("read", 4_000_000L, 6_000_000L, 4L, 0L, 0, 0),
+                new StageUsage("parse", 7_000_000L, 3_000_000L, 4L, 6L, 6, 8));
+        BenchmarkReport first = new BenchmarkReport(ProcessingMode.SINGLE_PASS, List.of(new BenchmarkResult(
+                "Pipelined", 10_000_000L, 0L,
+                new ProcessingSummary(1L, 0L, List.of(), 0L, null, firstStages), 0L, null)));
+        BenchmarkReport second = new BenchmarkReport(ProcessingMode.SINGLE_PASS, List.of(new BenchmarkResult(
+                "Pipelined", 10_000_000L, 0L,
+                new ProcessingSummary(1L, 0L, List.of(), 0L, null, secondStages), 0L, null)));
+
+        Path output = tempDir.resolve("report-pipeline.html");
+        new HtmlReportWriter().writeAggregated(List.of(List.of(first), List.of(second)), output);
+
+        String content = Files.readString(output, StandardCharsets.UTF_8);
+        assertTrue(content.contains("Pipeline stages (mean per run"));
+        assertTrue(content.contains("<td>Pipelined</td><td>read</td><td>3.0 ms</td><td>7.0 ms</td><td>30%</td>"
+                + "<td>4</td><td>-</td>"));
+        assertTrue(content.contains("<td>parse (bottleneck)</td><td>8.0 ms</td><td>2.0 ms</td><td>80%</td>"
+                + "<td>4</td><td>2.0 avg / 6 max of 8</td>"));
+
+        Path plain = tempDir.resolve("report-no-pipeline.html");
+        new HtmlReportWriter().writeAggregated(List.of(List.of(new BenchmarkReport(ProcessingMode.SINGLE_PASS,
+                List.of(new BenchmarkResult("MemoryMapped", 1L, 0L, new ProcessingSummary(1L, 0L, List.of()), 0L,
+                        null))))), plain);
+        assertFalse(Files.readString(plain, StandardCharsets.UTF_8).contains("Pipeline stages"));
+    }
+
+    @Test
+    void shouldCompareDirectIoWithCachedReadsAtTheSameBufferSize() throws Exception {
+        ProcessingSummary summary = new ProcessingSummary(1L, 0L, List.of());
+        List<BenchmarkResult> results = List.of(
+                new BenchmarkResult("NIO ByteBuffer", 10_000_000L, 0L, summary, 0L, null),
+                new BenchmarkResult("Direct I/O (8 KB buffer)", 25_000_000L, 0L, summary, 0L, null),
+                new BenchmarkResult("NIO ByteBuffer (1 MB buffer, byte scan)", 8_000_000L, 0L, summary, 0L, null),
+                new BenchmarkResult("Direct I/O (1 MB buffer, byte scan)", 10_000_000L, 0L, summary, 0L, null),
+                new BenchmarkResult("Direct I/O (64 KB buffer)", 12_000_000L, 0L, summary, 0L, null)
+        );
+
+        Path output = tempDir.resolve("report-direct-io.html");
+        new HtmlReportWriter().writeAggregated(
+                List.of(List.of(new BenchmarkReport(ProcessingMode.SINGLE_PASS, results))), output);
+
+        String content = Files.readString(output, StandardCharsets.UTF_8);
+        assertTrue(content.contains("Direct I/O vs page cache"));
+        assertTrue(content.contains("<tr><td>8 KB</td><td>NIO ByteBuffer</td>"));
+        assertTrue(content.contains("<td>2.50x</td>"));
+        assertTrue(content.contains("<tr><td>1 MB</td><td>NIO ByteBuffer (1 MB buffer, byte scan)</td>"));
+        assertTrue(content.contains("<td>1.25x</td>"));
+        assertFalse(content.contains("<tr><td>64 KB</td>"));
+    }
+
+    @Test
+    void shouldRenderStackedStageDecomposition() throws Exception {
+        ProcessingSummary summary = new ProcessingSummary(1L, 0L, List.of());
+        List<BenchmarkResult> results = List.of(
+                new BenchmarkResult("NIO ByteBuffer [read]", 10_000_000L, 0L, summary, 0L, null),
+                new BenchmarkResult("NIO ByteBuffer [read+split]", 40_000_000L, 0L, summary, 0L, null),
+                new BenchmarkResult("NIO ByteBuffer [read+split+parse]", 70_000_000L, 0L, summary, 0L, null),
+                new BenchmarkResult("NIO ByteBuffer", 100_000_000L, 0L, summary, 0L, null),
+                new BenchmarkResult("MemoryMapped [read]", 5_000_000L, 0L, summary, 0L, null),
+                new BenchmarkResult("Pipelined", 60_000_000L, 0L, summary, 0L, null)
+        );
+
+        Path output = tempDir.resolve("report-stages.html");
+        new HtmlReportWriter().write(List.of(new BenchmarkReport(ProcessingMode.DECOMPOSED, results)), output);
+
+        String content = Files.readString(output, StandardCharsets.UTF_8);
+        assertTrue(content.contains("Mode: Stage Decomposition (Diagnostic)"));
+        assertTrue(content.contains("<th>I/O</th><th>Decode + split</th><th>Parse</th><th>Scenarios</th>"));
+        assertTrue(content.contains("<tr><td>NIO ByteBuffer</td><td>10.0 ms (10%)</td><td>30.0 ms (30%)</td>"
+                + "<td>30.0 ms (30%)</td><td>30.0 ms (30%)</td></tr>"));
+        assertFalse(content.contains("<tr><td>MemoryMapped"));
+        assertTrue(content.contains("<title>Decode + split: 30</title></rect>"));
+        assertTrue(content.contains("Pipelined: not decomposed"));
+
+        Path single = tempDir.resolve("report-single-stages.html");
+        new HtmlReportWriter().write(List.of(new BenchmarkReport(ProcessingMode.SINGLE_PASS, results)), single);
+        assertFalse(Files.readString(single, StandardCharsets.UTF_8).contains("Stage decomposition"));
+    }
 }